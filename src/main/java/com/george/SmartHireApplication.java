@@ -1,20 +1,29 @@
 package com.george;
 
 import com.george.config.AppProperties;
+import com.george.config.VectorMigrationRunner;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableCaching
 @EnableAspectJAutoProxy
+@EnableScheduling
 @EnableConfigurationProperties(AppProperties.class)
 public class SmartHireApplication {
     
     public static void main(String[] args) {
-        SpringApplication.run(SmartHireApplication.class, args);
+        SpringApplication application = new SpringApplication(SmartHireApplication.class);
+        if (VectorMigrationRunner.isMigration(args)) {
+            // A one-off command: no web server, and the process exits with the migration's status
+            application.setWebApplicationType(WebApplicationType.NONE);
+            System.exit(SpringApplication.exit(application.run(args)));
+        }
+        application.run(args);
     }
 }
-
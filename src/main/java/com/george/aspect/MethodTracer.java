@@ -0,0 +1,132 @@
+package com.george.aspect;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Times method calls and logs a sample of them, plus every slow one, on the
+ * {@code com.george.trace} logger.
+ * <p>
+ * The calling thread only reads the clock twice and, for the calls that are kept, queues a
+ * small record; names are resolved and messages formatted on a separate writer thread.
+ * Arguments and results are never logged, so nothing is converted to a string on the request
+ * path. When the queue is full, traces are dropped and counted rather than slowing callers
+ * down.
+ */
+public final class MethodTracer implements AutoCloseable {
+
+    private static final Logger traceLogger = LoggerFactory.getLogger("com.george.trace");
+
+    /** A call to trace; {@link #proceed()} runs it. */
+    @FunctionalInterface
+    public interface TracedCall {
+        Object proceed() throws Throwable;
+    }
+
+    record Trace(Class<?> type, String method, long durationNanos, Class<?> failure, boolean slow) {
+    }
+
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+    private final Consumer<Trace> sink;
+    private final BlockingQueue<Trace> queue;
+    private final Thread writer;
+    private final LongAdder dropped = new LongAdder();
+    private volatile boolean running = true;
+
+    public MethodTracer(double sampleRate, Duration slowThreshold, int queueCapacity) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.sink = trace -> {
+            if (!queue.offer(trace)) {
+                dropped.increment();
+            }
+        };
+        this.writer = Thread.ofPlatform()
+            .name("method-trace-writer")
+            .daemon()
+            .start(this::drain);
+    }
+
+    /** Hands traces straight to {@code sink}, without a queue or writer thread. */
+    MethodTracer(double sampleRate, Duration slowThreshold, Consumer<Trace> sink) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.sink = sink;
+        this.queue = null;
+        this.writer = null;
+    }
+
+    /** Runs {@code call}, tracing it as {@code type.method()}, and returns its result. */
+    public Object trace(Class<?> type, String method, TracedCall call) throws Throwable {
+        long start = System.nanoTime();
+        Class<?> failure = null;
+        try {
+            return call.proceed();
+        } catch (Throwable e) {
+            failure = e.getClass();
+            throw e;
+        } finally {
+            long duration = System.nanoTime() - start;
+            boolean slow = duration >= slowThresholdNanos;
+            if (slow || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                sink.accept(new Trace(type, method, duration, failure, slow));
+            }
+        }
+    }
+
+    /** The number of traces dropped because the writer fell behind. */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    private void drain() {
+        while (running || !queue.isEmpty()) {
+            try {
+                Trace trace = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (trace != null) {
+                    write(trace);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // A broken appender must not stop tracing for good
+                traceLogger.warn("Failed to write method trace: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static void write(Trace trace) {
+        String name = trace.type().getSimpleName() + '.' + trace.method() + "()";
+        double millis = trace.durationNanos() / 1_000_000.0;
+        if (trace.slow()) {
+            traceLogger.warn("Slow operation: {} took {} ms{}", name, millis, failureSuffix(trace));
+        } else {
+            traceLogger.info("{} took {} ms{}", name, millis, failureSuffix(trace));
+        }
+    }
+
+    private static String failureSuffix(Trace trace) {
+        return trace.failure() != null ? " and threw " + trace.failure().getSimpleName() : "";
+    }
+
+    /** Stops the writer once the traces already queued are written. */
+    @Override
+    public void close() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+}
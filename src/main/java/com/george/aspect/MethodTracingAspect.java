@@ -0,0 +1,56 @@
+package com.george.aspect;
+
+import com.george.config.AppProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Traces controller and service methods with a {@link MethodTracer}.
+ * <p>
+ * Only registered when {@code app.method-tracing.enabled} is set: with tracing off, no
+ * proxies are created and calls cost nothing extra.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(prefix = "app.method-tracing", name = "enabled", havingValue = "true")
+public class MethodTracingAspect implements DisposableBean {
+
+    private final MethodTracer tracer;
+
+    public MethodTracingAspect(AppProperties appProperties, MeterRegistry registry) {
+        AppProperties.MethodTracing properties = appProperties.getMethodTracing();
+        this.tracer = new MethodTracer(properties.getSampleRate(),
+            Duration.ofMillis(properties.getSlowThresholdMs()), properties.getQueueCapacity());
+        FunctionCounter.builder("method.tracing.dropped", tracer, MethodTracer::getDropped)
+            .description("Method traces dropped because the trace writer fell behind")
+            .register(registry);
+    }
+
+    @Pointcut("within(@org.springframework.web.bind.annotation.RestController *)")
+    public void controllerMethods() {}
+
+    @Pointcut("execution(* com.george.service.*.*(..))")
+    public void serviceMethods() {}
+
+    @Around("controllerMethods() || serviceMethods()")
+    public Object trace(ProceedingJoinPoint joinPoint) throws Throwable {
+        // The signature is the join point's static part, so nothing is computed per call
+        Signature signature = joinPoint.getSignature();
+        return tracer.trace(signature.getDeclaringType(), signature.getName(), joinPoint::proceed);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        tracer.close();
+    }
+}
@@ -1,8 +1,14 @@
 package com.george.config;
 
+import com.george.util.VectorEncoding;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Configuration
 @ConfigurationProperties(prefix = "app")
 public class AppProperties {
@@ -12,6 +18,14 @@ public class AppProperties {
     private Matching matching = new Matching();
     private Cache cache = new Cache();
     private Api api = new Api();
+    private Taxonomy taxonomy = new Taxonomy();
+    private Export export = new Export();
+    private Compression compression = new Compression();
+    private Catalog catalog = new Catalog();
+    private ConcurrencyLimit concurrencyLimit = new ConcurrencyLimit();
+    private Ingestion ingestion = new Ingestion();
+    private Security security = new Security();
+    private MethodTracing methodTracing = new MethodTracing();
     
     public Mongodb getMongodb() {
         return mongodb;
@@ -53,10 +67,76 @@ public class AppProperties {
         this.api = api;
     }
     
+    public Taxonomy getTaxonomy() {
+        return taxonomy;
+    }
+    
+    public void setTaxonomy(Taxonomy taxonomy) {
+        this.taxonomy = taxonomy;
+    }
+    
+    public Export getExport() {
+        return export;
+    }
+    
+    public void setExport(Export export) {
+        this.export = export;
+    }
+    
+    public Compression getCompression() {
+        return compression;
+    }
+    
+    public void setCompression(Compression compression) {
+        this.compression = compression;
+    }
+    
+    public Catalog getCatalog() {
+        return catalog;
+    }
+    
+    public void setCatalog(Catalog catalog) {
+        this.catalog = catalog;
+    }
+    
+    public ConcurrencyLimit getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+    
+    public void setConcurrencyLimit(ConcurrencyLimit concurrencyLimit) {
+        this.concurrencyLimit = concurrencyLimit;
+    }
+    
+    public Ingestion getIngestion() {
+        return ingestion;
+    }
+    
+    public void setIngestion(Ingestion ingestion) {
+        this.ingestion = ingestion;
+    }
+    
+    public Security getSecurity() {
+        return security;
+    }
+    
+    public void setSecurity(Security security) {
+        this.security = security;
+    }
+    
+    public MethodTracing getMethodTracing() {
+        return methodTracing;
+    }
+    
+    public void setMethodTracing(MethodTracing methodTracing) {
+        this.methodTracing = methodTracing;
+    }
+    
     public static class Mongodb {
         private String databaseName;
         private String collectionName;
         private String vectorIndexName;
+        private VectorEncoding vectorEncoding = VectorEncoding.ARRAY;
+        private int vectorMigrationBatchSize = 500;
         
         public String getDatabaseName() {
             return databaseName;
@@ -81,10 +161,30 @@ public class AppProperties {
         public void setVectorIndexName(String vectorIndexName) {
             this.vectorIndexName = vectorIndexName;
         }
+        
+        public VectorEncoding getVectorEncoding() {
+            return vectorEncoding;
+        }
+        
+        public void setVectorEncoding(VectorEncoding vectorEncoding) {
+            this.vectorEncoding = vectorEncoding;
+        }
+        
+        public int getVectorMigrationBatchSize() {
+            return vectorMigrationBatchSize;
+        }
+        
+        public void setVectorMigrationBatchSize(int vectorMigrationBatchSize) {
+            this.vectorMigrationBatchSize = vectorMigrationBatchSize;
+        }
     }
     
     public static class Embeddings {
         private Huggingface huggingface = new Huggingface();
+        private int maxConcurrentCalls = 8;
+        private int reservedInteractiveCalls = 4;
+        private int maxWaitingCalls = 200;
+        private CircuitBreaker circuitBreaker = new CircuitBreaker();
         
         public Huggingface getHuggingface() {
             return huggingface;
@@ -94,6 +194,95 @@ public class AppProperties {
             this.huggingface = huggingface;
         }
         
+        public int getMaxConcurrentCalls() {
+            return maxConcurrentCalls;
+        }
+        
+        public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+        }
+        
+        public int getReservedInteractiveCalls() {
+            return reservedInteractiveCalls;
+        }
+        
+        public void setReservedInteractiveCalls(int reservedInteractiveCalls) {
+            this.reservedInteractiveCalls = reservedInteractiveCalls;
+        }
+        
+        public int getMaxWaitingCalls() {
+            return maxWaitingCalls;
+        }
+        
+        public void setMaxWaitingCalls(int maxWaitingCalls) {
+            this.maxWaitingCalls = maxWaitingCalls;
+        }
+        
+        public CircuitBreaker getCircuitBreaker() {
+            return circuitBreaker;
+        }
+        
+        public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+        }
+        
+        public static class CircuitBreaker {
+            private boolean enabled = true;
+            private int windowSize = 20;
+            private int minimumCalls = 10;
+            private double failureRateThreshold = 0.5;
+            private long slowCallThresholdMs = 5000;
+            private long openDurationMs = 30000;
+            
+            public boolean isEnabled() {
+                return enabled;
+            }
+            
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+            
+            public int getWindowSize() {
+                return windowSize;
+            }
+            
+            public void setWindowSize(int windowSize) {
+                this.windowSize = windowSize;
+            }
+            
+            public int getMinimumCalls() {
+                return minimumCalls;
+            }
+            
+            public void setMinimumCalls(int minimumCalls) {
+                this.minimumCalls = minimumCalls;
+            }
+            
+            public double getFailureRateThreshold() {
+                return failureRateThreshold;
+            }
+            
+            public void setFailureRateThreshold(double failureRateThreshold) {
+                this.failureRateThreshold = failureRateThreshold;
+            }
+            
+            public long getSlowCallThresholdMs() {
+                return slowCallThresholdMs;
+            }
+            
+            public void setSlowCallThresholdMs(long slowCallThresholdMs) {
+                this.slowCallThresholdMs = slowCallThresholdMs;
+            }
+            
+            public long getOpenDurationMs() {
+                return openDurationMs;
+            }
+            
+            public void setOpenDurationMs(long openDurationMs) {
+                this.openDurationMs = openDurationMs;
+            }
+        }
+        
         public static class Huggingface {
             private String accessToken;
             private String modelId;
@@ -139,6 +328,11 @@ public class AppProperties {
         private int maxLimit;
         private int minLimit;
         private double defaultMinConfidence;
+        private int snippetLength = 200;
+        private long defaultTimeoutMs = 10000;
+        private long maxTimeoutMs = 60000;
+        private boolean lexicalFallbackEnabled = true;
+        private boolean serverTimingEnabled = false;
         private Thresholds thresholds = new Thresholds();
         
         public int getDefaultLimit() {
@@ -173,6 +367,46 @@ public class AppProperties {
             this.defaultMinConfidence = defaultMinConfidence;
         }
         
+        public int getSnippetLength() {
+            return snippetLength;
+        }
+        
+        public void setSnippetLength(int snippetLength) {
+            this.snippetLength = snippetLength;
+        }
+        
+        public long getDefaultTimeoutMs() {
+            return defaultTimeoutMs;
+        }
+        
+        public void setDefaultTimeoutMs(long defaultTimeoutMs) {
+            this.defaultTimeoutMs = defaultTimeoutMs;
+        }
+        
+        public long getMaxTimeoutMs() {
+            return maxTimeoutMs;
+        }
+        
+        public void setMaxTimeoutMs(long maxTimeoutMs) {
+            this.maxTimeoutMs = maxTimeoutMs;
+        }
+        
+        public boolean isLexicalFallbackEnabled() {
+            return lexicalFallbackEnabled;
+        }
+        
+        public void setLexicalFallbackEnabled(boolean lexicalFallbackEnabled) {
+            this.lexicalFallbackEnabled = lexicalFallbackEnabled;
+        }
+        
+        public boolean isServerTimingEnabled() {
+            return serverTimingEnabled;
+        }
+        
+        public void setServerTimingEnabled(boolean serverTimingEnabled) {
+            this.serverTimingEnabled = serverTimingEnabled;
+        }
+        
         public Thresholds getThresholds() {
             return thresholds;
         }
@@ -244,5 +478,465 @@ public class AppProperties {
             this.basePath = basePath;
         }
     }
+    
+    public static class Taxonomy {
+        private boolean seedDefaults = true;
+        private long refreshIntervalMs = 300000;
+        
+        public boolean isSeedDefaults() {
+            return seedDefaults;
+        }
+        
+        public void setSeedDefaults(boolean seedDefaults) {
+            this.seedDefaults = seedDefaults;
+        }
+        
+        public long getRefreshIntervalMs() {
+            return refreshIntervalMs;
+        }
+        
+        public void setRefreshIntervalMs(long refreshIntervalMs) {
+            this.refreshIntervalMs = refreshIntervalMs;
+        }
+    }
+    
+    public static class Export {
+        private String directory = "exports";
+        private int maxProfiles = 10000;
+        private int parallelism = 4;
+        private int batchSize = 32;
+        private int maxConcurrentJobs = 2;
+        private int maxQueuedJobs = 10;
+        private int maxPartSizeMb = 100;
+        private int retentionHours = 24;
+        private String nodeId = "local";
+        
+        public String getDirectory() {
+            return directory;
+        }
+        
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+        
+        public int getMaxProfiles() {
+            return maxProfiles;
+        }
+        
+        public void setMaxProfiles(int maxProfiles) {
+            this.maxProfiles = maxProfiles;
+        }
+        
+        public int getParallelism() {
+            return parallelism;
+        }
+        
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+        
+        public int getBatchSize() {
+            return batchSize;
+        }
+        
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+        
+        public int getMaxConcurrentJobs() {
+            return maxConcurrentJobs;
+        }
+        
+        public void setMaxConcurrentJobs(int maxConcurrentJobs) {
+            this.maxConcurrentJobs = maxConcurrentJobs;
+        }
+        
+        public int getMaxQueuedJobs() {
+            return maxQueuedJobs;
+        }
+        
+        public void setMaxQueuedJobs(int maxQueuedJobs) {
+            this.maxQueuedJobs = maxQueuedJobs;
+        }
+        
+        public int getMaxPartSizeMb() {
+            return maxPartSizeMb;
+        }
+        
+        public void setMaxPartSizeMb(int maxPartSizeMb) {
+            this.maxPartSizeMb = maxPartSizeMb;
+        }
+        
+        public int getRetentionHours() {
+            return retentionHours;
+        }
+        
+        public void setRetentionHours(int retentionHours) {
+            this.retentionHours = retentionHours;
+        }
+        
+        public String getNodeId() {
+            return nodeId;
+        }
+        
+        public void setNodeId(String nodeId) {
+            this.nodeId = nodeId;
+        }
+    }
+    
+    public static class Compression {
+        private boolean enabled = true;
+        private int level = 6;
+        private List<String> mimeTypes = new ArrayList<>(List.of(
+            "application/json", "application/x-ndjson", "text/csv", "text/plain",
+            "application/vnd.apache.arrow.stream"));
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public int getLevel() {
+            return level;
+        }
+        
+        public void setLevel(int level) {
+            this.level = level;
+        }
+        
+        public List<String> getMimeTypes() {
+            return mimeTypes;
+        }
+        
+        public void setMimeTypes(List<String> mimeTypes) {
+            this.mimeTypes = mimeTypes;
+        }
+    }
+    
+    public static class Catalog {
+        private long epochRefreshIntervalMs = 10000;
+        
+        public long getEpochRefreshIntervalMs() {
+            return epochRefreshIntervalMs;
+        }
+        
+        public void setEpochRefreshIntervalMs(long epochRefreshIntervalMs) {
+            this.epochRefreshIntervalMs = epochRefreshIntervalMs;
+        }
+    }
+    
+    public static class ConcurrencyLimit {
+        private boolean enabled = true;
+        private int initialLimit = 20;
+        private int minLimit = 4;
+        private int maxLimit = 200;
+        private double rttTolerance = 1.5;
+        private double smoothing = 0.2;
+        private int retryAfterSeconds = 1;
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+        
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+        
+        public int getMinLimit() {
+            return minLimit;
+        }
+        
+        public void setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+        }
+        
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+        
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+        
+        public double getRttTolerance() {
+            return rttTolerance;
+        }
+        
+        public void setRttTolerance(double rttTolerance) {
+            this.rttTolerance = rttTolerance;
+        }
+        
+        public double getSmoothing() {
+            return smoothing;
+        }
+        
+        public void setSmoothing(double smoothing) {
+            this.smoothing = smoothing;
+        }
+        
+        public int getRetryAfterSeconds() {
+            return retryAfterSeconds;
+        }
+        
+        public void setRetryAfterSeconds(int retryAfterSeconds) {
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+    }
+    
+    public static class MethodTracing {
+        private boolean enabled = false;
+        private double sampleRate = 0.01;
+        private long slowThresholdMs = 1000;
+        private int queueCapacity = 4096;
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public double getSampleRate() {
+            return sampleRate;
+        }
+        
+        public void setSampleRate(double sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+        
+        public long getSlowThresholdMs() {
+            return slowThresholdMs;
+        }
+        
+        public void setSlowThresholdMs(long slowThresholdMs) {
+            this.slowThresholdMs = slowThresholdMs;
+        }
+        
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+        
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+    }
+    
+    public static class Ingestion {
+        private int maxConcurrentRuns = 1;
+        private int maxQueuedRuns = 0;
+        private int mongoMaxPoolSize = 10;
+        private int embeddingBatchSize = 32;
+        private long runTimeoutMs = 1800000;
+        
+        public int getMaxConcurrentRuns() {
+            return maxConcurrentRuns;
+        }
+        
+        public void setMaxConcurrentRuns(int maxConcurrentRuns) {
+            this.maxConcurrentRuns = maxConcurrentRuns;
+        }
+        
+        public int getMaxQueuedRuns() {
+            return maxQueuedRuns;
+        }
+        
+        public void setMaxQueuedRuns(int maxQueuedRuns) {
+            this.maxQueuedRuns = maxQueuedRuns;
+        }
+        
+        public int getMongoMaxPoolSize() {
+            return mongoMaxPoolSize;
+        }
+        
+        public void setMongoMaxPoolSize(int mongoMaxPoolSize) {
+            this.mongoMaxPoolSize = mongoMaxPoolSize;
+        }
+        
+        public int getEmbeddingBatchSize() {
+            return embeddingBatchSize;
+        }
+        
+        public void setEmbeddingBatchSize(int embeddingBatchSize) {
+            this.embeddingBatchSize = embeddingBatchSize;
+        }
+        
+        public long getRunTimeoutMs() {
+            return runTimeoutMs;
+        }
+        
+        public void setRunTimeoutMs(long runTimeoutMs) {
+            this.runTimeoutMs = runTimeoutMs;
+        }
+    }
+    
+    public static class Security {
+        private RateLimit rateLimit = new RateLimit();
+        
+        public RateLimit getRateLimit() {
+            return rateLimit;
+        }
+        
+        public void setRateLimit(RateLimit rateLimit) {
+            this.rateLimit = rateLimit;
+        }
+        
+        public static class RateLimit {
+            private Limit generate = new Limit(5, 60);
+            private Limit match = new Limit(100, 1);
+            private Limit exportJobs = new Limit(20000, 60);
+            // Tokens a match request costs when its profile embedding is not cached; a hit costs 1
+            private int embeddingMissCost = 5;
+            private String apiKeyHeader = "X-API-Key";
+            // "key:tier" entries; requests without a known key are limited per client IP
+            private List<String> apiKeys = new ArrayList<>();
+            // Tier name -> factor applied to every limit
+            private Map<String, Double> tiers = new LinkedHashMap<>();
+            private Distributed distributed = new Distributed();
+            
+            public Limit getGenerate() {
+                return generate;
+            }
+            
+            public void setGenerate(Limit generate) {
+                this.generate = generate;
+            }
+            
+            public Limit getMatch() {
+                return match;
+            }
+            
+            public void setMatch(Limit match) {
+                this.match = match;
+            }
+            
+            public Limit getExportJobs() {
+                return exportJobs;
+            }
+            
+            public void setExportJobs(Limit exportJobs) {
+                this.exportJobs = exportJobs;
+            }
+            
+            public int getEmbeddingMissCost() {
+                return embeddingMissCost;
+            }
+            
+            public void setEmbeddingMissCost(int embeddingMissCost) {
+                this.embeddingMissCost = embeddingMissCost;
+            }
+            
+            public String getApiKeyHeader() {
+                return apiKeyHeader;
+            }
+            
+            public void setApiKeyHeader(String apiKeyHeader) {
+                this.apiKeyHeader = apiKeyHeader;
+            }
+            
+            public List<String> getApiKeys() {
+                return apiKeys;
+            }
+            
+            public void setApiKeys(List<String> apiKeys) {
+                this.apiKeys = apiKeys;
+            }
+            
+            public Map<String, Double> getTiers() {
+                return tiers;
+            }
+            
+            public void setTiers(Map<String, Double> tiers) {
+                this.tiers = tiers;
+            }
+            
+            public Distributed getDistributed() {
+                return distributed;
+            }
+            
+            public void setDistributed(Distributed distributed) {
+                this.distributed = distributed;
+            }
+            
+            public static class Distributed {
+                private boolean enabled = false;
+                private String collectionName = "rate_limit_buckets";
+                // Tokens a node may consume locally before syncing with the shared bucket
+                private int localTokens = 10;
+                private long syncIntervalMs = 1000;
+                
+                public boolean isEnabled() {
+                    return enabled;
+                }
+                
+                public void setEnabled(boolean enabled) {
+                    this.enabled = enabled;
+                }
+                
+                public String getCollectionName() {
+                    return collectionName;
+                }
+                
+                public void setCollectionName(String collectionName) {
+                    this.collectionName = collectionName;
+                }
+                
+                public int getLocalTokens() {
+                    return localTokens;
+                }
+                
+                public void setLocalTokens(int localTokens) {
+                    this.localTokens = localTokens;
+                }
+                
+                public long getSyncIntervalMs() {
+                    return syncIntervalMs;
+                }
+                
+                public void setSyncIntervalMs(long syncIntervalMs) {
+                    this.syncIntervalMs = syncIntervalMs;
+                }
+            }
+            
+            public static class Limit {
+                private int requests;
+                private int windowMinutes;
+                
+                public Limit() {
+                }
+                
+                public Limit(int requests, int windowMinutes) {
+                    this.requests = requests;
+                    this.windowMinutes = windowMinutes;
+                }
+                
+                public int getRequests() {
+                    return requests;
+                }
+                
+                public void setRequests(int requests) {
+                    this.requests = requests;
+                }
+                
+                public int getWindowMinutes() {
+                    return windowMinutes;
+                }
+                
+                public void setWindowMinutes(int windowMinutes) {
+                    this.windowMinutes = windowMinutes;
+                }
+            }
+        }
+    }
 }
-
@@ -0,0 +1,30 @@
+package com.george.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Times out asynchronous requests (futures and streamed bodies) after the longest match
+ * budget, {@code app.matching.max-timeout-ms}, plus a grace period, instead of after the
+ * container's default of about 30 seconds. A match request is stopped at its own deadline and
+ * answers with partial results or a {@code 504}; the container's timeout would cut it short
+ * with a bare {@code 503}. {@code /generate} sets its own, longer timeout.
+ */
+@Configuration
+public class AsyncRequestConfig implements WebMvcConfigurer {
+
+    /** Time left for a request stopped at its deadline to write its response. */
+    static final long RESPONSE_GRACE_MS = 5000;
+
+    private final AppProperties appProperties;
+
+    public AsyncRequestConfig(AppProperties appProperties) {
+        this.appProperties = appProperties;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(appProperties.getMatching().getMaxTimeoutMs() + RESPONSE_GRACE_MS);
+    }
+}
@@ -18,7 +18,8 @@ public class CacheConfig {
     public CacheManager cacheManager() {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager(
             "embeddings",
-            "jobMatches"
+            "jobMatches",
+            "profileAnalyses"
         );
         
         cacheManager.setCaffeine(Caffeine.newBuilder()
@@ -0,0 +1,337 @@
+package com.george.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+@Configuration
+public class CompressionConfig {
+
+    @Bean
+    @Order(4)
+    public ResponseCompressionFilter responseCompressionFilter(AppProperties appProperties) {
+        AppProperties.Compression compression = appProperties.getCompression();
+        return new ResponseCompressionFilter(compression.isEnabled(), compression.getLevel(), compression.getMimeTypes());
+    }
+
+    /**
+     * Gzip-compresses responses of the {@code /jobs/match} endpoints when the client accepts
+     * it and the response type is compressible.
+     * <p>
+     * Compression is done here rather than by Tomcat because Tomcat leaves responses with a
+     * strong ETag uncompressed. The negotiated coding is exposed to handlers through the
+     * {@link #CONTENT_CODING_ATTRIBUTE} request attribute so they can give each encoding its
+     * own strong ETag. The compressor is flushed with {@code SYNC_FLUSH}, so streamed
+     * responses still reach the client match by match. Brotli is not offered: there is no
+     * pure-Java encoder, and gzip is accepted by every client of these endpoints.
+     */
+    public static class ResponseCompressionFilter extends OncePerRequestFilter {
+
+        /** Request attribute holding the negotiated content coding, when the response is compressed. */
+        public static final String CONTENT_CODING_ATTRIBUTE = "com.george.compression.CODING";
+        public static final String GZIP = "gzip";
+
+        private static final String WRAPPER_ATTRIBUTE = "com.george.compression.WRAPPER";
+        private static final String COMPRESSED_PATH = "/jobs/match";
+
+        private final boolean enabled;
+        private final int level;
+        private final List<String> mimeTypes;
+
+        public ResponseCompressionFilter(boolean enabled, int level, List<String> mimeTypes) {
+            this.enabled = enabled;
+            this.level = level;
+            this.mimeTypes = mimeTypes.stream().map(type -> type.trim().toLowerCase(Locale.ROOT)).toList();
+        }
+
+        @Override
+        protected boolean shouldNotFilterAsyncDispatch() {
+            // Streaming bodies finish on an async dispatch, which is when the gzip trailer is written
+            return false;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request,
+                                        HttpServletResponse response,
+                                        FilterChain filterChain) throws ServletException, IOException {
+            if (!enabled || !request.getRequestURI().contains(COMPRESSED_PATH)) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+
+            GzipResponseWrapper wrapper = (GzipResponseWrapper) request.getAttribute(WRAPPER_ATTRIBUTE);
+            if (wrapper == null) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                if (!acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+                    filterChain.doFilter(request, response);
+                    return;
+                }
+                wrapper = new GzipResponseWrapper(response, level, mimeTypes);
+                request.setAttribute(WRAPPER_ATTRIBUTE, wrapper);
+                request.setAttribute(CONTENT_CODING_ATTRIBUTE, GZIP);
+                response = wrapper;
+            }
+
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                if (!request.isAsyncStarted()) {
+                    wrapper.finish();
+                }
+            }
+        }
+
+        /**
+         * Whether an {@code Accept-Encoding} header allows gzip: listed (or {@code x-gzip}) with a
+         * non-zero weight, or covered by {@code *} without being excluded.
+         */
+        static boolean acceptsGzip(String acceptEncoding) {
+            if (acceptEncoding == null || acceptEncoding.isBlank()) {
+                return false;
+            }
+            Boolean gzip = null;
+            boolean wildcard = false;
+            for (String element : acceptEncoding.split(",")) {
+                String[] parts = element.split(";");
+                String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+                boolean accepted = weight(parts) > 0;
+                if (coding.equals(GZIP) || coding.equals("x-gzip")) {
+                    gzip = accepted;
+                } else if (coding.equals("*")) {
+                    wildcard = accepted;
+                }
+            }
+            return gzip != null ? gzip : wildcard;
+        }
+
+        private static double weight(String[] parts) {
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+                    try {
+                        return Double.parseDouble(parameter.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        return 0;
+                    }
+                }
+            }
+            return 1;
+        }
+    }
+
+    /**
+     * Decides whether to compress when the body is first written, once status and content
+     * type are known. Content-Length is held back until then, since it no longer applies to a
+     * compressed body.
+     */
+    static class GzipResponseWrapper extends HttpServletResponseWrapper {
+
+        private final int level;
+        private final List<String> mimeTypes;
+        private long contentLength = -1;
+        private boolean decided;
+        private GzipServletOutputStream gzipStream;
+        private PrintWriter writer;
+
+        GzipResponseWrapper(HttpServletResponse response, int level, List<String> mimeTypes) {
+            super(response);
+            this.level = level;
+            this.mimeTypes = mimeTypes;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            decide();
+            return gzipStream != null ? gzipStream : super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            decide();
+            if (gzipStream == null) {
+                return super.getWriter();
+            }
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(gzipStream, getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void setContentLength(int len) {
+            setContentLengthLong(len);
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+            if (decided && gzipStream == null) {
+                super.setContentLengthLong(len);
+            } else if (!decided) {
+                contentLength = len;
+            }
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(value != null ? Long.parseLong(value) : -1);
+            } else {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(value != null ? Long.parseLong(value) : -1);
+            } else {
+                super.addHeader(name, value);
+            }
+        }
+
+        @Override
+        public void setIntHeader(String name, int value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(value);
+            } else {
+                super.setIntHeader(name, value);
+            }
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            } else if (gzipStream != null) {
+                gzipStream.flush();
+            }
+            super.flushBuffer();
+        }
+
+        /** Writes the gzip trailer, or the held-back Content-Length if nothing was compressed. */
+        void finish() throws IOException {
+            if (gzipStream != null) {
+                if (writer != null) {
+                    writer.flush();
+                }
+                gzipStream.finish();
+            } else if (!decided && contentLength >= 0) {
+                super.setContentLengthLong(contentLength);
+            }
+        }
+
+        private void decide() throws IOException {
+            if (decided) {
+                return;
+            }
+            decided = true;
+            if (shouldCompress()) {
+                super.setHeader(HttpHeaders.CONTENT_ENCODING, ResponseCompressionFilter.GZIP);
+                gzipStream = new GzipServletOutputStream(super.getOutputStream(), level);
+            } else if (contentLength >= 0) {
+                super.setContentLengthLong(contentLength);
+            }
+        }
+
+        private boolean shouldCompress() {
+            int status = getStatus();
+            if (status == SC_NO_CONTENT || status == SC_NOT_MODIFIED || getHeader(HttpHeaders.CONTENT_ENCODING) != null) {
+                return false;
+            }
+            String contentType = getContentType();
+            if (contentType == null) {
+                return false;
+            }
+            String type = contentType.toLowerCase(Locale.ROOT);
+            int parameters = type.indexOf(';');
+            String mediaType = (parameters >= 0 ? type.substring(0, parameters) : type).trim();
+            return mimeTypes.contains(mediaType);
+        }
+    }
+
+    private static class GzipServletOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream target;
+        private final LeveledGzipOutputStream gzip;
+        private boolean finished;
+
+        GzipServletOutputStream(ServletOutputStream target, int level) throws IOException {
+            this.target = target;
+            this.gzip = new LeveledGzipOutputStream(target, level);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            gzip.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            gzip.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (!finished) {
+                gzip.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+            target.close();
+        }
+
+        void finish() throws IOException {
+            if (!finished) {
+                finished = true;
+                try {
+                    gzip.finish();
+                    target.flush();
+                } finally {
+                    gzip.release();
+                }
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            return target.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            target.setWriteListener(writeListener);
+        }
+    }
+
+    /** Gzip stream with a configurable level whose deflater can be released without closing the target. */
+    private static class LeveledGzipOutputStream extends GZIPOutputStream {
+
+        LeveledGzipOutputStream(ServletOutputStream target, int level) throws IOException {
+            super(target, 8192, true);
+            def.setLevel(level);
+        }
+
+        void release() {
+            def.end();
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.george.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.george.dto.ErrorResponse;
+import com.george.exception.ErrorCode;
+import com.george.util.GradientConcurrencyLimiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Configuration
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public GradientConcurrencyLimiter matchConcurrencyLimiter(AppProperties appProperties, MeterRegistry registry) {
+        AppProperties.ConcurrencyLimit properties = appProperties.getConcurrencyLimit();
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(
+            properties.getInitialLimit(), properties.getMinLimit(), properties.getMaxLimit(),
+            properties.getRttTolerance(), properties.getSmoothing());
+
+        Gauge.builder("job.matching.concurrency.limit", limiter, GradientConcurrencyLimiter::getLimit)
+            .description("Current adaptive limit on concurrent match requests")
+            .register(registry);
+        Gauge.builder("job.matching.concurrency.inflight", limiter, GradientConcurrencyLimiter::getInFlight)
+            .description("Match requests currently holding a concurrency permit")
+            .register(registry);
+        FunctionCounter.builder("job.matching.concurrency.rejected", limiter, GradientConcurrencyLimiter::getRejected)
+            .description("Match requests rejected because the concurrency limit was reached")
+            .register(registry);
+        return limiter;
+    }
+
+    @Bean
+    @Order(5)
+    public ConcurrencyLimitFilter concurrencyLimitFilter(GradientConcurrencyLimiter matchConcurrencyLimiter,
+                                                         AppProperties appProperties,
+                                                         ObjectMapper objectMapper) {
+        AppProperties.ConcurrencyLimit properties = appProperties.getConcurrencyLimit();
+        return new ConcurrencyLimitFilter(properties.isEnabled(), matchConcurrencyLimiter,
+            properties.getRetryAfterSeconds(), objectMapper);
+    }
+
+    /**
+     * Admits {@code /jobs/match} requests while the adaptive limit allows, and rejects the
+     * rest at once with {@code 503} and {@code Retry-After}, before any embedding or search work.
+     * <p>
+     * Runs after the per-client rate limit, so rate-limited requests never take a permit.
+     * A permit is held until the first byte of the body is written, or until the response
+     * completes if it has no body; its latency is sampled at the same point. By the first byte
+     * the embedding call and the search have run, so streamed results and exports are shed
+     * like any other match request, but do not hold a permit while a slow client downloads
+     * them. Only responses that did the matching work feed their latency into the limit:
+     * {@code 304}s and client errors are released without a sample.
+     */
+    public static class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+        private static final String LIMITED_PATH = "/jobs/match";
+
+        private final boolean enabled;
+        private final GradientConcurrencyLimiter limiter;
+        private final int retryAfterSeconds;
+        private final ObjectMapper objectMapper;
+
+        public ConcurrencyLimitFilter(boolean enabled, GradientConcurrencyLimiter limiter,
+                                      int retryAfterSeconds, ObjectMapper objectMapper) {
+            this.enabled = enabled;
+            this.limiter = limiter;
+            this.retryAfterSeconds = retryAfterSeconds;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request,
+                                        HttpServletResponse response,
+                                        FilterChain filterChain) throws ServletException, IOException {
+            if (!enabled || !request.getRequestURI().contains(LIMITED_PATH)) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+
+            int inFlightAtStart = limiter.tryAcquire();
+            if (inFlightAtStart == 0) {
+                sendOverloadError(response, request.getRequestURI());
+                return;
+            }
+
+            Permit permit = new Permit(System.nanoTime(), inFlightAtStart);
+            FirstByteResponse firstByteResponse = new FirstByteResponse(response, permit);
+            boolean async = false;
+            try {
+                filterChain.doFilter(request, firstByteResponse);
+                if (request.isAsyncStarted()) {
+                    request.getAsyncContext().addListener(new ReleaseListener(permit, firstByteResponse));
+                    async = true;
+                }
+            } finally {
+                if (!async) {
+                    permit.release(firstByteResponse);
+                }
+            }
+        }
+
+        private void sendOverloadError(HttpServletResponse response, String path) throws IOException {
+            ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                ErrorCode.CONCURRENCY_LIMIT_EXCEEDED.getCode(),
+                "Service Overloaded",
+                ErrorCode.CONCURRENCY_LIMIT_EXCEEDED.getDescription() + ". Please retry after "
+                    + retryAfterSeconds + " second" + (retryAfterSeconds == 1 ? "" : "s") + ".",
+                path
+            );
+
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType("application/json");
+            response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+        }
+
+        /** A request's permit, released once: at the first byte of the body or at completion. */
+        private class Permit {
+
+            private final long start;
+            private final int inFlightAtStart;
+            private final AtomicBoolean released = new AtomicBoolean();
+
+            Permit(long start, int inFlightAtStart) {
+                this.start = start;
+                this.inFlightAtStart = inFlightAtStart;
+            }
+
+            void release(HttpServletResponse response) {
+                if (!released.compareAndSet(false, true)) {
+                    return;
+                }
+                int status = response.getStatus();
+                boolean sample = status != HttpStatus.NOT_MODIFIED.value()
+                    && (status < 400 || status >= 500);
+                limiter.release(sample ? System.nanoTime() - start : -1, inFlightAtStart);
+            }
+        }
+
+        /** Releases the permit of an asynchronous request that wrote no body once it completes. */
+        private static class ReleaseListener implements AsyncListener {
+
+            private final Permit permit;
+            private final HttpServletResponse response;
+
+            ReleaseListener(Permit permit, HttpServletResponse response) {
+                this.permit = permit;
+                this.response = response;
+            }
+
+            @Override
+            public void onComplete(AsyncEvent event) {
+                // Also fires after a timeout or error, so no permit outlives its request
+                permit.release(response);
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+                // A new async cycle replaces the listeners; stay registered until the real completion
+                event.getAsyncContext().addListener(this);
+            }
+        }
+    
+        /** Releases the permit when the first byte of the body is written. */
+        private static class FirstByteResponse extends HttpServletResponseWrapper {
+
+            private final Permit permit;
+            private ServletOutputStream outputStream;
+            private PrintWriter writer;
+
+            FirstByteResponse(HttpServletResponse response, Permit permit) {
+                super(response);
+                this.permit = permit;
+            }
+
+            @Override
+            public ServletOutputStream getOutputStream() throws IOException {
+                if (outputStream == null) {
+                    outputStream = new FirstByteOutputStream(super.getOutputStream(), () -> permit.release(this));
+                }
+                return outputStream;
+            }
+
+            @Override
+            public PrintWriter getWriter() throws IOException {
+                if (writer == null) {
+                    Writer target = super.getWriter();
+                    writer = new PrintWriter(new FilterWriter(target) {
+                        @Override
+                        public void write(int c) throws IOException {
+                            permit.release(FirstByteResponse.this);
+                            super.write(c);
+                        }
+
+                        @Override
+                        public void write(char[] buffer, int off, int len) throws IOException {
+                            permit.release(FirstByteResponse.this);
+                            super.write(buffer, off, len);
+                        }
+
+                        @Override
+                        public void write(String str, int off, int len) throws IOException {
+                            permit.release(FirstByteResponse.this);
+                            super.write(str, off, len);
+                        }
+                    });
+                }
+                return writer;
+            }
+        }
+
+        private static class FirstByteOutputStream extends ServletOutputStream {
+
+            private final ServletOutputStream target;
+            private final Runnable onFirstByte;
+
+            FirstByteOutputStream(ServletOutputStream target, Runnable onFirstByte) {
+                this.target = target;
+                this.onFirstByte = onFirstByte;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                onFirstByte.run();
+                target.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                onFirstByte.run();
+                target.write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                target.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                target.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return target.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                target.setWriteListener(writeListener);
+            }
+        }
+    }
+
+}
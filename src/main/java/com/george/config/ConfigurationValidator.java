@@ -42,6 +42,27 @@ public class ConfigurationValidator {
         // Validate Matching configuration
         validateMatchingConfiguration(errors);
         
+        // Validate Export configuration
+        validateExportConfiguration(errors);
+        
+        // Validate response compression configuration
+        validateCompressionConfiguration(errors);
+        
+        // Validate catalog epoch configuration
+        validateCatalogConfiguration(errors);
+        
+        // Validate adaptive concurrency limit configuration
+        validateConcurrencyLimitConfiguration(errors);
+        
+        // Validate ingestion bulkhead configuration
+        validateIngestionConfiguration(errors);
+        
+        // Validate rate limit configuration
+        validateRateLimitConfiguration(errors);
+        
+        // Validate method tracing configuration
+        validateMethodTracingConfiguration(errors);
+        
         // If any errors found, fail startup
         if (!errors.isEmpty()) {
             String errorMessage = "Configuration validation failed:\n" + String.join("\n", errors);
@@ -78,6 +99,16 @@ public class ConfigurationValidator {
         if (vectorIndexName == null || vectorIndexName.trim().isEmpty()) {
             errors.add("MONGO_VECTOR_INDEX_NAME (app.mongodb.vector-index-name) is required but not set");
         }
+        
+        // Vector encoding
+        if (appProperties.getMongodb().getVectorEncoding() == null) {
+            errors.add("MONGO_VECTOR_ENCODING (app.mongodb.vector-encoding) is required but not set");
+        }
+        
+        // Vector migration batch size
+        if (appProperties.getMongodb().getVectorMigrationBatchSize() <= 0) {
+            errors.add("MONGO_VECTOR_MIGRATION_BATCH_SIZE (app.mongodb.vector-migration-batch-size) must be greater than 0");
+        }
     }
     
     private void validateEmbeddingConfiguration(List<String> errors) {
@@ -106,6 +137,38 @@ public class ConfigurationValidator {
         if (dimension <= 0) {
             errors.add("EMBEDDING_DIMENSION (app.embeddings.huggingface.dimension) must be greater than 0");
         }
+        
+        // Provider concurrency shared by matching and ingestion
+        AppProperties.Embeddings embeddings = appProperties.getEmbeddings();
+        if (embeddings.getMaxConcurrentCalls() <= 0) {
+            errors.add("EMBEDDING_MAX_CONCURRENT_CALLS (app.embeddings.max-concurrent-calls) must be greater than 0");
+        }
+        
+        if (embeddings.getReservedInteractiveCalls() < 0
+                || embeddings.getReservedInteractiveCalls() >= embeddings.getMaxConcurrentCalls()) {
+            errors.add("EMBEDDING_RESERVED_INTERACTIVE_CALLS (app.embeddings.reserved-interactive-calls) must be at least 0 and less than max-concurrent-calls");
+        }
+        
+        if (embeddings.getMaxWaitingCalls() < 0) {
+            errors.add("EMBEDDING_MAX_WAITING_CALLS (app.embeddings.max-waiting-calls) must be at least 0");
+        }
+        
+        // Provider circuit breaker
+        AppProperties.Embeddings.CircuitBreaker circuitBreaker = embeddings.getCircuitBreaker();
+        if (circuitBreaker.isEnabled()) {
+            if (circuitBreaker.getMinimumCalls() <= 0 || circuitBreaker.getMinimumCalls() > circuitBreaker.getWindowSize()) {
+                errors.add("EMBEDDING_CIRCUIT_BREAKER_MINIMUM_CALLS must be greater than 0 and at most EMBEDDING_CIRCUIT_BREAKER_WINDOW_SIZE");
+            }
+            if (circuitBreaker.getFailureRateThreshold() <= 0.0 || circuitBreaker.getFailureRateThreshold() > 1.0) {
+                errors.add("EMBEDDING_CIRCUIT_BREAKER_FAILURE_RATE (app.embeddings.circuit-breaker.failure-rate-threshold) must be greater than 0.0 and at most 1.0");
+            }
+            if (circuitBreaker.getSlowCallThresholdMs() <= 0) {
+                errors.add("EMBEDDING_CIRCUIT_BREAKER_SLOW_CALL_MS (app.embeddings.circuit-breaker.slow-call-threshold-ms) must be greater than 0");
+            }
+            if (circuitBreaker.getOpenDurationMs() <= 0) {
+                errors.add("EMBEDDING_CIRCUIT_BREAKER_OPEN_DURATION_MS (app.embeddings.circuit-breaker.open-duration-ms) must be greater than 0");
+            }
+        }
     }
     
     private void validateMatchingConfiguration(List<String> errors) {
@@ -134,6 +197,19 @@ public class ConfigurationValidator {
             errors.add("MATCH limits must satisfy: min-limit <= default-limit <= max-limit");
         }
         
+        // Snippet length validation
+        if (matching.getSnippetLength() <= 0) {
+            errors.add("MATCH_SNIPPET_LENGTH (app.matching.snippet-length) must be greater than 0");
+        }
+        
+        // Request deadline validation
+        if (matching.getDefaultTimeoutMs() <= 0) {
+            errors.add("MATCH_DEFAULT_TIMEOUT_MS (app.matching.default-timeout-ms) must be greater than 0");
+        }
+        if (matching.getMaxTimeoutMs() < matching.getDefaultTimeoutMs()) {
+            errors.add("MATCH_MAX_TIMEOUT_MS (app.matching.max-timeout-ms) must be at least MATCH_DEFAULT_TIMEOUT_MS");
+        }
+        
         // Confidence validation
         double defaultMinConfidence = matching.getDefaultMinConfidence();
         if (defaultMinConfidence < 0.0 || defaultMinConfidence > 1.0) {
@@ -154,5 +230,155 @@ public class ConfigurationValidator {
             errors.add("MATCH thresholds must satisfy: moderate < good < very-strong");
         }
     }
+    
+    private void validateExportConfiguration(List<String> errors) {
+        AppProperties.Export export = appProperties.getExport();
+        
+        if (export.getDirectory() == null || export.getDirectory().trim().isEmpty()) {
+            errors.add("EXPORT_DIRECTORY (app.export.directory) is required but not set");
+        }
+        if (export.getMaxProfiles() <= 0) {
+            errors.add("EXPORT_MAX_PROFILES (app.export.max-profiles) must be greater than 0");
+        }
+        if (export.getParallelism() <= 0) {
+            errors.add("EXPORT_PARALLELISM (app.export.parallelism) must be greater than 0");
+        }
+        if (export.getBatchSize() <= 0) {
+            errors.add("EXPORT_BATCH_SIZE (app.export.batch-size) must be greater than 0");
+        }
+        if (export.getMaxConcurrentJobs() <= 0) {
+            errors.add("EXPORT_MAX_CONCURRENT_JOBS (app.export.max-concurrent-jobs) must be greater than 0");
+        }
+        if (export.getMaxQueuedJobs() < 0) {
+            errors.add("EXPORT_MAX_QUEUED_JOBS (app.export.max-queued-jobs) must not be negative");
+        }
+        if (export.getMaxPartSizeMb() <= 0) {
+            errors.add("EXPORT_MAX_PART_SIZE_MB (app.export.max-part-size-mb) must be greater than 0");
+        }
+        if (export.getRetentionHours() <= 0) {
+            errors.add("EXPORT_RETENTION_HOURS (app.export.retention-hours) must be greater than 0");
+        }
+        if (export.getNodeId() == null || export.getNodeId().trim().isEmpty()) {
+            errors.add("EXPORT_NODE_ID (app.export.node-id) is required but not set");
+        }
+    }
+    
+    private void validateCompressionConfiguration(List<String> errors) {
+        AppProperties.Compression compression = appProperties.getCompression();
+        
+        if (compression.getLevel() < 1 || compression.getLevel() > 9) {
+            errors.add("RESPONSE_COMPRESSION_LEVEL (app.compression.level) must be between 1 and 9");
+        }
+    }
+    
+    private void validateCatalogConfiguration(List<String> errors) {
+        if (appProperties.getCatalog().getEpochRefreshIntervalMs() <= 0) {
+            errors.add("CATALOG_EPOCH_REFRESH_INTERVAL_MS (app.catalog.epoch-refresh-interval-ms) must be greater than 0");
+        }
+    }
+    
+    private void validateConcurrencyLimitConfiguration(List<String> errors) {
+        AppProperties.ConcurrencyLimit limit = appProperties.getConcurrencyLimit();
+        
+        if (limit.getMinLimit() <= 0) {
+            errors.add("CONCURRENCY_LIMIT_MIN (app.concurrency-limit.min-limit) must be greater than 0");
+        }
+        if (limit.getMinLimit() > limit.getInitialLimit() || limit.getInitialLimit() > limit.getMaxLimit()) {
+            errors.add("CONCURRENCY_LIMIT limits must satisfy: min-limit <= initial-limit <= max-limit");
+        }
+        if (limit.getRttTolerance() < 1.0) {
+            errors.add("CONCURRENCY_LIMIT_RTT_TOLERANCE (app.concurrency-limit.rtt-tolerance) must be at least 1.0");
+        }
+        if (limit.getSmoothing() <= 0.0 || limit.getSmoothing() > 1.0) {
+            errors.add("CONCURRENCY_LIMIT_SMOOTHING (app.concurrency-limit.smoothing) must be greater than 0.0 and at most 1.0");
+        }
+        if (limit.getRetryAfterSeconds() <= 0) {
+            errors.add("CONCURRENCY_LIMIT_RETRY_AFTER_SECONDS (app.concurrency-limit.retry-after-seconds) must be greater than 0");
+        }
+    }
+    
+    private void validateRateLimitConfiguration(List<String> errors) {
+        AppProperties.Security.RateLimit rateLimit = appProperties.getSecurity().getRateLimit();
+        
+        validateLimit(errors, rateLimit.getGenerate(), "RATE_LIMIT_GENERATE", "generate");
+        validateLimit(errors, rateLimit.getMatch(), "RATE_LIMIT_MATCH", "match");
+        validateLimit(errors, rateLimit.getExportJobs(), "RATE_LIMIT_EXPORT_JOBS", "export-jobs");
+        if (rateLimit.getEmbeddingMissCost() < 1) {
+            errors.add("RATE_LIMIT_EMBEDDING_MISS_COST (app.security.rate-limit.embedding-miss-cost) must be at least 1");
+        }
+        if (rateLimit.getApiKeyHeader() == null || rateLimit.getApiKeyHeader().isBlank()) {
+            errors.add("RATE_LIMIT_API_KEY_HEADER (app.security.rate-limit.api-key-header) is required");
+        }
+        rateLimit.getTiers().forEach((tier, factor) -> {
+            if (factor == null || factor <= 0.0) {
+                errors.add("Rate limit tier '" + tier + "' (app.security.rate-limit.tiers) must have a factor greater than 0");
+            }
+        });
+        AppProperties.Security.RateLimit.Distributed distributed = rateLimit.getDistributed();
+        if (distributed.isEnabled()) {
+            if (distributed.getCollectionName() == null || distributed.getCollectionName().isBlank()) {
+                errors.add("RATE_LIMIT_BUCKET_COLLECTION (app.security.rate-limit.distributed.collection-name) is required");
+            }
+            if (distributed.getLocalTokens() < 0) {
+                errors.add("RATE_LIMIT_LOCAL_TOKENS (app.security.rate-limit.distributed.local-tokens) must not be negative");
+            }
+            if (distributed.getSyncIntervalMs() <= 0) {
+                errors.add("RATE_LIMIT_SYNC_INTERVAL_MS (app.security.rate-limit.distributed.sync-interval-ms) must be greater than 0");
+            }
+        }
+        for (String entry : rateLimit.getApiKeys()) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.lastIndexOf(':');
+            if (separator <= 0 || !rateLimit.getTiers().containsKey(entry.substring(separator + 1).trim())) {
+                errors.add("RATE_LIMIT_API_KEYS (app.security.rate-limit.api-keys) entries must be key:tier with a configured tier");
+                break;
+            }
+        }
+    }
+    
+    private static void validateLimit(List<String> errors, AppProperties.Security.RateLimit.Limit limit,
+                                      String envPrefix, String key) {
+        if (limit.getRequests() <= 0) {
+            errors.add(envPrefix + "_REQUESTS (app.security.rate-limit." + key + ".requests) must be greater than 0");
+        }
+        if (limit.getWindowMinutes() <= 0) {
+            errors.add(envPrefix + "_WINDOW (app.security.rate-limit." + key + ".window-minutes) must be greater than 0");
+        }
+    }
+    
+    private void validateMethodTracingConfiguration(List<String> errors) {
+        AppProperties.MethodTracing tracing = appProperties.getMethodTracing();
+        
+        if (tracing.getSampleRate() < 0.0 || tracing.getSampleRate() > 1.0) {
+            errors.add("METHOD_TRACING_SAMPLE_RATE (app.method-tracing.sample-rate) must be between 0.0 and 1.0");
+        }
+        if (tracing.getSlowThresholdMs() <= 0) {
+            errors.add("METHOD_TRACING_SLOW_THRESHOLD_MS (app.method-tracing.slow-threshold-ms) must be greater than 0");
+        }
+        if (tracing.getQueueCapacity() <= 0) {
+            errors.add("METHOD_TRACING_QUEUE_CAPACITY (app.method-tracing.queue-capacity) must be greater than 0");
+        }
+    }
+    
+    private void validateIngestionConfiguration(List<String> errors) {
+        AppProperties.Ingestion ingestion = appProperties.getIngestion();
+        
+        if (ingestion.getMaxConcurrentRuns() <= 0) {
+            errors.add("INGESTION_MAX_CONCURRENT_RUNS (app.ingestion.max-concurrent-runs) must be greater than 0");
+        }
+        if (ingestion.getMaxQueuedRuns() < 0) {
+            errors.add("INGESTION_MAX_QUEUED_RUNS (app.ingestion.max-queued-runs) must not be negative");
+        }
+        if (ingestion.getMongoMaxPoolSize() <= 0) {
+            errors.add("INGESTION_MONGO_MAX_POOL_SIZE (app.ingestion.mongo-max-pool-size) must be greater than 0");
+        }
+        if (ingestion.getEmbeddingBatchSize() <= 0) {
+            errors.add("INGESTION_EMBEDDING_BATCH_SIZE (app.ingestion.embedding-batch-size) must be greater than 0");
+        }
+        if (ingestion.getRunTimeoutMs() <= 0) {
+            errors.add("INGESTION_RUN_TIMEOUT_MS (app.ingestion.run-timeout-ms) must be greater than 0");
+        }
+    }
 }
-
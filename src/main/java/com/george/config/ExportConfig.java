@@ -0,0 +1,53 @@
+package com.george.config;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Thread pools for asynchronous export jobs. Jobs run on their own small pool with a bounded
+ * queue, so a burst of requests is rejected instead of piling up; the matching work inside
+ * each job shares a second pool sized by {@code app.export.parallelism}.
+ * <p>
+ * With {@code spring.threads.virtual.enabled} the pools keep their sizes and queues but run
+ * their workers on virtual threads, like the rest of the request handling.
+ */
+@Configuration
+public class ExportConfig {
+
+    public static final String EXPORT_JOB_EXECUTOR = "exportJobExecutor";
+    public static final String EXPORT_MATCH_EXECUTOR = "exportMatchExecutor";
+
+    @Bean(name = EXPORT_JOB_EXECUTOR)
+    public ThreadPoolTaskExecutor exportJobExecutor(AppProperties appProperties, Environment environment) {
+        AppProperties.Export export = appProperties.getExport();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(export.getMaxConcurrentJobs());
+        executor.setMaxPoolSize(export.getMaxConcurrentJobs());
+        executor.setQueueCapacity(export.getMaxQueuedJobs());
+        configureThreads(executor, "export-job-", environment);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = EXPORT_MATCH_EXECUTOR)
+    public ThreadPoolTaskExecutor exportMatchExecutor(AppProperties appProperties, Environment environment) {
+        AppProperties.Export export = appProperties.getExport();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(export.getParallelism());
+        executor.setMaxPoolSize(export.getParallelism());
+        configureThreads(executor, "export-match-", environment);
+        executor.initialize();
+        return executor;
+    }
+
+    static void configureThreads(ThreadPoolTaskExecutor executor, String namePrefix, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            executor.setThreadFactory(Thread.ofVirtual().name(namePrefix, 1).factory());
+        } else {
+            executor.setThreadNamePrefix(namePrefix);
+        }
+    }
+}
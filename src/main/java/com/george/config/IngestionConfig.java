@@ -0,0 +1,29 @@
+package com.george.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * The ingestion bulkhead's executor. Embedding runs execute here instead of on Tomcat's
+ * request threads, and a run beyond {@code app.ingestion.max-concurrent-runs} plus
+ * {@code max-queued-runs} is rejected rather than queued behind live traffic.
+ */
+@Configuration
+public class IngestionConfig {
+
+    public static final String INGESTION_EXECUTOR = "ingestionExecutor";
+
+    @Bean(name = INGESTION_EXECUTOR)
+    public ThreadPoolTaskExecutor ingestionExecutor(AppProperties appProperties, Environment environment) {
+        AppProperties.Ingestion ingestion = appProperties.getIngestion();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(ingestion.getMaxConcurrentRuns());
+        executor.setMaxPoolSize(ingestion.getMaxConcurrentRuns());
+        executor.setQueueCapacity(ingestion.getMaxQueuedRuns());
+        ExportConfig.configureThreads(executor, "ingestion-", environment);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,127 @@
+package com.george.config;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoWriteException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Updates;
+import io.github.bucket4j.distributed.proxy.ClientSideConfig;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.AbstractCompareAndSwapBasedProxyManager;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.AsyncCompareAndSwapOperation;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.CompareAndSwapOperation;
+import io.github.bucket4j.distributed.remote.RemoteBucketState;
+import org.bson.Document;
+import org.bson.types.Binary;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps bucket4j rate limit buckets in a MongoDB collection, so every node enforces the same
+ * limits.
+ * <p>
+ * Each bucket is a document holding its serialized state. Updates are compare-and-swap: the
+ * state is read, changed locally, and written back only if the stored state is still the one
+ * that was read; otherwise bucket4j retries with the new state. The first write inserts the
+ * document, and a concurrent first write loses on the duplicate {@code _id}.
+ * <p>
+ * Every write also sets {@code expiresAt} to the time the bucket would be full again. A TTL
+ * index then drops idle buckets, which is safe because a full bucket and a missing one behave
+ * the same.
+ * <p>
+ * Only bucket4j's synchronous API is supported: {@link #isAsyncModeSupported()} is
+ * {@code false}, and the asynchronous compare-and-swap and removal methods fail with
+ * {@link UnsupportedOperationException}. The rate limit filter only calls the synchronous
+ * {@code tryConsume}.
+ */
+public class MongoBucketProxyManager extends AbstractCompareAndSwapBasedProxyManager<String> {
+
+    static final String STATE_FIELD = "state";
+    static final String EXPIRES_AT_FIELD = "expiresAt";
+
+    private final MongoCollection<Document> collection;
+
+    public MongoBucketProxyManager(MongoCollection<Document> collection) {
+        super(ClientSideConfig.getDefault());
+        this.collection = collection;
+    }
+
+    /** Creates the TTL index on {@code expiresAt}; a no-op if it already exists. */
+    public void ensureIndexes() {
+        collection.createIndex(Indexes.ascending(EXPIRES_AT_FIELD), new IndexOptions().expireAfter(0L, TimeUnit.SECONDS));
+    }
+
+    @Override
+    protected CompareAndSwapOperation beginCompareAndSwapOperation(String key) {
+        return new CompareAndSwapOperation() {
+            @Override
+            public Optional<byte[]> getStateData() {
+                Document bucket = collection.find(Filters.eq("_id", key))
+                    .projection(Projections.include(STATE_FIELD))
+                    .first();
+                return bucket != null
+                    ? Optional.of(bucket.get(STATE_FIELD, Binary.class).getData())
+                    : Optional.empty();
+            }
+
+            @Override
+            public boolean compareAndSwap(byte[] originalData, byte[] newData, RemoteBucketState newState) {
+                return swap(key, originalData, newData, newState);
+            }
+        };
+    }
+
+    boolean swap(String key, byte[] originalData, byte[] newData, RemoteBucketState newState) {
+        Date expiresAt = expiresAt(newState);
+        if (originalData == null) {
+            try {
+                collection.insertOne(new Document("_id", key)
+                    .append(STATE_FIELD, new Binary(newData))
+                    .append(EXPIRES_AT_FIELD, expiresAt));
+                return true;
+            } catch (MongoWriteException e) {
+                if (e.getError().getCategory() == ErrorCategory.DUPLICATE_KEY) {
+                    return false;
+                }
+                throw e;
+            }
+        }
+        // Matched rather than modified: an update that leaves the state unchanged still succeeded
+        return collection.updateOne(
+                Filters.and(Filters.eq("_id", key), Filters.eq(STATE_FIELD, new Binary(originalData))),
+                Updates.combine(Updates.set(STATE_FIELD, new Binary(newData)), Updates.set(EXPIRES_AT_FIELD, expiresAt)))
+            .getMatchedCount() == 1;
+    }
+
+    private static Date expiresAt(RemoteBucketState state) {
+        long now = System.currentTimeMillis();
+        long refillNanos = state.calculateFullRefillingTime(TimeUnit.MILLISECONDS.toNanos(now));
+        return new Date(now + TimeUnit.NANOSECONDS.toMillis(refillNanos));
+    }
+
+    @Override
+    protected AsyncCompareAndSwapOperation beginAsyncCompareAndSwapOperation(String key) {
+        throw new UnsupportedOperationException("Rate limit buckets are only used synchronously");
+    }
+
+    @Override
+    public void removeProxy(String key) {
+        collection.deleteOne(Filters.eq("_id", key));
+    }
+
+    @Override
+    protected CompletableFuture<Void> removeAsync(String key) {
+        return CompletableFuture.failedFuture(
+            new UnsupportedOperationException("Rate limit buckets are only used synchronously"));
+    }
+
+    @Override
+    public boolean isAsyncModeSupported() {
+        return false;
+    }
+}
@@ -1,5 +1,7 @@
 package com.george.config;
 
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import org.slf4j.Logger;
@@ -7,6 +9,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.mongodb.config.AbstractMongoClientConfiguration;
 import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
 
@@ -17,6 +20,8 @@ public class MongoConfig extends AbstractMongoClientConfiguration {
 
     private static final Logger logger = LoggerFactory.getLogger(MongoConfig.class);
 
+    public static final String INGESTION_MONGO_CLIENT = "ingestionMongoClient";
+
     private final String databaseName;
     private final String connectionString;
 
@@ -33,12 +38,37 @@ public class MongoConfig extends AbstractMongoClientConfiguration {
 
     @Override
     @Bean
+    @Primary
     public MongoClient mongoClient() {
         // Connection string is validated at startup by ConfigurationValidator
         logger.info("Creating MongoDB client connection");
         return MongoClients.create(connectionString);
     }
 
+    /**
+     * Client for ingestion (embedding generation and vector migration), with its own small
+     * connection pool so bulk writes can never take the connections online matching needs.
+     */
+    @Bean(name = INGESTION_MONGO_CLIENT)
+    public MongoClient ingestionMongoClient(@Value("${app.ingestion.mongo-max-pool-size:10}") int maxPoolSize) {
+        logger.info("Creating ingestion MongoDB client connection (max pool size {})", maxPoolSize);
+        return MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(connectionString))
+                .applyToConnectionPoolSettings(pool -> pool.maxSize(maxPoolSize))
+                .applicationName("smarthire-ingestion")
+                .build());
+    }
+
+    /**
+     * Non-blocking client for the async match path. It has its own connection pool, and its
+     * I/O completes on the driver's threads rather than on request threads.
+     */
+    @Bean
+    public com.mongodb.reactivestreams.client.MongoClient reactiveMongoClient() {
+        logger.info("Creating reactive MongoDB client connection");
+        return com.mongodb.reactivestreams.client.MongoClients.create(connectionString);
+    }
+
     @Override
     public MongoCustomConversions customConversions() {
         return new MongoCustomConversions(Arrays.asList(new DoubleToBsonConverter()));
@@ -0,0 +1,63 @@
+package com.george.config;
+
+import com.george.exception.ErrorCode;
+import com.george.exception.RateLimitException;
+import io.github.bucket4j.Bucket;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * The rate limit bucket a request was admitted against, for costs only known once the request
+ * is being handled.
+ * <p>
+ * The {@link RateLimitConfig.RateLimitFilter} takes one token at admission, the cost of the
+ * cheapest request. Code that finds the request costs more charges the difference here,
+ * before doing the expensive work: an embedding cache miss before the provider is called, an
+ * export job for each profile before it is queued. If the client's bucket cannot cover it,
+ * the request fails with {@code 429} and nothing is spent.
+ * <p>
+ * Outside a rate-limited request (background jobs, ingestion) the charges do nothing.
+ */
+public final class RateLimitBudget {
+
+    static final String ATTRIBUTE = RateLimitBudget.class.getName();
+
+    private final Bucket bucket;
+    private final ErrorCode errorCode;
+    private final int embeddingMissCost;
+
+    RateLimitBudget(Bucket bucket, ErrorCode errorCode, int embeddingMissCost) {
+        this.bucket = bucket;
+        this.errorCode = errorCode;
+        this.embeddingMissCost = embeddingMissCost;
+    }
+
+    /** Charges the current request for an embedding the provider has to compute. */
+    public static void chargeEmbeddingMiss() {
+        RateLimitBudget budget = current();
+        if (budget != null) {
+            budget.charge(budget.embeddingMissCost - 1);
+        }
+    }
+
+    /** Charges the current request for a batch of {@code items}, one token each. */
+    public static void chargeItems(int items) {
+        RateLimitBudget budget = current();
+        if (budget != null) {
+            budget.charge(items - 1);
+        }
+    }
+
+    private void charge(long tokens) {
+        if (tokens > 0 && !RateLimitConfig.RateLimitFilter.tryConsume(bucket, tokens)) {
+            throw new RateLimitException(errorCode, errorCode.getDescription() + ". Please try again later.");
+        }
+    }
+
+    private static RateLimitBudget current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null
+            ? (RateLimitBudget) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+            : null;
+    }
+}
@@ -5,101 +5,240 @@ import com.george.dto.ErrorResponse;
 import com.george.exception.ErrorCode;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
 import io.github.bucket4j.Refill;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.RemoteBucketBuilder;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoClient;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Configuration
 public class RateLimitConfig {
 
-    @Value("${app.security.rate-limit.generate.requests:5}")
-    private int generateRequests;
-
-    @Value("${app.security.rate-limit.generate.window-minutes:60}")
-    private int generateWindowMinutes;
-
-    @Value("${app.security.rate-limit.match.requests:100}")
-    private int matchRequests;
-
-    @Value("${app.security.rate-limit.match.window-minutes:1}")
-    private int matchWindowMinutes;
-
-    @Autowired
-    private ObjectMapper objectMapper;
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitConfig.class);
 
     @Bean
     @org.springframework.core.annotation.Order(3)
-    public RateLimitFilter rateLimitFilter() {
-        return new RateLimitFilter(generateRequests, generateWindowMinutes, matchRequests, matchWindowMinutes, objectMapper);
+    public RateLimitFilter rateLimitFilter(AppProperties appProperties, ObjectProvider<MongoClient> mongoClient,
+                                           ObjectMapper objectMapper) {
+        AppProperties.Security.RateLimit properties = appProperties.getSecurity().getRateLimit();
+        if (!properties.getDistributed().isEnabled()) {
+            return new RateLimitFilter(properties, objectMapper);
+        }
+        MongoBucketProxyManager proxyManager = new MongoBucketProxyManager(mongoClient.getObject()
+            .getDatabase(appProperties.getMongodb().getDatabaseName())
+            .getCollection(properties.getDistributed().getCollectionName()));
+        try {
+            proxyManager.ensureIndexes();
+        } catch (MongoException e) {
+            logger.warn("Could not create the TTL index on rate limit buckets: {}", e.getMessage());
+        }
+        logger.info("Rate limit buckets are shared through MongoDB collection {}",
+            properties.getDistributed().getCollectionName());
+        return new RateLimitFilter(properties, proxyManager, objectMapper);
     }
 
+    /**
+     * Token-bucket rate limits per client and endpoint.
+     * <p>
+     * {@code /generate}, the match endpoints and export job submission each have their own
+     * bucket, so traffic to one never uses up another. Clients sending a configured API key are
+     * limited per key, with every limit scaled by the key's tier; everyone else is limited per
+     * IP address at the base limits.
+     * <p>
+     * Admission costs one token. Handlers charge the rest of a request's cost through the
+     * {@link RateLimitBudget} the filter attaches to the request.
+     * <p>
+     * Buckets are local to the node unless a {@link ProxyManager} is given, in which case they
+     * are shared by all nodes. Each node then takes up to {@code local-tokens} from a shared
+     * bucket before syncing, or waits at most {@code sync-interval-ms}, so most requests never
+     * touch the store; with N nodes a limit can be overshot by at most N times that many
+     * tokens. If the store cannot be reached, requests are let through.
+     */
     public static class RateLimitFilter extends OncePerRequestFilter {
+
+        private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+        // Warn once per store outage rather than on every request
+        private static final AtomicBoolean storeFailing = new AtomicBoolean();
+
+        enum Endpoint {
+            GENERATE(ErrorCode.RATE_LIMIT_GENERATE_EXCEEDED),
+            MATCH(ErrorCode.RATE_LIMIT_MATCH_EXCEEDED),
+            EXPORT_JOBS(ErrorCode.RATE_LIMIT_EXPORT_JOBS_EXCEEDED);
+
+            private final ErrorCode errorCode;
+
+            Endpoint(ErrorCode errorCode) {
+                this.errorCode = errorCode;
+            }
+
+            static Endpoint of(HttpServletRequest request) {
+                String path = request.getRequestURI();
+                if (path.contains("/generate")) {
+                    return GENERATE;
+                }
+                if (path.contains("/jobs/match")) {
+                    return MATCH;
+                }
+                // Only submitting a job costs anything; polling and downloads are not limited
+                if ("POST".equals(request.getMethod()) && path.endsWith("/export-jobs")) {
+                    return EXPORT_JOBS;
+                }
+                return null;
+            }
+        }
+
+        private record ApiKeyClient(String id, double factor) {
+        }
+
         private final Cache<String, Bucket> cache;
-        private final Bandwidth generateBandwidth;
-        private final Bandwidth matchBandwidth;
+        private final AppProperties.Security.RateLimit properties;
+        private final ProxyManager<String> proxyManager;
+        private final Map<String, ApiKeyClient> apiKeyClients = new HashMap<>();
         private final ObjectMapper objectMapper;
 
-        public RateLimitFilter(int generateRequests, int generateWindowMinutes, 
-                              int matchRequests, int matchWindowMinutes, ObjectMapper objectMapper) {
+        public RateLimitFilter(AppProperties.Security.RateLimit properties, ObjectMapper objectMapper) {
+            this(properties, null, objectMapper);
+        }
+
+        public RateLimitFilter(AppProperties.Security.RateLimit properties, ProxyManager<String> proxyManager,
+                               ObjectMapper objectMapper) {
+            // Shared buckets are cached too: the proxy holds the tokens taken locally since the last sync
             this.cache = Caffeine.newBuilder()
                     .maximumSize(10_000)
                     .expireAfterAccess(Duration.ofHours(1))
                     .build();
-
-            this.generateBandwidth = Bandwidth.classic(
-                    generateRequests,
-                    Refill.intervally(generateRequests, Duration.ofMinutes(generateWindowMinutes))
-            );
-
-            this.matchBandwidth = Bandwidth.classic(
-                    matchRequests,
-                    Refill.intervally(matchRequests, Duration.ofMinutes(matchWindowMinutes))
-            );
-            
+            this.properties = properties;
+            this.proxyManager = proxyManager;
+            for (String entry : properties.getApiKeys()) {
+                int separator = entry.lastIndexOf(':');
+                if (separator > 0) {
+                    Double factor = properties.getTiers().get(entry.substring(separator + 1).trim());
+                    if (factor != null) {
+                        String apiKey = entry.substring(0, separator).trim();
+                        apiKeyClients.put(apiKey, new ApiKeyClient("key:" + fingerprint(apiKey), factor));
+                    }
+                }
+            }
             this.objectMapper = objectMapper;
         }
 
+        /** Identifies a key in bucket names without storing the key itself. */
+        private static String fingerprint(String apiKey) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(apiKey.getBytes(StandardCharsets.UTF_8));
+                return Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+
         public void clearCache() {
             cache.invalidateAll();
         }
 
         @Override
-        protected void doFilterInternal(HttpServletRequest request, 
-                                       HttpServletResponse response, 
+        protected void doFilterInternal(HttpServletRequest request,
+                                       HttpServletResponse response,
                                        FilterChain filterChain) throws ServletException, IOException {
-            String path = request.getRequestURI();
-            String clientId = getClientId(request);
-
-            if (path.contains("/generate")) {
-                Bucket bucket = cache.get(clientId, k -> Bucket.builder().addLimit(generateBandwidth).build());
-                if (!bucket.tryConsume(1)) {
-                    sendRateLimitError(response, ErrorCode.RATE_LIMIT_GENERATE_EXCEEDED, path);
-                    return;
-                }
-            } else if (path.contains("/jobs/match")) {
-                Bucket bucket = cache.get(clientId, k -> Bucket.builder().addLimit(matchBandwidth).build());
-                if (!bucket.tryConsume(1)) {
-                    sendRateLimitError(response, ErrorCode.RATE_LIMIT_MATCH_EXCEEDED, path);
-                    return;
-                }
+            Endpoint endpoint = Endpoint.of(request);
+            if (endpoint == null) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+
+            String apiKey = request.getHeader(properties.getApiKeyHeader());
+            ApiKeyClient apiKeyClient = apiKey != null ? apiKeyClients.get(apiKey) : null;
+            // Unknown keys fall back to the client's IP, so made-up keys don't buy fresh buckets
+            String client = apiKeyClient != null ? apiKeyClient.id() : "ip:" + getClientId(request);
+            double limitFactor = apiKeyClient != null ? apiKeyClient.factor() : 1.0;
+
+            Bucket bucket = cache.get(endpoint.name() + '|' + client, key -> newBucket(key, endpoint, limitFactor));
+            if (!tryConsume(bucket, 1)) {
+                sendRateLimitError(response, endpoint.errorCode, request.getRequestURI());
+                return;
             }
+            request.setAttribute(RateLimitBudget.ATTRIBUTE, new RateLimitBudget(bucket, endpoint.errorCode,
+                endpoint == Endpoint.MATCH ? properties.getEmbeddingMissCost() : 1));
 
             filterChain.doFilter(request, response);
         }
 
+        private Bucket newBucket(String key, Endpoint endpoint, double factor) {
+            AppProperties.Security.RateLimit.Limit limit = switch (endpoint) {
+                case GENERATE -> properties.getGenerate();
+                case MATCH -> properties.getMatch();
+                case EXPORT_JOBS -> properties.getExportJobs();
+            };
+            long tokens = Math.max(1, Math.round(limit.getRequests() * factor));
+            Bandwidth bandwidth = Bandwidth.classic(tokens,
+                Refill.intervally(tokens, Duration.ofMinutes(limit.getWindowMinutes())));
+            if (proxyManager == null) {
+                return Bucket.builder()
+                        .addLimit(bandwidth)
+                        .build();
+            }
+
+            AppProperties.Security.RateLimit.Distributed distributed = properties.getDistributed();
+            // A node may run ahead of the shared bucket by at most a tenth of it
+            long localTokens = Math.min(distributed.getLocalTokens(), tokens / 10);
+            RemoteBucketBuilder<String> builder = proxyManager.builder();
+            if (localTokens > 0) {
+                builder = builder.withOptimization(Optimizations.delaying(
+                    new DelayParameters(localTokens, Duration.ofMillis(distributed.getSyncIntervalMs()))));
+            }
+            BucketConfiguration configuration = BucketConfiguration.builder()
+                    .addLimit(bandwidth)
+                    .build();
+            // The limit is part of the stored name, so changed limits start fresh buckets
+            // instead of running on the stored configuration
+            return builder.build(key + '|' + tokens + '/' + limit.getWindowMinutes(), () -> configuration);
+        }
+
+        /**
+         * Takes tokens from a bucket. A shared bucket whose store cannot be reached lets the
+         * request through: the rate limit should not take the service down with it.
+         */
+        static boolean tryConsume(Bucket bucket, long tokens) {
+            try {
+                boolean consumed = bucket.tryConsume(tokens);
+                if (storeFailing.compareAndSet(true, false)) {
+                    logger.info("Rate limit bucket store reachable again");
+                }
+                return consumed;
+            } catch (RuntimeException e) {
+                if (storeFailing.compareAndSet(false, true)) {
+                    logger.warn("Rate limit bucket store unavailable, letting requests through: {}", e.getMessage());
+                }
+                return true;
+            }
+        }
+
         private void sendRateLimitError(HttpServletResponse response, ErrorCode errorCode, String path) throws IOException {
             ErrorResponse errorResponse = new ErrorResponse(
                 HttpStatus.TOO_MANY_REQUESTS.value(),
@@ -108,7 +247,7 @@ public class RateLimitConfig {
                 errorCode.getDescription() + ". Please try again later.",
                 path
             );
-            
+
             response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
             response.setContentType("application/json");
             response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
@@ -127,4 +266,3 @@ public class RateLimitConfig {
         }
     }
 }
-
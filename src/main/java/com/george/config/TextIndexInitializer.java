@@ -0,0 +1,57 @@
+package com.george.config;
+
+import com.george.service.VectorSearchQueryBuilder;
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the text index over job titles and techs that degraded-mode matching searches
+ * while the embedding provider is unavailable (see
+ * {@link VectorSearchQueryBuilder#buildLexicalPipeline}). Creating an index that already
+ * exists is a no-op, so this runs on every startup. A title hit weighs more than a tech hit.
+ * <p>
+ * A collection can only have one text index; if a different one exists, it is left in place
+ * and a warning is logged, and degraded matching fails until it is replaced.
+ */
+@Component
+public class TextIndexInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(TextIndexInitializer.class);
+
+    private final MongoClient mongoClient;
+    private final AppProperties appProperties;
+
+    public TextIndexInitializer(@Qualifier(MongoConfig.INGESTION_MONGO_CLIENT) MongoClient mongoClient,
+                                AppProperties appProperties) {
+        this.mongoClient = mongoClient;
+        this.appProperties = appProperties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureTextIndex() {
+        if (!appProperties.getMatching().isLexicalFallbackEnabled()) {
+            return;
+        }
+        try {
+            mongoClient.getDatabase(appProperties.getMongodb().getDatabaseName())
+                .getCollection(appProperties.getMongodb().getCollectionName())
+                .createIndex(
+                    Indexes.compoundIndex(Indexes.text("jobTitle"), Indexes.text("requiredTechs")),
+                    new IndexOptions()
+                        .name(VectorSearchQueryBuilder.TEXT_INDEX_NAME)
+                        .weights(new Document("jobTitle", 3).append("requiredTechs", 2)));
+        } catch (MongoException e) {
+            logger.warn("Could not create text index {} for degraded matching: {}",
+                VectorSearchQueryBuilder.TEXT_INDEX_NAME, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.george.config;
+
+import com.george.service.VectorMigrationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the embedding migration as a one-off command when the application is started with
+ * {@code --migrate-vectors}:
+ * <pre>
+ * MONGO_VECTOR_ENCODING=int8 java -jar smarthire-engine.jar --migrate-vectors
+ * </pre>
+ * The application then starts without a web server (see {@link #isMigration(String[])}) and
+ * exits once the migration is done, with the exit code this runner reports: 0 on success, 1
+ * if the migration failed.
+ */
+@Component
+public class VectorMigrationRunner implements ApplicationRunner, ExitCodeGenerator {
+
+    static final String MIGRATE_OPTION = "migrate-vectors";
+
+    private static final Logger logger = LoggerFactory.getLogger(VectorMigrationRunner.class);
+
+    private final VectorMigrationService migrationService;
+    private volatile int exitCode;
+
+    public VectorMigrationRunner(VectorMigrationService migrationService) {
+        this.migrationService = migrationService;
+    }
+
+    /** Whether {@code args} ask for the migration instead of serving requests. */
+    public static boolean isMigration(String[] args) {
+        return new DefaultApplicationArguments(args).containsOption(MIGRATE_OPTION);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(MIGRATE_OPTION)) {
+            return;
+        }
+        try {
+            migrationService.migrate();
+        } catch (RuntimeException e) {
+            logger.error("Embedding migration failed", e);
+            exitCode = 1;
+        }
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+}
@@ -0,0 +1,131 @@
+package com.george.controller;
+
+import com.george.config.RateLimitBudget;
+import com.george.dto.ExportJobRequest;
+import com.george.dto.ExportJobStatus;
+import com.george.service.ExportJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.nio.file.Path;
+
+@RestController
+@RequestMapping("${app.api.base-path:/api/v1}/vectors/export-jobs")
+@Tag(name = "Export Jobs", description = "API for asynchronous bulk exports of job matches")
+public class ExportJobController {
+
+    private final ExportJobService exportJobService;
+
+    public ExportJobController(ExportJobService exportJobService) {
+        this.exportJobService = exportJobService;
+    }
+
+    @Operation(
+        summary = "Start an export job",
+        description = "Queues a background export of the matches for every profile in the request. Files are written as " +
+            "gzip-compressed CSV or NDJSON, split into parts with SHA-256 checksums. Poll the returned job for progress. " +
+            "Each profile costs one token of the client's export job rate limit."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "202",
+            description = "Export job queued",
+            content = @Content(schema = @Schema(implementation = ExportJobStatus.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request parameters or too many profiles",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "429",
+            description = "Export job rate limit cannot cover this many profiles",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Too many export jobs queued",
+            content = @Content
+        )
+    })
+    @PostMapping
+    public ResponseEntity<ExportJobStatus> submitExportJob(@Valid @RequestBody ExportJobRequest request) {
+        RateLimitBudget.chargeItems(request.getProfiles().size());
+        ExportJobStatus status = exportJobService.submit(request);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(status.getId())
+                .toUri();
+        return ResponseEntity.accepted()
+                .location(location)
+                .body(status);
+    }
+
+    @Operation(
+        summary = "Get export job status",
+        description = "Returns progress counters and, once completed, the list of files with their sizes and checksums."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Export job status",
+            content = @Content(schema = @Schema(implementation = ExportJobStatus.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Export job not found or expired",
+            content = @Content
+        )
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<ExportJobStatus> getExportJob(@PathVariable("id") String id) {
+        return ResponseEntity.ok(exportJobService.getStatus(id));
+    }
+
+    @Operation(
+        summary = "Download an export file",
+        description = "Downloads one part of a completed export, or its .sha256 checksum file."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "File contents",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Export job or file not found",
+            content = @Content
+        )
+    })
+    @GetMapping("/{id}/files/{fileName:.+}")
+    public ResponseEntity<Resource> downloadExportFile(
+            @PathVariable("id") String id,
+            @PathVariable("fileName") String fileName) {
+        
+        Path file = exportJobService.resolveFile(id, fileName);
+        MediaType contentType = fileName.endsWith(".gz")
+            ? MediaType.parseMediaType("application/gzip")
+            : MediaType.TEXT_PLAIN;
+        
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                    ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(new FileSystemResource(file));
+    }
+}
@@ -1,11 +1,28 @@
 package com.george.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.george.config.AppProperties;
+import com.george.config.CompressionConfig.ResponseCompressionFilter;
 import com.george.service.CreateEmbeddings;
+import com.george.dto.ErrorResponse;
 import com.george.dto.JobMatchRequest;
 import com.george.dto.JobMatchResponse;
+import com.george.dto.MatchExplanation;
+import com.george.exception.EmbeddingException;
+import com.george.exception.ErrorCode;
+import com.george.exception.JobMatchingException;
 import com.george.model.JobMatch;
+import com.george.service.CatalogEpochService;
 import com.george.service.ExportService;
 import com.george.service.JobMatchingService;
+import com.george.service.MatchQuery;
+import com.george.service.MatchTimings;
+import com.george.util.Deadline;
+import com.george.util.ETags;
+import com.george.util.RawBsonJson;
+import com.george.util.ServerTiming;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -13,33 +30,78 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
 @RestController
 @RequestMapping("${app.api.base-path:/api/v1}/vectors")
 @Tag(name = "Vector Embeddings", description = "API for managing vector embeddings and job matching")
 public class VectorController {
     
+    private static final Logger logger = LoggerFactory.getLogger(VectorController.class);
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+    private static final String ARROW_STREAM_VALUE = "application/vnd.apache.arrow.stream";
+    private static final String PROFILE_KEY_HEADER = "X-Profile-Key";
+    /** Request header with the client's time budget for a match request, in milliseconds. */
+    public static final String REQUEST_TIMEOUT_HEADER = "X-Request-Timeout-Ms";
+    /** Response header set to {@code true} when matches come from the lexical fallback. */
+    public static final String DEGRADED_HEADER = "X-Match-Degraded";
+    /** Response header with the request's stage durations, when {@code app.matching.server-timing-enabled} is set. */
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+    private static final byte[] NEWLINE = {'\n'};
+    private static final byte[] SSE_DATA_PREFIX = "data: ".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SSE_EVENT_END = "\n\n".getBytes(StandardCharsets.UTF_8);
+
     private final CreateEmbeddings createEmbeddingsService;
     private final JobMatchingService jobMatchingService;
     private final ExportService exportService;
+    private final CatalogEpochService catalogEpochService;
+    private final ObjectWriter streamWriter;
+    private final boolean serverTimingEnabled;
+    private final long generateTimeoutMs;
 
     public VectorController(CreateEmbeddings createEmbeddingsService,
                             JobMatchingService jobMatchingService,
-                            ExportService exportService) {
+                            ExportService exportService,
+                            CatalogEpochService catalogEpochService,
+                            ObjectMapper objectMapper,
+                            AppProperties appProperties) {
         this.createEmbeddingsService = createEmbeddingsService;
         this.jobMatchingService = jobMatchingService;
         this.exportService = exportService;
+        this.catalogEpochService = catalogEpochService;
+        this.serverTimingEnabled = appProperties.getMatching().isServerTimingEnabled();
+        this.generateTimeoutMs = appProperties.getIngestion().getRunTimeoutMs();
+        // Each match is written straight to the response stream, which must stay open between writes
+        this.streamWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     }
 
     @Operation(
         summary = "Generate embeddings for all job posts",
-        description = "Fetches all job posts from the repository, generates vector embeddings using AI, and stores them in MongoDB"
+        description = "Fetches all job posts from the repository, generates vector embeddings using AI, and stores them in MongoDB. " +
+            "The run executes on the ingestion executor and MongoDB pool, and its embedding batches yield to interactive match requests; " +
+            "the response is sent when the run completes. If the run takes longer than the configured run timeout, the response is " +
+            "504 Gateway Timeout with EMB_007 while the run carries on."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -51,17 +113,45 @@ public class VectorController {
             responseCode = "500",
             description = "Failed to generate embeddings",
             content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Another embedding run is already in progress",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "504",
+            description = "The run did not finish within the run timeout and continues in the background",
+            content = @Content
         )
     })
     @GetMapping("/generate")
-    public ResponseEntity<String> generateEmbeddings() {
-        createEmbeddingsService.createEmbeddings();
-        return ResponseEntity.ok("Embeddings generated and saved successfully!");
+    public DeferredResult<ResponseEntity<String>> generateEmbeddings() {
+        // A run outlasts the default async request timeout, whose 503 would read like EMB_005
+        DeferredResult<ResponseEntity<String>> result = new DeferredResult<>(generateTimeoutMs);
+        result.onTimeout(() -> result.setErrorResult(new EmbeddingException(ErrorCode.EMBEDDING_RUN_TIMEOUT,
+            "The embedding run did not finish within " + generateTimeoutMs + " ms; it continues in the background")));
+        createEmbeddingsService.createEmbeddingsAsync().whenComplete((done, error) -> {
+            if (error != null) {
+                result.setErrorResult(error instanceof CompletionException ? error.getCause() : error);
+            } else {
+                result.setResult(ResponseEntity.ok("Embeddings generated and saved successfully!"));
+            }
+        });
+        return result;
     }
 
     @Operation(
         summary = "Find matching jobs",
-        description = "Uses vector similarity search to find jobs matching the user profile. Returns ranked results with confidence scores and match reasons."
+        description = "Uses vector similarity search to find jobs matching the user profile. Returns ranked results with confidence scores and match reasons. " +
+            "Reasons are compact codes (e.g. TECH_OVERLAP:[0,2]); add \"reasonText\" to include for English text, or set include to [] to skip reasons. " +
+            "The returned profileKey lets reasons be fetched per job from /jobs/{id}/explain. " +
+            "Set fields to return only some job fields, e.g. [\"jobTitle\", \"company\", \"snippet\"] for a list page. " +
+            "Responses carry a strong ETag; send it back in If-None-Match to get 304 Not Modified while the job catalog is unchanged." +
+            " The request has a time budget, from the X-Request-Timeout-Ms header or the configured default. When it runs out the response is " +
+            "504 Gateway Timeout, or, if partialResults is set, the matches found so far with \"partial\": true and no ETag. " +
+            "While the embedding provider is unavailable, matches come from a keyword search over job titles and techs and are flagged " +
+            "with \"degraded\": true and the X-Match-Degraded header, without an ETag."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -69,6 +159,11 @@ public class VectorController {
             description = "Successfully found matching jobs",
             content = @Content(schema = @Schema(implementation = JobMatchResponse.class))
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Results unchanged since the response tagged with the If-None-Match ETag",
+            content = @Content
+        ),
         @ApiResponse(
             responseCode = "400",
             description = "Invalid request parameters",
@@ -78,35 +173,278 @@ public class VectorController {
             responseCode = "500",
             description = "Internal server error during job matching",
             content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "504",
+            description = "The request deadline ran out before the matches were found",
+            content = @Content
         )
     })
     @PostMapping("/jobs/match")
     public ResponseEntity<JobMatchResponse> findMatchingJobs(
-            @Valid @RequestBody JobMatchRequest request) {
+            @Valid @RequestBody JobMatchRequest request,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = REQUEST_TIMEOUT_HEADER, required = false) Long timeoutMs,
+            @RequestAttribute(name = ResponseCompressionFilter.CONTENT_CODING_ATTRIBUTE, required = false) String contentCoding) {
+        
+        Deadline deadline = jobMatchingService.requestDeadline(timeoutMs);
+        String etag = matchETag(jobMatchingService.requestKey(request), "match", contentCoding);
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
         
-        List<JobMatch> matches = jobMatchingService.findMatchingJobs(request);
+        MatchQuery query = jobMatchingService.prepareQuery(request, deadline);
+        List<JobMatch> matches = jobMatchingService.findMatchingJobs(query);
         JobMatchResponse response = new JobMatchResponse(matches);
+        response.setProfileKey(query.getProfileKey());
+
+        return matchResponse(query, response, etag);
+    }
+
+    @Operation(
+        summary = "Find matching jobs (non-blocking)",
+        description = "Same request and response as /jobs/match, but no request thread waits on I/O: the profile embedding " +
+            "is fetched with a non-blocking HTTP client and the vector search runs on the reactive MongoDB driver. " +
+            "The servlet thread is released as soon as the request is validated, so concurrent searches are limited by memory rather than by the thread pool. " +
+            "Responses carry the same ETag as /jobs/match, and the same X-Request-Timeout-Ms deadline applies."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully found matching jobs",
+            content = @Content(schema = @Schema(implementation = JobMatchResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Results unchanged since the response tagged with the If-None-Match ETag",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request parameters",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error during job matching",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "504",
+            description = "The request deadline ran out before the matches were found",
+            content = @Content
+        )
+    })
+    @PostMapping("/jobs/match/async")
+    public CompletableFuture<ResponseEntity<JobMatchResponse>> findMatchingJobsAsync(
+            @Valid @RequestBody JobMatchRequest request,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = REQUEST_TIMEOUT_HEADER, required = false) Long timeoutMs,
+            @RequestAttribute(name = ResponseCompressionFilter.CONTENT_CODING_ATTRIBUTE, required = false) String contentCoding) {
+        
+        Deadline deadline = jobMatchingService.requestDeadline(timeoutMs);
+        // Same body as /jobs/match, so the same representation and tag
+        String etag = matchETag(jobMatchingService.requestKey(request), "match", contentCoding);
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return CompletableFuture.completedFuture(notModified(etag));
+        }
+        
+        return jobMatchingService.prepareQueryAsync(request, deadline)
+                .thenCompose(query -> jobMatchingService.findMatchingJobsAsync(query)
+                    .thenApply(matches -> {
+                        JobMatchResponse response = new JobMatchResponse(matches);
+                        response.setProfileKey(query.getProfileKey());
+                        return matchResponse(query, response, etag);
+                    }));
+    }
+
+    @Operation(
+        summary = "Stream matching jobs",
+        description = "Same matching as /jobs/match, but each result is written as soon as the search cursor yields it. " +
+            "Responds with newline-delimited JSON by default, or Server-Sent Events when the client accepts text/event-stream. " +
+            "With partialResults set, a stream that runs out of its X-Request-Timeout-Ms budget simply ends early; the SSE end event then carries \"partial\": true."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Matching jobs streamed one per line (NDJSON) or one per event (SSE)",
+            content = {
+                @Content(mediaType = NDJSON_VALUE, schema = @Schema(implementation = JobMatch.class)),
+                @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = JobMatch.class))
+            }
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request parameters",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error during job matching",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "504",
+            description = "The request deadline ran out before the matches were found",
+            content = @Content
+        )
+    })
+    @PostMapping(value = "/jobs/match/stream", produces = {NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public ResponseEntity<StreamingResponseBody> streamMatchingJobs(
+            @Valid @RequestBody JobMatchRequest request,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = REQUEST_TIMEOUT_HEADER, required = false) Long timeoutMs) {
+        
+        Deadline deadline = jobMatchingService.requestDeadline(timeoutMs);
+        // Embedding and pipeline errors surface here, before the response is committed
+        MatchQuery query = jobMatchingService.prepareQuery(request, deadline);
+        boolean sse = accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
 
-        return ResponseEntity.ok(response);
+        StreamingResponseBody body = sse
+            ? out -> writeServerSentEvents(query, out)
+            : out -> writeNdjson(query, out);
+
+        return ResponseEntity.ok()
+                .contentType(sse ? MediaType.TEXT_EVENT_STREAM : MediaType.parseMediaType(NDJSON_VALUE))
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .header(PROFILE_KEY_HEADER, query.getProfileKey())
+                .headers(headers -> matchHeaders(query, headers))
+                .body(body);
+    }
+
+    @Operation(
+        summary = "Find matching jobs (passthrough)",
+        description = "Same search as /jobs/match, but results are shaped by the database and written to the response " +
+            "straight from the returned BSON, skipping object mapping and re-serialization. Match reasons are not included; " +
+            "use the profileKey with /jobs/{id}/explain to fetch them. Responds with a JSON object by default, or " +
+            "newline-delimited JSON when the client accepts application/x-ndjson. Fields missing from a job are omitted. " +
+            "Supports If-None-Match and X-Request-Timeout-Ms like /jobs/match; requests with partialResults get no ETag, since the body may be cut short."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Matching jobs as a JSON object, or one per line (NDJSON)",
+            content = {
+                @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = JobMatchResponse.class)),
+                @Content(mediaType = NDJSON_VALUE, schema = @Schema(implementation = JobMatch.class))
+            }
+        ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Results unchanged since the response tagged with the If-None-Match ETag",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request parameters",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error during job matching",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "504",
+            description = "The request deadline ran out before the matches were found",
+            content = @Content
+        )
+    })
+    @PostMapping(value = "/jobs/match/raw", produces = {MediaType.APPLICATION_JSON_VALUE, NDJSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> findMatchingJobsRaw(
+            @Valid @RequestBody JobMatchRequest request,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = REQUEST_TIMEOUT_HEADER, required = false) Long timeoutMs,
+            @RequestAttribute(name = ResponseCompressionFilter.CONTENT_CODING_ATTRIBUTE, required = false) String contentCoding) {
+        
+        Deadline deadline = jobMatchingService.requestDeadline(timeoutMs);
+        boolean ndjson = accept != null && accept.contains(NDJSON_VALUE);
+        String etag = matchETag(jobMatchingService.requestKey(request), ndjson ? "raw:ndjson" : "raw:json", contentCoding);
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        
+        MatchQuery query = jobMatchingService.prepareQuery(request, deadline);
+
+        StreamingResponseBody body = ndjson
+            ? out -> writeRawNdjson(query, out)
+            : out -> writeRawJson(query, out);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.parseMediaType(NDJSON_VALUE) : MediaType.APPLICATION_JSON)
+                .header(PROFILE_KEY_HEADER, query.getProfileKey())
+                .headers(headers -> matchHeaders(query, headers));
+        // The headers go out before the body is known to be complete, so a body that may be
+        // cut short at the deadline is never tagged
+        if (!query.isAllowPartial() && !query.isDegraded()) {
+            response.eTag(etag);
+        }
+        return response.body(body);
+    }
+
+    @Operation(
+        summary = "Explain a job match",
+        description = "Computes match reasons for a single job against a profile analyzed by an earlier match request, " +
+            "identified by the profileKey returned with it. Pass the match's confidence to include the score-based reason."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Match reasons computed",
+            content = @Content(schema = @Schema(implementation = MatchExplanation.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid job id or confidence",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Job not found, or profile key unknown or expired",
+            content = @Content
+        )
+    })
+    @GetMapping("/jobs/{id}/explain")
+    public ResponseEntity<MatchExplanation> explainMatch(
+            @PathVariable("id") String jobId,
+            @RequestParam String profileKey,
+            @RequestParam(required = false) Double confidence) {
+        
+        JobMatch match = jobMatchingService.explainMatch(jobId, profileKey, confidence);
+        return ResponseEntity.ok(new MatchExplanation(
+            jobId, profileKey, confidence, match.getMatchReasons(), match.getMatchReasonText()));
     }
 
     @Operation(
         summary = "Find matching jobs (simple)",
-        description = "Simplified endpoint that accepts a plain text user profile string"
+        description = "Simplified endpoint that accepts a plain text user profile string. Supports If-None-Match and X-Request-Timeout-Ms like /jobs/match."
     )
     @PostMapping("/jobs/match/simple")
     public ResponseEntity<JobMatchResponse> findMatchingJobsSimple(
-            @RequestBody String userProfile) {
+            @RequestBody String userProfile,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = REQUEST_TIMEOUT_HEADER, required = false) Long timeoutMs,
+            @RequestAttribute(name = ResponseCompressionFilter.CONTENT_CODING_ATTRIBUTE, required = false) String contentCoding) {
+        
+        Deadline deadline = jobMatchingService.requestDeadline(timeoutMs);
+        String etag = matchETag(jobMatchingService.simpleRequestKey(userProfile), "simple", contentCoding);
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
         
-        List<JobMatch> matches = jobMatchingService.findMatchingJobsSimple(userProfile);
+        MatchQuery query = jobMatchingService.prepareSimpleQuery(userProfile, deadline);
+        List<JobMatch> matches = jobMatchingService.findMatchingJobs(query);
         JobMatchResponse response = new JobMatchResponse(matches);
         
-        return ResponseEntity.ok(response);
+        return matchResponse(query, response, etag);
     }
 
     @Operation(
         summary = "Export matching jobs",
-        description = "Finds matching jobs and exports them in the specified format (CSV or JSON). Default format is JSON."
+        description = "Finds matching jobs and exports them in the specified format (JSON, CSV or Arrow IPC stream). Default format is JSON. " +
+            "Arrow has typed numeric columns and list columns for techs and reasons, for loading into analytics engines. " +
+            "Supports If-None-Match like /jobs/match."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -114,6 +452,11 @@ public class VectorController {
             description = "Successfully exported job matches",
             content = @Content
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Results unchanged since the export tagged with the If-None-Match ETag",
+            content = @Content
+        ),
         @ApiResponse(
             responseCode = "400",
             description = "Invalid request parameters or format",
@@ -126,44 +469,28 @@ public class VectorController {
         )
     })
     @PostMapping("/jobs/match/export")
-    public ResponseEntity<String> exportMatchingJobs(
+    public ResponseEntity<StreamingResponseBody> exportMatchingJobs(
             @Valid @RequestBody JobMatchRequest request,
-            @RequestParam(defaultValue = "json") String format) {
+            @RequestParam(defaultValue = "json") String format,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestAttribute(name = ResponseCompressionFilter.CONTENT_CODING_ATTRIBUTE, required = false) String contentCoding) {
         
-        if (format != null && !format.equalsIgnoreCase("json") && !format.equalsIgnoreCase("csv")) {
-            return ResponseEntity.badRequest()
-                    .body("Invalid format. Supported formats: json, csv");
+        if (!isSupportedExportFormat(format)) {
+            return invalidExportFormat(format);
         }
         
-        List<JobMatch> matches = jobMatchingService.findMatchingJobs(request);
-        JobMatchResponse response = new JobMatchResponse(matches);
-        
-        String exportData;
-        String contentType;
-        String filename;
-        
-        if ("csv".equalsIgnoreCase(format)) {
-            exportData = exportService.exportToCsv(response);
-            contentType = "text/csv";
-            filename = "job_matches.csv";
-        } else {
-            exportData = exportService.exportToJson(response);
-            contentType = MediaType.APPLICATION_JSON_VALUE;
-            filename = "job_matches.json";
+        String etag = matchETag(jobMatchingService.requestKey(request), exportRepresentation("export", format), contentCoding);
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return notModified(etag);
         }
         
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.parseMediaType(contentType));
-        headers.setContentDispositionFormData("attachment", filename);
-        
-        return ResponseEntity.ok()
-                .headers(headers)
-                .body(exportData);
+        return export(jobMatchingService.prepareQuery(request), format, etag);
     }
 
     @Operation(
         summary = "Export matching jobs (simple)",
-        description = "Finds matching jobs from a plain text user profile and exports them in the specified format (CSV or JSON). Default format is JSON."
+        description = "Finds matching jobs from a plain text user profile and exports them in the specified format (JSON, CSV or Arrow IPC stream). Default format is JSON. " +
+            "Supports If-None-Match like /jobs/match."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -171,6 +498,11 @@ public class VectorController {
             description = "Successfully exported job matches",
             content = @Content
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Results unchanged since the export tagged with the If-None-Match ETag",
+            content = @Content
+        ),
         @ApiResponse(
             responseCode = "400",
             description = "Invalid request parameters or format",
@@ -183,38 +515,259 @@ public class VectorController {
         )
     })
     @PostMapping("/jobs/match/simple/export")
-    public ResponseEntity<String> exportMatchingJobsSimple(
+    public ResponseEntity<StreamingResponseBody> exportMatchingJobsSimple(
             @RequestBody String userProfile,
-            @RequestParam(defaultValue = "json") String format) {
+            @RequestParam(defaultValue = "json") String format,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestAttribute(name = ResponseCompressionFilter.CONTENT_CODING_ATTRIBUTE, required = false) String contentCoding) {
         
-        if (format != null && !format.equalsIgnoreCase("json") && !format.equalsIgnoreCase("csv")) {
-            return ResponseEntity.badRequest()
-                    .body("Invalid format. Supported formats: json, csv");
+        if (!isSupportedExportFormat(format)) {
+            return invalidExportFormat(format);
         }
         
-        List<JobMatch> matches = jobMatchingService.findMatchingJobsSimple(userProfile);
-        JobMatchResponse response = new JobMatchResponse(matches);
-        
-        String exportData;
-        String contentType;
-        String filename;
+        String etag = matchETag(jobMatchingService.simpleRequestKey(userProfile), exportRepresentation("simple-export", format), contentCoding);
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
         
+        return export(jobMatchingService.prepareSimpleQuery(userProfile), format, etag);
+    }
+
+    private static boolean isSupportedExportFormat(String format) {
+        return format == null || format.equalsIgnoreCase("json") || format.equalsIgnoreCase("csv")
+            || format.equalsIgnoreCase("arrow");
+    }
+
+    private static String exportRepresentation(String endpoint, String format) {
+        return endpoint + ":" + (format != null ? format.toLowerCase(Locale.ROOT) : "json");
+    }
+
+    /**
+     * The strong ETag of a match response, or {@code null} while the catalog version is
+     * unknown. Every representation of the results (endpoint, format and content coding) gets
+     * its own tag, since their bytes differ.
+     */
+    private String matchETag(String requestKey, String representation, String contentCoding) {
+        String catalogVersion = catalogEpochService.version();
+        if (catalogVersion == null) {
+            return null;
+        }
+        return ETags.strong(catalogVersion, representation, contentCoding != null ? contentCoding : "identity", requestKey);
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .build();
+    }
+
+    private static ResponseEntity<StreamingResponseBody> invalidExportFormat(String format) {
+        String text = "parquet".equalsIgnoreCase(format)
+            ? "Parquet is not supported. Use format=arrow for a typed, columnar export (Arrow IPC stream)"
+            : "Invalid format. Supported formats: json, csv, arrow";
+        byte[] message = text.getBytes(StandardCharsets.UTF_8);
+        return ResponseEntity.badRequest()
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(out -> out.write(message));
+    }
+
+    /**
+     * A 200 response for the matches of {@code query}. Results cut short by the deadline, or
+     * found by the lexical fallback, are flagged and sent without the ETag, which identifies
+     * the complete semantic response.
+     */
+    private ResponseEntity<JobMatchResponse> matchResponse(MatchQuery query, JobMatchResponse response, String etag) {
+        if (query.isPartial() || query.isDegraded()) {
+            response.setPartial(query.isPartial() ? true : null);
+            response.setDegraded(query.isDegraded() ? true : null);
+            return ResponseEntity.ok()
+                    .headers(headers -> matchHeaders(query, headers))
+                    .body(response);
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .headers(headers -> matchHeaders(query, headers))
+                .body(response);
+    }
+
+    /** The headers describing how the matches of {@code query} were found. */
+    private void matchHeaders(MatchQuery query, HttpHeaders headers) {
+        if (query.isDegraded()) {
+            headers.set(DEGRADED_HEADER, "true");
+        }
+        if (serverTimingEnabled) {
+            ServerTiming serverTiming = serverTiming(query.getTimings(), catalogEpochService.version());
+            if (!serverTiming.isEmpty()) {
+                headers.set(SERVER_TIMING_HEADER, serverTiming.toString());
+            }
+        }
+    }
+
+    /**
+     * The stages a request has been through so far and the catalog epoch its results were
+     * computed against. Streamed responses send their headers before the search runs, so
+     * theirs only cover the embedding.
+     */
+    private static ServerTiming serverTiming(MatchTimings timings, String catalogVersion) {
+        ServerTiming serverTiming = new ServerTiming();
+        if (timings.isRecorded(MatchTimings.Stage.CACHE_LOOKUP)) {
+            serverTiming.metric("embed", timings.getNanos(MatchTimings.Stage.CACHE_LOOKUP)
+                    + timings.getNanos(MatchTimings.Stage.PROVIDER_CALL))
+                .param("cache", Boolean.TRUE.equals(timings.getCacheHit()) ? "hit" : "miss");
+        }
+        if (timings.isRecorded(MatchTimings.Stage.AGGREGATION)) {
+            serverTiming.metric("search", timings.getNanos(MatchTimings.Stage.AGGREGATION));
+        }
+        if (timings.isRecorded(MatchTimings.Stage.MAPPING)) {
+            serverTiming.metric("map", timings.getNanos(MatchTimings.Stage.MAPPING));
+        }
+        if (timings.isRecorded(MatchTimings.Stage.REASONS)) {
+            serverTiming.metric("reasons", timings.getNanos(MatchTimings.Stage.REASONS));
+        }
+        if (catalogVersion != null) {
+            serverTiming.metric("epoch").description(catalogVersion);
+        }
+        return serverTiming;
+    }
+
+    /**
+     * Streams an export of an already prepared query. Query errors have been raised by the
+     * time this is called, so only failures of the search itself happen mid-response.
+     */
+    private ResponseEntity<StreamingResponseBody> export(MatchQuery query, String format, String etag) {
+        HttpHeaders headers = new HttpHeaders();
+        StreamingResponseBody body;
         if ("csv".equalsIgnoreCase(format)) {
-            exportData = exportService.exportToCsv(response);
-            contentType = "text/csv";
-            filename = "job_matches.csv";
+            headers.setContentType(MediaType.parseMediaType("text/csv"));
+            headers.setContentDispositionFormData("attachment", "job_matches.csv");
+            body = out -> exportService.writeCsv(query, out);
+        } else if ("arrow".equalsIgnoreCase(format)) {
+            headers.setContentType(MediaType.parseMediaType(ARROW_STREAM_VALUE));
+            headers.setContentDispositionFormData("attachment", "job_matches.arrows");
+            body = out -> exportService.writeArrow(query, out);
         } else {
-            exportData = exportService.exportToJson(response);
-            contentType = MediaType.APPLICATION_JSON_VALUE;
-            filename = "job_matches.json";
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.setContentDispositionFormData("attachment", "job_matches.json");
+            body = out -> exportService.writeJson(query, out);
         }
         
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.parseMediaType(contentType));
-        headers.setContentDispositionFormData("attachment", filename);
-        
+        matchHeaders(query, headers);
         return ResponseEntity.ok()
                 .headers(headers)
-                .body(exportData);
+                .eTag(query.isDegraded() ? null : etag)
+                .body(body);
+    }
+
+    /** Writes one result to a response body. */
+    @FunctionalInterface
+    private interface ResultWriter<T> {
+        void write(T result) throws IOException;
+    }
+
+    /**
+     * Adapts {@code writer} to the consumer the match service calls per result, adding the
+     * time spent writing to the query's serialization stage. Write failures are rethrown as
+     * {@link UncheckedIOException}, for the caller to unwrap.
+     */
+    private static <T> Consumer<T> serializing(MatchQuery query, ResultWriter<T> writer) {
+        MatchTimings timings = query.getTimings();
+        return result -> {
+            long start = System.nanoTime();
+            try {
+                writer.write(result);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                timings.add(MatchTimings.Stage.SERIALIZATION, System.nanoTime() - start);
+            }
+        };
+    }
+
+    private void writeNdjson(MatchQuery query, OutputStream out) throws IOException {
+        try {
+            jobMatchingService.streamMatches(query, serializing(query, match -> {
+                streamWriter.writeValue(out, match);
+                out.write(NEWLINE);
+                out.flush();
+            }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeRawJson(MatchQuery query, OutputStream out) throws IOException {
+        // Buffered and flushed once: the response is a single JSON document anyway
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write("{\"matches\":[");
+        int delivered;
+        try {
+            boolean[] first = {true};
+            delivered = jobMatchingService.streamRawMatches(query, serializing(query, document -> {
+                if (!first[0]) {
+                    writer.write(',');
+                }
+                first[0] = false;
+                RawBsonJson.write(document, writer);
+            }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.write("],\"totalMatches\":" + delivered + ",\"profileKey\":\"" + query.getProfileKey() + "\""
+            + (query.isPartial() ? ",\"partial\":true" : "")
+            + (query.isDegraded() ? ",\"degraded\":true}" : "}"));
+        writer.flush();
+    }
+
+    private void writeRawNdjson(MatchQuery query, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try {
+            jobMatchingService.streamRawMatches(query, serializing(query, document -> {
+                RawBsonJson.write(document, writer);
+                writer.write('\n');
+                writer.flush();
+            }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeServerSentEvents(MatchQuery query, OutputStream out) throws IOException {
+        int delivered;
+        try {
+            delivered = jobMatchingService.streamMatches(query, serializing(query, match -> {
+                out.write(SSE_DATA_PREFIX);
+                streamWriter.writeValue(out, match);
+                out.write(SSE_EVENT_END);
+                out.flush();
+            }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (RuntimeException e) {
+            // Headers are already committed, so report the failure in-band and end the stream
+            logger.error("Job match stream failed", e);
+            ErrorCode errorCode = e instanceof JobMatchingException matchingException
+                ? matchingException.getErrorCode()
+                : ErrorCode.JOB_MATCHING_FAILED;
+            HttpStatus status = errorCode == ErrorCode.JOB_MATCHING_DEADLINE_EXCEEDED
+                ? HttpStatus.GATEWAY_TIMEOUT
+                : HttpStatus.INTERNAL_SERVER_ERROR;
+            ErrorResponse error = new ErrorResponse(
+                status.value(),
+                errorCode.getCode(),
+                "Job Matching Failed",
+                e.getMessage(),
+                null
+            );
+            out.write("event: error\n".getBytes(StandardCharsets.UTF_8));
+            out.write(SSE_DATA_PREFIX);
+            streamWriter.writeValue(out, error);
+            out.write(SSE_EVENT_END);
+            out.flush();
+            return;
+        }
+        out.write(("event: end\ndata: {\"totalMatches\":" + delivered
+            + (query.isPartial() ? ",\"partial\":true" : "")
+            + (query.isDegraded() ? ",\"degraded\":true" : "") + "}\n\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
     }
 }
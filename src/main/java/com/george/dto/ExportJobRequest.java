@@ -0,0 +1,73 @@
+package com.george.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public class ExportJobRequest {
+    
+    public static final String FORMAT_CSV = "csv";
+    public static final String FORMAT_NDJSON = "ndjson";
+    
+    @NotEmpty(message = "At least one profile is required")
+    private List<@NotBlank(message = "Profiles cannot be blank")
+        @Size(min = 10, max = 2000, message = "Each profile must be between 10 and 2000 characters") String> profiles;
+    
+    @Pattern(regexp = "(?i)csv|ndjson", message = "Format must be csv or ndjson")
+    private String format = FORMAT_CSV;
+    
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = 100, message = "Limit cannot exceed 100")
+    private Integer limit = 10;
+    
+    @Min(value = 0, message = "Minimum confidence must be between 0 and 1")
+    @Max(value = 1, message = "Minimum confidence must be between 0 and 1")
+    private Double minConfidence = 0.0;
+    
+    public ExportJobRequest() {}
+    
+    public ExportJobRequest(List<String> profiles, String format) {
+        this.profiles = profiles;
+        setFormat(format);
+    }
+    
+    public List<String> getProfiles() {
+        return profiles;
+    }
+    
+    public void setProfiles(List<String> profiles) {
+        this.profiles = profiles;
+    }
+    
+    public String getFormat() {
+        return format;
+    }
+    
+    public void setFormat(String format) {
+        this.format = format != null ? format : FORMAT_CSV;
+    }
+    
+    public Integer getLimit() {
+        return limit;
+    }
+    
+    public void setLimit(Integer limit) {
+        this.limit = limit != null ? limit : 10;
+    }
+    
+    public Double getMinConfidence() {
+        return minConfidence;
+    }
+    
+    public void setMinConfidence(Double minConfidence) {
+        this.minConfidence = minConfidence != null ? minConfidence : 0.0;
+    }
+    
+    public boolean isNdjson() {
+        return FORMAT_NDJSON.equalsIgnoreCase(format);
+    }
+}
@@ -0,0 +1,159 @@
+package com.george.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Snapshot of an export job's progress. Files are listed once the job has completed; each
+ * can be downloaded by name together with its {@code .sha256} checksum file.
+ */
+public class ExportJobStatus {
+    
+    public enum State {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+    
+    private String id;
+    private State state;
+    private String format;
+    private int profilesTotal;
+    private int profilesProcessed;
+    private int profilesFailed;
+    private long matchesWritten;
+    private Instant createdAt;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Instant completedAt;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String error;
+    private List<File> files;
+    
+    public ExportJobStatus() {}
+    
+    public String getId() {
+        return id;
+    }
+    
+    public void setId(String id) {
+        this.id = id;
+    }
+    
+    public State getState() {
+        return state;
+    }
+    
+    public void setState(State state) {
+        this.state = state;
+    }
+    
+    public String getFormat() {
+        return format;
+    }
+    
+    public void setFormat(String format) {
+        this.format = format;
+    }
+    
+    public int getProfilesTotal() {
+        return profilesTotal;
+    }
+    
+    public void setProfilesTotal(int profilesTotal) {
+        this.profilesTotal = profilesTotal;
+    }
+    
+    public int getProfilesProcessed() {
+        return profilesProcessed;
+    }
+    
+    public void setProfilesProcessed(int profilesProcessed) {
+        this.profilesProcessed = profilesProcessed;
+    }
+    
+    public int getProfilesFailed() {
+        return profilesFailed;
+    }
+    
+    public void setProfilesFailed(int profilesFailed) {
+        this.profilesFailed = profilesFailed;
+    }
+    
+    public long getMatchesWritten() {
+        return matchesWritten;
+    }
+    
+    public void setMatchesWritten(long matchesWritten) {
+        this.matchesWritten = matchesWritten;
+    }
+    
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+    
+    public void setCompletedAt(Instant completedAt) {
+        this.completedAt = completedAt;
+    }
+    
+    public String getError() {
+        return error;
+    }
+    
+    public void setError(String error) {
+        this.error = error;
+    }
+    
+    public List<File> getFiles() {
+        return files;
+    }
+    
+    public void setFiles(List<File> files) {
+        this.files = files;
+    }
+    
+    public static class File {
+        private String name;
+        private long sizeBytes;
+        private String sha256;
+        
+        public File() {}
+        
+        public File(String name, long sizeBytes, String sha256) {
+            this.name = name;
+            this.sizeBytes = sizeBytes;
+            this.sha256 = sha256;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+        
+        public long getSizeBytes() {
+            return sizeBytes;
+        }
+        
+        public void setSizeBytes(long sizeBytes) {
+            this.sizeBytes = sizeBytes;
+        }
+        
+        public String getSha256() {
+            return sha256;
+        }
+        
+        public void setSha256(String sha256) {
+            this.sha256 = sha256;
+        }
+    }
+}
@@ -8,6 +8,11 @@ import java.util.List;
 
 public class JobMatchRequest {
     
+    /** {@link #getInclude()} value that adds {@code matchReasons} codes to each match. */
+    public static final String INCLUDE_REASONS = "reasons";
+    /** {@link #getInclude()} value that adds rendered English {@code matchReasonText} to each match. */
+    public static final String INCLUDE_REASON_TEXT = "reasonText";
+    
     @NotBlank(message = "User profile cannot be blank")
     @Size(min = 10, max = 2000, message = "User profile must be between 10 and 2000 characters")
     private String userProfile;
@@ -26,6 +31,13 @@ public class JobMatchRequest {
     @Min(value = 0, message = "Maximum experience must be non-negative")
     private Integer maxExperience;
     
+    private List<String> include;
+    
+    @Size(max = 20, message = "No more than 20 fields can be selected")
+    private List<String> fields;
+    
+    private Boolean partialResults = false;
+    
     public JobMatchRequest() {}
     
     public JobMatchRequest(String userProfile) {
@@ -79,5 +91,53 @@ public class JobMatchRequest {
     public void setMaxExperience(Integer maxExperience) {
         this.maxExperience = maxExperience;
     }
+    
+    /**
+     * Optional per-match extras to compute. When absent, only reason codes are included; an
+     * empty list returns the bare matches, which is cheaper to compute and to serialize.
+     */
+    public List<String> getInclude() {
+        return include;
+    }
+    
+    public void setInclude(List<String> include) {
+        this.include = include;
+    }
+    
+    /**
+     * Job fields to return with each match, e.g. {@code ["jobTitle", "company", "snippet"]}
+     * for a list page. When absent, every field except {@code snippet} is returned. The job id
+     * and the confidence are always included.
+     */
+    public List<String> getFields() {
+        return fields;
+    }
+    
+    public void setFields(List<String> fields) {
+        this.fields = fields;
+    }
+    
+    /**
+     * Whether to return the matches found so far, flagged {@code partial}, instead of a
+     * timeout error when the request deadline runs out.
+     */
+    public Boolean getPartialResults() {
+        return partialResults;
+    }
+    
+    public void setPartialResults(Boolean partialResults) {
+        this.partialResults = partialResults != null ? partialResults : false;
+    }
+    
+    public boolean includesReasons() {
+        return include == null || includes(INCLUDE_REASONS) || includesReasonText();
+    }
+    
+    public boolean includesReasonText() {
+        return include != null && includes(INCLUDE_REASON_TEXT);
+    }
+    
+    private boolean includes(String option) {
+        return include.stream().anyMatch(option::equalsIgnoreCase);
+    }
 }
-
@@ -1,11 +1,18 @@
 package com.george.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.george.model.JobMatch;
 import java.util.List;
 
 public class JobMatchResponse {
     private List<JobMatch> matches;
     private Integer totalMatches;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String profileKey;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean partial;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean degraded;
     
     public JobMatchResponse() {}
     
@@ -30,5 +37,40 @@ public class JobMatchResponse {
     public void setTotalMatches(Integer totalMatches) {
         this.totalMatches = totalMatches;
     }
+    
+    /**
+     * Opaque key for the analyzed profile; pass it to the explain endpoint to get match
+     * reasons for a single job without resending the profile.
+     */
+    public String getProfileKey() {
+        return profileKey;
+    }
+    
+    public void setProfileKey(String profileKey) {
+        this.profileKey = profileKey;
+    }
+    
+    /**
+     * {@code true} when the request deadline ran out and the response holds only the matches
+     * found until then; absent for complete responses.
+     */
+    public Boolean getPartial() {
+        return partial;
+    }
+    
+    public void setPartial(Boolean partial) {
+        this.partial = partial;
+    }
+    
+    /**
+     * {@code true} when the embedding provider was unavailable and the matches come from a
+     * keyword search over job titles and techs; absent for semantic matches.
+     */
+    public Boolean getDegraded() {
+        return degraded;
+    }
+    
+    public void setDegraded(Boolean degraded) {
+        this.degraded = degraded;
+    }
 }
-
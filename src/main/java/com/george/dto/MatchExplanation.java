@@ -0,0 +1,66 @@
+package com.george.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.george.model.MatchReason;
+
+import java.util.List;
+
+public class MatchExplanation {
+    private String jobId;
+    private String profileKey;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double confidence;
+    private List<MatchReason> matchReasons;
+    private List<String> matchReasonText;
+    
+    public MatchExplanation() {}
+    
+    public MatchExplanation(String jobId, String profileKey, Double confidence, List<MatchReason> matchReasons,
+                            List<String> matchReasonText) {
+        this.jobId = jobId;
+        this.profileKey = profileKey;
+        this.confidence = confidence;
+        this.matchReasons = matchReasons;
+        this.matchReasonText = matchReasonText;
+    }
+    
+    public String getJobId() {
+        return jobId;
+    }
+    
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+    
+    public String getProfileKey() {
+        return profileKey;
+    }
+    
+    public void setProfileKey(String profileKey) {
+        this.profileKey = profileKey;
+    }
+    
+    public Double getConfidence() {
+        return confidence;
+    }
+    
+    public void setConfidence(Double confidence) {
+        this.confidence = confidence;
+    }
+    
+    public List<MatchReason> getMatchReasons() {
+        return matchReasons;
+    }
+    
+    public void setMatchReasons(List<MatchReason> matchReasons) {
+        this.matchReasons = matchReasons;
+    }
+    
+    public List<String> getMatchReasonText() {
+        return matchReasonText;
+    }
+    
+    public void setMatchReasonText(List<String> matchReasonText) {
+        this.matchReasonText = matchReasonText;
+    }
+}
@@ -9,18 +9,27 @@ public enum ErrorCode {
     EMBEDDING_GENERATION_FAILED("EMB_001", "Embedding generation failed"),
     EMBEDDING_PROVIDER_ERROR("EMB_002", "Embedding provider error"),
     EMBEDDING_CACHE_ERROR("EMB_003", "Embedding cache error"),
+    EMBEDDING_MIGRATION_FAILED("EMB_004", "Embedding migration failed"),
+    EMBEDDING_INGESTION_BUSY("EMB_005", "Too many embedding runs in progress"),
+    EMBEDDING_PROVIDER_UNAVAILABLE("EMB_006", "Embedding provider unavailable"),
+    EMBEDDING_RUN_TIMEOUT("EMB_007", "Embedding run did not finish in time"),
     
     // Job matching errors (1100-1199)
     JOB_MATCHING_FAILED("JOB_001", "Job matching failed"),
     JOB_MATCHING_INVALID_INPUT("JOB_002", "Invalid input for job matching"),
     JOB_MATCHING_DATABASE_ERROR("JOB_003", "Database error during job matching"),
     JOB_MATCHING_EMBEDDING_ERROR("JOB_004", "Embedding error during job matching"),
+    JOB_NOT_FOUND("JOB_005", "Job not found"),
+    JOB_PROFILE_KEY_NOT_FOUND("JOB_006", "Profile key unknown or expired"),
+    JOB_MATCHING_DEADLINE_EXCEEDED("JOB_007", "Request deadline exceeded"),
     
     // Export errors (1200-1299)
     EXPORT_FAILED("EXP_001", "Export operation failed"),
     EXPORT_JSON_ERROR("EXP_002", "JSON export error"),
     EXPORT_CSV_ERROR("EXP_003", "CSV export error"),
     EXPORT_INVALID_FORMAT("EXP_004", "Invalid export format"),
+    EXPORT_JOB_NOT_FOUND("EXP_005", "Export job or file not found"),
+    EXPORT_QUEUE_FULL("EXP_006", "Too many export jobs queued"),
     
     // Validation errors (2000-2099)
     VALIDATION_FAILED("VAL_001", "Request validation failed"),
@@ -32,6 +41,8 @@ public enum ErrorCode {
     RATE_LIMIT_EXCEEDED("RATE_001", "Rate limit exceeded"),
     RATE_LIMIT_GENERATE_EXCEEDED("RATE_002", "Rate limit exceeded for generate endpoint"),
     RATE_LIMIT_MATCH_EXCEEDED("RATE_003", "Rate limit exceeded for match endpoint"),
+    CONCURRENCY_LIMIT_EXCEEDED("RATE_004", "Too many concurrent match requests"),
+    RATE_LIMIT_EXPORT_JOBS_EXCEEDED("RATE_005", "Rate limit exceeded for export jobs"),
     
     // Security errors (4000-4099)
     SECURITY_ACCESS_DENIED("SEC_001", "Access denied"),
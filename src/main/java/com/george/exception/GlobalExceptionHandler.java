@@ -24,40 +24,84 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(EmbeddingException.class)
     public ResponseEntity<ErrorResponse> handleEmbeddingException(
             EmbeddingException ex, WebRequest request) {
+        // A busy ingestion bulkhead or an open provider circuit is transient, not a server fault;
+        // a run outliving its request is still going, so the client only stopped waiting
+        HttpStatus status = switch (ex.getErrorCode()) {
+            case EMBEDDING_INGESTION_BUSY, EMBEDDING_PROVIDER_UNAVAILABLE -> HttpStatus.SERVICE_UNAVAILABLE;
+            case EMBEDDING_RUN_TIMEOUT -> HttpStatus.GATEWAY_TIMEOUT;
+            default -> HttpStatus.INTERNAL_SERVER_ERROR;
+        };
         ErrorResponse error = new ErrorResponse(
-            HttpStatus.INTERNAL_SERVER_ERROR.value(),
+            status.value(),
             ex.getErrorCode().getCode(),
             "Embedding Generation Failed",
             ex.getMessage(),
             request.getDescription(false).replace("uri=", "")
         );
-        return new ResponseEntity<>(error, HttpStatus.INTERNAL_SERVER_ERROR);
+        logServerError(status, error, ex);
+        return new ResponseEntity<>(error, status);
     }
     
     @ExceptionHandler(JobMatchingException.class)
     public ResponseEntity<ErrorResponse> handleJobMatchingException(
             JobMatchingException ex, WebRequest request) {
+        // The request ran out of time; the client has stopped waiting for a full answer
+        HttpStatus status = ex.getErrorCode() == ErrorCode.JOB_MATCHING_DEADLINE_EXCEEDED
+            ? HttpStatus.GATEWAY_TIMEOUT
+            : HttpStatus.INTERNAL_SERVER_ERROR;
         ErrorResponse error = new ErrorResponse(
-            HttpStatus.INTERNAL_SERVER_ERROR.value(),
+            status.value(),
             ex.getErrorCode().getCode(),
             "Job Matching Failed",
             ex.getMessage(),
             request.getDescription(false).replace("uri=", "")
         );
-        return new ResponseEntity<>(error, HttpStatus.INTERNAL_SERVER_ERROR);
+        logServerError(status, error, ex);
+        return new ResponseEntity<>(error, status);
     }
     
     @ExceptionHandler(ExportException.class)
     public ResponseEntity<ErrorResponse> handleExportException(
             ExportException ex, WebRequest request) {
+        // A full export queue is a transient capacity limit, not a server fault
+        HttpStatus status = ex.getErrorCode() == ErrorCode.EXPORT_QUEUE_FULL
+            ? HttpStatus.SERVICE_UNAVAILABLE
+            : HttpStatus.INTERNAL_SERVER_ERROR;
         ErrorResponse error = new ErrorResponse(
-            HttpStatus.INTERNAL_SERVER_ERROR.value(),
+            status.value(),
             ex.getErrorCode().getCode(),
             "Export Failed",
             ex.getMessage(),
             request.getDescription(false).replace("uri=", "")
         );
-        return new ResponseEntity<>(error, HttpStatus.INTERNAL_SERVER_ERROR);
+        logServerError(status, error, ex);
+        return new ResponseEntity<>(error, status);
+    }
+    
+    @ExceptionHandler(RateLimitException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitException(
+            RateLimitException ex, WebRequest request) {
+        ErrorResponse error = new ErrorResponse(
+            HttpStatus.TOO_MANY_REQUESTS.value(),
+            ex.getErrorCode().getCode(),
+            "Rate Limit Exceeded",
+            ex.getMessage(),
+            request.getDescription(false).replace("uri=", "")
+        );
+        return new ResponseEntity<>(error, HttpStatus.TOO_MANY_REQUESTS);
+    }
+    
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
+            ResourceNotFoundException ex, WebRequest request) {
+        ErrorResponse error = new ErrorResponse(
+            HttpStatus.NOT_FOUND.value(),
+            ex.getErrorCode().getCode(),
+            "Not Found",
+            ex.getMessage(),
+            request.getDescription(false).replace("uri=", "")
+        );
+        return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
     }
     
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -112,6 +156,18 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
     
+    /**
+     * Logs a failure answered with a 5xx: server faults at ERROR with their cause, transient
+     * ones (busy, unavailable, out of time) at WARN without a stack trace.
+     */
+    private static void logServerError(HttpStatus status, ErrorResponse error, Exception ex) {
+        if (status == HttpStatus.INTERNAL_SERVER_ERROR) {
+            logger.error("{} on {}: {}", error.getErrorCode(), error.getPath(), ex.getMessage(), ex);
+        } else {
+            logger.warn("{} on {} ({}): {}", error.getErrorCode(), error.getPath(), status.value(), ex.getMessage());
+        }
+    }
+    
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(
             Exception ex, WebRequest request) {
@@ -0,0 +1,14 @@
+package com.george.exception;
+
+public class RateLimitException extends RuntimeException {
+    private final ErrorCode errorCode;
+    
+    public RateLimitException(ErrorCode errorCode, String message) {
+        super(message);
+        this.errorCode = errorCode;
+    }
+    
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+}
@@ -1,16 +1,26 @@
 package com.george.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
 import java.util.List;
 
 public class JobMatch {
 	
+    // Null fields are left out when the request selected fields
+    @JsonSerialize(using = Post.SelectedFieldsSerializer.class)
     private Post job;
     private double confidence;
-    private List<String> matchReasons;
+    // Null when the request opted out of reasons, and then left out of the JSON entirely
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<MatchReason> matchReasons;
+    // Rendered English reasons, only when the request asks for them
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<String> matchReasonText;
     
     public JobMatch() {}
     
-    public JobMatch(Post job, double confidence, List<String> matchReasons) {
+    public JobMatch(Post job, double confidence, List<MatchReason> matchReasons) {
         this.job = job;
         this.confidence = confidence;
         this.matchReasons = matchReasons;
@@ -32,11 +42,19 @@ public class JobMatch {
         this.confidence = confidence;
     }
 
-    public List<String> getMatchReasons() {
+    public List<MatchReason> getMatchReasons() {
         return matchReasons;
     }
 
-    public void setMatchReasons(List<String> matchReasons) {
+    public void setMatchReasons(List<MatchReason> matchReasons) {
         this.matchReasons = matchReasons;
     }
+
+    public List<String> getMatchReasonText() {
+        return matchReasonText;
+    }
+
+    public void setMatchReasonText(List<String> matchReasonText) {
+        this.matchReasonText = matchReasonText;
+    }
 }
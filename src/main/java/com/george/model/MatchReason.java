@@ -0,0 +1,106 @@
+package com.george.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Arrays;
+
+/**
+ * A match reason as a code plus a small int payload, serialized compactly as
+ * {@code CODE} or {@code CODE:[a,b]} (e.g. {@code TECH_OVERLAP:[0,2]}). Human-readable text
+ * is produced on demand by {@link com.george.util.MatchReasonRenderer}.
+ */
+public final class MatchReason {
+
+    private static final int[] NO_ARGS = new int[0];
+
+    public static final MatchReason TITLE_ALIGNED = new MatchReason(ReasonCode.TITLE_ALIGNED);
+    public static final MatchReason MATCH_FOUND = new MatchReason(ReasonCode.MATCH_FOUND);
+    public static final MatchReason POTENTIAL_MATCH = new MatchReason(ReasonCode.POTENTIAL_MATCH);
+
+    private final ReasonCode code;
+    private final int[] args;
+
+    private MatchReason(ReasonCode code, int... args) {
+        this.code = code;
+        this.args = args.length == 0 ? NO_ARGS : args;
+    }
+
+    public static MatchReason of(ReasonCode code, int... args) {
+        if (code == null) {
+            throw new IllegalArgumentException("Reason code cannot be null");
+        }
+        return new MatchReason(code, args.clone());
+    }
+
+    public ReasonCode getCode() {
+        return code;
+    }
+
+    public int argCount() {
+        return args.length;
+    }
+
+    public int arg(int index) {
+        return args[index];
+    }
+
+    @JsonValue
+    @Override
+    public String toString() {
+        if (args.length == 0) {
+            return code.name();
+        }
+        StringBuilder sb = new StringBuilder(code.name().length() + 2 + args.length * 3);
+        sb.append(code.name()).append(":[");
+        for (int i = 0; i < args.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(args[i]);
+        }
+        return sb.append(']').toString();
+    }
+
+    @JsonCreator
+    public static MatchReason parse(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Match reason cannot be blank");
+        }
+        int colon = value.indexOf(':');
+        if (colon < 0) {
+            return new MatchReason(ReasonCode.valueOf(value.trim()));
+        }
+        ReasonCode code = ReasonCode.valueOf(value.substring(0, colon).trim());
+        String payload = value.substring(colon + 1).trim();
+        if (!payload.startsWith("[") || !payload.endsWith("]")) {
+            throw new IllegalArgumentException("Malformed match reason arguments: " + value);
+        }
+        String inner = payload.substring(1, payload.length() - 1).trim();
+        if (inner.isEmpty()) {
+            return new MatchReason(code);
+        }
+        String[] parts = inner.split(",");
+        int[] args = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            args[i] = Integer.parseInt(parts[i].trim());
+        }
+        return new MatchReason(code, args);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MatchReason other)) {
+            return false;
+        }
+        return code == other.code && Arrays.equals(args, other.args);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * code.hashCode() + Arrays.hashCode(args);
+    }
+}
@@ -1,10 +1,22 @@
 package com.george.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
 import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.io.IOException;
+import java.util.Iterator;
 import java.util.List;
 
 @Document(collection = "JobPost")
@@ -19,6 +31,10 @@ public class Post {
     @NotBlank(message = "Job description is required")
     private String jobDescription;
     
+    // Short preview of jobDescription, written at ingestion; only returned when selected
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String snippet;
+    
     @PositiveOrZero(message = "Experience must be non-negative")
     private Integer experience;
     
@@ -30,6 +46,23 @@ public class Post {
     private Double salaryMax;
     private String currency;
     
+    // Matching features written at ingestion; internal, so not part of the API representation
+    @JsonIgnore
+    private int[] techIds;
+    @JsonIgnore
+    private int[] requiredTechIds;
+    @JsonIgnore
+    private List<String> titleTokens;
+    @JsonIgnore
+    private Integer seniority;
+    @JsonIgnore
+    private Long taxonomySignature;
+    
+    // Set when the post holds only the fields a match request selected
+    @Transient
+    @JsonIgnore
+    private boolean fieldSelection;
+    
     public Post() {}
     
     public Post(String jobTitle, String jobDescription, Integer experience, List<String> requiredTechs) {
@@ -63,6 +96,14 @@ public class Post {
         this.jobDescription = jobDescription;
     }
     
+    public String getSnippet() {
+        return snippet;
+    }
+    
+    public void setSnippet(String snippet) {
+        this.snippet = snippet;
+    }
+    
     public Integer getExperience() {
         return experience;
     }
@@ -126,5 +167,94 @@ public class Post {
     public void setCurrency(String currency) {
         this.currency = currency;
     }
+    
+    public int[] getTechIds() {
+        return techIds;
+    }
+    
+    public void setTechIds(int[] techIds) {
+        this.techIds = techIds;
+    }
+    
+    public int[] getRequiredTechIds() {
+        return requiredTechIds;
+    }
+    
+    public void setRequiredTechIds(int[] requiredTechIds) {
+        this.requiredTechIds = requiredTechIds;
+    }
+    
+    public List<String> getTitleTokens() {
+        return titleTokens;
+    }
+    
+    public void setTitleTokens(List<String> titleTokens) {
+        this.titleTokens = titleTokens;
+    }
+    
+    /**
+     * {@link SeniorityLevel#getLevel()} of the post; see {@link SeniorityLevel#fromLevel(Integer)}.
+     */
+    public Integer getSeniority() {
+        return seniority;
+    }
+    
+    public void setSeniority(Integer seniority) {
+        this.seniority = seniority;
+    }
+    
+    /**
+     * Signature of the tech taxonomy the stored tech ids were resolved against.
+     */
+    public Long getTaxonomySignature() {
+        return taxonomySignature;
+    }
+    
+    public void setTaxonomySignature(Long taxonomySignature) {
+        this.taxonomySignature = taxonomySignature;
+    }
+    
+    public boolean isFieldSelection() {
+        return fieldSelection;
+    }
+    
+    public void setFieldSelection(boolean fieldSelection) {
+        this.fieldSelection = fieldSelection;
+    }
+    
+    /**
+     * Serializes a post like the default bean serializer, but leaves out null fields when the
+     * post holds a field selection, so a response carries only the fields that were asked for.
+     * Without a selection, null fields are written as before.
+     */
+    public static class SelectedFieldsSerializer extends StdSerializer<Post> {
+        
+        public SelectedFieldsSerializer() {
+            super(Post.class);
+        }
+        
+        @Override
+        public void serialize(Post post, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            JsonSerializer<Object> serializer = provider.findValueSerializer(Post.class);
+            if (!post.isFieldSelection()) {
+                serializer.serialize(post, gen, provider);
+                return;
+            }
+            gen.writeStartObject(post);
+            for (Iterator<PropertyWriter> properties = serializer.properties(); properties.hasNext(); ) {
+                PropertyWriter property = properties.next();
+                try {
+                    if (property instanceof BeanPropertyWriter writer && writer.get(post) == null) {
+                        continue;
+                    }
+                    property.serializeAsField(post, gen, provider);
+                } catch (IOException e) {
+                    throw e;
+                } catch (Exception e) {
+                    provider.reportMappingProblem(e, "Failed to serialize field %s of a job", property.getName());
+                }
+            }
+            gen.writeEndObject();
+        }
+    }
 }
-
@@ -0,0 +1,25 @@
+package com.george.model;
+
+/**
+ * Why a job matched. Each code documents the arguments carried by its {@link MatchReason}.
+ */
+public enum ReasonCode {
+    /** Score at or above the very strong threshold. Args: [confidence in hundredths]. */
+    SEMANTIC_VERY_STRONG,
+    /** Score at or above the good threshold. Args: [confidence in hundredths]. */
+    SEMANTIC_GOOD,
+    /** Score at or above the moderate threshold. Args: [confidence in hundredths]. */
+    SEMANTIC_MODERATE,
+    /** Required techs the profile also mentions. Args: positions in the job's {@code requiredTechs}. */
+    TECH_OVERLAP,
+    /** The profile meets the required experience. Args: [required years]. */
+    EXPERIENCE_MET,
+    /** The profile's seniority is at or above the job's. Args: [job's {@link SeniorityLevel#getLevel() level}]. */
+    SENIORITY_MET,
+    /** A significant job title term appears in the profile. No args. */
+    TITLE_ALIGNED,
+    /** Reasons could not be computed for this job. No args. */
+    MATCH_FOUND,
+    /** No specific signal beyond vector similarity. No args. */
+    POTENTIAL_MATCH
+}
@@ -0,0 +1,37 @@
+package com.george.model;
+
+/**
+ * Seniority of a job post, derived at ingestion from its title or, failing that, from the
+ * required years of experience. Stored by {@link #getLevel()} so levels can be compared
+ * with plain range queries.
+ */
+public enum SeniorityLevel {
+    UNSPECIFIED(0),
+    INTERN(1),
+    JUNIOR(2),
+    MID(3),
+    SENIOR(4),
+    LEAD(5),
+    PRINCIPAL(6);
+
+    private final int level;
+
+    SeniorityLevel(int level) {
+        this.level = level;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public static SeniorityLevel fromLevel(Integer level) {
+        if (level != null) {
+            for (SeniorityLevel value : values()) {
+                if (value.level == level) {
+                    return value;
+                }
+            }
+        }
+        return UNSPECIFIED;
+    }
+}
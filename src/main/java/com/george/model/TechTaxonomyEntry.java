@@ -0,0 +1,88 @@
+package com.george.model;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One canonical technology and the synonyms that should be recognised as it.
+ * {@code exactSynonyms} are aliases too ambiguous to look for in free text ({@code go},
+ * {@code ts}); they only count when they are a whole tech term on their own, such as one
+ * entry of a post's required techs. {@code techId} is the stable identifier stored on job
+ * posts, so it must never be reused.
+ */
+@Document(collection = "TechTaxonomy")
+public class TechTaxonomyEntry {
+
+    @Id
+    private String id;
+
+    @Positive(message = "Tech id must be positive")
+    @Indexed(unique = true)
+    private int techId;
+
+    @NotBlank(message = "Canonical tech name is required")
+    private String name;
+
+    private List<String> synonyms = new ArrayList<>();
+
+    private List<String> exactSynonyms = new ArrayList<>();
+
+    public TechTaxonomyEntry() {}
+
+    public TechTaxonomyEntry(int techId, String name, List<String> synonyms) {
+        this(techId, name, synonyms, null);
+    }
+
+    public TechTaxonomyEntry(int techId, String name, List<String> synonyms, List<String> exactSynonyms) {
+        this.techId = techId;
+        this.name = name;
+        this.synonyms = synonyms != null ? synonyms : new ArrayList<>();
+        this.exactSynonyms = exactSynonyms != null ? exactSynonyms : new ArrayList<>();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public int getTechId() {
+        return techId;
+    }
+
+    public void setTechId(int techId) {
+        this.techId = techId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<String> getSynonyms() {
+        return synonyms;
+    }
+
+    public void setSynonyms(List<String> synonyms) {
+        this.synonyms = synonyms;
+    }
+
+    public List<String> getExactSynonyms() {
+        return exactSynonyms;
+    }
+
+    public void setExactSynonyms(List<String> exactSynonyms) {
+        this.exactSynonyms = exactSynonyms;
+    }
+}
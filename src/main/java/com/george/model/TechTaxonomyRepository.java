@@ -0,0 +1,8 @@
+package com.george.model;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TechTaxonomyRepository extends MongoRepository<TechTaxonomyEntry, String> {
+}
@@ -0,0 +1,179 @@
+package com.george.service;
+
+import com.george.model.JobMatch;
+import com.george.model.MatchReason;
+import com.george.model.Post;
+import com.george.util.MatchReasonRenderer;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes job matches as an Arrow IPC stream with typed columns: numbers stay numbers and
+ * techs and reasons are list columns instead of joined strings. Rows are buffered into record
+ * batches of {@code batchRows} and each full batch is written immediately, so memory stays at
+ * one batch however many matches are exported.
+ * <p>
+ * The target stream is flushed but not closed.
+ */
+class ArrowMatchWriter implements Closeable {
+
+    static final Schema SCHEMA = new Schema(List.of(
+        Field.nullable("job_id", ArrowType.Utf8.INSTANCE),
+        Field.nullable("job_title", ArrowType.Utf8.INSTANCE),
+        Field.nullable("company", ArrowType.Utf8.INSTANCE),
+        Field.nullable("location", ArrowType.Utf8.INSTANCE),
+        Field.nullable("employment_type", ArrowType.Utf8.INSTANCE),
+        Field.nullable("experience", new ArrowType.Int(32, true)),
+        stringList("required_techs"),
+        Field.nullable("salary_min", new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE)),
+        Field.nullable("salary_max", new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE)),
+        Field.nullable("currency", ArrowType.Utf8.INSTANCE),
+        Field.notNullable("confidence", new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE)),
+        stringList("match_reasons"),
+        stringList("match_reason_text")));
+
+    private final VectorSchemaRoot root;
+    private final ArrowStreamWriter writer;
+    private final int batchRows;
+    private final List<FieldVector> vectors;
+    private int rows;
+
+    ArrowMatchWriter(BufferAllocator allocator, OutputStream out, int batchRows) throws IOException {
+        this.root = VectorSchemaRoot.create(SCHEMA, allocator);
+        this.vectors = root.getFieldVectors();
+        this.batchRows = batchRows;
+        // Closing the Arrow writer closes its channel; the target stream belongs to the caller
+        OutputStream target = new FilterOutputStream(out) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+        this.writer = new ArrowStreamWriter(root, null, Channels.newChannel(target));
+        writer.start();
+        root.allocateNew();
+    }
+
+    void write(JobMatch match) throws IOException {
+        Post job = match.getJob() != null ? match.getJob() : new Post();
+        int row = rows;
+        setString(0, row, job.getId());
+        setString(1, row, job.getJobTitle());
+        setString(2, row, job.getCompany());
+        setString(3, row, job.getLocation());
+        setString(4, row, job.getEmploymentType());
+        IntVector experience = (IntVector) vectors.get(5);
+        if (job.getExperience() != null) {
+            experience.setSafe(row, job.getExperience());
+        } else {
+            experience.setNull(row);
+        }
+        setStrings(6, row, job.getRequiredTechs());
+        setDouble(7, row, job.getSalaryMin());
+        setDouble(8, row, job.getSalaryMax());
+        setString(9, row, job.getCurrency());
+        setDouble(10, row, match.getConfidence());
+        List<MatchReason> reasons = match.getMatchReasons();
+        setStrings(11, row, reasons != null ? reasons.stream().map(MatchReason::toString).toList() : null);
+        setStrings(12, row, match.getMatchReasonText() != null
+            ? match.getMatchReasonText()
+            : MatchReasonRenderer.render(reasons, job.getRequiredTechs()));
+
+        if (++rows == batchRows) {
+            writeBatch();
+        }
+    }
+
+    /** Writes buffered rows as a (possibly short) batch and flushes the stream. */
+    void flush() throws IOException {
+        if (rows > 0) {
+            writeBatch();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            writer.end();
+        } finally {
+            writer.close();
+            root.close();
+        }
+    }
+
+    private void writeBatch() throws IOException {
+        root.setRowCount(rows);
+        writer.writeBatch();
+        rows = 0;
+        root.allocateNew();
+    }
+
+    private void setString(int column, int row, String value) {
+        VarCharVector vector = (VarCharVector) vectors.get(column);
+        if (value != null) {
+            vector.setSafe(row, value.getBytes(StandardCharsets.UTF_8));
+        } else {
+            vector.setNull(row);
+        }
+    }
+
+    private void setDouble(int column, int row, Double value) {
+        Float8Vector vector = (Float8Vector) vectors.get(column);
+        if (value != null) {
+            vector.setSafe(row, value);
+        } else {
+            vector.setNull(row);
+        }
+    }
+
+    private void setStrings(int column, int row, List<String> values) {
+        ListVector vector = (ListVector) vectors.get(column);
+        if (values == null) {
+            vector.setNull(row);
+            return;
+        }
+        VarCharVector data = (VarCharVector) vector.getDataVector();
+        int start = vector.startNewValue(row);
+        for (int i = 0; i < values.size(); i++) {
+            String value = values.get(i);
+            if (value != null) {
+                data.setSafe(start + i, value.getBytes(StandardCharsets.UTF_8));
+            } else {
+                data.setNull(start + i);
+            }
+        }
+        vector.endValue(row, values.size());
+    }
+
+    private static Field stringList(String name) {
+        List<Field> children = new ArrayList<>(1);
+        children.add(Field.nullable("item", ArrowType.Utf8.INSTANCE));
+        return new Field(name, FieldType.nullable(ArrowType.List.INSTANCE), children);
+    }
+}
@@ -0,0 +1,113 @@
+package com.george.service;
+
+import com.george.config.AppProperties;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.Updates;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Tracks the catalog epoch: a counter that changes whenever the job catalog does, so match
+ * results can be validated with an ETag instead of being recomputed.
+ * <p>
+ * The epoch is stored in the {@code CatalogEpoch} collection, one document per job
+ * collection, so every node agrees on it. It is bumped by embedding generation and vector
+ * migration; other writes to the job collection must bump it themselves with an
+ * {@code $inc} on {@code epoch}. Nodes re-read it every
+ * {@code app.catalog.epoch-refresh-interval-ms}, which bounds how long a node can answer
+ * 304 for results that have changed.
+ * <p>
+ * The {@linkplain #version() version} also covers the tech taxonomy, since match reasons
+ * depend on it. Until the epoch has been read once, there is no version and no ETags are
+ * issued.
+ */
+@Service
+public class CatalogEpochService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogEpochService.class);
+
+    static final String COLLECTION_NAME = "CatalogEpoch";
+    static final String EPOCH_FIELD = "epoch";
+
+    private final MongoClient mongoClient;
+    private final AppProperties appProperties;
+    private final TechTaxonomyService taxonomyService;
+    private volatile Long epoch;
+    private volatile boolean bumpPending;
+
+    public CatalogEpochService(MongoClient mongoClient,
+                               AppProperties appProperties,
+                               TechTaxonomyService taxonomyService) {
+        this.mongoClient = mongoClient;
+        this.appProperties = appProperties;
+        this.taxonomyService = taxonomyService;
+    }
+
+    /**
+     * The version of everything match results are computed from, or {@code null} if the epoch
+     * is not known yet.
+     */
+    public String version() {
+        Long current = epoch;
+        if (current == null) {
+            return null;
+        }
+        return current + "." + Long.toHexString(taxonomyService.current().getSignature());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+        fixedDelayString = "${app.catalog.epoch-refresh-interval-ms:10000}",
+        initialDelayString = "${app.catalog.epoch-refresh-interval-ms:10000}")
+    public void refresh() {
+        if (bumpPending) {
+            bump();
+            return;
+        }
+        try {
+            Document state = collection().find(Filters.eq("_id", catalogId())).first();
+            epoch = state != null ? state.get(EPOCH_FIELD, Number.class).longValue() : 0L;
+        } catch (RuntimeException e) {
+            logger.warn("Failed to read catalog epoch, keeping {}: {}", epoch, e.getMessage());
+        }
+    }
+
+    /**
+     * Advances the epoch after the catalog changed. Failures are logged rather than thrown,
+     * since the change itself has already been made; the bump is retried on the next refresh
+     * and this node issues no ETags until it succeeds.
+     */
+    public void bump() {
+        try {
+            Document state = collection().findOneAndUpdate(
+                Filters.eq("_id", catalogId()),
+                Updates.inc(EPOCH_FIELD, 1L),
+                new FindOneAndUpdateOptions().upsert(true).returnDocument(ReturnDocument.AFTER));
+            epoch = state.get(EPOCH_FIELD, Number.class).longValue();
+            bumpPending = false;
+            logger.info("Catalog epoch advanced to {}", epoch);
+        } catch (RuntimeException e) {
+            logger.error("Failed to advance catalog epoch, will retry: {}", e.getMessage());
+            // Stop issuing ETags on this node rather than validating ones that may be stale
+            bumpPending = true;
+            epoch = null;
+        }
+    }
+
+    private MongoCollection<Document> collection() {
+        return mongoClient.getDatabase(appProperties.getMongodb().getDatabaseName()).getCollection(COLLECTION_NAME);
+    }
+
+    private String catalogId() {
+        return appProperties.getMongodb().getCollectionName();
+    }
+}
@@ -1,12 +1,15 @@
 package com.george.service;
 
 import com.george.config.AppProperties;
+import com.george.config.IngestionConfig;
+import com.george.config.MongoConfig;
 import com.george.exception.EmbeddingException;
 import com.george.exception.ErrorCode;
 import com.george.model.Post;
 import com.george.model.PostRepository;
 import com.george.service.api.EmbeddingProvider;
 import com.george.service.PostDocumentConverter;
+import com.george.service.embedding.EmbeddingScheduler;
 import com.mongodb.MongoException;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
@@ -16,10 +19,14 @@ import org.bson.BsonArray;
 import org.bson.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 @Service
 public class CreateEmbeddings {
@@ -31,17 +38,42 @@ public class CreateEmbeddings {
     private final AppProperties appProperties;
     private final MongoClient mongoClient;
     private final PostDocumentConverter documentConverter;
+    private final CatalogEpochService catalogEpochService;
+    private final EmbeddingScheduler embeddingScheduler;
+    private final Executor ingestionExecutor;
 
     public CreateEmbeddings(EmbeddingProvider embeddingProvider,
                             PostRepository postRepository,
                             AppProperties appProperties,
-                            MongoClient mongoClient,
-                            PostDocumentConverter documentConverter) {
+                            @Qualifier(MongoConfig.INGESTION_MONGO_CLIENT) MongoClient mongoClient,
+                            PostDocumentConverter documentConverter,
+                            CatalogEpochService catalogEpochService,
+                            EmbeddingScheduler embeddingScheduler,
+                            @Qualifier(IngestionConfig.INGESTION_EXECUTOR) Executor ingestionExecutor) {
         this.embeddingProvider = embeddingProvider;
         this.postRepository = postRepository;
         this.appProperties = appProperties;
         this.mongoClient = mongoClient;
         this.documentConverter = documentConverter;
+        this.catalogEpochService = catalogEpochService;
+        this.embeddingScheduler = embeddingScheduler;
+        this.ingestionExecutor = ingestionExecutor;
+    }
+
+    /**
+     * Runs {@link #createEmbeddings()} on the ingestion executor, so the request thread is
+     * released for the duration of the run.
+     *
+     * @throws EmbeddingException with {@link ErrorCode#EMBEDDING_INGESTION_BUSY} if the
+     *         ingestion executor has no room for another run
+     */
+    public CompletableFuture<Void> createEmbeddingsAsync() {
+        try {
+            return CompletableFuture.runAsync(this::createEmbeddings, ingestionExecutor);
+        } catch (RejectedExecutionException e) {
+            throw new EmbeddingException(ErrorCode.EMBEDDING_INGESTION_BUSY,
+                "An embedding run is already in progress; try again later");
+        }
     }
 
     public void createEmbeddings() {
@@ -96,10 +128,7 @@ public class CreateEmbeddings {
                 throw new EmbeddingException("No valid job descriptions found to generate embeddings");
             }
             
-            List<BsonArray> embeddings = embeddingProvider.getEmbeddings(descriptions);
-            if (embeddings == null) {
-                throw new EmbeddingException("Failed to generate embeddings - received null result");
-            }
+            List<BsonArray> embeddings = embedInBatches(descriptions);
 
             if (embeddings.size() != documents.size()) {
                 throw new EmbeddingException(
@@ -111,7 +140,7 @@ public class CreateEmbeddings {
                 if (embeddings.get(i) == null) {
                     throw new EmbeddingException("Received null embedding at index " + i);
                 }
-                documents.get(i).append("embedding", embeddings.get(i));
+                documentConverter.appendEmbedding(documents.get(i), embeddings.get(i));
             }
 
             InsertManyResult result = collection.insertMany(documents);
@@ -119,6 +148,7 @@ public class CreateEmbeddings {
                 throw new EmbeddingException(ErrorCode.EMBEDDING_GENERATION_FAILED, "Failed to insert documents - received null result");
             }
             logger.info("Successfully inserted {} documents with embeddings", result.getInsertedIds().size());
+            catalogEpochService.bump();
         } catch (MongoException me) {
             throw new EmbeddingException(ErrorCode.EMBEDDING_GENERATION_FAILED, "Failed to perform MongoDB operation", me);
         } catch (EmbeddingException | IllegalStateException e) {
@@ -127,4 +157,24 @@ public class CreateEmbeddings {
             throw new EmbeddingException(ErrorCode.EMBEDDING_GENERATION_FAILED, "Failed to generate embeddings", e);
         }
     }
+
+    /**
+     * Embeds the descriptions in batches of {@code app.ingestion.embedding-batch-size}, each
+     * taking a batch slot of the {@link EmbeddingScheduler}, so interactive requests get the
+     * provider between batches instead of after the whole run.
+     */
+    private List<BsonArray> embedInBatches(List<String> descriptions) {
+        int batchSize = appProperties.getIngestion().getEmbeddingBatchSize();
+        List<BsonArray> embeddings = new ArrayList<>(descriptions.size());
+        for (int from = 0; from < descriptions.size(); from += batchSize) {
+            List<String> batch = descriptions.subList(from, Math.min(from + batchSize, descriptions.size()));
+            List<BsonArray> batchEmbeddings = embeddingScheduler.call(EmbeddingScheduler.Priority.BATCH,
+                () -> embeddingProvider.getEmbeddings(batch));
+            if (batchEmbeddings == null) {
+                throw new EmbeddingException("Failed to generate embeddings - received null result");
+            }
+            embeddings.addAll(batchEmbeddings);
+        }
+        return embeddings;
+    }
 }
@@ -1,25 +1,49 @@
 package com.george.service;
 
+import com.george.config.RateLimitBudget;
 import com.george.service.api.EmbeddingProvider;
+import com.george.service.embedding.EmbeddingCircuitBreaker;
+import com.george.service.embedding.EmbeddingScheduler;
+import com.george.util.Deadline;
 import io.micrometer.core.annotation.Timed;
 import org.bson.BsonArray;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 @Service
 public class EmbeddingCacheService {
     
     private static final Logger logger = LoggerFactory.getLogger(EmbeddingCacheService.class);
     
+    static final String CACHE_NAME = "embeddings";
+
     private final EmbeddingProvider embeddingProvider;
+    private final CacheManager cacheManager;
+    private final EmbeddingScheduler embeddingScheduler;
+    private final EmbeddingCircuitBreaker circuitBreaker;
 
-    public EmbeddingCacheService(EmbeddingProvider embeddingProvider) {
+    public EmbeddingCacheService(EmbeddingProvider embeddingProvider,
+                                 CacheManager cacheManager,
+                                 EmbeddingScheduler embeddingScheduler,
+                                 EmbeddingCircuitBreaker circuitBreaker) {
         this.embeddingProvider = embeddingProvider;
+        this.cacheManager = cacheManager;
+        this.embeddingScheduler = embeddingScheduler;
+        this.circuitBreaker = circuitBreaker;
     }
 
-    @Cacheable(value = "embeddings", key = "#text")
+    @Cacheable(value = CACHE_NAME, key = "#text")
     @Timed(value = "embeddings.cache.operation", description = "Time taken for embedding cache operations")
     public BsonArray getCachedEmbedding(String text) {
         if (text == null || text.trim().isEmpty()) {
@@ -31,7 +55,23 @@ public class EmbeddingCacheService {
         
         logger.debug("Getting cached embedding for text length: {}", text.length());
         
-        BsonArray embedding = embeddingProvider.getEmbedding(text);
+        // Fails fast while the provider circuit is open, without waiting for a slot
+        acquireProviderCall();
+        AtomicBoolean started = new AtomicBoolean();
+        BsonArray embedding;
+        try {
+            // Interactive priority: never waits behind ingestion batches
+            embedding = embeddingScheduler.call(EmbeddingScheduler.Priority.INTERACTIVE, () -> {
+                started.set(true);
+                return circuitBreaker.call(() -> embeddingProvider.getEmbedding(text));
+            });
+        } catch (RuntimeException e) {
+            // Turned away by a full queue: the provider was never called
+            if (!started.get()) {
+                circuitBreaker.release();
+            }
+            throw e;
+        }
         
         if (embedding == null) {
             throw new IllegalStateException("Failed to generate embedding - received null result");
@@ -40,5 +80,162 @@ public class EmbeddingCacheService {
         logger.debug("Generated embedding with dimension: {}", embedding.size());
         return embedding;
     }
-}
 
+    /**
+     * {@link #getCachedEmbedding(String)} bounded by a request deadline: waits for the
+     * embedding no longer than the deadline allows, and throws
+     * {@link com.george.exception.ErrorCode#JOB_MATCHING_DEADLINE_EXCEEDED} once it has passed.
+     */
+    public BsonArray getCachedEmbedding(String text, Deadline deadline) {
+        return getCachedEmbedding(text, deadline, null);
+    }
+
+    /**
+     * {@link #getCachedEmbedding(String, Deadline)} that adds the time of the cache lookup
+     * and of any provider call to {@code timings}, when given.
+     */
+    public BsonArray getCachedEmbedding(String text, Deadline deadline, MatchTimings timings) {
+        try {
+            return getCachedEmbeddingAsync(text, deadline, timings).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #getCachedEmbedding(String)}, sharing its cache: a hit
+     * completes immediately, a miss is computed with
+     * {@link EmbeddingProvider#getEmbeddingAsync(String)} and cached when it completes. A miss
+     * waits for an interactive slot of the {@link EmbeddingScheduler} without blocking. While
+     * the {@link EmbeddingCircuitBreaker} is open, a miss fails at once with
+     * {@link com.george.exception.ErrorCode#EMBEDDING_PROVIDER_UNAVAILABLE}.
+     */
+    public CompletableFuture<BsonArray> getCachedEmbeddingAsync(String text) {
+        return getCachedEmbeddingAsync(text, null);
+    }
+
+    /**
+     * {@link #getCachedEmbeddingAsync(String)} bounded by a request deadline, when one is
+     * given. The wait for a scheduler slot and the provider call together take no longer than
+     * the time left; the provider call gets that time as its own timeout, and is not made at
+     * all if the slot only comes free after the deadline. The future then fails with
+     * {@link com.george.exception.ErrorCode#JOB_MATCHING_DEADLINE_EXCEEDED}.
+     */
+    public CompletableFuture<BsonArray> getCachedEmbeddingAsync(String text, Deadline deadline) {
+        return getCachedEmbeddingAsync(text, deadline, null);
+    }
+
+    /**
+     * {@link #getCachedEmbeddingAsync(String, Deadline)} that adds the time of the cache
+     * lookup and of any provider call to {@code timings}, when given. The provider call is
+     * timed from the circuit breaker's permission until the embedding, or the deadline, came
+     * back, so it includes the wait for a scheduler slot.
+     */
+    public CompletableFuture<BsonArray> getCachedEmbeddingAsync(String text, Deadline deadline, MatchTimings timings) {
+        if (text == null || text.trim().isEmpty()) {
+            throw new IllegalArgumentException("Text cannot be null or empty");
+        }
+        if (embeddingProvider == null) {
+            throw new IllegalStateException("EmbeddingProvider is not available");
+        }
+        
+        long lookupStart = System.nanoTime();
+        Cache cache = cacheManager != null ? cacheManager.getCache(CACHE_NAME) : null;
+        BsonArray cached = cache != null ? cache.get(text, BsonArray.class) : null;
+        if (timings != null) {
+            timings.add(MatchTimings.Stage.CACHE_LOOKUP, System.nanoTime() - lookupStart);
+            timings.setCacheHit(cached != null);
+        }
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        
+        logger.debug("Getting embedding asynchronously for text length: {}", text.length());
+        try {
+            acquireProviderCall();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        long providerStart = System.nanoTime();
+        // Whoever claims first owns the permission: the provider call once it has a slot, or
+        // the failure of a call that never got one
+        AtomicBoolean claimed = new AtomicBoolean();
+        CompletableFuture<BsonArray> providerCall;
+        try {
+            providerCall = embeddingScheduler.callAsync(EmbeddingScheduler.Priority.INTERACTIVE, () -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return CompletableFuture.failedFuture(new CancellationException());
+                }
+                if (deadline == null) {
+                    return circuitBreaker.callAsync(() -> embeddingProvider.getEmbeddingAsync(text));
+                }
+                // The slot may come free after the request has given up; don't spend it on nobody
+                if (deadline.isExpired()) {
+                    circuitBreaker.release();
+                    return CompletableFuture.failedFuture(deadline.exceeded("embedding"));
+                }
+                return circuitBreaker.callAsync(() -> embeddingProvider.getEmbeddingAsync(text, deadline.remaining()));
+            });
+        } catch (RuntimeException e) {
+            circuitBreaker.release();
+            return CompletableFuture.failedFuture(e);
+        }
+        providerCall.whenComplete((embedding, error) -> {
+            if (error != null && claimed.compareAndSet(false, true)) {
+                circuitBreaker.release();
+            }
+        });
+        CompletableFuture<BsonArray> result = providerCall
+            .thenApply(embedding -> {
+                if (embedding == null) {
+                    throw new IllegalStateException("Failed to generate embedding - received null result");
+                }
+                if (cache != null) {
+                    cache.put(text, embedding);
+                }
+                logger.debug("Generated embedding with dimension: {}", embedding.size());
+                return embedding;
+            });
+        if (deadline != null) {
+            result = result
+                .orTimeout(deadline.remainingMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    // Includes the provider's own HTTP timeout, which is capped at the time left
+                    if (cause instanceof TimeoutException || deadline.isExpired()) {
+                        // Still waiting for a slot: leave the queue
+                        providerCall.cancel(false);
+                        throw deadline.exceeded("embedding");
+                    }
+                    throw cause instanceof RuntimeException runtime ? runtime : new CompletionException(cause);
+                });
+        }
+        if (timings == null) {
+            return result;
+        }
+        return result.whenComplete((embedding, error) -> {
+            timings.add(MatchTimings.Stage.PROVIDER_CALL, System.nanoTime() - providerStart);
+            if (error != null) {
+                timings.markProviderFailed();
+            }
+        });
+    }
+
+    /**
+     * Takes the circuit breaker's permission for a provider call, then charges the client's
+     * rate limit budget for the miss. A request turned away by an open circuit makes no call
+     * and is not charged; a rejected charge gives the permission back.
+     */
+    private void acquireProviderCall() {
+        circuitBreaker.acquire();
+        try {
+            RateLimitBudget.chargeEmbeddingMiss();
+        } catch (RuntimeException e) {
+            circuitBreaker.release();
+            throw e;
+        }
+    }
+}
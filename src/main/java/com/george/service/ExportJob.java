@@ -0,0 +1,103 @@
+package com.george.service;
+
+import com.george.dto.ExportJobRequest;
+import com.george.dto.ExportJobStatus;
+import com.george.util.RotatingGzipWriter;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mutable state of one export job, updated by the worker thread and read by status requests.
+ */
+class ExportJob {
+
+    private final String id;
+    private final ExportJobRequest request;
+    private final Path directory;
+    private final Instant createdAt = Instant.now();
+    private final AtomicInteger profilesProcessed = new AtomicInteger();
+    private final AtomicInteger profilesFailed = new AtomicInteger();
+    private final AtomicLong matchesWritten = new AtomicLong();
+
+    private volatile ExportJobStatus.State state = ExportJobStatus.State.QUEUED;
+    private volatile Instant completedAt;
+    private volatile String error;
+    private volatile List<RotatingGzipWriter.Part> files = List.of();
+
+    ExportJob(String id, ExportJobRequest request, Path directory) {
+        this.id = id;
+        this.request = request;
+        this.directory = directory;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    ExportJobRequest getRequest() {
+        return request;
+    }
+
+    Path getDirectory() {
+        return directory;
+    }
+
+    ExportJobStatus.State getState() {
+        return state;
+    }
+
+    Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    List<RotatingGzipWriter.Part> getFiles() {
+        return files;
+    }
+
+    void started() {
+        state = ExportJobStatus.State.RUNNING;
+    }
+
+    void profileProcessed(int matches) {
+        matchesWritten.addAndGet(matches);
+        profilesProcessed.incrementAndGet();
+    }
+
+    void profileFailed() {
+        profilesFailed.incrementAndGet();
+    }
+
+    void completed(List<RotatingGzipWriter.Part> parts) {
+        files = List.copyOf(parts);
+        completedAt = Instant.now();
+        state = ExportJobStatus.State.COMPLETED;
+    }
+
+    void failed(String message) {
+        error = message;
+        completedAt = Instant.now();
+        state = ExportJobStatus.State.FAILED;
+    }
+
+    ExportJobStatus toStatus() {
+        ExportJobStatus status = new ExportJobStatus();
+        status.setId(id);
+        status.setState(state);
+        status.setFormat(request.isNdjson() ? ExportJobRequest.FORMAT_NDJSON : ExportJobRequest.FORMAT_CSV);
+        status.setProfilesTotal(request.getProfiles().size());
+        status.setProfilesProcessed(profilesProcessed.get());
+        status.setProfilesFailed(profilesFailed.get());
+        status.setMatchesWritten(matchesWritten.get());
+        status.setCreatedAt(createdAt);
+        status.setCompletedAt(completedAt);
+        status.setError(error);
+        status.setFiles(files.stream()
+            .map(part -> new ExportJobStatus.File(part.fileName(), part.sizeBytes(), part.sha256()))
+            .toList());
+        return status;
+    }
+}
@@ -0,0 +1,275 @@
+package com.george.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.george.config.AppProperties;
+import com.george.config.ExportConfig;
+import com.george.dto.ExportJobRequest;
+import com.george.dto.ExportJobStatus;
+import com.george.exception.ErrorCode;
+import com.george.exception.ExportException;
+import com.george.exception.ResourceNotFoundException;
+import com.george.model.JobMatch;
+import com.george.util.RotatingGzipWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+
+/**
+ * Runs bulk exports in the background: matches for many profiles, written as
+ * gzip-compressed CSV or NDJSON files under {@code app.export.directory}.
+ * <p>
+ * Profiles are matched in batches of {@code app.export.batch-size}, with up to
+ * {@code app.export.parallelism} searches in flight, and each batch is written out in
+ * request order before the next one starts. Memory use is bounded by one batch of results
+ * regardless of export size. Output rotates to a new part file every
+ * {@code app.export.max-part-size-mb}, and each part gets a SHA-256 checksum file.
+ * <p>
+ * Job state is kept in memory on the node that ran the job. Finished jobs and their files are
+ * removed after {@code app.export.retention-hours}. Each job directory is marked with
+ * {@code app.export.node-id}, so directories left behind by an earlier run of this node are
+ * cleaned up on the same schedule while those of other nodes sharing the export directory are
+ * left alone.
+ */
+@Service
+public class ExportJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportJobService.class);
+
+    private static final String PROFILE_COLUMN = "Profile,";
+
+    /** File in each job directory holding the id of the node that created it. */
+    static final String OWNER_FILE = ".node";
+
+    private final JobMatchingService jobMatchingService;
+    private final ExportService exportService;
+    private final AppProperties appProperties;
+    private final Executor jobExecutor;
+    private final Executor matchExecutor;
+    private final ObjectWriter recordWriter;
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    public ExportJobService(JobMatchingService jobMatchingService,
+                            ExportService exportService,
+                            AppProperties appProperties,
+                            @Qualifier(ExportConfig.EXPORT_JOB_EXECUTOR) Executor jobExecutor,
+                            @Qualifier(ExportConfig.EXPORT_MATCH_EXECUTOR) Executor matchExecutor,
+                            ObjectMapper objectMapper) {
+        this.jobMatchingService = jobMatchingService;
+        this.exportService = exportService;
+        this.appProperties = appProperties;
+        this.jobExecutor = jobExecutor;
+        this.matchExecutor = matchExecutor;
+        // Records go to the part's writer one after another; it must stay open between them
+        this.recordWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    public ExportJobStatus submit(ExportJobRequest request) {
+        if (request == null || request.getProfiles() == null || request.getProfiles().isEmpty()) {
+            throw new IllegalArgumentException("At least one profile is required");
+        }
+        int maxProfiles = appProperties.getExport().getMaxProfiles();
+        if (request.getProfiles().size() > maxProfiles) {
+            throw new IllegalArgumentException("An export cannot cover more than " + maxProfiles + " profiles");
+        }
+
+        String id = UUID.randomUUID().toString();
+        ExportJob job = new ExportJob(id, request, exportDirectory().resolve(id));
+        jobs.put(id, job);
+        try {
+            jobExecutor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(id);
+            throw new ExportException(ErrorCode.EXPORT_QUEUE_FULL,
+                "Too many export jobs are queued; try again later");
+        }
+        logger.info("Queued export job {} for {} profiles", id, request.getProfiles().size());
+        return job.toStatus();
+    }
+
+    public ExportJobStatus getStatus(String id) {
+        return findJob(id).toStatus();
+    }
+
+    /**
+     * Resolves a finished export file, or its {@code .sha256} companion, for download. Only
+     * names listed in the job's status are accepted.
+     */
+    public Path resolveFile(String id, String fileName) {
+        ExportJob job = findJob(id);
+        if (job.getState() == ExportJobStatus.State.COMPLETED && fileName != null) {
+            for (RotatingGzipWriter.Part part : job.getFiles()) {
+                if (fileName.equals(part.fileName()) || fileName.equals(part.fileName() + ".sha256")) {
+                    return job.getDirectory().resolve(fileName);
+                }
+            }
+        }
+        throw new ResourceNotFoundException(ErrorCode.EXPORT_JOB_NOT_FOUND,
+            "Export file not found: " + fileName);
+    }
+
+    @Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT1M")
+    public void purgeExpired() {
+        Instant cutoff = Instant.now().minus(Duration.ofHours(appProperties.getExport().getRetentionHours()));
+        jobs.values().removeIf(job -> {
+            Instant completedAt = job.getCompletedAt();
+            if (completedAt == null || completedAt.isAfter(cutoff)) {
+                return false;
+            }
+            deleteDirectory(job.getDirectory());
+            return true;
+        });
+
+        // Directories from this node's earlier runs are not in the job map; remove them by age.
+        // Directories of other nodes, or without a marker, are never touched.
+        Path root = exportDirectory();
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        try (Stream<Path> directories = Files.list(root)) {
+            directories
+                .filter(dir -> !jobs.containsKey(dir.getFileName().toString()))
+                .filter(this::isOwnedByThisNode)
+                .filter(dir -> isOlderThan(dir, cutoff))
+                .forEach(ExportJobService::deleteDirectory);
+        } catch (IOException e) {
+            logger.warn("Failed to scan export directory {}: {}", root, e.getMessage());
+        }
+    }
+
+    void run(ExportJob job) {
+        job.started();
+        ExportJobRequest request = job.getRequest();
+        boolean ndjson = request.isNdjson();
+        long maxPartBytes = appProperties.getExport().getMaxPartSizeMb() * 1024L * 1024L;
+        String header = ndjson ? null : PROFILE_COLUMN + ExportService.CSV_HEADER;
+
+        RotatingGzipWriter out = new RotatingGzipWriter(job.getDirectory(), "matches",
+            ndjson ? "ndjson" : "csv", maxPartBytes, header);
+        try (out) {
+            Files.createDirectories(job.getDirectory());
+            Files.writeString(job.getDirectory().resolve(OWNER_FILE), appProperties.getExport().getNodeId());
+            List<String> profiles = request.getProfiles();
+            int batchSize = appProperties.getExport().getBatchSize();
+            for (int start = 0; start < profiles.size(); start += batchSize) {
+                int end = Math.min(profiles.size(), start + batchSize);
+                List<CompletableFuture<List<JobMatch>>> batch = new ArrayList<>(end - start);
+                for (int i = start; i < end; i++) {
+                    String profile = profiles.get(i);
+                    batch.add(CompletableFuture.supplyAsync(() -> match(profile, request), matchExecutor));
+                }
+                for (int i = start; i < end; i++) {
+                    List<JobMatch> matches;
+                    try {
+                        matches = batch.get(i - start).join();
+                    } catch (CompletionException e) {
+                        logger.warn("Export job {}: profile {} failed: {}", job.getId(), i, e.getCause().getMessage());
+                        job.profileFailed();
+                        continue;
+                    }
+                    for (JobMatch match : matches) {
+                        writeRecord(out.writer(), i, match, ndjson);
+                        out.endRecord();
+                    }
+                    job.profileProcessed(matches.size());
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.error("Export job {} failed", job.getId(), e);
+            job.failed(e.getMessage());
+            deleteDirectory(job.getDirectory());
+            return;
+        }
+        job.completed(out.getParts());
+        logger.info("Export job {} completed: {} files", job.getId(), out.getParts().size());
+    }
+
+    private List<JobMatch> match(String profile, ExportJobRequest request) {
+        MatchQuery query = jobMatchingService.prepareQuery(profile, request.getLimit(), request.getMinConfidence());
+        return jobMatchingService.findMatchingJobs(query);
+    }
+
+    private void writeRecord(Writer writer, int profileIndex, JobMatch match, boolean ndjson) throws IOException {
+        if (ndjson) {
+            recordWriter.writeValue(writer, new ExportRecord(profileIndex, match));
+            writer.write('\n');
+        } else if (match.getJob() != null) {
+            writer.write(Integer.toString(profileIndex));
+            writer.write(',');
+            exportService.writeCsvRow(writer, match);
+        }
+    }
+
+    private ExportJob findJob(String id) {
+        ExportJob job = id != null ? jobs.get(id) : null;
+        if (job == null) {
+            throw new ResourceNotFoundException(ErrorCode.EXPORT_JOB_NOT_FOUND, "Export job not found: " + id);
+        }
+        return job;
+    }
+
+    private Path exportDirectory() {
+        return Paths.get(appProperties.getExport().getDirectory());
+    }
+
+    private boolean isOwnedByThisNode(Path directory) {
+        Path owner = directory.resolve(OWNER_FILE);
+        try {
+            return Files.isRegularFile(owner)
+                && Files.readString(owner).trim().equals(appProperties.getExport().getNodeId());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static boolean isOlderThan(Path path, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(path).toInstant().isBefore(cutoff);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static void deleteDirectory(Path directory) {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    logger.warn("Failed to delete export file {}: {}", path, e.getMessage());
+                }
+            });
+        } catch (IOException e) {
+            logger.warn("Failed to delete export directory {}: {}", directory, e.getMessage());
+        }
+    }
+
+    /** One NDJSON line: the index of the profile in the request and one of its matches. */
+    record ExportRecord(int profileIndex, JobMatch match) {
+    }
+}
@@ -1,76 +1,221 @@
 package com.george.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.george.dto.JobMatchResponse;
 import com.george.exception.ErrorCode;
 import com.george.exception.ExportException;
 import com.george.model.JobMatch;
 import com.george.model.Post;
+import com.george.util.MatchReasonRenderer;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.function.Consumer;
 
+/**
+ * Writes job matches as JSON, CSV or Arrow.
+ * <p>
+ * The streaming variants take a prepared {@link MatchQuery} and write each match to the
+ * output stream as the search cursor yields it, so an export never exists as one large
+ * string in memory and the first bytes reach the client right away. The JSON layout is the
+ * same as {@link JobMatchResponse}.
+ */
 @Service
 public class ExportService {
 
     private static final Logger logger = LoggerFactory.getLogger(ExportService.class);
+
+    static final String CSV_HEADER =
+        "Job Title,Company,Location,Employment Type,Experience,Required Techs,Salary Min,Salary Max,Currency,Confidence,Match Reasons\n";
+
+    static final int ARROW_BATCH_ROWS = 1024;
+
+    private final JobMatchingService jobMatchingService;
     private final ObjectMapper objectMapper;
+    private final ObjectWriter matchWriter;
 
-    public ExportService() {
+    public ExportService(JobMatchingService jobMatchingService) {
+        this.jobMatchingService = jobMatchingService;
         this.objectMapper = new ObjectMapper();
-        this.objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+        // Flushing is left to the export, which flushes once the first match is out
+        this.matchWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Runs the query and streams the matches to {@code out} as indented JSON.
+     *
+     * @return the number of matches written
+     */
+    public int writeJson(MatchQuery query, OutputStream out) throws IOException {
+        try (JsonGenerator generator = jsonGenerator(out)) {
+            return writeJson(generator, consumer -> jobMatchingService.streamMatches(query, consumer),
+                query.getProfileKey());
+        }
+    }
+
+    /**
+     * Runs the query and streams the matches to {@code out} as CSV, one row per match.
+     *
+     * @return the number of matches written
+     */
+    public int writeCsv(MatchQuery query, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        int written = writeCsv(writer, consumer -> jobMatchingService.streamMatches(query, consumer));
+        writer.flush();
+        return written;
+    }
+
+    /**
+     * Runs the query and streams the matches to {@code out} as an Arrow IPC stream with typed
+     * and list columns (see {@link ArrowMatchWriter#SCHEMA}), in record batches of
+     * {@value #ARROW_BATCH_ROWS} rows.
+     *
+     * @return the number of matches written
+     */
+    public int writeArrow(MatchQuery query, OutputStream out) throws IOException {
+        try (BufferAllocator allocator = new RootAllocator();
+             ArrowMatchWriter writer = new ArrowMatchWriter(allocator, out, ARROW_BATCH_ROWS)) {
+            // The schema message is already written; send it before the search returns anything
+            out.flush();
+            return forEachMatch(consumer -> jobMatchingService.streamMatches(query, consumer), writer::write, () -> { });
+        }
     }
 
     public String exportToJson(JobMatchResponse response) {
         if (response == null) {
             throw new IllegalArgumentException("JobMatchResponse cannot be null");
         }
-        try {
-            return objectMapper.writeValueAsString(response);
-        } catch (JsonProcessingException e) {
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(json)) {
+            generator.useDefaultPrettyPrinter();
+            writeJson(generator, consumer -> forEach(response.getMatches(), consumer), response.getProfileKey());
+        } catch (IOException e) {
             logger.error("Failed to export job matches to JSON", e);
             throw new ExportException(ErrorCode.EXPORT_JSON_ERROR, "Failed to export job matches to JSON", e);
         }
+        return json.toString();
     }
 
     public String exportToCsv(JobMatchResponse response) {
         if (response == null) {
             throw new IllegalArgumentException("JobMatchResponse cannot be null");
         }
-        
-        StringBuilder csv = new StringBuilder();
-        
-        csv.append("Job Title,Company,Location,Employment Type,Experience,Required Techs,Salary Min,Salary Max,Currency,Confidence,Match Reasons\n");
-        
-        List<JobMatch> matches = response.getMatches();
-        if (matches != null) {
-            for (JobMatch match : matches) {
-                if (match == null || match.getJob() == null) {
-                    continue;
-                }
-                
-                Post job = match.getJob();
-                csv.append(escapeCsvField(job.getJobTitle())).append(",");
-                csv.append(escapeCsvField(job.getCompany())).append(",");
-                csv.append(escapeCsvField(job.getLocation())).append(",");
-                csv.append(escapeCsvField(job.getEmploymentType())).append(",");
-                csv.append(job.getExperience() != null ? job.getExperience() : "").append(",");
-                csv.append(escapeCsvField(formatList(job.getRequiredTechs()))).append(",");
-                csv.append(job.getSalaryMin() != null ? job.getSalaryMin() : "").append(",");
-                csv.append(job.getSalaryMax() != null ? job.getSalaryMax() : "").append(",");
-                csv.append(escapeCsvField(job.getCurrency())).append(",");
-                csv.append(String.format("%.2f", match.getConfidence())).append(",");
-                csv.append(escapeCsvField(formatList(match.getMatchReasons()))).append("\n");
-            }
+        StringWriter csv = new StringWriter();
+        try {
+            writeCsv(csv, consumer -> forEach(response.getMatches(), consumer));
+        } catch (IOException e) {
+            throw new ExportException(ErrorCode.EXPORT_CSV_ERROR, "Failed to export job matches to CSV", e);
         }
-        
         return csv.toString();
     }
 
+    private JsonGenerator jsonGenerator(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        // The response stream belongs to the container
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.useDefaultPrettyPrinter();
+        return generator;
+    }
+
+    private int writeJson(JsonGenerator generator, MatchSource source, String profileKey) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("matches");
+        int written = forEachMatch(source, match -> matchWriter.writeValue(generator, match), generator::flush);
+        generator.writeEndArray();
+        generator.writeNumberField("totalMatches", written);
+        if (profileKey != null) {
+            generator.writeStringField("profileKey", profileKey);
+        }
+        generator.writeEndObject();
+        return written;
+    }
+
+    private int writeCsv(Writer writer, MatchSource source) throws IOException {
+        writer.write(CSV_HEADER);
+        return forEachMatch(source, match -> {
+            if (match.getJob() != null) {
+                writeCsvRow(writer, match);
+            }
+        }, writer::flush);
+    }
+
+    void writeCsvRow(Writer writer, JobMatch match) throws IOException {
+        Post job = match.getJob();
+        writer.write(escapeCsvField(job.getJobTitle()));
+        writer.write(',');
+        writer.write(escapeCsvField(job.getCompany()));
+        writer.write(',');
+        writer.write(escapeCsvField(job.getLocation()));
+        writer.write(',');
+        writer.write(escapeCsvField(job.getEmploymentType()));
+        writer.write(',');
+        writer.write(job.getExperience() != null ? job.getExperience().toString() : "");
+        writer.write(',');
+        writer.write(escapeCsvField(formatList(job.getRequiredTechs())));
+        writer.write(',');
+        writer.write(job.getSalaryMin() != null ? job.getSalaryMin().toString() : "");
+        writer.write(',');
+        writer.write(job.getSalaryMax() != null ? job.getSalaryMax().toString() : "");
+        writer.write(',');
+        writer.write(escapeCsvField(job.getCurrency()));
+        writer.write(',');
+        writer.write(String.format("%.2f", match.getConfidence()));
+        writer.write(',');
+        List<String> reasonText = match.getMatchReasonText() != null
+            ? match.getMatchReasonText()
+            : MatchReasonRenderer.render(match.getMatchReasons(), job.getRequiredTechs());
+        writer.write(escapeCsvField(formatList(reasonText)));
+        writer.write('\n');
+    }
+
+    /**
+     * Feeds every non-null match from {@code source} to {@code action}, calling
+     * {@code afterFirst} once the first one is written so the client starts receiving data
+     * without waiting for the buffer to fill.
+     */
+    private static int forEachMatch(MatchSource source, MatchAction action, IoRunnable afterFirst) throws IOException {
+        int[] written = {0};
+        try {
+            source.forEach(match -> {
+                if (match == null) {
+                    return;
+                }
+                try {
+                    action.accept(match);
+                    if (++written[0] == 1) {
+                        afterFirst.run();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return written[0];
+    }
+
+    private static void forEach(List<JobMatch> matches, Consumer<JobMatch> consumer) {
+        if (matches != null) {
+            matches.forEach(consumer);
+        }
+    }
+
     private String escapeCsvField(String field) {
         if (field == null) {
             return "";
@@ -87,5 +232,19 @@ public class ExportService {
         }
         return String.join("; ", list);
     }
-}
 
+    @FunctionalInterface
+    private interface MatchSource {
+        void forEach(Consumer<JobMatch> consumer);
+    }
+
+    @FunctionalInterface
+    private interface MatchAction {
+        void accept(JobMatch match) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface IoRunnable {
+        void run() throws IOException;
+    }
+}
@@ -2,24 +2,62 @@ package com.george.service;
 
 import com.george.config.AppProperties;
 import com.george.dto.JobMatchRequest;
+import com.george.exception.EmbeddingException;
 import com.george.exception.ErrorCode;
 import com.george.exception.JobMatchingException;
+import com.george.exception.ResourceNotFoundException;
 import com.george.model.JobMatch;
+import com.george.model.MatchReason;
+import com.george.model.Post;
+import com.george.model.ReasonCode;
+import com.george.service.embedding.EmbeddingCircuitBreaker;
 import com.george.util.Constants;
+import com.george.util.Deadline;
 import com.george.util.DocumentMapper;
+import com.george.util.JobMatchCodec;
 import com.george.util.MatchReasonGenerator;
+import com.george.util.MatchReasonRenderer;
+import com.george.util.ProfileAnalysis;
+import com.george.util.TextPreprocessor;
+import com.mongodb.MongoException;
+import com.mongodb.MongoExecutionTimeoutException;
+import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.reactivestreams.client.AggregatePublisher;
 import io.micrometer.core.annotation.Timed;
 import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
 import org.bson.Document;
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.types.ObjectId;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Service
 public class JobMatchingService {
@@ -27,27 +65,39 @@ public class JobMatchingService {
     private static final Logger logger = LoggerFactory.getLogger(JobMatchingService.class);
 
     private final MongoClient mongoClient;
+    private final com.mongodb.reactivestreams.client.MongoClient reactiveMongoClient;
     private final EmbeddingCacheService embeddingCacheService;
     private final AppProperties appProperties;
     private final MatchReasonGenerator matchReasonGenerator;
     private final DocumentMapper documentMapper;
     private final MatchingParameterNormalizer parameterNormalizer;
     private final VectorSearchQueryBuilder queryBuilder;
+    private final ProfileAnalysisCache profileAnalysisCache;
+    private final JobMatchCodec jobMatchCodec;
+    private final MatchMetrics matchMetrics;
 
     public JobMatchingService(MongoClient mongoClient,
+                              com.mongodb.reactivestreams.client.MongoClient reactiveMongoClient,
                               EmbeddingCacheService embeddingCacheService,
                               AppProperties appProperties,
                               MatchReasonGenerator matchReasonGenerator,
                               DocumentMapper documentMapper,
                               MatchingParameterNormalizer parameterNormalizer,
-                              VectorSearchQueryBuilder queryBuilder) {
+                              VectorSearchQueryBuilder queryBuilder,
+                              ProfileAnalysisCache profileAnalysisCache,
+                              JobMatchCodec jobMatchCodec,
+                              MatchMetrics matchMetrics) {
         this.mongoClient = mongoClient;
+        this.reactiveMongoClient = reactiveMongoClient;
         this.embeddingCacheService = embeddingCacheService;
         this.appProperties = appProperties;
         this.matchReasonGenerator = matchReasonGenerator;
         this.documentMapper = documentMapper;
         this.parameterNormalizer = parameterNormalizer;
         this.queryBuilder = queryBuilder;
+        this.profileAnalysisCache = profileAnalysisCache;
+        this.jobMatchCodec = jobMatchCodec;
+        this.matchMetrics = matchMetrics;
     }
 
     public List<JobMatch> findMatchingJobs(String userProfile) {
@@ -74,77 +124,805 @@ public class JobMatchingService {
     }
 
     public List<JobMatch> findMatchingJobsSimple(String userProfile) {
+        return findMatchingJobs(prepareSimpleQuery(userProfile));
+    }
+
+    @Timed(value = "job.matching.duration", description = "Time taken to find matching jobs")
+    public List<JobMatch> findMatchingJobs(String userProfile, Integer limit, Double minConfidence) {
+        return findMatchingJobs(prepareQuery(userProfile, limit, minConfidence));
+    }
+
+    @Timed(value = "job.matching.duration", description = "Time taken to find matching jobs")
+    public List<JobMatch> findMatchingJobs(MatchQuery query) {
+        List<JobMatch> matches = new ArrayList<>(query.getLimit());
+        streamMatches(query, matches::add);
+        return matches;
+    }
+
+    public MatchQuery prepareQuery(JobMatchRequest request) {
+        return prepareQuery(request, null);
+    }
+
+    /**
+     * The deadline of a match request arriving now: {@code timeoutMs} from the client, capped
+     * at {@code app.matching.max-timeout-ms}, or {@code app.matching.default-timeout-ms} when
+     * the client sent none.
+     */
+    public Deadline requestDeadline(Long timeoutMs) {
+        AppProperties.Matching matching = appProperties.getMatching();
+        if (timeoutMs == null) {
+            return Deadline.after(Duration.ofMillis(matching.getDefaultTimeoutMs()));
+        }
+        if (timeoutMs <= 0) {
+            throw new IllegalArgumentException("Request timeout must be greater than 0 milliseconds");
+        }
+        return Deadline.after(Duration.ofMillis(Math.min(timeoutMs, matching.getMaxTimeoutMs())));
+    }
+
+    /**
+     * Prepares a query that must be answered by {@code deadline}: the embedding is awaited no
+     * longer than the time left, and the query carries the deadline on to the search and the
+     * match reasons. A {@code null} deadline means no time budget.
+     */
+    public MatchQuery prepareQuery(JobMatchRequest request, Deadline deadline) {
+        if (request == null) {
+            throw new IllegalArgumentException("JobMatchRequest cannot be null");
+        }
+        return prepareQuery(request.getUserProfile(), request.getLimit(), request.getMinConfidence(),
+            request.getPreferredTechs(), request.includesReasons(), request.includesReasonText(),
+            request.getFields(), deadline, Boolean.TRUE.equals(request.getPartialResults()));
+    }
+
+    /**
+     * Prepares a query for the simple endpoints, which take a plain text profile and use the
+     * default limit and minimum confidence.
+     */
+    public MatchQuery prepareSimpleQuery(String userProfile) {
+        return prepareSimpleQuery(userProfile, null);
+    }
+
+    /** {@link #prepareSimpleQuery(String)} with a request deadline, as in {@link #prepareQuery(JobMatchRequest, Deadline)}. */
+    public MatchQuery prepareSimpleQuery(String userProfile, Deadline deadline) {
         if (userProfile == null || userProfile.trim().isEmpty()) {
             throw new IllegalArgumentException("User profile cannot be null or empty");
         }
         if (userProfile.length() > Constants.MAX_USER_PROFILE_LENGTH) {
             throw new IllegalArgumentException("User profile cannot exceed " + Constants.MAX_USER_PROFILE_LENGTH + " characters");
         }
-        return findMatchingJobs(userProfile, 
-            appProperties.getMatching().getDefaultLimit(), 
-            appProperties.getMatching().getDefaultMinConfidence());
+        return prepareQuery(userProfile,
+            appProperties.getMatching().getDefaultLimit(),
+            appProperties.getMatching().getDefaultMinConfidence(),
+            null, true, false, null, deadline, false);
     }
 
-    @Timed(value = "job.matching.duration", description = "Time taken to find matching jobs")
-    public List<JobMatch> findMatchingJobs(String userProfile, Integer limit, Double minConfidence) {
+    /**
+     * A key for the results {@link #prepareQuery(JobMatchRequest)} would produce: built from the
+     * same normalized parameters, but without computing the embedding or analyzing the profile.
+     * Combined with the catalog version it identifies a response, so a repeated request can be
+     * validated by its ETag before any matching work is done.
+     */
+    public String requestKey(JobMatchRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("JobMatchRequest cannot be null");
+        }
+        return requestKey(request.getUserProfile(), request.getLimit(), request.getMinConfidence(),
+            request.getPreferredTechs(), request.includesReasons(), request.includesReasonText(),
+            request.getFields());
+    }
+
+    /** The {@link #requestKey(JobMatchRequest) request key} of a simple endpoint request. */
+    public String simpleRequestKey(String userProfile) {
+        if (userProfile == null || userProfile.trim().isEmpty()) {
+            throw new IllegalArgumentException("User profile cannot be null or empty");
+        }
+        if (userProfile.length() > Constants.MAX_USER_PROFILE_LENGTH) {
+            throw new IllegalArgumentException("User profile cannot exceed " + Constants.MAX_USER_PROFILE_LENGTH + " characters");
+        }
+        return requestKey(userProfile,
+            appProperties.getMatching().getDefaultLimit(),
+            appProperties.getMatching().getDefaultMinConfidence(),
+            null, true, false, null);
+    }
+
+    private String requestKey(String userProfile, Integer limit, Double minConfidence,
+                              List<String> preferredTechs, boolean includeReasons,
+                              boolean includeReasonText, List<String> fields) {
+        if (userProfile == null || userProfile.trim().isEmpty()) {
+            throw new IllegalArgumentException("User profile cannot be null or empty");
+        }
+        StringBuilder key = new StringBuilder(ProfileAnalysisCache.keyOf(parameterNormalizer.normalizeUserProfile(userProfile)))
+            .append('\n').append(parameterNormalizer.normalizeLimit(limit))
+            .append('\n').append(parameterNormalizer.normalizeMinConfidence(minConfidence))
+            .append('\n').append(includeReasons).append(',').append(includeReasonText)
+            .append('\n').append(String.join(",", parameterNormalizer.normalizeFields(fields)));
+        if (preferredTechs != null) {
+            // The filter is the union of the techs, so their order does not matter
+            preferredTechs.stream()
+                .filter(Objects::nonNull)
+                .sorted()
+                .distinct()
+                .forEach(tech -> key.append('\n').append(tech));
+        }
+        return key.toString();
+    }
+
+    public MatchQuery prepareQuery(String userProfile, Integer limit, Double minConfidence) {
+        return prepareQuery(userProfile, limit, minConfidence, null, true, false, null, null, false);
+    }
+
+    private MatchQuery prepareQuery(String userProfile, Integer limit, Double minConfidence,
+                                    List<String> preferredTechs, boolean includeReasons,
+                                    boolean includeReasonText, List<String> fields,
+                                    Deadline deadline, boolean allowPartial) {
         if (userProfile == null || userProfile.trim().isEmpty()) {
             throw new IllegalArgumentException("User profile cannot be null or empty");
         }
 
+        MatchTimings timings = new MatchTimings();
+        long normalizationStart = System.nanoTime();
         String processedProfile = parameterNormalizer.normalizeUserProfile(userProfile);
         int normalizedLimit = parameterNormalizer.normalizeLimit(limit);
         double normalizedMinConfidence = parameterNormalizer.normalizeMinConfidence(minConfidence);
+        List<String> normalizedFields = parameterNormalizer.normalizeFields(fields);
+        timings.add(MatchTimings.Stage.NORMALIZATION, System.nanoTime() - normalizationStart);
+
+        try {
+            BsonArray userEmbedding;
+            boolean degraded = false;
+            try {
+                userEmbedding = embeddingCacheService.getCachedEmbedding(processedProfile, deadline, timings);
+            } catch (EmbeddingException e) {
+                if (!fallsBackToLexical(e)) {
+                    throw e;
+                }
+                userEmbedding = null;
+                degraded = true;
+            }
+            return buildQuery(processedProfile, userEmbedding, normalizedLimit, normalizedMinConfidence,
+                preferredTechs, includeReasons, includeReasonText, normalizedFields, deadline, allowPartial,
+                degraded, timings);
+        } catch (RuntimeException e) {
+            matchMetrics.record(timings, MatchMetrics.Outcome.of(e), 0);
+            throw e;
+        }
+    }
+
+    /**
+     * Whether a failed embedding lookup should be answered with a lexical query: only when the
+     * provider circuit is open, so individual provider errors still surface.
+     */
+    private boolean fallsBackToLexical(Throwable error) {
+        if (!appProperties.getMatching().isLexicalFallbackEnabled() || !EmbeddingCircuitBreaker.isUnavailable(error)) {
+            return false;
+        }
+        logger.debug("Embedding provider unavailable; using the lexical fallback");
+        return true;
+    }
+
+    /**
+     * Non-blocking variant of {@link #prepareQuery(JobMatchRequest)}. Parameters are validated
+     * before returning, so invalid requests still fail synchronously; the embedding is then
+     * computed with {@link EmbeddingCacheService#getCachedEmbeddingAsync(String)} and the
+     * query built when it arrives, without a thread waiting on the model.
+     */
+    public CompletableFuture<MatchQuery> prepareQueryAsync(JobMatchRequest request) {
+        return prepareQueryAsync(request, null);
+    }
+
+    /** {@link #prepareQueryAsync(JobMatchRequest)} with a request deadline, as in {@link #prepareQuery(JobMatchRequest, Deadline)}. */
+    public CompletableFuture<MatchQuery> prepareQueryAsync(JobMatchRequest request, Deadline deadline) {
+        if (request == null) {
+            throw new IllegalArgumentException("JobMatchRequest cannot be null");
+        }
+        String userProfile = request.getUserProfile();
+        if (userProfile == null || userProfile.trim().isEmpty()) {
+            throw new IllegalArgumentException("User profile cannot be null or empty");
+        }
+
+        MatchTimings timings = new MatchTimings();
+        long normalizationStart = System.nanoTime();
+        String processedProfile = parameterNormalizer.normalizeUserProfile(userProfile);
+        int normalizedLimit = parameterNormalizer.normalizeLimit(request.getLimit());
+        double normalizedMinConfidence = parameterNormalizer.normalizeMinConfidence(request.getMinConfidence());
+        List<String> normalizedFields = parameterNormalizer.normalizeFields(request.getFields());
+        timings.add(MatchTimings.Stage.NORMALIZATION, System.nanoTime() - normalizationStart);
 
-        BsonArray userEmbedding = embeddingCacheService.getCachedEmbedding(processedProfile);
-        if (userEmbedding == null) {
+        return embeddingCacheService.getCachedEmbeddingAsync(processedProfile, deadline, timings)
+            .handle((userEmbedding, error) -> {
+                boolean degraded = false;
+                if (error != null) {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                    if (!fallsBackToLexical(cause)) {
+                        matchMetrics.record(timings, MatchMetrics.Outcome.of(cause), 0);
+                        throw cause instanceof RuntimeException runtime ? runtime : new CompletionException(cause);
+                    }
+                    degraded = true;
+                }
+                try {
+                    return buildQuery(processedProfile, userEmbedding, normalizedLimit,
+                        normalizedMinConfidence, request.getPreferredTechs(), request.includesReasons(),
+                        request.includesReasonText(), normalizedFields, deadline,
+                        Boolean.TRUE.equals(request.getPartialResults()), degraded, timings);
+                } catch (RuntimeException e) {
+                    matchMetrics.record(timings, MatchMetrics.Outcome.ERROR, 0);
+                    throw e;
+                }
+            });
+    }
+
+    private MatchQuery buildQuery(String processedProfile, BsonArray userEmbedding, int normalizedLimit,
+                                  double normalizedMinConfidence, List<String> preferredTechs,
+                                  boolean includeReasons, boolean includeReasonText,
+                                  List<String> normalizedFields, Deadline deadline, boolean allowPartial,
+                                  boolean degraded, MatchTimings timings) {
+        if (userEmbedding == null && !degraded) {
             throw new JobMatchingException(ErrorCode.JOB_MATCHING_EMBEDDING_ERROR, "Failed to generate embedding for user profile");
         }
 
+        long buildStart = System.nanoTime();
+        String profileKey = ProfileAnalysisCache.keyOf(processedProfile);
+        ProfileAnalysis profileAnalysis = matchReasonGenerator.analyzeProfile(processedProfile);
+        // Cached even when reasons are skipped, so they can still be fetched per job via explainMatch
+        profileAnalysisCache.put(profileKey, profileAnalysis);
+        // Resolved against the same taxonomy snapshot as the profile, so ids line up
+        int[] techFilter = preferredTechs != null && !preferredTechs.isEmpty()
+            ? profileAnalysis.getTaxonomy().techIds(preferredTechs)
+            : null;
+
+        List<Document> pipeline = degraded
+            ? queryBuilder.buildLexicalPipeline(lexicalSearchText(processedProfile, profileAnalysis), normalizedLimit,
+                normalizedMinConfidence, techFilter, normalizedFields, includeReasons)
+            : queryBuilder.buildSearchPipeline(userEmbedding, normalizedLimit,
+                normalizedMinConfidence, techFilter, normalizedFields, includeReasons);
+        if (pipeline == null || pipeline.isEmpty()) {
+            throw new JobMatchingException(ErrorCode.JOB_MATCHING_FAILED, "Failed to build search pipeline");
+        }
+        timings.add(MatchTimings.Stage.PIPELINE_BUILD, System.nanoTime() - buildStart);
+
+        return new MatchQuery(processedProfile, profileKey, normalizedLimit, normalizedMinConfidence, pipeline,
+            profileAnalysis, includeReasons, includeReasonText, normalizedFields, deadline, allowPartial, degraded,
+            timings);
+    }
+
+    /**
+     * The terms a degraded query searches for: the distinct tokens of the profile. {@code $text}
+     * matches any of them and drops stop words, and the index only covers titles and techs, so
+     * the rest of the profile costs nothing.
+     */
+    private static String lexicalSearchText(String processedProfile, ProfileAnalysis profileAnalysis) {
+        return profileAnalysis.getTokens().isEmpty()
+            ? processedProfile
+            : String.join(" ", profileAnalysis.getTokens());
+    }
+
+    /**
+     * Runs a prepared query and hands each match to the consumer as soon as the aggregation
+     * cursor yields it, so callers can write results out without buffering the full list.
+     * <p>
+     * When the query has a deadline, the aggregation runs with the time left as its
+     * {@code maxTimeMS}, and the deadline is checked again before the reasons of each match
+     * are computed. Once it has passed, the query either stops with the matches delivered so
+     * far and is {@link MatchQuery#isPartial() marked partial}, or, if it does not allow
+     * partial results, fails with {@link ErrorCode#JOB_MATCHING_DEADLINE_EXCEEDED}.
+     * <p>
+     * The time spent waiting on the cursor, decoding and computing reasons is added to the
+     * query's {@link MatchTimings}, which are published once the query is done. Time spent in
+     * the consumer is not counted as any of these.
+     *
+     * @return the number of matches delivered to the consumer
+     */
+    public int streamMatches(MatchQuery query, Consumer<JobMatch> consumer) {
+        if (query == null) {
+            throw new IllegalArgumentException("MatchQuery cannot be null");
+        }
+        if (consumer == null) {
+            throw new IllegalArgumentException("Match consumer cannot be null");
+        }
+
+        Deadline deadline = query.getDeadline();
+        MatchTimings timings = query.getTimings();
+        int delivered = 0;
+        matchMetrics.searchStarted();
         try {
-            // Database and collection names are validated at startup by ConfigurationValidator
-            String databaseName = appProperties.getMongodb().getDatabaseName();
-            String collectionName = appProperties.getMongodb().getCollectionName();
-            
-            MongoDatabase database = mongoClient.getDatabase(databaseName);
-            if (database == null) {
-                throw new JobMatchingException(ErrorCode.JOB_MATCHING_DATABASE_ERROR, "Failed to access MongoDB database: " + databaseName);
+            AggregateIterable<JobMatch> results = matchCollection(timings).aggregate(query.getPipeline());
+            if (deadline != null) {
+                if (deadline.isExpired()) {
+                    stopAtDeadline(query, "search");
+                    recordMatches(query, 0);
+                    return 0;
+                }
+                // The server abandons the search as well, instead of finishing it for nobody
+                results = results.maxTime(deadline.remainingMillis(), TimeUnit.MILLISECONDS);
             }
-            
-            MongoCollection<Document> collection = database.getCollection(collectionName);
-            if (collection == null) {
-                throw new JobMatchingException(ErrorCode.JOB_MATCHING_DATABASE_ERROR, "Failed to access MongoDB collection: " + collectionName);
+
+            long searchStart = System.nanoTime();
+            long processingNanos = 0;
+            try (MongoCursor<JobMatch> cursor = results.cursor()) {
+                boolean first = true;
+                while (true) {
+                    JobMatch match = cursor.hasNext() ? cursor.next() : null;
+                    long received = System.nanoTime();
+                    if (first) {
+                        timings.add(MatchTimings.Stage.AGGREGATION_FIRST_DOCUMENT, received - searchStart);
+                        first = false;
+                    }
+                    if (match == null) {
+                        break;
+                    }
+                    try {
+                        // Checked before the reasons, the costliest step per match
+                        if (deadline != null && deadline.isExpired()) {
+                            stopAtDeadline(query, "match reason generation");
+                            break;
+                        }
+                        if (completeMatch(query, match)) {
+                            // Outside the per-document guard: a consumer failure (e.g. a client that
+                            // disconnected mid-stream) must abort the cursor, not be skipped over.
+                            consumer.accept(match);
+                            delivered++;
+                        }
+                    } finally {
+                        processingNanos += System.nanoTime() - received;
+                    }
+                }
+            } finally {
+                // Decoding happens inside the cursor calls; it is counted as mapping instead
+                long cursorNanos = System.nanoTime() - searchStart - processingNanos;
+                timings.add(MatchTimings.Stage.AGGREGATION,
+                    Math.max(0, cursorNanos - timings.getNanos(MatchTimings.Stage.MAPPING)));
             }
 
-            List<Document> pipeline = queryBuilder.buildSearchPipeline(userEmbedding, normalizedLimit, normalizedMinConfidence);
-            if (pipeline == null || pipeline.isEmpty()) {
-                throw new JobMatchingException(ErrorCode.JOB_MATCHING_FAILED, "Failed to build search pipeline");
+            recordMatches(query, delivered);
+            return delivered;
+        } catch (MongoExecutionTimeoutException e) {
+            if (deadline == null) {
+                throw failed(query, new JobMatchingException(ErrorCode.JOB_MATCHING_FAILED, "Failed to perform job matching", e));
             }
+            return searchTimedOut(query, delivered);
+        } catch (IllegalArgumentException | IllegalStateException | JobMatchingException | UncheckedIOException e) {
+            throw failed(query, e);
+        } catch (RuntimeException e) {
+            throw failed(query, new JobMatchingException(ErrorCode.JOB_MATCHING_FAILED, "Failed to perform job matching", e));
+        } finally {
+            matchMetrics.searchFinished();
+        }
+    }
 
-            List<JobMatch> matches = new ArrayList<>();
-            final String finalProcessedProfile = processedProfile;
-            collection.aggregate(pipeline)
-                .forEach(doc -> {
-                    if (doc == null) {
-                        logger.warn("Received null document from MongoDB aggregation");
+    /**
+     * Handles a search the server abandoned at its {@code maxTimeMS}, as {@link #stopAtDeadline}
+     * does, and publishes the query's timings.
+     */
+    private int searchTimedOut(MatchQuery query, int delivered) {
+        try {
+            stopAtDeadline(query, "search");
+        } catch (JobMatchingException e) {
+            throw failed(query, e);
+        }
+        recordMatches(query, delivered);
+        return delivered;
+    }
+
+    /** Publishes the timings of a query that delivered {@code delivered} matches. */
+    private void recordMatches(MatchQuery query, int delivered) {
+        matchMetrics.record(query.getTimings(),
+            query.isPartial() ? MatchMetrics.Outcome.PARTIAL : MatchMetrics.Outcome.SUCCESS, delivered);
+    }
+
+    /** Publishes the timings of a query that failed with {@code error}, and returns the error. */
+    private <E extends RuntimeException> E failed(MatchQuery query, E error) {
+        if (error instanceof MongoException || error.getCause() instanceof MongoException) {
+            query.getTimings().markDatabaseFailed();
+        }
+        matchMetrics.record(query.getTimings(), MatchMetrics.Outcome.of(error), 0);
+        return error;
+    }
+
+    /**
+     * Handles the query's deadline running out during {@code stage}: marks the query partial
+     * if it allows partial results, and throws the deadline error otherwise.
+     */
+    private static void stopAtDeadline(MatchQuery query, String stage) {
+        if (!query.isAllowPartial()) {
+            throw query.getDeadline().exceeded(stage);
+        }
+        logger.debug("Request deadline exceeded during {}; returning partial results", stage);
+        query.markPartial();
+    }
+
+    /**
+     * Runs a prepared query on the reactive driver. No thread is held while the aggregation
+     * runs: the matches are collected as the driver publishes them, and the returned future
+     * completes on a driver thread once the cursor is exhausted. A deadline is applied as in
+     * {@link #streamMatches}; on expiry the subscription is cancelled.
+     */
+    public CompletableFuture<List<JobMatch>> findMatchingJobsAsync(MatchQuery query) {
+        if (query == null) {
+            throw new IllegalArgumentException("MatchQuery cannot be null");
+        }
+
+        Deadline deadline = query.getDeadline();
+        MatchTimings timings = query.getTimings();
+        CompletableFuture<List<JobMatch>> result = new CompletableFuture<>();
+        matchMetrics.searchStarted();
+        result.whenComplete((matches, error) -> {
+            matchMetrics.searchFinished();
+            if (error != null) {
+                failed(query, error instanceof RuntimeException runtime ? runtime : new CompletionException(error));
+            } else {
+                recordMatches(query, matches.size());
+            }
+        });
+        try {
+            AggregatePublisher<JobMatch> results = reactiveMatchCollection(timings).aggregate(query.getPipeline());
+            if (deadline != null) {
+                if (deadline.isExpired()) {
+                    stopAtDeadline(query, "search");
+                    result.complete(List.of());
+                    return result;
+                }
+                results = results.maxTime(deadline.remainingMillis(), TimeUnit.MILLISECONDS);
+            }
+            long searchStart = System.nanoTime();
+            results.subscribe(new Subscriber<>() {
+                private final List<JobMatch> matches = new ArrayList<>(query.getLimit());
+                private Subscription subscription;
+                private boolean stopped;
+                private boolean first = true;
+                private long processingNanos;
+
+                @Override
+                public void onSubscribe(Subscription subscription) {
+                    this.subscription = subscription;
+                    // Bounded by the $limit stage, so there is nothing to gain from smaller demands
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(JobMatch match) {
+                    long received = System.nanoTime();
+                    firstDocument(received);
+                    if (stopped) {
                         return;
                     }
                     try {
-                        JobMatch match = new JobMatch();
-                        match.setJob(documentMapper.toPost(doc));
-                        Double score = doc.getDouble("score");
-                        match.setConfidence(score != null ? score : 0.0);
-                        match.setMatchReasons(matchReasonGenerator.generateMatchReasons(doc, finalProcessedProfile));
-                        matches.add(match);
-                    } catch (Exception e) {
-                        logger.warn("Failed to process document in job matching: {}", e.getMessage());
+                        if (deadline != null && deadline.isExpired()) {
+                            stopped = true;
+                            subscription.cancel();
+                            stop("match reason generation");
+                            return;
+                        }
+                        if (completeMatch(query, match)) {
+                            matches.add(match);
+                        }
+                    } finally {
+                        processingNanos += System.nanoTime() - received;
                     }
-                });
+                }
 
-            return matches;
-        } catch (IllegalArgumentException | IllegalStateException | JobMatchingException e) {
-            throw e;
+                @Override
+                public void onError(Throwable t) {
+                    searchDone();
+                    if (t instanceof MongoExecutionTimeoutException && deadline != null) {
+                        stop("search");
+                        return;
+                    }
+                    result.completeExceptionally(
+                        new JobMatchingException(ErrorCode.JOB_MATCHING_FAILED, "Failed to perform job matching", t));
+                }
+
+                @Override
+                public void onComplete() {
+                    searchDone();
+                    result.complete(matches);
+                }
+
+                private void firstDocument(long now) {
+                    if (first) {
+                        timings.add(MatchTimings.Stage.AGGREGATION_FIRST_DOCUMENT, now - searchStart);
+                        first = false;
+                    }
+                }
+
+                private void searchDone() {
+                    long now = System.nanoTime();
+                    firstDocument(now);
+                    // As in streamMatches: decoding counts as mapping, the matches' reasons as reasons
+                    timings.add(MatchTimings.Stage.AGGREGATION, Math.max(0,
+                        now - searchStart - processingNanos - timings.getNanos(MatchTimings.Stage.MAPPING)));
+                }
+
+                private void stop(String stage) {
+                    try {
+                        stopAtDeadline(query, stage);
+                        result.complete(matches);
+                    } catch (JobMatchingException e) {
+                        result.completeExceptionally(e);
+                    }
+                }
+            });
+        } catch (JobMatchingException e) {
+            // The deadline ran out before the search started, and partial results are off
+            result.completeExceptionally(e);
         } catch (RuntimeException e) {
-            throw new JobMatchingException(ErrorCode.JOB_MATCHING_FAILED, "Failed to perform job matching", e);
+            result.completeExceptionally(
+                new JobMatchingException(ErrorCode.JOB_MATCHING_FAILED, "Failed to perform job matching", e));
+        }
+        return result;
+    }
+
+    /**
+     * Adds the match reasons the query asked for. Returns {@code false} if the match should be
+     * skipped: a {@code null} document, or one whose reasons could not be computed.
+     */
+    private boolean completeMatch(MatchQuery query, JobMatch match) {
+        if (match == null) {
+            logger.warn("Received null document from MongoDB aggregation");
+            return false;
+        }
+        Post selected = match.getJob();
+        if (selected != null) {
+            selected.setFieldSelection(query.isFieldSelection());
+            if (selected.getSnippet() != null) {
+                selected.setSnippet(snippet(selected.getSnippet()));
+            }
+        }
+        if (!query.isIncludeReasons()) {
+            return true;
+        }
+        long start = System.nanoTime();
+        try {
+            Post job = match.getJob();
+            // A lexical score says nothing about semantic similarity, so it gets no SEMANTIC_* reason
+            double semanticScore = query.isDegraded() ? 0.0 : match.getConfidence();
+            List<MatchReason> reasons = matchReasonGenerator.generateMatchReasons(
+                job, semanticScore, query.getProfileAnalysis());
+            match.setMatchReasons(reasons);
+            if (query.isIncludeReasonText()) {
+                match.setMatchReasonText(MatchReasonRenderer.render(reasons, job.getRequiredTechs()));
+            }
+            clearReasonOnlyFields(job, query.getFields(), reasons);
+            return true;
+        } catch (Exception e) {
+            logger.warn("Failed to process document in job matching: {}", e.getMessage());
+            return false;
+        } finally {
+            query.getTimings().add(MatchTimings.Stage.REASONS, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Runs a prepared query in passthrough mode: results are shaped by the pipeline itself
+     * (see {@link VectorSearchQueryBuilder#buildPassthroughStage(List)}) and handed over as raw
+     * BSON, without being decoded or mapped. Match reasons are never computed here; clients
+     * that need them can use {@link #explainMatch} with the query's profile key.
+     *
+     * @return the number of documents delivered to the consumer
+     */
+    public int streamRawMatches(MatchQuery query, Consumer<RawBsonDocument> consumer) {
+        if (query == null) {
+            throw new IllegalArgumentException("MatchQuery cannot be null");
+        }
+        if (consumer == null) {
+            throw new IllegalArgumentException("Match consumer cannot be null");
+        }
+
+        List<Document> pipeline = new ArrayList<>(query.getPipeline().size() + 1);
+        pipeline.addAll(query.getPipeline());
+        pipeline.add(queryBuilder.buildPassthroughStage(query.getFields()));
+
+        Deadline deadline = query.getDeadline();
+        MatchTimings timings = query.getTimings();
+        boolean snippets = query.getFields().contains(PostDocumentConverter.SNIPPET_FIELD);
+        int[] delivered = {0};
+        matchMetrics.searchStarted();
+        try {
+            AggregateIterable<RawBsonDocument> results = jobCollection()
+                .withDocumentClass(RawBsonDocument.class)
+                .aggregate(pipeline);
+            if (deadline != null) {
+                if (deadline.isExpired()) {
+                    stopAtDeadline(query, "search");
+                    recordMatches(query, 0);
+                    return 0;
+                }
+                results = results.maxTime(deadline.remainingMillis(), TimeUnit.MILLISECONDS);
+            }
+            long searchStart = System.nanoTime();
+            long[] consumerNanos = {0};
+            boolean[] first = {true};
+            try {
+                results.forEach(document -> {
+                    long received = System.nanoTime();
+                    if (first[0]) {
+                        timings.add(MatchTimings.Stage.AGGREGATION_FIRST_DOCUMENT, received - searchStart);
+                        first[0] = false;
+                    }
+                    try {
+                        consumer.accept(snippets ? withSnippet(document) : document);
+                        delivered[0]++;
+                    } finally {
+                        consumerNanos[0] += System.nanoTime() - received;
+                    }
+                });
+            } finally {
+                long searchNanos = System.nanoTime() - searchStart;
+                if (first[0]) {
+                    timings.add(MatchTimings.Stage.AGGREGATION_FIRST_DOCUMENT, searchNanos);
+                }
+                // Raw documents are passed through undecoded, so there is no mapping stage
+                timings.add(MatchTimings.Stage.AGGREGATION, Math.max(0, searchNanos - consumerNanos[0]));
+            }
+            recordMatches(query, delivered[0]);
+            return delivered[0];
+        } catch (MongoExecutionTimeoutException e) {
+            if (deadline == null) {
+                throw failed(query, new JobMatchingException(ErrorCode.JOB_MATCHING_FAILED, "Failed to perform job matching", e));
+            }
+            return searchTimedOut(query, delivered[0]);
+        } catch (IllegalArgumentException | IllegalStateException | JobMatchingException | UncheckedIOException e) {
+            throw failed(query, e);
+        } catch (RuntimeException e) {
+            throw failed(query, new JobMatchingException(ErrorCode.JOB_MATCHING_FAILED, "Failed to perform job matching", e));
+        } finally {
+            matchMetrics.searchFinished();
+        }
+    }
+
+    /**
+     * Stored snippets come back unchanged; the description prefix projected for posts without
+     * one is cut the same way they were (see {@link TextPreprocessor#snippet}).
+     */
+    private String snippet(String text) {
+        return TextPreprocessor.snippet(text, appProperties.getMatching().getSnippetLength());
+    }
+
+    /**
+     * {@link #snippet(String)} for a passthrough document. Only documents whose snippet
+     * changes, those of posts without a stored one, are re-encoded.
+     */
+    private RawBsonDocument withSnippet(RawBsonDocument document) {
+        if (!(document.get("job") instanceof BsonDocument job)
+                || !(job.get(PostDocumentConverter.SNIPPET_FIELD) instanceof BsonString stored)) {
+            return document;
+        }
+        String normalized = snippet(stored.getValue());
+        if (normalized.equals(stored.getValue())) {
+            return document;
+        }
+        BsonDocument copy = document.decode(new BsonDocumentCodec());
+        copy.getDocument("job").put(PostDocumentConverter.SNIPPET_FIELD, new BsonString(normalized));
+        return new RawBsonDocument(copy, new BsonDocumentCodec());
+    }
+
+    /**
+     * Drops the {@link VectorSearchQueryBuilder#REASON_FIELDS} that were fetched only to compute
+     * reasons, so the response holds just the fields the request selected. {@code requiredTechs}
+     * is kept whenever a {@link ReasonCode#TECH_OVERLAP} reason points into it by position.
+     */
+    private static void clearReasonOnlyFields(Post job, List<String> fields, List<MatchReason> reasons) {
+        if (!fields.contains("jobTitle")) {
+            job.setJobTitle(null);
+        }
+        if (!fields.contains("experience")) {
+            job.setExperience(null);
+        }
+        if (!fields.contains("requiredTechs")
+                && reasons.stream().noneMatch(reason -> reason.getCode() == ReasonCode.TECH_OVERLAP)) {
+            job.setRequiredTechs(null);
+        }
+    }
+
+    /**
+     * Computes match reasons, as codes and rendered text, for one job against a profile
+     * analyzed by an earlier match request. The vector score is not recomputed; pass the
+     * confidence returned with the match to include the score-based reason.
+     */
+    public JobMatch explainMatch(String jobId, String profileKey, Double confidence) {
+        if (jobId == null || !ObjectId.isValid(jobId)) {
+            throw new IllegalArgumentException("Invalid job id: " + jobId);
+        }
+        if (confidence != null && (confidence < 0.0 || confidence > 1.0)) {
+            throw new IllegalArgumentException("Confidence must be between 0 and 1");
+        }
+
+        ProfileAnalysis profileAnalysis = profileAnalysisCache.get(profileKey);
+        if (profileAnalysis == null) {
+            throw new ResourceNotFoundException(ErrorCode.JOB_PROFILE_KEY_NOT_FOUND,
+                "Profile key is unknown or has expired; run a match request to obtain a new one");
+        }
+
+        Document doc;
+        try {
+            doc = jobCollection()
+                .find(Filters.eq("_id", new ObjectId(jobId)))
+                .projection(Projections.exclude(PostDocumentConverter.EMBEDDING_FIELD))
+                .first();
+        } catch (MongoException e) {
+            throw new JobMatchingException(ErrorCode.JOB_MATCHING_DATABASE_ERROR, "Failed to load job " + jobId, e);
+        }
+        if (doc == null) {
+            throw new ResourceNotFoundException(ErrorCode.JOB_NOT_FOUND, "Job not found: " + jobId);
+        }
+
+        if (confidence != null) {
+            doc.put("score", confidence);
+        } else {
+            doc.remove("score");
+        }
+        List<MatchReason> reasons = matchReasonGenerator.generateMatchReasons(doc, profileAnalysis);
+        JobMatch match = new JobMatch(documentMapper.toPost(doc), confidence != null ? confidence : 0.0, reasons);
+        match.setMatchReasonText(MatchReasonRenderer.render(reasons, doc.getList("requiredTechs", String.class)));
+        return match;
+    }
+
+    /**
+     * The job collection, decoding aggregation results straight into {@link JobMatch} with
+     * {@link JobMatchCodec} instead of going through {@link Document} and {@link DocumentMapper}.
+     * Decoding time is added to {@code timings} as {@link MatchTimings.Stage#MAPPING}.
+     */
+    private MongoCollection<JobMatch> matchCollection(MatchTimings timings) {
+        MongoCollection<Document> collection = jobCollection();
+        return collection
+            .withCodecRegistry(CodecRegistries.fromRegistries(
+                CodecRegistries.fromCodecs(timedCodec(timings)), collection.getCodecRegistry()))
+            .withDocumentClass(JobMatch.class);
+    }
+
+    /** {@link #matchCollection(MatchTimings)} on the reactive driver. */
+    private com.mongodb.reactivestreams.client.MongoCollection<JobMatch> reactiveMatchCollection(MatchTimings timings) {
+        com.mongodb.reactivestreams.client.MongoCollection<Document> collection = reactiveMongoClient
+            .getDatabase(appProperties.getMongodb().getDatabaseName())
+            .getCollection(appProperties.getMongodb().getCollectionName());
+        return collection
+            .withCodecRegistry(CodecRegistries.fromRegistries(
+                CodecRegistries.fromCodecs(timedCodec(timings)), collection.getCodecRegistry()))
+            .withDocumentClass(JobMatch.class);
+    }
+
+    /**
+     * {@link JobMatchCodec} timing each decode. The driver decodes a batch as it arrives,
+     * inside the cursor call, so this is the only place decoding can be told apart from
+     * waiting on the server.
+     */
+    private Codec<JobMatch> timedCodec(MatchTimings timings) {
+        return new Codec<>() {
+            @Override
+            public JobMatch decode(BsonReader reader, DecoderContext decoderContext) {
+                long start = System.nanoTime();
+                try {
+                    return jobMatchCodec.decode(reader, decoderContext);
+                } finally {
+                    timings.add(MatchTimings.Stage.MAPPING, System.nanoTime() - start);
+                }
+            }
+
+            @Override
+            public void encode(BsonWriter writer, JobMatch value, EncoderContext encoderContext) {
+                jobMatchCodec.encode(writer, value, encoderContext);
+            }
+
+            @Override
+            public Class<JobMatch> getEncoderClass() {
+                return jobMatchCodec.getEncoderClass();
+            }
+        };
+    }
+
+    private MongoCollection<Document> jobCollection() {
+        // Database and collection names are validated at startup by ConfigurationValidator
+        String databaseName = appProperties.getMongodb().getDatabaseName();
+        String collectionName = appProperties.getMongodb().getCollectionName();
+        
+        MongoDatabase database = mongoClient.getDatabase(databaseName);
+        if (database == null) {
+            throw new JobMatchingException(ErrorCode.JOB_MATCHING_DATABASE_ERROR, "Failed to access MongoDB database: " + databaseName);
+        }
+        
+        MongoCollection<Document> collection = database.getCollection(collectionName);
+        if (collection == null) {
+            throw new JobMatchingException(ErrorCode.JOB_MATCHING_DATABASE_ERROR, "Failed to access MongoDB collection: " + collectionName);
         }
+        return collection;
     }
 }
@@ -0,0 +1,184 @@
+package com.george.service;
+
+import com.george.exception.ErrorCode;
+import com.george.exception.JobMatchingException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Publishes the {@link MatchTimings} of finished match requests.
+ * <p>
+ * Every stage a request went through is recorded to {@code job.matching.stage.duration}, a
+ * histogram timer tagged with the {@code stage}, the request's {@code outcome} and whether
+ * its embedding was a {@code cache} hit, so percentiles can be compared per stage and split
+ * by the two things that move them most. The request, embedding and MongoDB counters are
+ * fed from the same timings.
+ */
+@Component
+public class MatchMetrics {
+
+    static final String STAGE_TIMER = "job.matching.stage.duration";
+
+    public enum Outcome {
+        SUCCESS("success"),
+        /** Stopped at the deadline with the matches found so far. */
+        PARTIAL("partial"),
+        DEADLINE_EXCEEDED("deadline_exceeded"),
+        ERROR("error");
+
+        private final String tag;
+
+        Outcome(String tag) {
+            this.tag = tag;
+        }
+
+        /** The outcome of a request that failed with {@code error}. */
+        public static Outcome of(Throwable error) {
+            return error instanceof JobMatchingException matchingException
+                && matchingException.getErrorCode() == ErrorCode.JOB_MATCHING_DEADLINE_EXCEEDED
+                ? DEADLINE_EXCEEDED
+                : ERROR;
+        }
+    }
+
+    private static final MatchTimings.Stage[] STAGES = MatchTimings.Stage.values();
+    private static final Outcome[] OUTCOMES = Outcome.values();
+    private static final String[] CACHE_TAGS = {"hit", "miss", "none"};
+
+    private final MeterRegistry registry;
+    // Registered on first use: most stage, outcome and cache combinations never occur
+    private final AtomicReferenceArray<Timer> stageTimers =
+        new AtomicReferenceArray<>(STAGES.length * OUTCOMES.length * CACHE_TAGS.length);
+    private final AtomicInteger activeOperations = new AtomicInteger();
+
+    private final Counter requests;
+    private final Counter errors;
+    private final Counter matchesFound;
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+    private final Counter embeddingGenerations;
+    private final Counter embeddingGenerationErrors;
+    private final Timer embeddingGenerationTimer;
+    private final Counter mongoOperations;
+    private final Counter mongoOperationErrors;
+    private final Timer mongoOperationTimer;
+
+    public MatchMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.requests = Counter.builder("job.matching.requests.total")
+                .description("Total number of job matching requests")
+                .register(registry);
+        this.errors = Counter.builder("job.matching.errors")
+                .description("Total number of job matching errors")
+                .register(registry);
+        this.matchesFound = Counter.builder("job.matching.matches.found")
+                .description("Total number of job matches found")
+                .tag("type", "total")
+                .register(registry);
+        this.cacheHits = Counter.builder("embeddings.cache.hits")
+                .description("Total number of embedding cache hits")
+                .register(registry);
+        this.cacheMisses = Counter.builder("embeddings.cache.misses")
+                .description("Total number of embedding cache misses")
+                .register(registry);
+        this.embeddingGenerations = Counter.builder("embeddings.generation.total")
+                .description("Total number of embedding generations")
+                .register(registry);
+        this.embeddingGenerationErrors = Counter.builder("embeddings.generation.errors")
+                .description("Total number of embedding generation errors")
+                .register(registry);
+        this.embeddingGenerationTimer = Timer.builder("embeddings.generation.duration")
+                .description("Time taken to generate embeddings")
+                .register(registry);
+        this.mongoOperations = Counter.builder("mongodb.operations.total")
+                .description("Total number of MongoDB operations")
+                .register(registry);
+        this.mongoOperationErrors = Counter.builder("mongodb.operations.errors")
+                .description("Total number of MongoDB operation errors")
+                .register(registry);
+        this.mongoOperationTimer = Timer.builder("mongodb.operations.duration")
+                .description("Time taken for MongoDB operations")
+                .register(registry);
+        Gauge.builder("job.matching.operations.active", activeOperations, AtomicInteger::get)
+                .description("Number of active job matching operations")
+                .register(registry);
+    }
+
+    /** Counts a query whose search has started; must be paired with {@link #searchFinished()}. */
+    public void searchStarted() {
+        activeOperations.incrementAndGet();
+    }
+
+    public void searchFinished() {
+        activeOperations.decrementAndGet();
+    }
+
+    /**
+     * Records a finished request. Only the first call for a given {@link MatchTimings} counts,
+     * so every path that ends a request may call this without checking the others.
+     *
+     * @param matches the number of matches delivered
+     */
+    public void record(MatchTimings timings, Outcome outcome, int matches) {
+        if (timings == null || !timings.markPublished()) {
+            return;
+        }
+
+        requests.increment();
+        if (outcome == Outcome.ERROR) {
+            errors.increment();
+        }
+        matchesFound.increment(matches);
+
+        Boolean cacheHit = timings.getCacheHit();
+        if (cacheHit != null) {
+            (cacheHit ? cacheHits : cacheMisses).increment();
+        }
+        if (timings.isRecorded(MatchTimings.Stage.PROVIDER_CALL)) {
+            embeddingGenerations.increment();
+            embeddingGenerationTimer.record(timings.getNanos(MatchTimings.Stage.PROVIDER_CALL), TimeUnit.NANOSECONDS);
+            if (timings.isProviderFailed()) {
+                embeddingGenerationErrors.increment();
+            }
+        }
+        if (timings.isRecorded(MatchTimings.Stage.AGGREGATION)) {
+            mongoOperations.increment();
+            mongoOperationTimer.record(timings.getNanos(MatchTimings.Stage.AGGREGATION)
+                + timings.getNanos(MatchTimings.Stage.MAPPING), TimeUnit.NANOSECONDS);
+            if (timings.isDatabaseFailed()) {
+                mongoOperationErrors.increment();
+            }
+        }
+
+        int cache = cacheHit == null ? 2 : cacheHit ? 0 : 1;
+        for (MatchTimings.Stage stage : STAGES) {
+            if (timings.isRecorded(stage)) {
+                stageTimer(stage, outcome, cache).record(timings.getNanos(stage), TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private Timer stageTimer(MatchTimings.Stage stage, Outcome outcome, int cache) {
+        int index = (stage.ordinal() * OUTCOMES.length + outcome.ordinal()) * CACHE_TAGS.length + cache;
+        Timer timer = stageTimers.get(index);
+        if (timer == null) {
+            // Registering twice returns the same meter, so a race here is harmless
+            timer = Timer.builder(STAGE_TIMER)
+                    .description("Time spent in each stage of a job matching request")
+                    .tag("stage", stage.tag())
+                    .tag("outcome", outcome.tag)
+                    .tag("cache", CACHE_TAGS[cache])
+                    .publishPercentileHistogram()
+                    .register(registry);
+            stageTimers.set(index, timer);
+        }
+        return timer;
+    }
+}
@@ -0,0 +1,146 @@
+package com.george.service;
+
+import com.george.util.Deadline;
+import com.george.util.ProfileAnalysis;
+import org.bson.Document;
+
+import java.util.List;
+
+/**
+ * A fully prepared job matching query: the user profile has been normalized, its
+ * embedding resolved and the aggregation pipeline built. Preparing a query up front
+ * lets callers surface validation and embedding errors before any response bytes are
+ * written, and then stream the results separately.
+ */
+public class MatchQuery {
+
+    private final String processedProfile;
+    private final String profileKey;
+    private final int limit;
+    private final double minConfidence;
+    private final List<Document> pipeline;
+    private final ProfileAnalysis profileAnalysis;
+    private final boolean includeReasons;
+    private final boolean includeReasonText;
+    private final List<String> fields;
+    private final Deadline deadline;
+    private final boolean allowPartial;
+    private final boolean degraded;
+    private final MatchTimings timings;
+    private volatile boolean partial;
+
+    public MatchQuery(String processedProfile, String profileKey, int limit, double minConfidence,
+                      List<Document> pipeline, ProfileAnalysis profileAnalysis, boolean includeReasons,
+                      boolean includeReasonText) {
+        this(processedProfile, profileKey, limit, minConfidence, pipeline, profileAnalysis, includeReasons,
+            includeReasonText, VectorSearchQueryBuilder.DEFAULT_FIELDS);
+    }
+
+    public MatchQuery(String processedProfile, String profileKey, int limit, double minConfidence,
+                      List<Document> pipeline, ProfileAnalysis profileAnalysis, boolean includeReasons,
+                      boolean includeReasonText, List<String> fields) {
+        this(processedProfile, profileKey, limit, minConfidence, pipeline, profileAnalysis, includeReasons,
+            includeReasonText, fields, null, false, false);
+    }
+
+    public MatchQuery(String processedProfile, String profileKey, int limit, double minConfidence,
+                      List<Document> pipeline, ProfileAnalysis profileAnalysis, boolean includeReasons,
+                      boolean includeReasonText, List<String> fields, Deadline deadline, boolean allowPartial,
+                      boolean degraded) {
+        this(processedProfile, profileKey, limit, minConfidence, pipeline, profileAnalysis, includeReasons,
+            includeReasonText, fields, deadline, allowPartial, degraded, new MatchTimings());
+    }
+
+    public MatchQuery(String processedProfile, String profileKey, int limit, double minConfidence,
+                      List<Document> pipeline, ProfileAnalysis profileAnalysis, boolean includeReasons,
+                      boolean includeReasonText, List<String> fields, Deadline deadline, boolean allowPartial,
+                      boolean degraded, MatchTimings timings) {
+        this.processedProfile = processedProfile;
+        this.profileKey = profileKey;
+        this.limit = limit;
+        this.minConfidence = minConfidence;
+        this.pipeline = pipeline;
+        this.profileAnalysis = profileAnalysis;
+        this.includeReasons = includeReasons;
+        this.includeReasonText = includeReasonText;
+        this.fields = fields;
+        this.deadline = deadline;
+        this.allowPartial = allowPartial;
+        this.degraded = degraded;
+        this.timings = timings;
+    }
+
+    public String getProcessedProfile() {
+        return processedProfile;
+    }
+
+    public String getProfileKey() {
+        return profileKey;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public double getMinConfidence() {
+        return minConfidence;
+    }
+
+    public List<Document> getPipeline() {
+        return pipeline;
+    }
+
+    public ProfileAnalysis getProfileAnalysis() {
+        return profileAnalysis;
+    }
+
+    public boolean isIncludeReasons() {
+        return includeReasons;
+    }
+
+    public boolean isIncludeReasonText() {
+        return includeReasonText;
+    }
+
+    /** The job fields selected for the response, from {@link VectorSearchQueryBuilder#JOB_FIELDS}. */
+    public List<String> getFields() {
+        return fields;
+    }
+
+    /** Whether the request selected fields other than the default ones. */
+    public boolean isFieldSelection() {
+        return fields != null && !fields.equals(VectorSearchQueryBuilder.DEFAULT_FIELDS);
+    }
+
+    /** The time by which the request must be answered, or {@code null} if it has none. */
+    public Deadline getDeadline() {
+        return deadline;
+    }
+
+    /** Whether the matches found so far may be returned when the deadline runs out. */
+    public boolean isAllowPartial() {
+        return allowPartial;
+    }
+
+    /**
+     * Whether the query is a lexical search, prepared because the embedding provider was
+     * unavailable; its results are ranked by text relevance rather than semantic similarity.
+     */
+    public boolean isDegraded() {
+        return degraded;
+    }
+
+    /** The time spent in each stage so far, starting with the query's preparation. */
+    public MatchTimings getTimings() {
+        return timings;
+    }
+
+    /** Whether running the query stopped at the deadline, so its results are incomplete. */
+    public boolean isPartial() {
+        return partial;
+    }
+
+    void markPartial() {
+        this.partial = true;
+    }
+}
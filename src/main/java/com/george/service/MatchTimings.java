@@ -0,0 +1,105 @@
+package com.george.service;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Where the time of one match request went, stage by stage. A query collects its timings as
+ * it is prepared and run, and {@link MatchMetrics} publishes them once it is done.
+ * <p>
+ * Stages are added to, not set: a stage that runs once per match, such as the reasons, sums
+ * up over the whole request. Parts of a request may run on driver or HTTP client threads, so
+ * every field is safe to update from any thread.
+ */
+public final class MatchTimings {
+
+    public enum Stage {
+        /** Validating and normalizing the request parameters. */
+        NORMALIZATION("normalization"),
+        /** Looking the profile embedding up in the cache. */
+        CACHE_LOOKUP("cache_lookup"),
+        /** Computing the embedding on a cache miss, including the wait for a provider slot. */
+        PROVIDER_CALL("provider_call"),
+        /** Analyzing the profile and building the aggregation pipeline. */
+        PIPELINE_BUILD("pipeline_build"),
+        /** From sending the aggregation until the first result, or the end of an empty one, arrived. */
+        AGGREGATION_FIRST_DOCUMENT("aggregation_first_doc"),
+        /** Waiting on the aggregation cursor, excluding the time spent on each result. */
+        AGGREGATION("aggregation"),
+        /** Decoding the results into {@link com.george.model.JobMatch}. */
+        MAPPING("mapping"),
+        /** Generating and rendering match reasons. */
+        REASONS("reasons"),
+        /** Writing the results to the response, where the endpoint writes them itself. */
+        SERIALIZATION("serialization");
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+
+        /** The stage's name in metric tags. */
+        public String tag() {
+            return tag;
+        }
+    }
+
+    private static final Stage[] STAGES = Stage.values();
+
+    private final AtomicLongArray nanos = new AtomicLongArray(STAGES.length);
+    private final AtomicInteger recordedStages = new AtomicInteger();
+    private final AtomicBoolean published = new AtomicBoolean();
+    private volatile Boolean cacheHit;
+    private volatile boolean providerFailed;
+    private volatile boolean databaseFailed;
+
+    public void add(Stage stage, long durationNanos) {
+        nanos.addAndGet(stage.ordinal(), durationNanos);
+        int bit = 1 << stage.ordinal();
+        if ((recordedStages.get() & bit) == 0) {
+            recordedStages.getAndUpdate(stages -> stages | bit);
+        }
+    }
+
+    /** Whether the request went through {@code stage} at all. */
+    public boolean isRecorded(Stage stage) {
+        return (recordedStages.get() & (1 << stage.ordinal())) != 0;
+    }
+
+    /** The total time spent in {@code stage}, in nanoseconds. */
+    public long getNanos(Stage stage) {
+        return nanos.get(stage.ordinal());
+    }
+
+    public void setCacheHit(boolean cacheHit) {
+        this.cacheHit = cacheHit;
+    }
+
+    /** Whether the embedding came from the cache, or {@code null} if it was never looked up. */
+    public Boolean getCacheHit() {
+        return cacheHit;
+    }
+
+    public void markProviderFailed() {
+        this.providerFailed = true;
+    }
+
+    public boolean isProviderFailed() {
+        return providerFailed;
+    }
+
+    public void markDatabaseFailed() {
+        this.databaseFailed = true;
+    }
+
+    public boolean isDatabaseFailed() {
+        return databaseFailed;
+    }
+
+    /** Claims the timings for publishing; {@code true} only for the first caller. */
+    boolean markPublished() {
+        return published.compareAndSet(false, true);
+    }
+}
@@ -5,6 +5,8 @@ import com.george.util.Constants;
 import com.george.util.TextPreprocessor;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class MatchingParameterNormalizer {
     
@@ -33,6 +35,29 @@ public class MatchingParameterNormalizer {
         return defaultLimit;
     }
     
+    /**
+     * Resolves the job fields a request selected into the canonical order of
+     * {@link VectorSearchQueryBuilder#JOB_FIELDS}, ignoring case and duplicates. No selection
+     * means {@link VectorSearchQueryBuilder#DEFAULT_FIELDS}.
+     *
+     * @throws IllegalArgumentException for a field name that is not selectable
+     */
+    public List<String> normalizeFields(List<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return VectorSearchQueryBuilder.DEFAULT_FIELDS;
+        }
+        for (String field : fields) {
+            boolean known = field != null && VectorSearchQueryBuilder.JOB_FIELDS.stream().anyMatch(field.trim()::equalsIgnoreCase);
+            if (!known) {
+                throw new IllegalArgumentException("Unknown field '" + field + "'. Selectable fields: "
+                    + String.join(", ", VectorSearchQueryBuilder.JOB_FIELDS));
+            }
+        }
+        return VectorSearchQueryBuilder.JOB_FIELDS.stream()
+            .filter(known -> fields.stream().anyMatch(field -> known.equalsIgnoreCase(field.trim())))
+            .toList();
+    }
+    
     public double normalizeMinConfidence(Double minConfidence) {
         double defaultMinConf = appProperties.getMatching().getDefaultMinConfidence();
         
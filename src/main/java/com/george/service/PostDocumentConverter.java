@@ -1,15 +1,36 @@
 package com.george.service;
 
+import com.george.config.AppProperties;
 import com.george.model.Post;
+import com.george.util.JobFeatureExtractor;
+import com.george.util.JobFeatures;
+import com.george.util.TextPreprocessor;
+import com.george.util.VectorEncoding;
+import org.bson.BsonArray;
 import org.bson.Document;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 @Component
 public class PostDocumentConverter {
     
+    /** Field holding the job description embedding, in the configured {@link VectorEncoding}. */
+    public static final String EMBEDDING_FIELD = "embedding";
+    
+    /** Field holding a short preview of the job description, for list views. */
+    public static final String SNIPPET_FIELD = "snippet";
+    
+    private final JobFeatureExtractor featureExtractor;
+    private final AppProperties appProperties;
+    
+    public PostDocumentConverter(JobFeatureExtractor featureExtractor, AppProperties appProperties) {
+        this.featureExtractor = featureExtractor;
+        this.appProperties = appProperties;
+    }
+    
     public Document toDocument(Post post) {
         List<String> techsList = post.getRequiredTechs() != null 
             ? new ArrayList<>(post.getRequiredTechs()) 
@@ -18,9 +39,18 @@ public class PostDocumentConverter {
         Document doc = new Document()
             .append("jobTitle", post.getJobTitle())
             .append("jobDescription", post.getJobDescription())
+            .append(SNIPPET_FIELD, TextPreprocessor.snippet(post.getJobDescription(),
+                appProperties.getMatching().getSnippetLength()))
             .append("experience", post.getExperience())
             .append("requiredTechs", techsList);
         
+        JobFeatures features = featureExtractor.extract(post.getJobTitle(), techsList, post.getExperience());
+        doc.append(JobFeatures.TECH_IDS_FIELD, toList(features.getTechIds()))
+            .append(JobFeatures.REQUIRED_TECH_IDS_FIELD, toList(features.getRequiredTechIds()))
+            .append(JobFeatures.TITLE_TOKENS_FIELD, features.getTitleTokens())
+            .append(JobFeatures.SENIORITY_FIELD, features.getSeniority().getLevel())
+            .append(JobFeatures.TAXONOMY_SIGNATURE_FIELD, features.getTaxonomySignature());
+        
         if (post.getCompany() != null) {
             doc.append("company", post.getCompany());
         }
@@ -42,5 +72,16 @@ public class PostDocumentConverter {
         
         return doc;
     }
+    
+    /**
+     * Adds the embedding to a converted document, encoded as configured by
+     * {@code app.mongodb.vector-encoding}.
+     */
+    public Document appendEmbedding(Document doc, BsonArray embedding) {
+        return doc.append(EMBEDDING_FIELD, appProperties.getMongodb().getVectorEncoding().encode(embedding));
+    }
+    
+    private static List<Integer> toList(int[] values) {
+        return Arrays.stream(values).boxed().toList();
+    }
 }
-
@@ -0,0 +1,60 @@
+package com.george.service;
+
+import com.george.util.ProfileAnalysis;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Keeps recent {@link ProfileAnalysis} results addressable by a short, opaque profile key, so
+ * match reasons can be computed later for a single job without the client resending its
+ * profile. The key is a hash of the normalized profile and is stable across requests.
+ */
+@Service
+public class ProfileAnalysisCache {
+
+    static final String CACHE_NAME = "profileAnalyses";
+    private static final int KEY_BYTES = 16;
+
+    private final Cache cache;
+
+    public ProfileAnalysisCache(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+        if (this.cache == null) {
+            throw new IllegalStateException("Cache '" + CACHE_NAME + "' is not configured");
+        }
+    }
+
+    public static String keyOf(String processedProfile) {
+        if (processedProfile == null) {
+            throw new IllegalArgumentException("Profile cannot be null");
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(processedProfile.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, KEY_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public void put(String profileKey, ProfileAnalysis analysis) {
+        cache.put(profileKey, analysis);
+    }
+
+    /**
+     * Returns the cached analysis, or null if the key is unknown or has been evicted.
+     */
+    public ProfileAnalysis get(String profileKey) {
+        if (profileKey == null || profileKey.isBlank()) {
+            return null;
+        }
+        return cache.get(profileKey, ProfileAnalysis.class);
+    }
+}
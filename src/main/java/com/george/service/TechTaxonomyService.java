@@ -0,0 +1,102 @@
+package com.george.service;
+
+import com.george.config.AppProperties;
+import com.george.model.TechTaxonomyEntry;
+import com.george.model.TechTaxonomyRepository;
+import com.george.util.TechTaxonomy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Owns the current {@link TechTaxonomy} snapshot shared by match reason generation,
+ * filtering and ingestion.
+ * <p>
+ * The taxonomy lives in the {@code TechTaxonomy} collection and is re-read periodically.
+ * Each reload compiles a fresh snapshot off to the side and publishes it with a single
+ * reference swap, so in-flight requests keep using the snapshot they started with. Until
+ * the first successful load, and whenever the collection is empty, the built-in defaults
+ * are used.
+ */
+@Service
+public class TechTaxonomyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TechTaxonomyService.class);
+
+    private final TechTaxonomyRepository repository;
+    private final AppProperties appProperties;
+    private final AtomicReference<TechTaxonomy> current = new AtomicReference<>(TechTaxonomy.defaults());
+
+    public TechTaxonomyService(TechTaxonomyRepository repository, AppProperties appProperties) {
+        this.repository = repository;
+        this.appProperties = appProperties;
+    }
+
+    public TechTaxonomy current() {
+        return current.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (appProperties.getTaxonomy().isSeedDefaults()) {
+            try {
+                if (repository.count() == 0) {
+                    repository.saveAll(TechTaxonomy.defaultEntries());
+                    logger.info("Seeded tech taxonomy with {} default entries", TechTaxonomy.defaultEntries().size());
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Failed to seed tech taxonomy, continuing with built-in defaults: {}", e.getMessage());
+            }
+        }
+        reload();
+    }
+
+    @Scheduled(
+        fixedDelayString = "${app.taxonomy.refresh-interval-ms:300000}",
+        initialDelayString = "${app.taxonomy.refresh-interval-ms:300000}")
+    public void scheduledReload() {
+        reload();
+    }
+
+    /**
+     * Reloads the taxonomy from the database and publishes it if it changed. A failed load
+     * keeps the previous snapshot in place.
+     */
+    public TechTaxonomy reload() {
+        TechTaxonomy previous = current.get();
+        List<TechTaxonomyEntry> entries;
+        try {
+            entries = new ArrayList<>(repository.findAll());
+        } catch (RuntimeException e) {
+            logger.warn("Failed to load tech taxonomy, keeping version {}: {}", previous.getVersion(), e.getMessage());
+            return previous;
+        }
+
+        if (entries.isEmpty()) {
+            logger.debug("Tech taxonomy collection is empty, keeping version {}", previous.getVersion());
+            return previous;
+        }
+
+        entries.sort(Comparator.comparingInt(TechTaxonomyEntry::getTechId));
+        TechTaxonomy next = TechTaxonomy.compile(entries, previous.getVersion() + 1);
+        if (next.getSignature() == previous.getSignature()) {
+            return previous;
+        }
+
+        if (!current.compareAndSet(previous, next)) {
+            // A concurrent reload already published a snapshot; it read the same or newer data
+            return current.get();
+        }
+        logger.info("Loaded tech taxonomy version {} with {} techs and {} terms",
+            next.getVersion(), next.size(), next.termCount());
+        return next;
+    }
+}
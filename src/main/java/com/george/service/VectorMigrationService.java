@@ -0,0 +1,113 @@
+package com.george.service;
+
+import com.george.config.AppProperties;
+import com.george.config.MongoConfig;
+import com.george.exception.EmbeddingException;
+import com.george.exception.ErrorCode;
+import com.george.util.VectorEncoding;
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import org.bson.BsonDocument;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rewrites embeddings stored as BSON arrays into the configured binary
+ * {@link VectorEncoding}. Only documents whose embedding is still an array are touched, so
+ * the migration can be interrupted and re-run safely. Re-encoding between binary formats is
+ * not supported because INT8 and PACKED_BIT do not keep the original values; regenerate the
+ * embeddings instead.
+ * <p>
+ * Runs on the ingestion MongoDB client, so it does not compete with matching for connections.
+ */
+@Service
+public class VectorMigrationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(VectorMigrationService.class);
+
+    private final MongoClient mongoClient;
+    private final AppProperties appProperties;
+    private final CatalogEpochService catalogEpochService;
+
+    public VectorMigrationService(@Qualifier(MongoConfig.INGESTION_MONGO_CLIENT) MongoClient mongoClient,
+                                  AppProperties appProperties,
+                                  CatalogEpochService catalogEpochService) {
+        this.mongoClient = mongoClient;
+        this.appProperties = appProperties;
+        this.catalogEpochService = catalogEpochService;
+    }
+
+    /**
+     * @return the number of documents whose embedding was rewritten
+     */
+    public long migrate() {
+        VectorEncoding encoding = appProperties.getMongodb().getVectorEncoding();
+        if (!encoding.isBinary()) {
+            throw new IllegalStateException(
+                "app.mongodb.vector-encoding is 'array'; set a binary encoding before migrating embeddings");
+        }
+        int batchSize = appProperties.getMongodb().getVectorMigrationBatchSize();
+        String field = PostDocumentConverter.EMBEDDING_FIELD;
+
+        MongoCollection<BsonDocument> collection = mongoClient
+            .getDatabase(appProperties.getMongodb().getDatabaseName())
+            .getCollection(appProperties.getMongodb().getCollectionName(), BsonDocument.class);
+
+        logger.info("Migrating array embeddings to {} in batches of {}", encoding, batchSize);
+        long migrated = 0;
+        List<WriteModel<BsonDocument>> batch = new ArrayList<>(batchSize);
+        try (MongoCursor<BsonDocument> cursor = collection
+                .find(Filters.type(field, BsonType.ARRAY))
+                .projection(Projections.include(field))
+                .batchSize(batchSize)
+                .iterator()) {
+            while (cursor.hasNext()) {
+                BsonDocument doc = cursor.next();
+                BsonValue embedding = encoding.encode(doc.getArray(field));
+                batch.add(new UpdateOneModel<>(
+                    Filters.eq("_id", doc.get("_id")), Updates.set(field, embedding)));
+                if (batch.size() == batchSize) {
+                    migrated += flush(collection, batch);
+                    logger.info("Migrated {} embeddings", migrated);
+                }
+            }
+            migrated += flush(collection, batch);
+        } catch (MongoException e) {
+            if (migrated > 0) {
+                catalogEpochService.bump();
+            }
+            throw new EmbeddingException(ErrorCode.EMBEDDING_MIGRATION_FAILED,
+                "Embedding migration failed after " + migrated + " documents", e);
+        }
+        logger.info("Embedding migration to {} complete: {} documents rewritten", encoding, migrated);
+        if (migrated > 0) {
+            // Scores change with the encoding, so results computed before are stale
+            catalogEpochService.bump();
+        }
+        return migrated;
+    }
+
+    private static long flush(MongoCollection<BsonDocument> collection, List<WriteModel<BsonDocument>> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        long modified = collection.bulkWrite(batch, new BulkWriteOptions().ordered(false)).getModifiedCount();
+        batch.clear();
+        return modified;
+    }
+}
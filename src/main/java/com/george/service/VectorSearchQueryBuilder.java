@@ -1,6 +1,8 @@
 package com.george.service;
 
 import com.george.config.AppProperties;
+import com.george.util.JobFeatures;
+import com.george.util.VectorEncoding;
 import org.bson.BsonArray;
 import org.bson.Document;
 import org.springframework.stereotype.Component;
@@ -11,49 +13,183 @@ import java.util.List;
 @Component
 public class VectorSearchQueryBuilder {
     
+    /** Job fields a request can select with {@code fields}, in the order they are projected. */
+    public static final List<String> JOB_FIELDS = List.of(
+        "jobTitle", "jobDescription", PostDocumentConverter.SNIPPET_FIELD, "experience", "requiredTechs",
+        "company", "location", "employmentType", "salaryMin", "salaryMax", "currency");
+    
+    /** Fields returned when a request does not select any: everything but the snippet. */
+    public static final List<String> DEFAULT_FIELDS = JOB_FIELDS.stream()
+        .filter(field -> !field.equals(PostDocumentConverter.SNIPPET_FIELD))
+        .toList();
+    
+    /** Job fields that match reasons are computed from, fetched whenever reasons are included. */
+    public static final List<String> REASON_FIELDS = List.of("jobTitle", "experience", "requiredTechs");
+    
+    /** Candidates scanned per requested result by {@code $vectorSearch}, which is approximate. */
+    private static final int NUM_CANDIDATES_PER_RESULT = 20;
+    
+    /** Name of the text index over job titles and techs that the lexical fallback searches. */
+    public static final String TEXT_INDEX_NAME = "jobTitle_requiredTechs_text";
+    
     private final AppProperties appProperties;
+    private final TechTaxonomyService techTaxonomyService;
     
-    public VectorSearchQueryBuilder(AppProperties appProperties) {
+    public VectorSearchQueryBuilder(AppProperties appProperties, TechTaxonomyService techTaxonomyService) {
         this.appProperties = appProperties;
+        this.techTaxonomyService = techTaxonomyService;
     }
     
     public List<Document> buildSearchPipeline(BsonArray userEmbedding, int limit, double minConfidence) {
+        return buildSearchPipeline(userEmbedding, limit, minConfidence, null);
+    }
+    
+    /**
+     * Builds the search pipeline, optionally keeping only posts that mention at least one of
+     * {@code techFilter} (taxonomy tech ids). The filter is applied to the kNN candidates, so a
+     * narrow filter can return fewer than {@code limit} matches. Posts ingested before
+     * features were extracted have no {@code techIds} and are kept, since there is nothing to
+     * filter them on; so are posts whose {@code techIds} were resolved against a different
+     * taxonomy than the current one, until the next ingestion run extracts them again.
+     */
+    public List<Document> buildSearchPipeline(BsonArray userEmbedding, int limit, double minConfidence,
+                                              int[] techFilter) {
+        return buildSearchPipeline(userEmbedding, limit, minConfidence, techFilter, DEFAULT_FIELDS, true);
+    }
+    
+    /**
+     * Builds the search pipeline projecting only {@code fields} (names from
+     * {@link #JOB_FIELDS}) plus the job id and score. When {@code includeReasons} is set, the
+     * {@link #REASON_FIELDS} and stored matching features are projected as well, since reasons
+     * are computed from them.
+     * <p>
+     * Posts ingested before snippets were stored get a prefix of the description from the
+     * database, so only that crosses the wire; the service turns it into a snippet.
+     */
+    public List<Document> buildSearchPipeline(BsonArray userEmbedding, int limit, double minConfidence,
+                                              int[] techFilter, List<String> fields, boolean includeReasons) {
         List<Document> pipeline = new ArrayList<>();
         
         String vectorIndexName = appProperties.getMongodb().getVectorIndexName();
+        VectorEncoding encoding = appProperties.getMongodb().getVectorEncoding();
         
-        Document searchStage = new Document("$search", new Document()
-            .append("index", vectorIndexName)
-            .append("knnBeta", new Document()
-                .append("vector", userEmbedding)
-                .append("path", "embedding")
-                .append("k", limit * 2)));
-        
-        pipeline.add(searchStage);
-        
-        Document projectStage = new Document("$project", new Document()
-            .append("jobTitle", 1)
-            .append("jobDescription", 1)
-            .append("experience", 1)
-            .append("requiredTechs", 1)
-            .append("company", 1)
-            .append("location", 1)
-            .append("employmentType", 1)
-            .append("salaryMin", 1)
-            .append("salaryMax", 1)
-            .append("currency", 1)
-            .append("score", new Document("$meta", "searchScore")));
-        
-        pipeline.add(projectStage);
-        
-        if (minConfidence > 0.0) {
-            pipeline.add(new Document("$match", 
-                new Document("score", new Document("$gte", minConfidence))));
+        String scoreMeta;
+        if (encoding.isBinary()) {
+            // Packed vectors need a vectorSearch index; the query vector must use the same encoding
+            pipeline.add(new Document("$vectorSearch", new Document()
+                .append("index", vectorIndexName)
+                .append("path", PostDocumentConverter.EMBEDDING_FIELD)
+                .append("queryVector", encoding.encode(userEmbedding))
+                .append("numCandidates", limit * NUM_CANDIDATES_PER_RESULT)
+                .append("limit", limit * 2)));
+            scoreMeta = "vectorSearchScore";
+        } else {
+            pipeline.add(new Document("$search", new Document()
+                .append("index", vectorIndexName)
+                .append("knnBeta", new Document()
+                    .append("vector", userEmbedding)
+                    .append("path", PostDocumentConverter.EMBEDDING_FIELD)
+                    .append("k", limit * 2))));
+            scoreMeta = "searchScore";
         }
         
+        pipeline.add(new Document("$project", buildProjection(fields, includeReasons, techFilter)
+            .append("score", new Document("$meta", scoreMeta))));
+        
+        appendFilters(pipeline, techFilter, minConfidence);
+        pipeline.add(new Document("$limit", limit));
+        
+        return pipeline;
+    }
+    
+    /**
+     * Builds the degraded-mode pipeline used while the embedding provider is unavailable: a
+     * {@code $text} search of {@code searchText} over the {@link #TEXT_INDEX_NAME} index of
+     * job titles and techs, with the same projection and filters as
+     * {@link #buildSearchPipeline(BsonArray, int, double, int[], List, boolean)}.
+     * <p>
+     * The text score is unbounded, so it is mapped to {@code score / (score + 1)} to give a
+     * confidence in {@code [0, 1)}. It ranks results, but is not comparable to vector scores.
+     */
+    public List<Document> buildLexicalPipeline(String searchText, int limit, double minConfidence,
+                                               int[] techFilter, List<String> fields, boolean includeReasons) {
+        List<Document> pipeline = new ArrayList<>();
+        
+        pipeline.add(new Document("$match", new Document("$text", new Document("$search", searchText))));
+        Document textScore = new Document("$meta", "textScore");
+        pipeline.add(new Document("$project", buildProjection(fields, includeReasons, techFilter)
+            .append("score", new Document("$divide", List.of(textScore, new Document("$add", List.of(textScore, 1)))))));
+        appendFilters(pipeline, techFilter, minConfidence);
+        pipeline.add(new Document("$sort", new Document("score", -1)));
         pipeline.add(new Document("$limit", limit));
         
         return pipeline;
     }
+    
+    private Document buildProjection(List<String> fields, boolean includeReasons, int[] techFilter) {
+        Document projection = new Document();
+        for (String field : JOB_FIELDS) {
+            if (field.equals(PostDocumentConverter.SNIPPET_FIELD)) {
+                if (fields.contains(field)) {
+                    // Twice the snippet length, so enough is left to cut from once the service
+                    // has collapsed its whitespace like a stored snippet's
+                    projection.append(field, new Document("$ifNull", List.of("$" + field,
+                        new Document("$substrCP", List.of("$jobDescription", 0,
+                            2 * appProperties.getMatching().getSnippetLength())))));
+                }
+            } else if (fields.contains(field) || (includeReasons && REASON_FIELDS.contains(field))) {
+                projection.append(field, 1);
+            }
+        }
+        if (includeReasons) {
+            projection.append(JobFeatures.REQUIRED_TECH_IDS_FIELD, 1)
+                .append(JobFeatures.TITLE_TOKENS_FIELD, 1)
+                .append(JobFeatures.SENIORITY_FIELD, 1)
+                .append(JobFeatures.TAXONOMY_SIGNATURE_FIELD, 1);
+        }
+        if (includeReasons || (techFilter != null && techFilter.length > 0)) {
+            projection.append(JobFeatures.TECH_IDS_FIELD, 1)
+                .append(JobFeatures.TAXONOMY_SIGNATURE_FIELD, 1);
+        }
+        return projection;
+    }
+    
+    private void appendFilters(List<Document> pipeline, int[] techFilter, double minConfidence) {
+        if (techFilter != null && techFilter.length > 0) {
+            List<Integer> techIds = new ArrayList<>(techFilter.length);
+            for (int techId : techFilter) {
+                techIds.add(techId);
+            }
+            pipeline.add(new Document("$match", new Document("$or", List.of(
+                new Document(JobFeatures.TECH_IDS_FIELD, new Document("$in", techIds)),
+                new Document(JobFeatures.TECH_IDS_FIELD, new Document("$exists", false)),
+                new Document(JobFeatures.TAXONOMY_SIGNATURE_FIELD,
+                    new Document("$ne", techTaxonomyService.current().getSignature()))))));
+        }
+        
+        if (minConfidence > 0.0) {
+            pipeline.add(new Document("$match", 
+                new Document("score", new Document("$gte", minConfidence))));
+        }
+    }
+    
+    /**
+     * Final stage for passthrough responses, appended after {@link #buildSearchPipeline}. It
+     * reshapes each result into the JSON layout of a {@code JobMatch} without reasons, with the
+     * id as a string and the score as {@code confidence}, so the returned BSON can be written
+     * to the client as-is. Only {@code fields} are kept; fields missing from a post are left out
+     * rather than set to null.
+     */
+    public Document buildPassthroughStage(List<String> fields) {
+        Document job = new Document("id", new Document("$toString", "$_id"));
+        for (String field : JOB_FIELDS) {
+            if (fields.contains(field)) {
+                job.append(field, "$" + field);
+            }
+        }
+        return new Document("$project", new Document()
+            .append("_id", 0)
+            .append("job", job)
+            .append("confidence", "$score"));
+    }
 }
-
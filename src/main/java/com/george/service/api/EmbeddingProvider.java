@@ -2,10 +2,29 @@ package com.george.service.api;
 
 import org.bson.BsonArray;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 public interface EmbeddingProvider {
     List<BsonArray> getEmbeddings(List<String> texts);
     BsonArray getEmbedding(String text);
-}
 
+    /**
+     * Computes an embedding without blocking the caller. Implementations should use
+     * non-blocking I/O; this default only moves the blocking call to the common pool.
+     */
+    default CompletableFuture<BsonArray> getEmbeddingAsync(String text) {
+        return CompletableFuture.supplyAsync(() -> getEmbedding(text));
+    }
+
+    /**
+     * {@link #getEmbeddingAsync(String)} bounded by {@code timeout}, for callers working to a
+     * request deadline. Implementations should pass the timeout to the provider call itself so
+     * it is abandoned; this default only stops waiting for it.
+     */
+    default CompletableFuture<BsonArray> getEmbeddingAsync(String text, Duration timeout) {
+        return getEmbeddingAsync(text).orTimeout(Math.max(1, timeout.toMillis()), TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,149 @@
+package com.george.service.embedding;
+
+import com.george.config.AppProperties;
+import com.george.exception.EmbeddingException;
+import com.george.exception.ErrorCode;
+import com.george.util.CircuitBreaker;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Guards the embedding provider calls made for match requests with a {@link CircuitBreaker}.
+ * <p>
+ * Callers first {@link #acquire()} a permission, before waiting for a scheduler slot, so
+ * requests fail fast while the provider is down instead of queueing behind calls that are
+ * bound to fail. The provider call itself then runs through {@link #call} or
+ * {@link #callAsync}, which time it and feed the outcome to the breaker. A call cut short by
+ * its request deadline says nothing about the provider, unless it had already run for longer
+ * than the slow-call threshold, so it is not counted.
+ */
+@Service
+public class EmbeddingCircuitBreaker {
+
+    private final CircuitBreaker breaker;
+
+    @Autowired
+    public EmbeddingCircuitBreaker(AppProperties appProperties, MeterRegistry registry) {
+        this(create(appProperties.getEmbeddings().getCircuitBreaker()));
+        if (breaker != null) {
+            Gauge.builder("embeddings.circuit.state", breaker, circuit -> circuit.getState().ordinal())
+                .description("Embedding provider circuit state: 0 closed, 1 open, 2 half-open")
+                .register(registry);
+            FunctionCounter.builder("embeddings.circuit.rejected", breaker, CircuitBreaker::getRejected)
+                .description("Embedding calls rejected because the provider circuit was open")
+                .register(registry);
+        }
+    }
+
+    /** @param breaker the breaker to use, or {@code null} to let every call through */
+    public EmbeddingCircuitBreaker(CircuitBreaker breaker) {
+        this.breaker = breaker;
+    }
+
+    private static CircuitBreaker create(AppProperties.Embeddings.CircuitBreaker properties) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        return new CircuitBreaker(properties.getWindowSize(), properties.getMinimumCalls(),
+            properties.getFailureRateThreshold(), Duration.ofMillis(properties.getSlowCallThresholdMs()),
+            Duration.ofMillis(properties.getOpenDurationMs()));
+    }
+
+    /**
+     * Takes a permission for one provider call, which must then be made with {@link #call},
+     * {@link #callAsync} or given back with {@link #release()}.
+     *
+     * @throws EmbeddingException with {@link ErrorCode#EMBEDDING_PROVIDER_UNAVAILABLE} while
+     *         the circuit is open
+     */
+    public void acquire() {
+        if (breaker != null && !breaker.tryAcquirePermission()) {
+            throw unavailable();
+        }
+    }
+
+    /** Gives back a permission whose provider call was never made. */
+    public void release() {
+        if (breaker != null) {
+            breaker.onIgnored();
+        }
+    }
+
+    public <T> T call(Supplier<T> providerCall) {
+        if (breaker == null) {
+            return providerCall.get();
+        }
+        long start = System.nanoTime();
+        try {
+            T result = providerCall.get();
+            breaker.onSuccess(System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException e) {
+            recordFailure(e, System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    public <T> CompletableFuture<T> callAsync(Supplier<CompletableFuture<T>> providerCall) {
+        if (breaker == null) {
+            return providerCall.get();
+        }
+        long start = System.nanoTime();
+        CompletableFuture<T> call;
+        try {
+            call = providerCall.get();
+        } catch (RuntimeException e) {
+            recordFailure(e, System.nanoTime() - start);
+            throw e;
+        }
+        return call.whenComplete((result, error) -> {
+            if (error == null) {
+                breaker.onSuccess(System.nanoTime() - start);
+            } else {
+                recordFailure(error, System.nanoTime() - start);
+            }
+        });
+    }
+
+    /** Whether match requests are currently being kept away from the provider. */
+    public boolean isOpen() {
+        return breaker != null && breaker.getState() == CircuitBreaker.State.OPEN;
+    }
+
+    private void recordFailure(Throwable error, long durationNanos) {
+        if (isTimeout(error) && !breaker.isSlow(durationNanos)) {
+            breaker.onIgnored();
+        } else {
+            breaker.onFailure();
+        }
+    }
+
+    private static boolean isTimeout(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException || cause instanceof HttpTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Whether {@code error} is the rejection {@link #acquire()} throws while the circuit is open. */
+    public static boolean isUnavailable(Throwable error) {
+        return error instanceof EmbeddingException embeddingException
+            && embeddingException.getErrorCode() == ErrorCode.EMBEDDING_PROVIDER_UNAVAILABLE;
+    }
+
+    private static EmbeddingException unavailable() {
+        return new EmbeddingException(ErrorCode.EMBEDDING_PROVIDER_UNAVAILABLE,
+            "Embedding provider circuit is open after repeated failures or slow responses");
+    }
+}
@@ -0,0 +1,208 @@
+package com.george.service.embedding;
+
+import com.george.config.AppProperties;
+import com.george.exception.EmbeddingException;
+import com.george.exception.ErrorCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Shares the embedding provider's capacity between interactive requests and ingestion.
+ * <p>
+ * At most {@code app.embeddings.max-concurrent-calls} provider calls run at once. Batch
+ * (ingestion) calls may only use the slots beyond {@code reserved-interactive-calls}, so a
+ * re-embedding run can never take the capacity live matching needs. When a slot frees up,
+ * waiting interactive calls are always served before waiting batch calls.
+ * <p>
+ * Slots are handed out as futures, so the async match path can wait for one without blocking
+ * a thread; blocking callers simply join. At most {@code max-waiting-calls} calls of each
+ * priority wait at once; beyond that a call is rejected with {@code EMB_005} instead of
+ * queueing without bound. Cancelling the future of a waiting async call withdraws it, and a
+ * freed slot is never handed to a waiter that is already done.
+ */
+@Service
+public class EmbeddingScheduler {
+
+    public enum Priority {
+        INTERACTIVE,
+        BATCH
+    }
+
+    private final int maxConcurrentCalls;
+    private final int batchCallLimit;
+    private final int maxWaitingCalls;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Queue<CompletableFuture<Void>> interactiveWaiters = new ArrayDeque<>();
+    private final Queue<CompletableFuture<Void>> batchWaiters = new ArrayDeque<>();
+    private int inUse;
+
+    @Autowired
+    public EmbeddingScheduler(AppProperties appProperties, MeterRegistry registry) {
+        this(appProperties.getEmbeddings().getMaxConcurrentCalls(),
+            appProperties.getEmbeddings().getReservedInteractiveCalls(),
+            appProperties.getEmbeddings().getMaxWaitingCalls());
+        Gauge.builder("embeddings.scheduler.waiting", this, scheduler -> scheduler.waiting(Priority.INTERACTIVE))
+            .tag("priority", "interactive")
+            .description("Embedding calls waiting for a provider slot")
+            .register(registry);
+        Gauge.builder("embeddings.scheduler.waiting", this, scheduler -> scheduler.waiting(Priority.BATCH))
+            .tag("priority", "batch")
+            .description("Embedding calls waiting for a provider slot")
+            .register(registry);
+        Gauge.builder("embeddings.scheduler.active", this, EmbeddingScheduler::active)
+            .description("Embedding provider calls in progress")
+            .register(registry);
+    }
+
+    public EmbeddingScheduler(int maxConcurrentCalls, int reservedInteractiveCalls) {
+        this(maxConcurrentCalls, reservedInteractiveCalls, Integer.MAX_VALUE);
+    }
+
+    public EmbeddingScheduler(int maxConcurrentCalls, int reservedInteractiveCalls, int maxWaitingCalls) {
+        if (maxConcurrentCalls <= 0 || reservedInteractiveCalls < 0 || reservedInteractiveCalls >= maxConcurrentCalls) {
+            throw new IllegalArgumentException("Need 0 <= reservedInteractiveCalls < maxConcurrentCalls");
+        }
+        if (maxWaitingCalls < 0) {
+            throw new IllegalArgumentException("maxWaitingCalls must not be negative");
+        }
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.batchCallLimit = maxConcurrentCalls - reservedInteractiveCalls;
+        this.maxWaitingCalls = maxWaitingCalls;
+    }
+
+    /**
+     * Runs a blocking provider call once a slot of the given priority is free.
+     *
+     * @throws EmbeddingException with {@link ErrorCode#EMBEDDING_INGESTION_BUSY} if too many
+     *         calls of that priority are already waiting
+     */
+    public <T> T call(Priority priority, Supplier<T> providerCall) {
+        acquire(priority).join();
+        try {
+            return providerCall.get();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Starts an asynchronous provider call once a slot of the given priority is free. The
+     * slot is held until the call's future completes. Cancelling the returned future before
+     * the call has started gives up its place in the queue.
+     *
+     * @throws EmbeddingException with {@link ErrorCode#EMBEDDING_INGESTION_BUSY} if too many
+     *         calls of that priority are already waiting
+     */
+    public <T> CompletableFuture<T> callAsync(Priority priority, Supplier<CompletableFuture<T>> providerCall) {
+        CompletableFuture<Void> slot = acquire(priority);
+        CompletableFuture<T> result = slot.thenCompose(ignored -> {
+            CompletableFuture<T> call;
+            try {
+                call = providerCall.get();
+            } catch (RuntimeException e) {
+                release();
+                throw e;
+            }
+            return call.whenComplete((value, error) -> release());
+        });
+        if (!slot.isDone()) {
+            result.whenComplete((value, error) -> {
+                if (result.isCancelled()) {
+                    slot.cancel(false);
+                }
+            });
+        }
+        return result;
+    }
+
+    private CompletableFuture<Void> acquire(Priority priority) {
+        lock.lock();
+        try {
+            if (priority == Priority.INTERACTIVE ? inUse < maxConcurrentCalls
+                    : inUse < batchCallLimit && interactiveWaiters.isEmpty()) {
+                inUse++;
+                return CompletableFuture.completedFuture(null);
+            }
+            Queue<CompletableFuture<Void>> waiters = priority == Priority.INTERACTIVE ? interactiveWaiters : batchWaiters;
+            if (waiters.size() >= maxWaitingCalls) {
+                throw new EmbeddingException(ErrorCode.EMBEDDING_INGESTION_BUSY,
+                    "Too many embedding calls waiting for a provider slot");
+            }
+            CompletableFuture<Void> slot = new CompletableFuture<>();
+            waiters.add(slot);
+            slot.whenComplete((ignored, error) -> {
+                if (slot.isCancelled()) {
+                    withdraw(waiters, slot);
+                }
+            });
+            return slot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void withdraw(Queue<CompletableFuture<Void>> waiters, CompletableFuture<Void> slot) {
+        lock.lock();
+        try {
+            waiters.remove(slot);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release() {
+        CompletableFuture<Void> next;
+        do {
+            lock.lock();
+            try {
+                inUse--;
+                next = nextWaiter(interactiveWaiters);
+                if (next == null && inUse < batchCallLimit) {
+                    next = nextWaiter(batchWaiters);
+                }
+                if (next != null) {
+                    inUse++;
+                }
+            } finally {
+                lock.unlock();
+            }
+            // Outside the lock: completing runs the waiter's continuation on this thread. A
+            // waiter cancelled since it was polled hands the slot straight back.
+        } while (next != null && !next.complete(null));
+    }
+
+    private static CompletableFuture<Void> nextWaiter(Queue<CompletableFuture<Void>> waiters) {
+        CompletableFuture<Void> next = waiters.poll();
+        while (next != null && next.isDone()) {
+            next = waiters.poll();
+        }
+        return next;
+    }
+
+    int waiting(Priority priority) {
+        lock.lock();
+        try {
+            return (priority == Priority.INTERACTIVE ? interactiveWaiters : batchWaiters).size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int active() {
+        lock.lock();
+        try {
+            return inUse;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
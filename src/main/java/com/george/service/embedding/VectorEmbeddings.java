@@ -1,5 +1,8 @@
 package com.george.service.embedding;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.george.config.AppProperties;
 import com.george.service.api.EmbeddingProvider;
 import com.george.exception.EmbeddingException;
@@ -14,41 +17,68 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+
 import static java.time.Duration.ofSeconds;
 
 @Service
 public class VectorEmbeddings implements EmbeddingProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(VectorEmbeddings.class);
-    private static HuggingFaceEmbeddingModel embeddingModel;
+    
+    /** The feature-extraction endpoint the HuggingFace model client calls, for the async path. */
+    private static final String FEATURE_EXTRACTION_URL = "https://api-inference.huggingface.co/pipeline/feature-extraction/";
     
     private final AppProperties appProperties;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    // A lock rather than synchronized: a virtual thread blocked in a monitor pins its carrier
+    private final ReentrantLock modelLock = new ReentrantLock();
+    private volatile HuggingFaceEmbeddingModel embeddingModel;
 
-    public VectorEmbeddings(AppProperties appProperties) {
+    public VectorEmbeddings(AppProperties appProperties, ObjectMapper objectMapper) {
         this.appProperties = appProperties;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(ofSeconds(appProperties.getEmbeddings().getHuggingface().getTimeoutSeconds()))
+                .build();
     }
 
     private HuggingFaceEmbeddingModel getEmbeddingModel() {
-                if (embeddingModel == null) {
-                synchronized (VectorEmbeddings.class) {
-                if (embeddingModel == null) {
-                    // Access token and model ID are validated at startup by ConfigurationValidator
-                    String accessToken = appProperties.getEmbeddings().getHuggingface().getAccessToken();
-                    String modelId = appProperties.getEmbeddings().getHuggingface().getModelId();
-                    int timeout = appProperties.getEmbeddings().getHuggingface().getTimeoutSeconds();
-                    logger.info("Initializing HuggingFace embedding model: {}", modelId);
-                    embeddingModel = HuggingFaceEmbeddingModel.builder()
-                            .accessToken(accessToken)
-                            .modelId(modelId)
-                            .waitForModel(true)
-                            .timeout(ofSeconds(timeout))
-                            .build();
-                    logger.info("HuggingFace embedding model initialized successfully");
-                }
+        HuggingFaceEmbeddingModel model = embeddingModel;
+        if (model != null) {
+            return model;
+        }
+        modelLock.lock();
+        try {
+            if (embeddingModel == null) {
+                // Access token and model ID are validated at startup by ConfigurationValidator
+                String accessToken = appProperties.getEmbeddings().getHuggingface().getAccessToken();
+                String modelId = appProperties.getEmbeddings().getHuggingface().getModelId();
+                int timeout = appProperties.getEmbeddings().getHuggingface().getTimeoutSeconds();
+                logger.info("Initializing HuggingFace embedding model: {}", modelId);
+                embeddingModel = HuggingFaceEmbeddingModel.builder()
+                        .accessToken(accessToken)
+                        .modelId(modelId)
+                        .waitForModel(true)
+                        .timeout(ofSeconds(timeout))
+                        .build();
+                logger.info("HuggingFace embedding model initialized successfully");
             }
+            return embeddingModel;
+        } finally {
+            modelLock.unlock();
         }
-        return embeddingModel;
     }
 
     public List<BsonArray> getEmbeddings(List<String> texts) {
@@ -107,5 +137,78 @@ public class VectorEmbeddings implements EmbeddingProvider {
             throw new EmbeddingException(ErrorCode.EMBEDDING_PROVIDER_ERROR, "Failed to generate embedding", e);
         }
     }
-}
 
+    /**
+     * Calls the same feature-extraction endpoint as {@link #getEmbedding(String)}, with the
+     * JDK HTTP client's non-blocking {@code sendAsync}: no thread waits while the model
+     * responds. The vectors are the same as the blocking path's.
+     */
+    @Override
+    public CompletableFuture<BsonArray> getEmbeddingAsync(String text) {
+        return getEmbeddingAsync(text, null);
+    }
+
+    /**
+     * {@link #getEmbeddingAsync(String)} with the HTTP request timeout lowered to
+     * {@code timeout} when that is shorter than the configured one, so the call is abandoned
+     * once the request it serves has run out of time.
+     */
+    @Override
+    public CompletableFuture<BsonArray> getEmbeddingAsync(String text, Duration timeout) {
+        if (text == null || text.trim().isEmpty()) {
+            throw new IllegalArgumentException("Text cannot be null or empty");
+        }
+        
+        AppProperties.Embeddings.Huggingface huggingface = appProperties.getEmbeddings().getHuggingface();
+        Duration requestTimeout = ofSeconds(huggingface.getTimeoutSeconds());
+        if (timeout != null && timeout.compareTo(requestTimeout) < 0) {
+            requestTimeout = timeout.isZero() || timeout.isNegative() ? Duration.ofMillis(1) : timeout;
+        }
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(URI.create(FEATURE_EXTRACTION_URL + huggingface.getModelId()))
+                    .timeout(requestTimeout)
+                    .header("Authorization", "Bearer " + huggingface.getAccessToken())
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(Map.of(
+                        "inputs", List.of(text),
+                        "options", Map.of("wait_for_model", true)))))
+                    .build();
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new EmbeddingException(ErrorCode.EMBEDDING_PROVIDER_ERROR, "Failed to build embedding request", e);
+        }
+        
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(this::parseEmbedding)
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof EmbeddingException embeddingException) {
+                        throw embeddingException;
+                    }
+                    throw new EmbeddingException(ErrorCode.EMBEDDING_PROVIDER_ERROR, "Failed to generate embedding", cause);
+                });
+    }
+
+    private BsonArray parseEmbedding(HttpResponse<byte[]> response) {
+        if (response.statusCode() != 200) {
+            throw new EmbeddingException(ErrorCode.EMBEDDING_PROVIDER_ERROR,
+                "Embedding model returned HTTP " + response.statusCode());
+        }
+        JsonNode vectors;
+        try {
+            vectors = objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            throw new EmbeddingException(ErrorCode.EMBEDDING_PROVIDER_ERROR, "Failed to parse embedding response", e);
+        }
+        // One vector per input; the request sends a single input
+        JsonNode vector = vectors.path(0);
+        if (!vector.isArray() || vector.isEmpty()) {
+            throw new EmbeddingException(ErrorCode.EMBEDDING_PROVIDER_ERROR, "Received null embedding vector");
+        }
+        BsonArray embedding = new BsonArray();
+        for (JsonNode value : vector) {
+            embedding.add(new BsonDouble(value.floatValue()));
+        }
+        return embedding;
+    }
+}
@@ -0,0 +1,253 @@
+package com.george.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable Aho-Corasick automaton over a fixed keyword set.
+ * <p>
+ * Scans text in a single pass regardless of how many keywords are registered, matching
+ * case-insensitively without lowercasing or copying the input. Keywords are identified by
+ * their position in the list passed to {@link #build(Collection)}. In whole-word mode an
+ * occurrence only counts when it is not glued to surrounding letters or digits, so "go"
+ * does not match inside "google". Instances are safe to share between threads.
+ */
+public final class AhoCorasickMatcher {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    private final String[] keywords;
+    private final boolean wholeWords;
+    // Per-node transitions, stored as sorted slices of edgeChars/edgeTargets
+    private final int[] edgeStart;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    private final int[] fail;
+    // Keyword ending at a node, and the nearest node on the fail chain that ends a keyword
+    private final int[] output;
+    private final int[] dictionaryLink;
+
+    private AhoCorasickMatcher(String[] keywords, boolean wholeWords, int[] edgeStart, char[] edgeChars,
+                               int[] edgeTargets, int[] fail, int[] output, int[] dictionaryLink) {
+        this.keywords = keywords;
+        this.wholeWords = wholeWords;
+        this.edgeStart = edgeStart;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.output = output;
+        this.dictionaryLink = dictionaryLink;
+    }
+
+    /**
+     * Compiles an automaton for the given keywords. Keywords are matched case-insensitively;
+     * blank entries are kept so ids stay aligned with the input but can never match.
+     */
+    public static AhoCorasickMatcher build(Collection<String> keywords) {
+        return build(keywords, false);
+    }
+
+    /**
+     * Compiles an automaton that, when {@code wholeWords} is set, only reports occurrences
+     * bounded by non-alphanumeric characters on each alphanumeric edge of the keyword.
+     */
+    public static AhoCorasickMatcher build(Collection<String> keywords, boolean wholeWords) {
+        if (keywords == null) {
+            throw new IllegalArgumentException("Keywords cannot be null");
+        }
+
+        String[] keywordArray = new String[keywords.size()];
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> terminal = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        terminal.add(NONE);
+
+        int id = 0;
+        for (String keyword : keywords) {
+            String normalized = keyword != null ? keyword.trim().toLowerCase() : "";
+            keywordArray[id] = normalized;
+            if (!normalized.isEmpty()) {
+                int node = ROOT;
+                for (int i = 0; i < normalized.length(); i++) {
+                    Integer next = trie.get(node).get(normalized.charAt(i));
+                    if (next == null) {
+                        next = trie.size();
+                        trie.add(new TreeMap<>());
+                        terminal.add(NONE);
+                        trie.get(node).put(normalized.charAt(i), next);
+                    }
+                    node = next;
+                }
+                if (terminal.get(node) == NONE) {
+                    terminal.set(node, id);
+                }
+            }
+            id++;
+        }
+
+        int nodeCount = trie.size();
+        int edgeCount = nodeCount - 1;
+        int[] edgeStart = new int[nodeCount + 1];
+        char[] edgeChars = new char[edgeCount];
+        int[] edgeTargets = new int[edgeCount];
+        int[] output = new int[nodeCount];
+
+        int edge = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            edgeStart[node] = edge;
+            for (Map.Entry<Character, Integer> transition : trie.get(node).entrySet()) {
+                edgeChars[edge] = transition.getKey();
+                edgeTargets[edge] = transition.getValue();
+                edge++;
+            }
+            output[node] = terminal.get(node);
+        }
+        edgeStart[nodeCount] = edge;
+
+        int[] fail = new int[nodeCount];
+        int[] dictionaryLink = new int[nodeCount];
+        dictionaryLink[ROOT] = NONE;
+
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(
+            keywordArray, wholeWords, edgeStart, edgeChars, edgeTargets, fail, output, dictionaryLink);
+
+        // Breadth-first so every fail target is final before its dependents are computed
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int e = edgeStart[ROOT]; e < edgeStart[ROOT + 1]; e++) {
+            int child = edgeTargets[e];
+            fail[child] = ROOT;
+            dictionaryLink[child] = NONE;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int e = edgeStart[node]; e < edgeStart[node + 1]; e++) {
+                int child = edgeTargets[e];
+                char c = edgeChars[e];
+                int f = fail[node];
+                int target = matcher.edge(f, c);
+                while (target == NONE && f != ROOT) {
+                    f = fail[f];
+                    target = matcher.edge(f, c);
+                }
+                fail[child] = target != NONE ? target : ROOT;
+                int failNode = fail[child];
+                dictionaryLink[child] = output[failNode] != NONE ? failNode : dictionaryLink[failNode];
+                queue.add(child);
+            }
+        }
+
+        return matcher;
+    }
+
+    public int size() {
+        return keywords.length;
+    }
+
+    public String keyword(int id) {
+        return keywords[id];
+    }
+
+    /**
+     * Reports every keyword occurrence in {@code text}, including overlapping ones.
+     * The listener receives the keyword id and the occurrence's [start, end) range.
+     */
+    public void forEachMatch(CharSequence text, MatchListener listener) {
+        if (text == null) {
+            return;
+        }
+        int node = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            node = step(node, Character.toLowerCase(text.charAt(i)));
+            for (int hit = output[node] != NONE ? node : dictionaryLink[node]; hit != NONE; hit = dictionaryLink[hit]) {
+                int keywordId = output[hit];
+                int start = i + 1 - keywords[keywordId].length();
+                if (isBounded(text, keywordId, start, i + 1)) {
+                    listener.onMatch(keywordId, start, i + 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the ids of all keywords occurring anywhere in {@code text}.
+     */
+    public BitSet findAll(CharSequence text) {
+        BitSet found = new BitSet(keywords.length);
+        forEachMatch(text, (keywordId, start, end) -> found.set(keywordId));
+        return found;
+    }
+
+    /**
+     * Returns true as soon as any keyword whose id is set in {@code candidates} occurs in {@code text}.
+     * Does not allocate.
+     */
+    public boolean containsAny(CharSequence text, BitSet candidates) {
+        if (text == null || candidates == null || candidates.isEmpty()) {
+            return false;
+        }
+        int node = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            node = step(node, Character.toLowerCase(text.charAt(i)));
+            for (int hit = output[node] != NONE ? node : dictionaryLink[node]; hit != NONE; hit = dictionaryLink[hit]) {
+                int keywordId = output[hit];
+                if (candidates.get(keywordId)
+                        && isBounded(text, keywordId, i + 1 - keywords[keywordId].length(), i + 1)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isBounded(CharSequence text, int keywordId, int start, int end) {
+        if (!wholeWords) {
+            return true;
+        }
+        String keyword = keywords[keywordId];
+        if (start > 0 && Character.isLetterOrDigit(keyword.charAt(0))
+                && Character.isLetterOrDigit(text.charAt(start - 1))) {
+            return false;
+        }
+        return end >= text.length() || !Character.isLetterOrDigit(keyword.charAt(keyword.length() - 1))
+                || !Character.isLetterOrDigit(text.charAt(end));
+    }
+
+    private int step(int node, char c) {
+        int next = edge(node, c);
+        while (next == NONE && node != ROOT) {
+            node = fail[node];
+            next = edge(node, c);
+        }
+        return next != NONE ? next : ROOT;
+    }
+
+    private int edge(int node, char c) {
+        int low = edgeStart[node];
+        int high = edgeStart[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midChar = edgeChars[mid];
+            if (midChar < c) {
+                low = mid + 1;
+            } else if (midChar > c) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return NONE;
+    }
+
+    @FunctionalInterface
+    public interface MatchListener {
+        void onMatch(int keywordId, int start, int end);
+    }
+}
@@ -0,0 +1,179 @@
+package com.george.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * A count-based circuit breaker that trips on failures and on slow calls.
+ * <p>
+ * The outcomes of the last {@code windowSize} calls are kept; a call is bad if it failed or
+ * took at least {@code slowCallThreshold}. Once at least {@code minimumCalls} have been seen
+ * and the share of bad ones reaches {@code failureRateThreshold}, the breaker opens and
+ * rejects calls for {@code openDuration}. It then lets a single probe call through: if that
+ * call is good the breaker closes with a fresh window, otherwise it opens again.
+ * <p>
+ * Every {@link #tryAcquirePermission()} that returns {@code true} must be followed by exactly
+ * one of {@link #onSuccess}, {@link #onFailure} or {@link #onIgnored}, so the probe slot is
+ * always handed back. Instances are safe to share between threads.
+ */
+public final class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+
+    // Calls are slow network round trips; a lock keeps the state machine simple and, unlike
+    // synchronized, does not pin virtual threads
+    private final ReentrantLock lock = new ReentrantLock();
+    private final boolean[] window;
+    private final LongAdder rejected = new LongAdder();
+    private int windowCalls;
+    private int windowBadCalls;
+    private int next;
+    private volatile State state = State.CLOSED;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+                          Duration slowCallThreshold, Duration openDuration) {
+        this(windowSize, minimumCalls, failureRateThreshold, slowCallThreshold, openDuration, System::nanoTime);
+    }
+
+    CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+                   Duration slowCallThreshold, Duration openDuration, LongSupplier nanoClock) {
+        if (minimumCalls <= 0 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException("Need 0 < minimumCalls <= windowSize");
+        }
+        if (failureRateThreshold <= 0.0 || failureRateThreshold > 1.0) {
+            throw new IllegalArgumentException("Failure rate threshold must be in (0, 1]");
+        }
+        if (slowCallThreshold.isNegative() || slowCallThreshold.isZero()
+                || openDuration.isNegative() || openDuration.isZero()) {
+            throw new IllegalArgumentException("Slow call threshold and open duration must be positive");
+        }
+        this.window = new boolean[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallNanos = slowCallThreshold.toNanos();
+        this.openNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /** Whether a call may go ahead now; rejected calls are counted. */
+    public boolean tryAcquirePermission() {
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                if (nanoClock.getAsLong() - openedAt < openNanos) {
+                    rejected.increment();
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probeInFlight = false;
+            }
+            if (state == State.HALF_OPEN) {
+                if (probeInFlight) {
+                    rejected.increment();
+                    return false;
+                }
+                probeInFlight = true;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Records a call that completed in {@code durationNanos}; it counts as bad if it was slow. */
+    public void onSuccess(long durationNanos) {
+        record(durationNanos >= slowCallNanos);
+    }
+
+    public void onFailure() {
+        record(true);
+    }
+
+    /** Hands back a permission without an outcome, e.g. for a call the caller abandoned. */
+    public void onIgnored() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                probeInFlight = false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Whether a call that ran for {@code durationNanos} is slow enough to count as bad. */
+    public boolean isSlow(long durationNanos) {
+        return durationNanos >= slowCallNanos;
+    }
+
+    private void record(boolean bad) {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                probeInFlight = false;
+                if (bad) {
+                    open();
+                } else {
+                    close();
+                }
+                return;
+            }
+            if (state == State.OPEN) {
+                // A call admitted before the breaker opened; the window no longer matters
+                return;
+            }
+            if (windowCalls == window.length) {
+                if (window[next]) {
+                    windowBadCalls--;
+                }
+            } else {
+                windowCalls++;
+            }
+            window[next] = bad;
+            if (bad) {
+                windowBadCalls++;
+            }
+            next = (next + 1) % window.length;
+            if (windowCalls >= minimumCalls && windowBadCalls >= failureRateThreshold * windowCalls) {
+                open();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoClock.getAsLong();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        windowCalls = 0;
+        windowBadCalls = 0;
+        next = 0;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /** The number of calls rejected since startup. */
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,58 @@
+package com.george.util;
+
+import com.george.exception.ErrorCode;
+import com.george.exception.JobMatchingException;
+
+import java.time.Duration;
+
+/**
+ * A point in time by which a request must be answered. It is created when the request
+ * arrives and handed to every stage that does work for it (embedding, search, reason
+ * generation), so each stage can bound its own wait by the time that is left and stop
+ * once the client is no longer waiting.
+ */
+public final class Deadline {
+
+    private final long expiresAtNanos;
+
+    private Deadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    public static Deadline after(Duration budget) {
+        if (budget == null || budget.isNegative() || budget.isZero()) {
+            throw new IllegalArgumentException("Deadline budget must be positive");
+        }
+        return new Deadline(System.nanoTime() + budget.toNanos());
+    }
+
+    public boolean isExpired() {
+        return System.nanoTime() - expiresAtNanos >= 0;
+    }
+
+    /** The time left, never negative. */
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, expiresAtNanos - System.nanoTime()));
+    }
+
+    /** The time left in whole milliseconds, at least 1 so it can be used as a timeout. */
+    public long remainingMillis() {
+        return Math.max(1, remaining().toMillis());
+    }
+
+    /**
+     * @throws JobMatchingException with {@link ErrorCode#JOB_MATCHING_DEADLINE_EXCEEDED} if
+     *         the deadline has passed
+     */
+    public void check(String stage) {
+        if (isExpired()) {
+            throw exceeded(stage);
+        }
+    }
+
+    /** The exception reporting that the deadline ran out during {@code stage}. */
+    public JobMatchingException exceeded(String stage) {
+        return new JobMatchingException(ErrorCode.JOB_MATCHING_DEADLINE_EXCEEDED,
+            "Request deadline exceeded during " + stage);
+    }
+}
@@ -5,6 +5,8 @@ import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class DocumentMapper {
     
@@ -22,6 +24,7 @@ public class DocumentMapper {
         
         post.setJobTitle(doc.getString("jobTitle"));
         post.setJobDescription(doc.getString("jobDescription"));
+        post.setSnippet(doc.getString("snippet"));
         post.setExperience(doc.getInteger("experience"));
         post.setRequiredTechs(doc.getList("requiredTechs", String.class));
         post.setCompany(doc.getString("company"));
@@ -30,8 +33,27 @@ public class DocumentMapper {
         post.setSalaryMin(doc.getDouble("salaryMin"));
         post.setSalaryMax(doc.getDouble("salaryMax"));
         post.setCurrency(doc.getString("currency"));
+        post.setTechIds(toIntArray(doc.getList(JobFeatures.TECH_IDS_FIELD, Integer.class)));
+        post.setRequiredTechIds(toIntArray(doc.getList(JobFeatures.REQUIRED_TECH_IDS_FIELD, Integer.class)));
+        post.setTitleTokens(doc.getList(JobFeatures.TITLE_TOKENS_FIELD, String.class));
+        post.setSeniority(doc.getInteger(JobFeatures.SENIORITY_FIELD));
+        post.setTaxonomySignature(doc.getLong(JobFeatures.TAXONOMY_SIGNATURE_FIELD));
         
         return post;
     }
+    
+    /**
+     * Unboxes a stored feature array. Returns null for documents ingested before the field existed.
+     */
+    static int[] toIntArray(List<Integer> values) {
+        if (values == null) {
+            return null;
+        }
+        int[] result = new int[values.size()];
+        for (int i = 0; i < result.length; i++) {
+            Integer value = values.get(i);
+            result[i] = value != null ? value : JobFeatures.UNRESOLVED_TECH;
+        }
+        return result;
+    }
 }
-
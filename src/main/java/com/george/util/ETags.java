@@ -0,0 +1,83 @@
+package com.george.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Builds strong entity tags and evaluates {@code If-None-Match} against them.
+ */
+public final class ETags {
+
+    private static final int TAG_BYTES = 18;
+
+    private ETags() {
+    }
+
+    /**
+     * A strong, quoted ETag derived from {@code parts}: the first {@value #TAG_BYTES} bytes of
+     * their SHA-256, base64url-encoded. Parts are separated before hashing, so
+     * {@code ("ab", "c")} and {@code ("a", "bc")} get different tags.
+     */
+    public static String strong(String... parts) {
+        MessageDigest digest = sha256();
+        for (String part : parts) {
+            digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return '"' + Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(Arrays.copyOf(digest.digest(), TAG_BYTES)) + '"';
+    }
+
+    /**
+     * Whether an {@code If-None-Match} header matches {@code etag}, meaning the client's copy
+     * is current. Comparison is weak, as the header requires: a {@code W/} prefix on either
+     * side is ignored. {@code *} matches any tag. A {@code null} tag never matches.
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        String expected = opaque(etag);
+        int i = 0;
+        int length = ifNoneMatch.length();
+        while (i < length) {
+            char c = ifNoneMatch.charAt(i);
+            if (c == ',' || Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '*') {
+                return true;
+            } else if (ifNoneMatch.startsWith("W/", i)) {
+                i += 2;
+            } else if (c == '"') {
+                int end = ifNoneMatch.indexOf('"', i + 1);
+                if (end < 0) {
+                    return false;
+                }
+                if (ifNoneMatch.regionMatches(i, expected, 0, expected.length()) && end + 1 - i == expected.length()) {
+                    return true;
+                }
+                i = end + 1;
+            } else {
+                // Unquoted garbage: skip to the next list element
+                int next = ifNoneMatch.indexOf(',', i);
+                i = next < 0 ? length : next + 1;
+            }
+        }
+        return false;
+    }
+
+    private static String opaque(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
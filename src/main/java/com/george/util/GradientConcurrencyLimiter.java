@@ -0,0 +1,141 @@
+package com.george.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An adaptive limit on concurrent requests, driven by observed latency (the gradient
+ * algorithm used by Netflix's concurrency-limits).
+ * <p>
+ * Two moving averages of request latency are kept: a short one over the last ~10 requests
+ * and a long one over the last ~600, which serves as the no-load baseline. While recent
+ * latency stays within {@code rttTolerance} of the baseline, the target limit is
+ * {@code limit + sqrt(limit)}. Once latency rises above it, for instance because the embedding
+ * model slowed down, the target shrinks in proportion to the excess, to as little as half the
+ * limit. Each sample moves the limit towards the target by {@code smoothing}, within
+ * {@code [minLimit, maxLimit]}.
+ * <p>
+ * Requests over the limit are rejected rather than queued, so admitted requests keep the
+ * latency the backend can sustain. Samples taken while fewer than half the permits are in
+ * use carry no information about the backend's capacity and are ignored, so an idle service
+ * does not grow its limit without bound. Instances are safe to share between threads.
+ */
+public final class GradientConcurrencyLimiter {
+
+    private static final double SHORT_WINDOW_ALPHA = 2.0 / (10 + 1);
+    private static final double LONG_WINDOW_ALPHA = 2.0 / (600 + 1);
+    private static final double MIN_GRADIENT = 0.5;
+    // When recent latency is this far below the baseline, the overload is over: let the
+    // baseline come down quickly instead of over hundreds of samples
+    private static final double BASELINE_RECOVERY_RATIO = 2.0;
+    private static final double BASELINE_RECOVERY_DECAY = 0.95;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    // Samples are rare relative to the work they measure; a lock keeps the update simple
+    // and, unlike synchronized, does not pin virtual threads
+    private final ReentrantLock sampleLock = new ReentrantLock();
+    private volatile double limit;
+    private double shortRtt;
+    private double longRtt;
+
+    public GradientConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      double rttTolerance, double smoothing) {
+        if (minLimit <= 0 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 0 < minLimit <= initialLimit <= maxLimit");
+        }
+        if (rttTolerance < 1.0) {
+            throw new IllegalArgumentException("RTT tolerance must be at least 1.0");
+        }
+        if (smoothing <= 0.0 || smoothing > 1.0) {
+            throw new IllegalArgumentException("Smoothing must be in (0, 1]");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.smoothing = smoothing;
+    }
+
+    /**
+     * Takes a permit if one is free.
+     *
+     * @return the number of requests in flight including this one, to be passed back to
+     *         {@link #release}, or {@code 0} if the request was rejected
+     */
+    public int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return 0;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * Returns a permit and feeds the request's latency into the limit.
+     *
+     * @param rttNanos        how long the request took, or a negative value to release
+     *                        without sampling (e.g. when the client went away)
+     * @param inFlightAtStart the value {@link #tryAcquire()} returned
+     */
+    public void release(long rttNanos, int inFlightAtStart) {
+        inFlight.decrementAndGet();
+        if (rttNanos < 0) {
+            return;
+        }
+        sampleLock.lock();
+        try {
+            sample(rttNanos, inFlightAtStart);
+        } finally {
+            sampleLock.unlock();
+        }
+    }
+
+    private void sample(long rttNanos, int inFlightAtStart) {
+        double rtt = Math.max(1, rttNanos);
+        if (longRtt == 0) {
+            shortRtt = rtt;
+            longRtt = rtt;
+        } else {
+            shortRtt += (rtt - shortRtt) * SHORT_WINDOW_ALPHA;
+            longRtt += (rtt - longRtt) * LONG_WINDOW_ALPHA;
+        }
+        if (longRtt / shortRtt > BASELINE_RECOVERY_RATIO) {
+            longRtt *= BASELINE_RECOVERY_DECAY;
+        }
+
+        double current = limit;
+        if (inFlightAtStart < current / 2) {
+            return;
+        }
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, rttTolerance * longRtt / shortRtt));
+        double target = current * gradient + Math.sqrt(current);
+        double next = current * (1 - smoothing) + target * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    /** The current limit: requests beyond this many in flight are rejected. */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /** The number of requests rejected since startup. */
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
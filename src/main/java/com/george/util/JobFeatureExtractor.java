@@ -0,0 +1,115 @@
+package com.george.util;
+
+import com.george.model.Post;
+import com.george.model.SeniorityLevel;
+import com.george.service.TechTaxonomyService;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Component
+public class JobFeatureExtractor {
+
+    private static final Map<String, SeniorityLevel> SENIORITY_TERMS = Map.ofEntries(
+        Map.entry("intern", SeniorityLevel.INTERN),
+        Map.entry("internship", SeniorityLevel.INTERN),
+        Map.entry("trainee", SeniorityLevel.INTERN),
+        Map.entry("junior", SeniorityLevel.JUNIOR),
+        Map.entry("jr", SeniorityLevel.JUNIOR),
+        Map.entry("graduate", SeniorityLevel.JUNIOR),
+        Map.entry("entry", SeniorityLevel.JUNIOR),
+        Map.entry("mid", SeniorityLevel.MID),
+        Map.entry("intermediate", SeniorityLevel.MID),
+        Map.entry("senior", SeniorityLevel.SENIOR),
+        Map.entry("sr", SeniorityLevel.SENIOR),
+        Map.entry("lead", SeniorityLevel.LEAD),
+        Map.entry("staff", SeniorityLevel.LEAD),
+        Map.entry("principal", SeniorityLevel.PRINCIPAL),
+        Map.entry("architect", SeniorityLevel.PRINCIPAL),
+        Map.entry("head", SeniorityLevel.PRINCIPAL),
+        Map.entry("director", SeniorityLevel.PRINCIPAL)
+    );
+
+    private static final int JUNIOR_MAX_YEARS = 1;
+    private static final int MID_MAX_YEARS = 4;
+
+    private final TechTaxonomyService techTaxonomyService;
+
+    public JobFeatureExtractor(TechTaxonomyService techTaxonomyService) {
+        this.techTaxonomyService = techTaxonomyService;
+    }
+
+    public JobFeatures extract(Post post) {
+        if (post == null) {
+            throw new IllegalArgumentException("Post cannot be null");
+        }
+        return extract(post.getJobTitle(), post.getRequiredTechs(), post.getExperience());
+    }
+
+    public JobFeatures extract(String jobTitle, List<String> requiredTechs, Integer experience) {
+        TechTaxonomy taxonomy = techTaxonomyService.current();
+        BitSet techIds = new BitSet();
+
+        int[] requiredTechIds = new int[requiredTechs != null ? requiredTechs.size() : 0];
+        for (int i = 0; i < requiredTechIds.length; i++) {
+            int[] ids = taxonomy.techIdsOfTerm(requiredTechs.get(i));
+            for (int id : ids) {
+                techIds.set(id);
+            }
+            requiredTechIds[i] = ids.length == 1 ? ids[0] : JobFeatures.UNRESOLVED_TECH;
+        }
+
+        Set<String> allTitleTokens = Set.of();
+        if (jobTitle != null) {
+            String titleLower = jobTitle.toLowerCase();
+            for (int id : taxonomy.techIds(titleLower)) {
+                techIds.set(id);
+            }
+            allTitleTokens = ProfileAnalysis.tokenize(titleLower);
+        }
+
+        Set<String> titleTokens = new TreeSet<>();
+        for (String token : allTitleTokens) {
+            if (token.length() >= JobFeatures.MIN_TITLE_TOKEN_LENGTH) {
+                titleTokens.add(token);
+            }
+        }
+        SeniorityLevel seniority = seniorityFromTerms(allTitleTokens);
+        if (seniority == SeniorityLevel.UNSPECIFIED) {
+            seniority = seniorityFromExperience(experience);
+        }
+
+        return new JobFeatures(techIds.stream().toArray(), requiredTechIds, new ArrayList<>(titleTokens), seniority,
+            taxonomy.getSignature());
+    }
+
+    /**
+     * Highest seniority named by any of the lowercase tokens, or {@code UNSPECIFIED}.
+     */
+    static SeniorityLevel seniorityFromTerms(Collection<String> tokens) {
+        SeniorityLevel seniority = SeniorityLevel.UNSPECIFIED;
+        for (String token : tokens) {
+            SeniorityLevel level = SENIORITY_TERMS.get(token);
+            if (level != null && level.getLevel() > seniority.getLevel()) {
+                seniority = level;
+            }
+        }
+        return seniority;
+    }
+
+    static SeniorityLevel seniorityFromExperience(Integer experience) {
+        if (experience == null) {
+            return SeniorityLevel.UNSPECIFIED;
+        }
+        if (experience <= JUNIOR_MAX_YEARS) {
+            return SeniorityLevel.JUNIOR;
+        }
+        return experience <= MID_MAX_YEARS ? SeniorityLevel.MID : SeniorityLevel.SENIOR;
+    }
+}
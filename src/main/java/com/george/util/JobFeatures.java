@@ -0,0 +1,76 @@
+package com.george.util;
+
+import com.george.model.SeniorityLevel;
+
+import java.util.List;
+
+/**
+ * Normalized matching features of a job post, computed once at ingestion and stored next to
+ * the post so that query-time reason generation and filtering only compare small int arrays
+ * and token sets.
+ */
+public final class JobFeatures {
+
+    public static final String TECH_IDS_FIELD = "techIds";
+    public static final String REQUIRED_TECH_IDS_FIELD = "requiredTechIds";
+    public static final String TITLE_TOKENS_FIELD = "titleTokens";
+    public static final String SENIORITY_FIELD = "seniority";
+    public static final String TAXONOMY_SIGNATURE_FIELD = "taxonomySignature";
+
+    /** Title terms shorter than this are too generic to signal relevance. */
+    public static final int MIN_TITLE_TOKEN_LENGTH = 4;
+
+    /** Placeholder in {@link #getRequiredTechIds()} for a tech that does not resolve to exactly one id. */
+    public static final int UNRESOLVED_TECH = 0;
+
+    private final int[] techIds;
+    private final int[] requiredTechIds;
+    private final List<String> titleTokens;
+    private final SeniorityLevel seniority;
+    private final long taxonomySignature;
+
+    JobFeatures(int[] techIds, int[] requiredTechIds, List<String> titleTokens, SeniorityLevel seniority,
+                long taxonomySignature) {
+        this.techIds = techIds;
+        this.requiredTechIds = requiredTechIds;
+        this.titleTokens = List.copyOf(titleTokens);
+        this.seniority = seniority;
+        this.taxonomySignature = taxonomySignature;
+    }
+
+    /**
+     * Sorted, distinct ids of every taxonomy tech mentioned by the post's required techs or title.
+     */
+    public int[] getTechIds() {
+        return techIds;
+    }
+
+    /**
+     * One id per entry of {@code requiredTechs}, in the same order, or {@link #UNRESOLVED_TECH}
+     * when the entry is unknown to the taxonomy or names several techs.
+     */
+    public int[] getRequiredTechIds() {
+        return requiredTechIds;
+    }
+
+    /**
+     * Sorted, distinct lowercase title tokens of at least {@link #MIN_TITLE_TOKEN_LENGTH} characters.
+     */
+    public List<String> getTitleTokens() {
+        return titleTokens;
+    }
+
+    public SeniorityLevel getSeniority() {
+        return seniority;
+    }
+
+    /**
+     * {@link TechTaxonomy#getSignature()} of the snapshot the tech ids were resolved against.
+     * Once the taxonomy has been reloaded with different entries the stored ids may be stale,
+     * and query time falls back to matching the post's text until the next ingestion run
+     * extracts them again.
+     */
+    public long getTaxonomySignature() {
+        return taxonomySignature;
+    }
+}
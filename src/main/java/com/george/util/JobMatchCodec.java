@@ -0,0 +1,210 @@
+package com.george.util;
+
+import com.george.model.JobMatch;
+import com.george.model.Post;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Decodes projected job search results straight from the BSON stream into {@link JobMatch}
+ * and {@link Post}, skipping the intermediate {@link org.bson.Document} map and the copy
+ * made by {@link DocumentMapper}.
+ * <p>
+ * Decoding is lenient in the same way as {@link DocumentMapper}: unknown fields and values
+ * of an unexpected type are skipped rather than failing the whole cursor. Match reasons
+ * depend on the caller's profile and are filled in after decoding.
+ */
+@Component
+public class JobMatchCodec implements Codec<JobMatch> {
+
+    private static final int[] EMPTY_INTS = new int[0];
+
+    @Override
+    public JobMatch decode(BsonReader reader, DecoderContext decoderContext) {
+        Post post = new Post();
+        double score = 0.0;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            BsonType type = reader.getCurrentBsonType();
+            switch (name) {
+                case "_id":
+                    if (type == BsonType.OBJECT_ID) {
+                        post.setId(reader.readObjectId().toHexString());
+                    } else if (type == BsonType.STRING) {
+                        post.setId(reader.readString());
+                    } else {
+                        reader.skipValue();
+                    }
+                    break;
+                case "jobTitle":
+                    post.setJobTitle(readString(reader, type));
+                    break;
+                case "jobDescription":
+                    post.setJobDescription(readString(reader, type));
+                    break;
+                case "snippet":
+                    post.setSnippet(readString(reader, type));
+                    break;
+                case "experience":
+                    post.setExperience(readInteger(reader, type));
+                    break;
+                case "requiredTechs":
+                    post.setRequiredTechs(readStrings(reader, type));
+                    break;
+                case "company":
+                    post.setCompany(readString(reader, type));
+                    break;
+                case "location":
+                    post.setLocation(readString(reader, type));
+                    break;
+                case "employmentType":
+                    post.setEmploymentType(readString(reader, type));
+                    break;
+                case "salaryMin":
+                    post.setSalaryMin(readDouble(reader, type));
+                    break;
+                case "salaryMax":
+                    post.setSalaryMax(readDouble(reader, type));
+                    break;
+                case "currency":
+                    post.setCurrency(readString(reader, type));
+                    break;
+                case JobFeatures.TECH_IDS_FIELD:
+                    post.setTechIds(readInts(reader, type));
+                    break;
+                case JobFeatures.REQUIRED_TECH_IDS_FIELD:
+                    post.setRequiredTechIds(readInts(reader, type));
+                    break;
+                case JobFeatures.TITLE_TOKENS_FIELD:
+                    post.setTitleTokens(readStrings(reader, type));
+                    break;
+                case JobFeatures.SENIORITY_FIELD:
+                    post.setSeniority(readInteger(reader, type));
+                    break;
+                case JobFeatures.TAXONOMY_SIGNATURE_FIELD:
+                    post.setTaxonomySignature(readLong(reader, type));
+                    break;
+                case "score":
+                    Double value = readDouble(reader, type);
+                    score = value != null ? value : 0.0;
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+
+        JobMatch match = new JobMatch();
+        match.setJob(post);
+        match.setConfidence(score);
+        return match;
+    }
+
+    @Override
+    public void encode(BsonWriter writer, JobMatch value, EncoderContext encoderContext) {
+        throw new UnsupportedOperationException("JobMatch is a read-only projection and cannot be encoded");
+    }
+
+    @Override
+    public Class<JobMatch> getEncoderClass() {
+        return JobMatch.class;
+    }
+
+    private static String readString(BsonReader reader, BsonType type) {
+        if (type == BsonType.STRING) {
+            return reader.readString();
+        }
+        reader.skipValue();
+        return null;
+    }
+
+    private static Integer readInteger(BsonReader reader, BsonType type) {
+        switch (type) {
+            case INT32:
+                return reader.readInt32();
+            case INT64:
+                return (int) reader.readInt64();
+            case DOUBLE:
+                return (int) reader.readDouble();
+            default:
+                reader.skipValue();
+                return null;
+        }
+    }
+
+    private static Long readLong(BsonReader reader, BsonType type) {
+        switch (type) {
+            case INT64:
+                return reader.readInt64();
+            case INT32:
+                return (long) reader.readInt32();
+            default:
+                reader.skipValue();
+                return null;
+        }
+    }
+
+    private static Double readDouble(BsonReader reader, BsonType type) {
+        switch (type) {
+            case DOUBLE:
+                return reader.readDouble();
+            case INT32:
+                return (double) reader.readInt32();
+            case INT64:
+                return (double) reader.readInt64();
+            case DECIMAL128:
+                return reader.readDecimal128().doubleValue();
+            default:
+                reader.skipValue();
+                return null;
+        }
+    }
+
+    private static List<String> readStrings(BsonReader reader, BsonType type) {
+        if (type != BsonType.ARRAY) {
+            reader.skipValue();
+            return null;
+        }
+        List<String> values = new ArrayList<>();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String value = readString(reader, reader.getCurrentBsonType());
+            if (value != null) {
+                values.add(value);
+            }
+        }
+        reader.readEndArray();
+        return values;
+    }
+
+    private static int[] readInts(BsonReader reader, BsonType type) {
+        if (type != BsonType.ARRAY) {
+            reader.skipValue();
+            return null;
+        }
+        int[] values = EMPTY_INTS;
+        int size = 0;
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            Integer value = readInteger(reader, reader.getCurrentBsonType());
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.max(8, size * 2));
+            }
+            // Keep positions aligned with requiredTechs even if an element is malformed
+            values[size++] = value != null ? value : JobFeatures.UNRESOLVED_TECH;
+        }
+        reader.readEndArray();
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+}
@@ -1,96 +1,171 @@
 package com.george.util;
 
 import com.george.config.AppProperties;
+import com.george.model.MatchReason;
+import com.george.model.Post;
+import com.george.model.ReasonCode;
+import com.george.model.SeniorityLevel;
+import com.george.service.TechTaxonomyService;
 import org.bson.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 @Component
 public class MatchReasonGenerator {
-    
+
     private static final Logger logger = LoggerFactory.getLogger(MatchReasonGenerator.class);
-    private static final String CONFIDENCE_FORMAT = "%.2f";
-    
+    private static final List<MatchReason> POTENTIAL_MATCH_ONLY = List.of(MatchReason.POTENTIAL_MATCH);
+
+    private static final Pattern EXPERIENCE_PATTERN = Pattern.compile(
+        "(\\d+)\\s*(?:years?|yrs?|yr)\\s*(?:of\\s*)?experience", Pattern.CASE_INSENSITIVE);
+
     private final AppProperties appProperties;
-    
-    public MatchReasonGenerator(AppProperties appProperties) {
+    private final TechTaxonomyService techTaxonomyService;
+
+    public MatchReasonGenerator(AppProperties appProperties, TechTaxonomyService techTaxonomyService) {
         this.appProperties = appProperties;
+        this.techTaxonomyService = techTaxonomyService;
+    }
+
+    /**
+     * Does all per-profile work once so that {@link #generateMatchReasons(Document, ProfileAnalysis)}
+     * only has to scan the document's own fields.
+     */
+    public ProfileAnalysis analyzeProfile(String userProfile) {
+        if (userProfile == null) {
+            throw new IllegalArgumentException("User profile cannot be null");
+        }
+        String profileLower = userProfile.toLowerCase();
+        return new ProfileAnalysis(
+            profileLower,
+            ProfileAnalysis.tokenize(profileLower),
+            extractExperienceFromProfile(userProfile),
+            techTaxonomyService.current());
+    }
+
+    public List<MatchReason> generateMatchReasons(Document doc, String userProfile) {
+        return generateMatchReasons(doc, analyzeProfile(userProfile));
     }
-    
-    private static final Set<String> TECH_KEYWORDS = Set.of(
-        "java", "python", "javascript", "typescript", "react", "angular", "vue",
-        "node", "spring", "django", "flask", "express", "mongodb", "postgresql",
-        "mysql", "redis", "docker", "kubernetes", "aws", "azure", "gcp",
-        "git", "ci/cd", "microservices", "rest", "graphql", "sql", "nosql"
-    );
-    
-    public List<String> generateMatchReasons(Document doc, String userProfile) {
-        List<String> reasons = new ArrayList<>();
-        
+
+    /**
+     * Returns reason codes only; nothing is formatted here. Use {@link MatchReasonRenderer}
+     * when English text is needed.
+     */
+    public List<MatchReason> generateMatchReasons(Document doc, ProfileAnalysis profile) {
+        try {
+            Double score = doc.getDouble("score");
+            return generateMatchReasons(
+                score != null ? score : 0.0,
+                doc.getList("requiredTechs", String.class),
+                DocumentMapper.toIntArray(doc.getList(JobFeatures.REQUIRED_TECH_IDS_FIELD, Integer.class)),
+                doc.getLong(JobFeatures.TAXONOMY_SIGNATURE_FIELD),
+                doc.getInteger("experience"),
+                doc.getInteger(JobFeatures.SENIORITY_FIELD),
+                doc.getList(JobFeatures.TITLE_TOKENS_FIELD, String.class),
+                doc.getString("jobTitle"),
+                profile);
+        } catch (Exception e) {
+            logger.warn("Error reading match reason fields: {}", e.getMessage());
+            return List.of(MatchReason.MATCH_FOUND);
+        }
+    }
+
+    /**
+     * Same as {@link #generateMatchReasons(Document, ProfileAnalysis)} for a post that has
+     * already been decoded, with the search score passed alongside.
+     */
+    public List<MatchReason> generateMatchReasons(Post post, double score, ProfileAnalysis profile) {
+        return generateMatchReasons(score, post.getRequiredTechs(), post.getRequiredTechIds(),
+            post.getTaxonomySignature(), post.getExperience(), post.getSeniority(), post.getTitleTokens(),
+            post.getJobTitle(), profile);
+    }
+
+    private List<MatchReason> generateMatchReasons(double score, List<String> techs, int[] techIds,
+                                                   Long taxonomySignature, Integer requiredExp, Integer seniority,
+                                                   List<String> titleTokens, String jobTitle,
+                                                   ProfileAnalysis profile) {
+        List<MatchReason> reasons = new ArrayList<>(5);
+
         try {
-            Double scoreObj = doc.getDouble("score");
-            double score = scoreObj != null ? scoreObj : 0.0;
-            
-            double veryStrongThreshold = appProperties.getMatching().getThresholds().getVeryStrong();
-            double goodThreshold = appProperties.getMatching().getThresholds().getGood();
-            double moderateThreshold = appProperties.getMatching().getThresholds().getModerate();
-            
-            if (score >= veryStrongThreshold) {
-                reasons.add("Very strong semantic match (confidence: " + String.format(CONFIDENCE_FORMAT, score) + ")");
-            } else if (score >= goodThreshold) {
-                reasons.add("Good semantic match (confidence: " + String.format(CONFIDENCE_FORMAT, score) + ")");
-            } else if (score >= moderateThreshold) {
-                reasons.add("Moderate semantic match (confidence: " + String.format(CONFIDENCE_FORMAT, score) + ")");
+            AppProperties.Matching.Thresholds thresholds = appProperties.getMatching().getThresholds();
+
+            int hundredths = (int) Math.round(score * 100);
+            if (score >= thresholds.getVeryStrong()) {
+                reasons.add(MatchReason.of(ReasonCode.SEMANTIC_VERY_STRONG, hundredths));
+            } else if (score >= thresholds.getGood()) {
+                reasons.add(MatchReason.of(ReasonCode.SEMANTIC_GOOD, hundredths));
+            } else if (score >= thresholds.getModerate()) {
+                reasons.add(MatchReason.of(ReasonCode.SEMANTIC_MODERATE, hundredths));
             }
-            
-            List<String> techs = doc.getList("requiredTechs", String.class);
+
             if (techs != null && !techs.isEmpty()) {
-                String userProfileLower = userProfile.toLowerCase();
-                List<String> matchingTechs = techs.stream()
-                    .filter(tech -> {
-                        String techLower = tech.toLowerCase();
-                        return userProfileLower.contains(techLower) || 
-                               TECH_KEYWORDS.stream().anyMatch(keyword -> 
-                                   techLower.contains(keyword) && userProfileLower.contains(keyword));
-                    })
-                    .collect(Collectors.toList());
-                
-                if (!matchingTechs.isEmpty()) {
-                    reasons.add("Matching technologies: " + String.join(", ", matchingTechs));
+                // Posts ingested with features carry one taxonomy id per required tech; older
+                // posts, posts whose ids were resolved against another taxonomy than the
+                // profile's, and techs the taxonomy could not resolve fall back to text matching
+                if (techIds != null && (techIds.length != techs.size() || taxonomySignature == null
+                        || taxonomySignature != profile.getTaxonomy().getSignature())) {
+                    techIds = null;
+                }
+                int[] matching = null;
+                int matchCount = 0;
+                for (int i = 0; i < techs.size(); i++) {
+                    String tech = techs.get(i);
+                    if (tech == null) {
+                        continue;
+                    }
+                    int techId = techIds != null ? techIds[i] : JobFeatures.UNRESOLVED_TECH;
+                    boolean matches = techId != JobFeatures.UNRESOLVED_TECH
+                        ? profile.mentionsTech(techId)
+                        : profile.containsWord(tech) || profile.sharesTechWith(tech);
+                    if (matches) {
+                        if (matching == null) {
+                            matching = new int[techs.size()];
+                        }
+                        matching[matchCount++] = i;
+                    }
+                }
+
+                if (matchCount > 0) {
+                    reasons.add(MatchReason.of(ReasonCode.TECH_OVERLAP, Arrays.copyOf(matching, matchCount)));
                 }
             }
-            
-            Integer requiredExp = doc.getInteger("experience");
+
             if (requiredExp != null) {
-                if (extractExperienceFromProfile(userProfile) >= requiredExp) {
-                    reasons.add("Experience level meets requirement (" + requiredExp + "+ years)");
+                if (profile.getYearsOfExperience() >= requiredExp) {
+                    reasons.add(MatchReason.of(ReasonCode.EXPERIENCE_MET, requiredExp));
                 }
             }
-            
-            String jobTitle = doc.getString("jobTitle");
-            if (jobTitle != null && isTitleRelevant(jobTitle, userProfile)) {
-                reasons.add("Job title aligns with profile");
+
+            SeniorityLevel jobSeniority = SeniorityLevel.fromLevel(seniority);
+            if (jobSeniority != SeniorityLevel.UNSPECIFIED
+                    && profile.getSeniority().getLevel() >= jobSeniority.getLevel()) {
+                reasons.add(MatchReason.of(ReasonCode.SENIORITY_MET, jobSeniority.getLevel()));
+            }
+
+            boolean titleRelevant = titleTokens != null
+                ? profile.sharesAnyToken(titleTokens)
+                : jobTitle != null && isTitleRelevant(jobTitle, profile);
+            if (titleRelevant) {
+                reasons.add(MatchReason.TITLE_ALIGNED);
             }
-            
+
         } catch (Exception e) {
             logger.warn("Error generating match reasons: {}", e.getMessage());
-            reasons.add("Match found");
+            reasons.add(MatchReason.MATCH_FOUND);
         }
-        
-        return reasons.isEmpty() ? List.of("Potential match") : reasons;
+
+        return reasons.isEmpty() ? POTENTIAL_MATCH_ONLY : reasons;
     }
-    
+
     private static int extractExperienceFromProfile(String profile) {
-        Pattern pattern = Pattern.compile("(\\d+)\\s*(?:years?|yrs?|yr)\\s*(?:of\\s*)?experience", 
-            Pattern.CASE_INSENSITIVE);
-        java.util.regex.Matcher matcher = pattern.matcher(profile);
+        Matcher matcher = EXPERIENCE_PATTERN.matcher(profile);
         if (matcher.find()) {
             try {
                 return Integer.parseInt(matcher.group(1));
@@ -100,18 +175,29 @@ public class MatchReasonGenerator {
         }
         return 0;
     }
-    
-    private static boolean isTitleRelevant(String jobTitle, String userProfile) {
-        String titleLower = jobTitle.toLowerCase();
-        String profileLower = userProfile.toLowerCase();
-        
-        String[] titleTerms = titleLower.split("[\\s-]+");
-        for (String term : titleTerms) {
-            if (term.length() > 3 && profileLower.contains(term)) {
-                return true;
+
+    /**
+     * Fallback for posts without stored title tokens. Walks the title's whitespace/hyphen
+     * separated terms in place rather than splitting, checking each sufficiently long term
+     * against the profile.
+     */
+    private static boolean isTitleRelevant(String jobTitle, ProfileAnalysis profile) {
+        int start = -1;
+        for (int i = 0; i <= jobTitle.length(); i++) {
+            boolean separator = i == jobTitle.length()
+                || Character.isWhitespace(jobTitle.charAt(i))
+                || jobTitle.charAt(i) == '-';
+            if (!separator) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                if (i - start >= JobFeatures.MIN_TITLE_TOKEN_LENGTH && profile.contains(jobTitle, start, i)) {
+                    return true;
+                }
+                start = -1;
             }
         }
         return false;
     }
 }
-
@@ -0,0 +1,71 @@
+package com.george.util;
+
+import com.george.model.MatchReason;
+import com.george.model.SeniorityLevel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Renders {@link MatchReason} codes as the English sentences the API used to return, for
+ * clients that opt in to text and for human-facing exports. Formatting is locale independent.
+ */
+public final class MatchReasonRenderer {
+
+    private MatchReasonRenderer() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static List<String> render(List<MatchReason> reasons, List<String> requiredTechs) {
+        if (reasons == null) {
+            return null;
+        }
+        List<String> rendered = new ArrayList<>(reasons.size());
+        for (MatchReason reason : reasons) {
+            rendered.add(render(reason, requiredTechs));
+        }
+        return rendered;
+    }
+
+    public static String render(MatchReason reason, List<String> requiredTechs) {
+        switch (reason.getCode()) {
+            case SEMANTIC_VERY_STRONG:
+                return "Very strong semantic match (confidence: " + confidence(reason) + ")";
+            case SEMANTIC_GOOD:
+                return "Good semantic match (confidence: " + confidence(reason) + ")";
+            case SEMANTIC_MODERATE:
+                return "Moderate semantic match (confidence: " + confidence(reason) + ")";
+            case TECH_OVERLAP:
+                StringBuilder techs = new StringBuilder("Matching technologies: ");
+                for (int i = 0; i < reason.argCount(); i++) {
+                    if (i > 0) {
+                        techs.append(", ");
+                    }
+                    int position = reason.arg(i);
+                    techs.append(requiredTechs != null && position >= 0 && position < requiredTechs.size()
+                        ? requiredTechs.get(position)
+                        : "#" + position);
+                }
+                return techs.toString();
+            case EXPERIENCE_MET:
+                return "Experience level meets requirement (" + reason.arg(0) + "+ years)";
+            case SENIORITY_MET:
+                return "Seniority meets the role's level ("
+                    + SeniorityLevel.fromLevel(reason.arg(0)).name().toLowerCase(Locale.ROOT) + ")";
+            case TITLE_ALIGNED:
+                return "Job title aligns with profile";
+            case MATCH_FOUND:
+                return "Match found";
+            case POTENTIAL_MATCH:
+            default:
+                return "Potential match";
+        }
+    }
+
+    private static String confidence(MatchReason reason) {
+        int hundredths = reason.argCount() > 0 ? reason.arg(0) : 0;
+        int fraction = hundredths % 100;
+        return (hundredths / 100) + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+}
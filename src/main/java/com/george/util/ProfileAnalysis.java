@@ -0,0 +1,145 @@
+package com.george.util;
+
+import com.george.model.SeniorityLevel;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Everything match reason generation needs to know about a user profile, computed once per
+ * request instead of once per returned document: the lowercased text, its token set, the
+ * years of experience it states, its seniority and which taxonomy techs it mentions. The
+ * taxonomy snapshot is pinned here so a concurrent reload cannot change term ids mid-request.
+ */
+public final class ProfileAnalysis {
+
+    // Candidate set of a single-keyword matcher; never modified
+    private static final BitSet ONLY_KEYWORD = BitSet.valueOf(new long[] {1});
+
+    private final String profileLower;
+    private final Set<String> tokens;
+    private final int yearsOfExperience;
+    private final SeniorityLevel seniority;
+    private final TechTaxonomy taxonomy;
+    private final int[] techIds;
+    private final BitSet techTerms;
+
+    ProfileAnalysis(String profileLower, Set<String> tokens, int yearsOfExperience, TechTaxonomy taxonomy) {
+        this.profileLower = profileLower;
+        this.tokens = Collections.unmodifiableSet(tokens);
+        this.yearsOfExperience = yearsOfExperience;
+        // A profile is free text that may name roles it worked alongside, so stated years
+        // take precedence over seniority terms, unlike for a job title
+        this.seniority = yearsOfExperience > 0
+            ? JobFeatureExtractor.seniorityFromExperience(yearsOfExperience)
+            : JobFeatureExtractor.seniorityFromTerms(tokens);
+        this.taxonomy = taxonomy;
+        this.techIds = taxonomy.techIds(profileLower);
+        this.techTerms = taxonomy.termsOf(techIds);
+    }
+
+    public String getProfileLower() {
+        return profileLower;
+    }
+
+    public Set<String> getTokens() {
+        return tokens;
+    }
+
+    public int getYearsOfExperience() {
+        return yearsOfExperience;
+    }
+
+    public SeniorityLevel getSeniority() {
+        return seniority;
+    }
+
+    public TechTaxonomy getTaxonomy() {
+        return taxonomy;
+    }
+
+    /**
+     * Sorted ids of the taxonomy techs mentioned in the profile. Callers must not modify the result.
+     */
+    public int[] getTechIds() {
+        return techIds;
+    }
+
+    public boolean mentionsTech(int techId) {
+        return Arrays.binarySearch(techIds, techId) >= 0;
+    }
+
+    /**
+     * Returns true if any of the given lowercase tokens is also a token of the profile.
+     */
+    public boolean sharesAnyToken(Collection<String> candidates) {
+        for (String candidate : candidates) {
+            if (candidate != null && tokens.contains(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code text} mentions, under any of its names, a tech the profile mentions.
+     * Does not allocate.
+     */
+    public boolean sharesTechWith(CharSequence text) {
+        return taxonomy.mentionsAny(text, techTerms);
+    }
+
+    /**
+     * Case-insensitive substring test for {@code text[start, end)} against the profile.
+     */
+    public boolean contains(CharSequence text, int start, int end) {
+        return end <= start || occursIn(text.subSequence(start, end), false);
+    }
+
+    public boolean contains(CharSequence text) {
+        return text != null && contains(text, 0, text.length());
+    }
+
+    /**
+     * Like {@link #contains(CharSequence)}, but the occurrence must not be glued to letters or
+     * digits on either side, so "java" is not found in "javascript".
+     */
+    public boolean containsWord(CharSequence text) {
+        return text != null && text.length() > 0 && occursIn(text, true);
+    }
+
+    /**
+     * Scans the profile once with a single-keyword {@link AhoCorasickMatcher}, so the cost is
+     * linear in the profile and keyword lengths rather than their product. Only techs the
+     * taxonomy cannot resolve and posts without stored title tokens get here; the automaton
+     * is built per call since those keywords come from the documents.
+     */
+    private boolean occursIn(CharSequence keyword, boolean wholeWords) {
+        return AhoCorasickMatcher.build(List.of(keyword.toString()), wholeWords)
+            .containsAny(profileLower, ONLY_KEYWORD);
+    }
+
+    static Set<String> tokenize(String lower) {
+        Set<String> tokens = new HashSet<>();
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean tokenChar = i < lower.length() && isTokenChar(lower.charAt(i));
+            if (tokenChar && start < 0) {
+                start = i;
+            } else if (!tokenChar && start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isTokenChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '+' || c == '#';
+    }
+}
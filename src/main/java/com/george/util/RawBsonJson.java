@@ -0,0 +1,37 @@
+package com.george.util;
+
+import org.bson.BsonBinaryReader;
+import org.bson.RawBsonDocument;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriter;
+import org.bson.json.JsonWriterSettings;
+
+import java.io.Writer;
+
+/**
+ * Writes {@link RawBsonDocument}s as relaxed Extended JSON by piping the BSON bytes straight
+ * into a JSON writer, without decoding them into Java objects first.
+ * <p>
+ * Relaxed mode prints strings, numbers, booleans, arrays and nested documents as plain JSON.
+ * Only BSON-specific types such as {@code ObjectId} or dates keep their {@code $}-wrappers,
+ * so pipelines feeding this writer should convert those (e.g. with {@code $toString}).
+ */
+public final class RawBsonJson {
+
+    private static final JsonWriterSettings RELAXED = JsonWriterSettings.builder()
+        .outputMode(JsonMode.RELAXED)
+        .build();
+
+    private RawBsonJson() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Writes one document to {@code writer}. The writer is neither flushed nor closed, so
+     * callers can batch several documents into one buffered write.
+     */
+    public static void write(RawBsonDocument document, Writer writer) {
+        JsonWriter jsonWriter = new JsonWriter(writer, RELAXED);
+        jsonWriter.pipe(new BsonBinaryReader(document.getByteBuffer().asNIO()));
+    }
+}
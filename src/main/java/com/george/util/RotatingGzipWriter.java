@@ -0,0 +1,149 @@
+package com.george.util;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes text records to gzip-compressed files, starting a new part whenever the compressed
+ * size of the current one passes a limit. Each part is a complete gzip file that starts with
+ * the same header line, so parts can be processed independently.
+ * <p>
+ * Parts are named {@code <baseName>-0001.<extension>.gz} and so on. When a part is closed
+ * its SHA-256 checksum is computed while the bytes are written and saved next to it in
+ * {@code sha256sum} format. Records are never split across parts; the size check happens
+ * between records and sees the compressor's output only, so parts can overshoot the limit by
+ * up to one record plus the deflater's buffer.
+ * <p>
+ * Not thread-safe.
+ */
+public class RotatingGzipWriter implements Closeable {
+
+    private final Path directory;
+    private final String baseName;
+    private final String extension;
+    private final long maxPartBytes;
+    private final String header;
+    private final List<Part> parts = new ArrayList<>();
+
+    private Writer writer;
+    private CountingOutputStream counter;
+    private MessageDigest digest;
+    private Path currentPath;
+
+    /**
+     * @param header written at the top of every part, or {@code null} for none
+     */
+    public RotatingGzipWriter(Path directory, String baseName, String extension, long maxPartBytes, String header) {
+        if (maxPartBytes <= 0) {
+            throw new IllegalArgumentException("maxPartBytes must be positive");
+        }
+        this.directory = directory;
+        this.baseName = baseName;
+        this.extension = extension;
+        this.maxPartBytes = maxPartBytes;
+        this.header = header;
+    }
+
+    /**
+     * The writer for the next record, opening a new part if needed. Call {@link #endRecord()}
+     * once the record is complete.
+     */
+    public Writer writer() throws IOException {
+        if (writer == null) {
+            openPart();
+        }
+        return writer;
+    }
+
+    /** Marks the end of a record and rotates to a new part if the current one is full. */
+    public void endRecord() throws IOException {
+        if (writer != null && counter.count >= maxPartBytes) {
+            closePart();
+        }
+    }
+
+    /** Parts closed so far, in order. All parts are closed once {@link #close()} returns. */
+    public List<Part> getParts() {
+        return Collections.unmodifiableList(parts);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            closePart();
+        }
+    }
+
+    private void openPart() throws IOException {
+        Files.createDirectories(directory);
+        currentPath = directory.resolve(String.format("%s-%04d.%s.gz", baseName, parts.size() + 1, extension));
+        digest = sha256();
+        counter = new CountingOutputStream(Files.newOutputStream(currentPath));
+        OutputStream gzip = new GZIPOutputStream(new DigestOutputStream(counter, digest), 64 * 1024);
+        writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8), 64 * 1024);
+        if (header != null) {
+            writer.write(header);
+        }
+    }
+
+    private void closePart() throws IOException {
+        writer.close();
+        String checksum = HexFormat.of().formatHex(digest.digest());
+        String fileName = currentPath.getFileName().toString();
+        Files.writeString(directory.resolve(fileName + ".sha256"),
+            checksum + "  " + fileName + "\n", StandardCharsets.UTF_8);
+        parts.add(new Part(fileName, counter.count, checksum));
+        writer = null;
+        counter = null;
+        digest = null;
+        currentPath = null;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /** A finished part: its file name within the directory, compressed size and SHA-256. */
+    public record Part(String fileName, long sizeBytes, String sha256) {
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.george.util;
+
+/**
+ * Builds a {@code Server-Timing} header value: a list of metrics, each with an optional
+ * duration in milliseconds and parameters. Durations are formatted by hand with two decimals,
+ * which keeps {@code String.format} off the request path.
+ */
+public final class ServerTiming {
+
+    private final StringBuilder value = new StringBuilder(128);
+
+    /** Starts a metric with a duration, given in nanoseconds. */
+    public ServerTiming metric(String name, long durationNanos) {
+        metric(name);
+        long hundredths = (durationNanos + 5_000) / 10_000;
+        value.append(";dur=").append(hundredths / 100).append('.');
+        long fraction = hundredths % 100;
+        if (fraction < 10) {
+            value.append('0');
+        }
+        value.append(fraction);
+        return this;
+    }
+
+    /** Starts a metric without a duration. */
+    public ServerTiming metric(String name) {
+        if (!value.isEmpty()) {
+            value.append(", ");
+        }
+        value.append(name);
+        return this;
+    }
+
+    /** Adds a parameter to the last metric; {@code token} must be a valid header token. */
+    public ServerTiming param(String name, String token) {
+        value.append(';').append(name).append('=').append(token);
+        return this;
+    }
+
+    /** Adds a {@code desc} to the last metric, quoted and escaped. */
+    public ServerTiming description(String description) {
+        value.append(";desc=\"");
+        for (int i = 0; i < description.length(); i++) {
+            char c = description.charAt(i);
+            if (c == '"' || c == '\\') {
+                value.append('\\');
+            }
+            value.append(c);
+        }
+        value.append('"');
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return value.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+}
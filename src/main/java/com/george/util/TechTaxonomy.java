@@ -0,0 +1,274 @@
+package com.george.util;
+
+import com.george.model.TechTaxonomyEntry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable, compiled snapshot of the tech taxonomy.
+ * <p>
+ * Every canonical name and synonym is a keyword of a single whole-word
+ * {@link AhoCorasickMatcher}, so finding the techs mentioned in a piece of text costs one
+ * pass over the text no matter how many entries the taxonomy holds. Terms are mapped back to
+ * their stable {@code techId}. Exact-only synonyms are left out of the automaton and only
+ * resolve whole terms. A new snapshot is compiled on every reload and swapped in as a
+ * whole, so readers never observe a half-built taxonomy.
+ */
+public final class TechTaxonomy {
+
+    private static final int UNKNOWN = -1;
+
+    private final long version;
+    private final long signature;
+    private final AhoCorasickMatcher matcher;
+    // Matcher keyword id -> tech id
+    private final int[] termTechIds;
+    private final Map<String, Integer> termIndex;
+    // Exact-only synonym -> tech id
+    private final Map<String, Integer> exactTerms;
+    private final Map<Integer, String> names;
+
+    private TechTaxonomy(long version, long signature, AhoCorasickMatcher matcher, int[] termTechIds,
+                         Map<String, Integer> termIndex, Map<String, Integer> exactTerms, Map<Integer, String> names) {
+        this.version = version;
+        this.signature = signature;
+        this.matcher = matcher;
+        this.termTechIds = termTechIds;
+        this.termIndex = termIndex;
+        this.exactTerms = exactTerms;
+        this.names = names;
+    }
+
+    /**
+     * Compiles a snapshot from taxonomy entries. Entries without a positive id or a name are
+     * ignored; when two entries claim the same term, the first one wins.
+     */
+    public static TechTaxonomy compile(Collection<TechTaxonomyEntry> entries, long version) {
+        if (entries == null) {
+            throw new IllegalArgumentException("Taxonomy entries cannot be null");
+        }
+
+        List<String> terms = new ArrayList<>();
+        List<Integer> termTechIds = new ArrayList<>();
+        Map<String, Integer> termIndex = new HashMap<>();
+        Map<String, Integer> exactTerms = new HashMap<>();
+        Map<Integer, String> names = new HashMap<>();
+
+        for (TechTaxonomyEntry entry : entries) {
+            if (entry == null || entry.getTechId() <= 0 || entry.getName() == null || entry.getName().isBlank()) {
+                continue;
+            }
+            if (names.putIfAbsent(entry.getTechId(), entry.getName().trim()) != null) {
+                continue;
+            }
+            addTerm(entry.getName(), entry.getTechId(), terms, termTechIds, termIndex);
+            if (entry.getSynonyms() != null) {
+                for (String synonym : entry.getSynonyms()) {
+                    addTerm(synonym, entry.getTechId(), terms, termTechIds, termIndex);
+                }
+            }
+            if (entry.getExactSynonyms() != null) {
+                for (String synonym : entry.getExactSynonyms()) {
+                    if (synonym != null && !synonym.isBlank()) {
+                        exactTerms.putIfAbsent(synonym.trim().toLowerCase(), entry.getTechId());
+                    }
+                }
+            }
+        }
+
+        return new TechTaxonomy(
+            version,
+            signatureOf(entries),
+            AhoCorasickMatcher.build(terms, true),
+            termTechIds.stream().mapToInt(Integer::intValue).toArray(),
+            Map.copyOf(termIndex),
+            Map.copyOf(exactTerms),
+            Map.copyOf(names));
+    }
+
+    public static TechTaxonomy defaults() {
+        return compile(defaultEntries(), 0);
+    }
+
+    /**
+     * The built-in taxonomy, used until one has been loaded from the database and to seed an
+     * empty collection. Ids 1-28 are the original hard-coded keywords and must stay stable.
+     * Aliases that are common words or fragments of them ({@code go-to-market}, a GitHub
+     * profile link) are exact-only.
+     */
+    public static List<TechTaxonomyEntry> defaultEntries() {
+        return List.of(
+            new TechTaxonomyEntry(1, "java", List.of("jdk", "jvm")),
+            new TechTaxonomyEntry(2, "python", List.of("python3"), List.of("py")),
+            new TechTaxonomyEntry(3, "javascript", List.of("js", "ecmascript", "es6")),
+            new TechTaxonomyEntry(4, "typescript", List.of(), List.of("ts")),
+            new TechTaxonomyEntry(5, "react", List.of("react.js", "reactjs")),
+            new TechTaxonomyEntry(6, "angular", List.of("angularjs", "angular.js")),
+            new TechTaxonomyEntry(7, "vue", List.of("vue.js", "vuejs")),
+            new TechTaxonomyEntry(8, "node", List.of("node.js", "nodejs")),
+            new TechTaxonomyEntry(9, "spring", List.of("spring boot", "springboot", "spring framework")),
+            new TechTaxonomyEntry(10, "django", List.of()),
+            new TechTaxonomyEntry(11, "flask", List.of()),
+            new TechTaxonomyEntry(12, "express", List.of("express.js", "expressjs")),
+            new TechTaxonomyEntry(13, "mongodb", List.of("mongo")),
+            new TechTaxonomyEntry(14, "postgresql", List.of("postgres", "psql")),
+            new TechTaxonomyEntry(15, "mysql", List.of("mariadb")),
+            new TechTaxonomyEntry(16, "redis", List.of()),
+            new TechTaxonomyEntry(17, "docker", List.of("dockerfile", "docker compose")),
+            new TechTaxonomyEntry(18, "kubernetes", List.of("k8s", "kube")),
+            new TechTaxonomyEntry(19, "aws", List.of("amazon web services")),
+            new TechTaxonomyEntry(20, "azure", List.of("microsoft azure")),
+            new TechTaxonomyEntry(21, "gcp", List.of("google cloud", "google cloud platform")),
+            new TechTaxonomyEntry(22, "git", List.of(), List.of("github", "gitlab")),
+            new TechTaxonomyEntry(23, "ci/cd", List.of("cicd", "continuous integration", "continuous delivery")),
+            new TechTaxonomyEntry(24, "microservices", List.of("microservice", "micro-services")),
+            new TechTaxonomyEntry(25, "rest", List.of("restful", "rest api")),
+            new TechTaxonomyEntry(26, "graphql", List.of()),
+            new TechTaxonomyEntry(27, "sql", List.of()),
+            new TechTaxonomyEntry(28, "nosql", List.of()),
+            new TechTaxonomyEntry(29, "golang", List.of("go lang"), List.of("go")),
+            new TechTaxonomyEntry(30, "c#", List.of("csharp", ".net", "dotnet")),
+            new TechTaxonomyEntry(31, "c++", List.of("cpp")),
+            new TechTaxonomyEntry(32, "kotlin", List.of()),
+            new TechTaxonomyEntry(33, "kafka", List.of("apache kafka")),
+            new TechTaxonomyEntry(34, "terraform", List.of())
+        );
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Hash of the entries this snapshot was compiled from, used to skip no-op reloads.
+     */
+    public long getSignature() {
+        return signature;
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    public int termCount() {
+        return termTechIds.length;
+    }
+
+    /**
+     * Canonical name for a tech id, or null if the id is unknown.
+     */
+    public String name(int techId) {
+        return names.get(techId);
+    }
+
+    /**
+     * Resolves a canonical name, synonym or exact-only synonym, ignoring case and surrounding
+     * whitespace. Returns -1 if the term is not part of the taxonomy.
+     */
+    public int resolve(String term) {
+        if (term == null) {
+            return UNKNOWN;
+        }
+        String normalized = term.trim().toLowerCase();
+        Integer termId = termIndex.get(normalized);
+        if (termId != null) {
+            return termTechIds[termId];
+        }
+        return exactTerms.getOrDefault(normalized, UNKNOWN);
+    }
+
+    /**
+     * Ids of the techs named by a single tech term, such as one required tech of a post or
+     * one preferred tech of a request. A term that resolves as a whole, exact-only synonyms
+     * included, yields just that tech; otherwise it is searched like free text.
+     */
+    public int[] techIdsOfTerm(String term) {
+        int techId = resolve(term);
+        if (techId != UNKNOWN) {
+            return new int[] {techId};
+        }
+        return term != null ? techIds(term) : new int[0];
+    }
+
+    /**
+     * Sorted, distinct ids of every tech mentioned in {@code text}. Exact-only synonyms are
+     * not looked for.
+     */
+    public int[] techIds(CharSequence text) {
+        BitSet found = new BitSet();
+        matcher.forEachMatch(text, (termId, start, end) -> found.set(termTechIds[termId]));
+        return found.stream().toArray();
+    }
+
+    /**
+     * Sorted, distinct ids of the techs named by any of {@code terms}, each resolved as by
+     * {@link #techIdsOfTerm(String)}.
+     */
+    public int[] techIds(Collection<String> terms) {
+        BitSet found = new BitSet();
+        if (terms != null) {
+            for (String term : terms) {
+                for (int techId : techIdsOfTerm(term)) {
+                    found.set(techId);
+                }
+            }
+        }
+        return found.stream().toArray();
+    }
+
+    /**
+     * Ids of every term (canonical name or synonym) belonging to the given techs. Matching a
+     * document field against this set answers "does it mention any of these techs" without
+     * resolving each occurrence back to its tech id.
+     */
+    public BitSet termsOf(int[] techIds) {
+        BitSet terms = new BitSet(termTechIds.length);
+        if (techIds == null || techIds.length == 0) {
+            return terms;
+        }
+        for (int termId = 0; termId < termTechIds.length; termId++) {
+            if (Arrays.binarySearch(techIds, termTechIds[termId]) >= 0) {
+                terms.set(termId);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Returns true if {@code text} mentions any term in {@code terms}, as produced by
+     * {@link #termsOf(int[])} on this snapshot. Does not allocate.
+     */
+    public boolean mentionsAny(CharSequence text, BitSet terms) {
+        return matcher.containsAny(text, terms);
+    }
+
+    private static void addTerm(String term, int techId, List<String> terms, List<Integer> termTechIds,
+                                Map<String, Integer> termIndex) {
+        if (term == null || term.isBlank()) {
+            return;
+        }
+        String normalized = term.trim().toLowerCase();
+        if (termIndex.putIfAbsent(normalized, terms.size()) == null) {
+            terms.add(normalized);
+            termTechIds.add(techId);
+        }
+    }
+
+    private static long signatureOf(Collection<TechTaxonomyEntry> entries) {
+        long hash = 1;
+        for (TechTaxonomyEntry entry : entries) {
+            if (entry == null) {
+                continue;
+            }
+            hash = 31 * hash + Objects.hash(entry.getTechId(), entry.getName(), entry.getSynonyms(), entry.getExactSynonyms());
+        }
+        return hash;
+    }
+}
@@ -30,6 +30,28 @@ public class TextPreprocessor {
         }
     }
     
+    /**
+     * A short plain-text preview of {@code text} for list views: whitespace collapsed, and
+     * when too long, cut at the last word boundary that fits and ended with an ellipsis. The
+     * result is at most {@code maxLength} characters.
+     */
+    public static String snippet(String text, int maxLength) {
+        String processed = preprocess(text);
+        if (processed.length() <= maxLength) {
+            return processed;
+        }
+        int end = maxLength - 1;
+        int space = processed.lastIndexOf(' ', end);
+        // Fall back to a hard cut when the first word alone is too long
+        if (space > maxLength / 2) {
+            end = space;
+        }
+        while (end > 0 && !Character.isLetterOrDigit(processed.charAt(end - 1))) {
+            end--;
+        }
+        return processed.substring(0, end) + "\u2026";
+    }
+    
     public static String validateAndTruncate(String text, int maxLength) {
         if (text == null) {
             return "";
@@ -0,0 +1,103 @@
+package com.george.util;
+
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonValue;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * How embeddings are stored in the job collection and sent as query vectors.
+ * <p>
+ * {@link #ARRAY} is the original layout: a BSON array of doubles, searched with
+ * {@code $search}/{@code knnBeta}. The other encodings pack the vector into a single BSON
+ * binary of the vector subtype ({@code 9}) and are searched with {@code $vectorSearch}:
+ * one type byte, one padding byte, then the packed elements. A 1024-dimension embedding
+ * takes about 4 KB as float32, 1 KB as int8 and 128 bytes as packed bits, against roughly
+ * 14 KB as an array.
+ * <p>
+ * {@link #INT8} and {@link #PACKED_BIT} are lossy. INT8 scales each component by 127, which
+ * assumes the model returns unit-normalized vectors; PACKED_BIT keeps only the sign of each
+ * component.
+ */
+public enum VectorEncoding {
+
+    ARRAY((byte) 0) {
+        @Override
+        public BsonValue encode(BsonArray embedding) {
+            return embedding;
+        }
+    },
+    FLOAT32((byte) 0x27) {
+        @Override
+        public BsonValue encode(BsonArray embedding) {
+            ByteBuffer buffer = header(this, 4 * embedding.size(), 0);
+            for (BsonValue value : embedding) {
+                buffer.putFloat((float) value.asNumber().doubleValue());
+            }
+            return new BsonBinary(VECTOR_SUBTYPE, buffer.array());
+        }
+    },
+    INT8((byte) 0x03) {
+        @Override
+        public BsonValue encode(BsonArray embedding) {
+            ByteBuffer buffer = header(this, embedding.size(), 0);
+            for (BsonValue value : embedding) {
+                double scaled = Math.max(-1.0, Math.min(1.0, value.asNumber().doubleValue())) * 127;
+                buffer.put((byte) Math.round(scaled));
+            }
+            return new BsonBinary(VECTOR_SUBTYPE, buffer.array());
+        }
+    },
+    PACKED_BIT((byte) 0x10) {
+        @Override
+        public BsonValue encode(BsonArray embedding) {
+            int dimension = embedding.size();
+            int padding = (8 - dimension % 8) % 8;
+            ByteBuffer buffer = header(this, (dimension + 7) / 8, padding);
+            byte[] bytes = buffer.array();
+            for (int i = 0; i < dimension; i++) {
+                if (embedding.get(i).asNumber().doubleValue() > 0) {
+                    // Most significant bit first, as in the BSON vector spec
+                    bytes[HEADER_LENGTH + i / 8] |= (byte) (0x80 >>> (i % 8));
+                }
+            }
+            return new BsonBinary(VECTOR_SUBTYPE, bytes);
+        }
+    };
+
+    /** BSON binary subtype for packed vectors. */
+    public static final byte VECTOR_SUBTYPE = 9;
+
+    private static final int HEADER_LENGTH = 2;
+
+    private final byte dtype;
+
+    VectorEncoding(byte dtype) {
+        this.dtype = dtype;
+    }
+
+    /**
+     * Encodes an embedding, as returned by the embedding provider, for storage or for use
+     * as a query vector.
+     */
+    public abstract BsonValue encode(BsonArray embedding);
+
+    /** Whether vectors are stored as BSON binaries and searched with {@code $vectorSearch}. */
+    public boolean isBinary() {
+        return this != ARRAY;
+    }
+
+    /** The vector type byte that starts each encoded binary; {@code 0} for {@link #ARRAY}. */
+    public byte getDtype() {
+        return dtype;
+    }
+
+    private static ByteBuffer header(VectorEncoding encoding, int dataLength, int padding) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_LENGTH + dataLength).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(encoding.dtype);
+        buffer.put((byte) padding);
+        return buffer;
+    }
+}
@@ -0,0 +1,65 @@
+package com.george.aspect;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MethodTracerTest {
+
+    private final List<MethodTracer.Trace> traces = new ArrayList<>();
+
+    @Test
+    void trace_WithZeroSampleRate_SkipsFastCalls() throws Throwable {
+        MethodTracer tracer = new MethodTracer(0.0, Duration.ofHours(1), traces::add);
+
+        assertEquals("result", tracer.trace(String.class, "call", () -> "result"));
+
+        assertTrue(traces.isEmpty());
+    }
+
+    @Test
+    void trace_AlwaysKeepsSlowCalls() throws Throwable {
+        MethodTracer tracer = new MethodTracer(0.0, Duration.ofNanos(1), traces::add);
+
+        tracer.trace(String.class, "call", () -> {
+            Thread.sleep(1);
+            return null;
+        });
+
+        assertEquals(1, traces.size());
+        assertTrue(traces.get(0).slow());
+        assertTrue(traces.get(0).durationNanos() >= 1_000_000);
+    }
+
+    @Test
+    void trace_RecordsFailureAndRethrows() {
+        MethodTracer tracer = new MethodTracer(1.0, Duration.ofHours(1), traces::add);
+
+        assertThrows(IllegalStateException.class, () -> tracer.trace(String.class, "call", () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals(1, traces.size());
+        MethodTracer.Trace trace = traces.get(0);
+        assertEquals(String.class, trace.type());
+        assertEquals("call", trace.method());
+        assertEquals(IllegalStateException.class, trace.failure());
+        assertFalse(trace.slow());
+    }
+
+    @Test
+    void close_WritesQueuedTracesAndStopsWriter() throws Throwable {
+        MethodTracer tracer = new MethodTracer(1.0, Duration.ofHours(1), 16);
+        for (int i = 0; i < 10; i++) {
+            tracer.trace(String.class, "call", () -> null);
+        }
+
+        tracer.close();
+
+        assertEquals(0, tracer.getDropped());
+    }
+}
@@ -0,0 +1,109 @@
+package com.george.benchmark;
+
+import com.george.model.JobMatch;
+import com.george.util.DocumentMapper;
+import com.george.util.JobFeatures;
+import com.george.util.JobMatchCodec;
+import org.bson.BsonBinaryReader;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares decoding a page of search results through {@link DocumentCodec} and
+ * {@link DocumentMapper} with decoding them directly through {@link JobMatchCodec}.
+ * <p>
+ * Not part of the test run; see the Benchmarks section of the README, or start it from the
+ * IDE via {@link #main(String[])}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JobMatchDecodingBenchmark {
+
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+
+    @Param({"10", "100"})
+    private int results;
+
+    private final DocumentCodec documentCodec = new DocumentCodec();
+    private final DocumentMapper documentMapper = new DocumentMapper();
+    private final JobMatchCodec jobMatchCodec = new JobMatchCodec();
+
+    private List<byte[]> page;
+
+    @Setup
+    public void setUp() {
+        page = new ArrayList<>(results);
+        for (int i = 0; i < results; i++) {
+            Document doc = new Document("_id", new ObjectId())
+                .append("jobTitle", "Senior Backend Engineer " + i)
+                .append("jobDescription", "Design and operate distributed services on the JVM. ".repeat(20))
+                .append("experience", i % 10)
+                .append("requiredTechs", List.of("Java", "Spring Boot", "Kafka", "Kubernetes", "PostgreSQL"))
+                .append("company", "Company " + i)
+                .append("location", "Remote")
+                .append("employmentType", "FULL_TIME")
+                .append("salaryMin", 90000.0)
+                .append("salaryMax", 140000.0)
+                .append("currency", "EUR")
+                .append(JobFeatures.TECH_IDS_FIELD, List.of(1, 9, 18, 20, 33))
+                .append(JobFeatures.REQUIRED_TECH_IDS_FIELD, List.of(1, 9, 33, 18, 20))
+                .append(JobFeatures.TITLE_TOKENS_FIELD, List.of("backend", "engineer", "senior"))
+                .append(JobFeatures.SENIORITY_FIELD, 4)
+                .append("score", 0.9 - i * 0.001);
+            page.add(new RawBsonDocument(doc, documentCodec).getByteBuffer().array());
+        }
+    }
+
+    @Benchmark
+    public void documentMapper(Blackhole blackhole) {
+        for (byte[] bytes : page) {
+            Document doc = documentCodec.decode(reader(bytes), DECODER_CONTEXT);
+            Double score = doc.getDouble("score");
+            blackhole.consume(new JobMatch(documentMapper.toPost(doc), score != null ? score : 0.0, null));
+        }
+    }
+
+    @Benchmark
+    public void jobMatchCodec(Blackhole blackhole) {
+        for (byte[] bytes : page) {
+            blackhole.consume(jobMatchCodec.decode(reader(bytes), DECODER_CONTEXT));
+        }
+    }
+
+    private static BsonBinaryReader reader(byte[] bytes) {
+        return new BsonBinaryReader(ByteBuffer.wrap(bytes));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(JobMatchDecodingBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,190 @@
+package com.george.benchmark;
+
+import ch.qos.logback.classic.Level;
+import com.george.aspect.MethodTracer;
+import com.george.dto.JobMatchRequest;
+import com.george.model.JobMatch;
+import com.george.model.MatchReason;
+import com.george.model.Post;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what method tracing adds to a service call returning a page of matches.
+ * <p>
+ * {@code direct} calls the service itself, which is what every call costs with
+ * {@code app.method-tracing.enabled} off, since no proxy is created. {@code legacyLogging}
+ * goes through a proxy doing what the old {@code LoggingAspect} did on every controller and
+ * service method, with DEBUG off as in production: resolving the logger from the target
+ * class, sanitizing the arguments and converting the result to a string before the level
+ * was ever checked. {@code tracingSampled} goes through a proxy with {@link MethodTracer}
+ * at its default 1% sample rate.
+ * <p>
+ * Not part of the test run; see the Benchmarks section of the README, or start it from the
+ * IDE via {@link #main(String[])}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MethodTracingBenchmark {
+
+    private static final int MAX_ARGUMENT_DISPLAY_LENGTH = 100;
+    private static final int MAX_RESULT_DISPLAY_LENGTH = 200;
+    private static final long SLOW_OPERATION_THRESHOLD_MS = 1000;
+
+    @Param({"10", "100"})
+    private int results;
+
+    private MatchService direct;
+    private MatchService legacyLogging;
+    private MatchService tracingSampled;
+    private MethodTracer tracer;
+    private JobMatchRequest request;
+
+    /** Stands in for a service method: returns a prepared page of matches. */
+    public static class MatchService {
+
+        private final List<JobMatch> matches;
+
+        public MatchService() {
+            this(List.of());
+        }
+
+        public MatchService(List<JobMatch> matches) {
+            this.matches = matches;
+        }
+
+        public List<JobMatch> findMatchingJobs(JobMatchRequest request) {
+            return matches;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        // Production levels: DEBUG off for the application, sampled traces not printed
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger("com.george")).setLevel(Level.INFO);
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger("com.george.trace")).setLevel(Level.WARN);
+
+        List<JobMatch> matches = new ArrayList<>(results);
+        for (int i = 0; i < results; i++) {
+            Post job = new Post();
+            job.setId(Integer.toHexString(i));
+            job.setJobTitle("Senior Java Developer " + i);
+            job.setRequiredTechs(List.of("java", "spring", "mongodb"));
+            matches.add(new JobMatch(job, 0.9 - i * 0.001, List.of(MatchReason.POTENTIAL_MATCH)));
+        }
+        request = new JobMatchRequest();
+        request.setUserProfile("Experienced Java developer with Spring Boot and MongoDB, seven years in fintech");
+
+        direct = new MatchService(matches);
+        legacyLogging = proxy(direct, MethodTracingBenchmark::legacyLog);
+        tracer = new MethodTracer(0.01, Duration.ofSeconds(1), 4096);
+        tracingSampled = proxy(direct, invocation -> tracer.trace(invocation.getMethod().getDeclaringClass(),
+            invocation.getMethod().getName(), invocation::proceed));
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        tracer.close();
+    }
+
+    @Benchmark
+    public List<JobMatch> direct() {
+        return direct.findMatchingJobs(request);
+    }
+
+    @Benchmark
+    public List<JobMatch> legacyLogging() {
+        return legacyLogging.findMatchingJobs(request);
+    }
+
+    @Benchmark
+    public List<JobMatch> tracingSampled() {
+        return tracingSampled.findMatchingJobs(request);
+    }
+
+    private static MatchService proxy(MatchService target, MethodInterceptor interceptor) {
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAdvice(interceptor);
+        return (MatchService) factory.getProxy();
+    }
+
+    /** The old {@code LoggingAspect} advice, as it ran around every call. */
+    private static Object legacyLog(org.aopalliance.intercept.MethodInvocation invocation) throws Throwable {
+        Logger logger = LoggerFactory.getLogger(invocation.getThis().getClass());
+        String methodName = invocation.getMethod().getName();
+        String className = invocation.getThis().getClass().getSimpleName();
+        logger.debug("Entering {}.{}() with args: {}", className, methodName, sanitizeArguments(invocation.getArguments()));
+
+        long startTime = System.currentTimeMillis();
+        Object result = invocation.proceed();
+        long executionTime = System.currentTimeMillis() - startTime;
+        if (result != null) {
+            String resultStr = result.toString();
+            if (resultStr.length() > MAX_RESULT_DISPLAY_LENGTH) {
+                logger.debug("Exiting {}.{}() - execution time: {}ms - result: [truncated]", className, methodName, executionTime);
+            } else {
+                logger.debug("Exiting {}.{}() - execution time: {}ms - result: {}", className, methodName, executionTime, result);
+            }
+        }
+        if (executionTime > SLOW_OPERATION_THRESHOLD_MS) {
+            logger.warn("Slow operation detected: {}.{}() took {}ms", className, methodName, executionTime);
+        }
+        return result;
+    }
+
+    private static String sanitizeArguments(Object[] args) {
+        if (args == null || args.length == 0) {
+            return "[]";
+        }
+        return Arrays.stream(args)
+            .map(arg -> {
+                if (arg == null) {
+                    return "null";
+                }
+                String argStr = arg.toString();
+                if (argStr.length() > MAX_ARGUMENT_DISPLAY_LENGTH) {
+                    return argStr.substring(0, MAX_ARGUMENT_DISPLAY_LENGTH) + "... [truncated]";
+                }
+                if (argStr.contains("token") || argStr.contains("password") || argStr.contains("secret")) {
+                    return "[REDACTED]";
+                }
+                return argStr;
+            })
+            .reduce((a, b) -> a + ", " + b)
+            .orElse("[]");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(MethodTracingBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,142 @@
+package com.george.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Compares platform and virtual threads on the shape of a blocking match request: a burst of
+ * {@code requests} concurrent requests, each waiting {@code ioMillis} on I/O (the embedding
+ * call and the vector search) with a short CPU step in between.
+ * <p>
+ * {@code platformPool} is Tomcat's default of 200 worker threads, so requests beyond 200
+ * queue. {@code virtualThreads} gives every request its own virtual thread.
+ * {@code virtualThreadsPinned} does the same, but each request waits inside a
+ * {@code synchronized} block, as the old embedding model lazy-init did. That pins each virtual
+ * thread to its carrier thread, so throughput falls back to the number of carriers.
+ * {@code virtualThreadsLocked} waits under a {@link ReentrantLock} instead, which does not pin.
+ * <p>
+ * Not part of the test run; see the Benchmarks section of the README.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestThreadingBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"1000", "10000"})
+    private int requests;
+
+    @Param({"20"})
+    private int ioMillis;
+
+    private ExecutorService platformPool;
+
+    @Setup
+    public void setUp() {
+        platformPool = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        platformPool.shutdownNow();
+    }
+
+    @Benchmark
+    public long platformPool() throws Exception {
+        return runBurst(platformPool, this::handleRequest);
+    }
+
+    @Benchmark
+    public long virtualThreads() throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            return runBurst(executor, this::handleRequest);
+        }
+    }
+
+    @Benchmark
+    public long virtualThreadsPinned() throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            return runBurst(executor, () -> {
+                // One monitor per request: nothing is contended, the wait just pins the carrier
+                Object monitor = new Object();
+                synchronized (monitor) {
+                    return handleRequest();
+                }
+            });
+        }
+    }
+
+    @Benchmark
+    public long virtualThreadsLocked() throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            return runBurst(executor, () -> {
+                ReentrantLock lock = new ReentrantLock();
+                lock.lock();
+                try {
+                    return handleRequest();
+                } finally {
+                    lock.unlock();
+                }
+            });
+        }
+    }
+
+    private long runBurst(ExecutorService executor, Request request) throws Exception {
+        List<Future<Long>> inFlight = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            inFlight.add(executor.submit(request::handle));
+        }
+        long total = 0;
+        for (Future<Long> response : inFlight) {
+            total += response.get();
+        }
+        return total;
+    }
+
+    private long handleRequest() throws InterruptedException {
+        // Embedding call, some matching work, then the vector search
+        Thread.sleep(ioMillis / 2);
+        long checksum = 0;
+        for (int i = 0; i < 10_000; i++) {
+            checksum += i * 31L ^ checksum;
+        }
+        Thread.sleep(ioMillis - ioMillis / 2);
+        return checksum;
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        long handle() throws InterruptedException;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(RequestThreadingBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,115 @@
+package com.george.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.george.config.ConcurrencyLimitConfig.ConcurrencyLimitFilter;
+import com.george.util.GradientConcurrencyLimiter;
+import jakarta.servlet.ServletOutputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrencyLimitFilterTest {
+
+    private final GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(1, 1, 10, 1.5, 0.2);
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(true, limiter, 2, new ObjectMapper().findAndRegisterModules());
+
+    @Test
+    void rejectsMatchRequestsOverTheLimitWithRetryAfter() throws Exception {
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+
+        filter.doFilter(matchRequest(), new MockHttpServletResponse(), (req, res) ->
+            // A second request arrives while the first holds the only permit
+            filter.doFilter(matchRequest(), rejected, (innerReq, innerRes) -> { }));
+
+        assertEquals(503, rejected.getStatus());
+        assertEquals("2", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(rejected.getContentAsString().contains("RATE_004"));
+        assertEquals(0, limiter.getInFlight());
+        assertEquals(1, limiter.getRejected());
+    }
+
+    @Test
+    void leavesOtherPathsUnlimited() throws Exception {
+        MockHttpServletRequest explain = new MockHttpServletRequest("GET", "/api/v1/vectors/jobs/abc/explain");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(matchRequest(), new MockHttpServletResponse(), (req, res) ->
+            filter.doFilter(explain, response, (innerReq, innerRes) -> { }));
+
+        assertEquals(200, response.getStatus());
+        assertEquals(0, limiter.getRejected());
+    }
+
+    @Test
+    void asyncRequestHoldsItsPermitUntilTheResponseCompletes() throws Exception {
+        MockHttpServletRequest async = new MockHttpServletRequest("POST", "/api/v1/vectors/jobs/match/async");
+        async.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(async, response, (req, res) ->
+            ((MockHttpServletRequest) req).startAsync(req, res));
+
+        assertTrue(async.isAsyncStarted());
+        assertEquals(1, limiter.getInFlight());
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(matchRequest(), rejected, (req, res) -> { });
+        assertEquals(503, rejected.getStatus());
+
+        async.getAsyncContext().complete();
+
+        assertEquals(0, limiter.getInFlight());
+        MockHttpServletResponse admitted = new MockHttpServletResponse();
+        filter.doFilter(matchRequest(), admitted, (req, res) -> { });
+        assertEquals(200, admitted.getStatus());
+    }
+
+    @Test
+    void streamedRequestHoldsItsPermitUntilTheFirstByteIsWritten() throws Exception {
+        MockHttpServletRequest stream = new MockHttpServletRequest("POST", "/api/v1/vectors/jobs/match/stream");
+        stream.setAsyncSupported(true);
+        ServletOutputStream[] body = new ServletOutputStream[1];
+
+        filter.doFilter(stream, new MockHttpServletResponse(), (req, res) -> {
+            ((MockHttpServletRequest) req).startAsync(req, res);
+            body[0] = res.getOutputStream();
+        });
+
+        // Still preparing the query: a second request is shed
+        assertEquals(1, limiter.getInFlight());
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/vectors/jobs/match/export"), rejected,
+            (req, res) -> { });
+        assertEquals(503, rejected.getStatus());
+
+        body[0].write("{}\n".getBytes(StandardCharsets.UTF_8));
+        assertEquals(0, limiter.getInFlight());
+
+        // The download goes on without a permit, and completing it releases nothing more
+        body[0].write("{}\n".getBytes(StandardCharsets.UTF_8));
+        stream.getAsyncContext().complete();
+        assertEquals(0, limiter.getInFlight());
+        MockHttpServletResponse admitted = new MockHttpServletResponse();
+        filter.doFilter(matchRequest(), admitted, (req, res) -> { });
+        assertEquals(200, admitted.getStatus());
+    }
+
+    @Test
+    void releasesThePermitWhenWritingThroughTheWriter() throws Exception {
+        filter.doFilter(matchRequest(), new MockHttpServletResponse(), (req, res) -> {
+            res.getWriter().write("{}");
+            assertEquals(0, limiter.getInFlight());
+        });
+
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    private static MockHttpServletRequest matchRequest() {
+        return new MockHttpServletRequest("POST", "/api/v1/vectors/jobs/match");
+    }
+}
@@ -0,0 +1,70 @@
+package com.george.config;
+
+import com.mongodb.MongoWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.WriteError;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.result.UpdateResult;
+import io.github.bucket4j.distributed.remote.RemoteBucketState;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MongoBucketProxyManagerTest {
+
+    @Mock
+    private MongoCollection<Document> collection;
+
+    @Test
+    void firstSwapInsertsBucketWithExpiry() {
+        MongoBucketProxyManager proxyManager = new MongoBucketProxyManager(collection);
+
+        assertTrue(proxyManager.swap("MATCH|ip:10.0.0.1", null, new byte[] {1}, mock(RemoteBucketState.class)));
+
+        ArgumentCaptor<Document> inserted = ArgumentCaptor.forClass(Document.class);
+        verify(collection).insertOne(inserted.capture());
+        assertEquals("MATCH|ip:10.0.0.1", inserted.getValue().get("_id"));
+        assertNotNull(inserted.getValue().get(MongoBucketProxyManager.EXPIRES_AT_FIELD));
+    }
+
+    @Test
+    void firstSwapLosesToConcurrentInsert() {
+        MongoBucketProxyManager proxyManager = new MongoBucketProxyManager(collection);
+        doThrow(new MongoWriteException(new WriteError(11000, "duplicate key", new BsonDocument()), new ServerAddress()))
+            .when(collection).insertOne(any(Document.class));
+
+        assertFalse(proxyManager.swap("MATCH|ip:10.0.0.1", null, new byte[] {1}, mock(RemoteBucketState.class)));
+    }
+
+    @Test
+    void swapFailsWhenStoredStateChanged() {
+        MongoBucketProxyManager proxyManager = new MongoBucketProxyManager(collection);
+        when(collection.updateOne(any(Bson.class), any(Bson.class))).thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+        assertFalse(proxyManager.swap("MATCH|ip:10.0.0.1", new byte[] {1}, new byte[] {2}, mock(RemoteBucketState.class)));
+    }
+
+    @Test
+    void swapSucceedsWhenStateMatchesEvenIfUnchanged() {
+        MongoBucketProxyManager proxyManager = new MongoBucketProxyManager(collection);
+        when(collection.updateOne(any(Bson.class), any(Bson.class))).thenReturn(UpdateResult.acknowledged(1, 0L, null));
+
+        assertTrue(proxyManager.swap("MATCH|ip:10.0.0.1", new byte[] {1}, new byte[] {1}, mock(RemoteBucketState.class)));
+    }
+}
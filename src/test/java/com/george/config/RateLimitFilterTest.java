@@ -0,0 +1,151 @@
+package com.george.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.george.config.RateLimitConfig.RateLimitFilter;
+import com.george.exception.ErrorCode;
+import com.george.exception.RateLimitException;
+import com.mongodb.MongoTimeoutException;
+import com.mongodb.client.MongoCollection;
+import io.github.bucket4j.distributed.BucketProxy;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.RemoteBucketBuilder;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RateLimitFilterTest {
+
+    private final RateLimitFilter filter = new RateLimitFilter(properties(), new ObjectMapper().findAndRegisterModules());
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void keepsSeparateBucketsPerEndpoint() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            assertEquals(200, send(request("GET", "/api/v1/vectors/generate", null)).getStatus());
+        }
+        MockHttpServletResponse rejected = send(request("GET", "/api/v1/vectors/generate", null));
+
+        assertEquals(429, rejected.getStatus());
+        assertTrue(rejected.getContentAsString().contains("RATE_002"));
+        assertEquals(200, send(request("POST", "/api/v1/vectors/jobs/match", null)).getStatus());
+    }
+
+    @Test
+    void scalesLimitsByApiKeyTierAndIgnoresUnknownKeys() throws Exception {
+        for (int i = 0; i < 6; i++) {
+            assertEquals(200, send(request("GET", "/api/v1/vectors/generate", "premium-key")).getStatus());
+        }
+        assertEquals(200, send(request("GET", "/api/v1/vectors/generate", "made-up-key")).getStatus());
+        assertEquals(200, send(request("GET", "/api/v1/vectors/generate", "made-up-key")).getStatus());
+
+        assertEquals(429, send(request("GET", "/api/v1/vectors/generate", "other-made-up-key")).getStatus());
+    }
+
+    @Test
+    void chargesEmbeddingMissesOnTopOfAdmission() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            filter.doFilter(request("POST", "/api/v1/vectors/jobs/match", null), new MockHttpServletResponse(),
+                (req, res) -> {
+                    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes((MockHttpServletRequest) req));
+                    RateLimitBudget.chargeEmbeddingMiss();
+                });
+        }
+
+        assertEquals(429, send(request("POST", "/api/v1/vectors/jobs/match", null)).getStatus());
+    }
+
+    @Test
+    void chargesExportJobsPerProfile() throws Exception {
+        MockHttpServletRequest submit = request("POST", "/api/v1/vectors/export-jobs", null);
+
+        filter.doFilter(submit, new MockHttpServletResponse(), (req, res) -> {
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes((MockHttpServletRequest) req));
+            RateLimitBudget.chargeItems(20);
+            RateLimitException e = assertThrows(RateLimitException.class, () -> RateLimitBudget.chargeItems(2));
+            assertEquals(ErrorCode.RATE_LIMIT_EXPORT_JOBS_EXCEEDED, e.getErrorCode());
+        });
+
+        assertEquals(200, send(request("GET", "/api/v1/vectors/export-jobs/abc", null)).getStatus());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void letsRequestsThroughWhenSharedBucketStoreFails() throws Exception {
+        ProxyManager<String> proxyManager = mock(ProxyManager.class);
+        RemoteBucketBuilder<String> builder = mock(RemoteBucketBuilder.class);
+        BucketProxy bucket = mock(BucketProxy.class);
+        when(proxyManager.builder()).thenReturn(builder);
+        when(builder.withOptimization(any())).thenReturn(builder);
+        when(builder.build(anyString(), any(Supplier.class))).thenReturn(bucket);
+        when(bucket.tryConsume(anyLong())).thenThrow(new IllegalStateException("store down"));
+        RateLimitFilter distributed = new RateLimitFilter(properties(), proxyManager, new ObjectMapper());
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        distributed.doFilter(request("POST", "/api/v1/vectors/jobs/match", null), response, (req, res) -> { });
+
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void letsRequestsThroughWhenMongoBucketStoreFails() throws Exception {
+        MongoCollection<Document> collection = mock(MongoCollection.class);
+        when(collection.find(any(Bson.class))).thenThrow(new MongoTimeoutException("no server available"));
+        RateLimitFilter distributed = new RateLimitFilter(properties(), new MongoBucketProxyManager(collection),
+            new ObjectMapper());
+
+        // More requests than the generate limit of 2, all let through
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            distributed.doFilter(request("GET", "/api/v1/vectors/generate", null), response, (req, res) -> { });
+            assertEquals(200, response.getStatus());
+        }
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> { });
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String path, String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.addHeader("X-Forwarded-For", "10.0.0.1");
+        if (apiKey != null) {
+            request.addHeader("X-API-Key", apiKey);
+        }
+        return request;
+    }
+
+    private static AppProperties.Security.RateLimit properties() {
+        AppProperties.Security.RateLimit properties = new AppProperties.Security.RateLimit();
+        properties.getGenerate().setRequests(2);
+        properties.getMatch().setRequests(10);
+        properties.getExportJobs().setRequests(20);
+        properties.setTiers(Map.of("premium", 3.0));
+        properties.setApiKeys(List.of("premium-key:premium"));
+        return properties;
+    }
+}
@@ -0,0 +1,105 @@
+package com.george.config;
+
+import com.george.config.CompressionConfig.ResponseCompressionFilter;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResponseCompressionFilterTest {
+
+    private static final String BODY = "{\"matches\":[" + "{\"jobTitle\":\"Java Developer\"},".repeat(50) + "{}]}";
+
+    private final ResponseCompressionFilter filter =
+        new ResponseCompressionFilter(true, 6, List.of("application/json", "text/csv"));
+
+    @Test
+    void compressesMatchResponsesWhenGzipIsAccepted() throws Exception {
+        MockHttpServletRequest request = matchRequest("gzip, deflate, br");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            res.setContentType("application/json");
+            res.setContentLength(BODY.length());
+            res.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+        });
+
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeader(HttpHeaders.VARY));
+        assertNull(response.getHeader(HttpHeaders.CONTENT_LENGTH));
+        assertEquals("gzip", request.getAttribute(ResponseCompressionFilter.CONTENT_CODING_ATTRIBUTE));
+        assertTrue(response.getContentAsByteArray().length < BODY.length());
+        assertEquals(BODY, gunzip(response.getContentAsByteArray()));
+    }
+
+    @Test
+    void leavesResponseAloneWithoutGzipOrForOtherTypes() throws Exception {
+        MockHttpServletRequest identity = matchRequest("gzip;q=0, *");
+        MockHttpServletResponse identityResponse = new MockHttpServletResponse();
+        filter.doFilter(identity, identityResponse, (req, res) -> {
+            res.setContentType("application/json");
+            res.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+        });
+
+        assertNull(identityResponse.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertNull(identity.getAttribute(ResponseCompressionFilter.CONTENT_CODING_ATTRIBUTE));
+        assertEquals(BODY, identityResponse.getContentAsString());
+
+        MockHttpServletResponse eventResponse = new MockHttpServletResponse();
+        filter.doFilter(matchRequest("gzip"), eventResponse, (req, res) -> {
+            res.setContentType("text/event-stream");
+            res.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+        });
+
+        assertNull(eventResponse.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(BODY, eventResponse.getContentAsString());
+    }
+
+    @Test
+    void notModifiedResponsesHaveNoContentEncoding() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(matchRequest("gzip"), response, (req, res) -> {
+            ((HttpServletResponse) res).setStatus(304);
+            ((HttpServletResponse) res).setHeader(HttpHeaders.ETAG, "\"abc\"");
+        });
+
+        assertEquals(304, response.getStatus());
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void acceptsGzip_FollowsWeights() {
+        assertTrue(ResponseCompressionFilter.acceptsGzip("gzip"));
+        assertTrue(ResponseCompressionFilter.acceptsGzip("br;q=1.0, gzip;q=0.8"));
+        assertTrue(ResponseCompressionFilter.acceptsGzip("*"));
+        assertFalse(ResponseCompressionFilter.acceptsGzip("identity"));
+        assertFalse(ResponseCompressionFilter.acceptsGzip("gzip;q=0"));
+        assertFalse(ResponseCompressionFilter.acceptsGzip(null));
+    }
+
+    private static MockHttpServletRequest matchRequest(String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/vectors/jobs/match");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        return request;
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.george.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.george.config.AppProperties;
+import com.george.exception.EmbeddingException;
+import com.george.exception.ErrorCode;
+import com.george.exception.GlobalExceptionHandler;
+import com.george.service.CatalogEpochService;
+import com.george.service.CreateEmbeddings;
+import com.george.service.ExportService;
+import com.george.service.JobMatchingService;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/** {@code /generate}, whose response waits for an embedding run on the ingestion executor. */
+class VectorControllerGenerateTest {
+
+    private static final String GENERATE_PATH = "/api/v1/vectors/generate";
+
+    private final CreateEmbeddings createEmbeddings = mock(CreateEmbeddings.class);
+    private final AppProperties appProperties = new AppProperties();
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        appProperties.getIngestion().setRunTimeoutMs(120000);
+        VectorController controller = new VectorController(createEmbeddings, mock(JobMatchingService.class),
+            mock(ExportService.class), mock(CatalogEpochService.class), new ObjectMapper(), appProperties);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .addPlaceholderValue("app.api.base-path", "/api/v1")
+            .build();
+    }
+
+    @Test
+    void generate_WhenRunCompletes_ReturnsOk() throws Exception {
+        when(createEmbeddings.createEmbeddingsAsync()).thenReturn(CompletableFuture.completedFuture(null));
+
+        MvcResult result = startGenerate();
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().string("Embeddings generated and saved successfully!"));
+    }
+
+    @Test
+    void generate_WaitsForTheConfiguredRunTimeout() throws Exception {
+        when(createEmbeddings.createEmbeddingsAsync()).thenReturn(new CompletableFuture<>());
+
+        MvcResult result = startGenerate();
+
+        assertEquals(120000, result.getRequest().getAsyncContext().getTimeout());
+    }
+
+    @Test
+    void generate_WhenRunOutlastsTimeout_ReturnsGatewayTimeout() throws Exception {
+        when(createEmbeddings.createEmbeddingsAsync()).thenReturn(new CompletableFuture<>());
+
+        MvcResult result = startGenerate();
+        MockAsyncContext asyncContext = (MockAsyncContext) result.getRequest().getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isGatewayTimeout())
+            .andExpect(jsonPath("$.errorCode").value("EMB_007"));
+    }
+
+    @Test
+    void generate_WhenRunFails_ReturnsTheRunError() throws Exception {
+        when(createEmbeddings.createEmbeddingsAsync()).thenReturn(CompletableFuture.supplyAsync(() -> {
+            throw new EmbeddingException(ErrorCode.EMBEDDING_GENERATION_FAILED, "provider rejected batch");
+        }));
+
+        MvcResult result = startGenerate();
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isInternalServerError())
+            .andExpect(jsonPath("$.errorCode").value("EMB_001"))
+            .andExpect(jsonPath("$.message").value("provider rejected batch"));
+    }
+
+    @Test
+    void generate_WhenIngestionIsBusy_ReturnsServiceUnavailable() throws Exception {
+        when(createEmbeddings.createEmbeddingsAsync())
+            .thenThrow(new EmbeddingException(ErrorCode.EMBEDDING_INGESTION_BUSY, "run in progress"));
+
+        mockMvc.perform(get(GENERATE_PATH))
+            .andExpect(request().asyncNotStarted())
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(jsonPath("$.errorCode").value("EMB_005"));
+    }
+
+    private MvcResult startGenerate() throws Exception {
+        return mockMvc.perform(get(GENERATE_PATH))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+    }
+}
@@ -0,0 +1,214 @@
+package com.george.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.george.config.AppProperties;
+import com.george.dto.JobMatchRequest;
+import com.george.exception.ErrorCode;
+import com.george.exception.GlobalExceptionHandler;
+import com.george.exception.JobMatchingException;
+import com.george.model.JobMatch;
+import com.george.model.MatchReason;
+import com.george.model.Post;
+import com.george.service.CatalogEpochService;
+import com.george.service.CreateEmbeddings;
+import com.george.service.ExportService;
+import com.george.service.JobMatchingService;
+import com.george.service.MatchQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * The streamed match endpoint, driven through async dispatch: the body is written after the
+ * handler returns, so headers and framing are only complete once the async result is in.
+ */
+class VectorControllerStreamTest {
+
+    private static final String STREAM_PATH = "/api/v1/vectors/jobs/match/stream";
+
+    private final JobMatchingService jobMatchingService = mock(JobMatchingService.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final MatchQuery query = new MatchQuery("java developer", "profile-key", 10, 0.0, List.of(), null, true, false);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        VectorController controller = new VectorController(mock(CreateEmbeddings.class), jobMatchingService,
+            mock(ExportService.class), mock(CatalogEpochService.class), objectMapper, new AppProperties());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .addPlaceholderValue("app.api.base-path", "/api/v1")
+            .build();
+        when(jobMatchingService.prepareQuery(any(JobMatchRequest.class), any())).thenReturn(query);
+    }
+
+    @Test
+    void stream_WritesOneJsonObjectPerLine() throws Exception {
+        streamResults(match("a", "Java Developer"), match("b", "Kotlin Developer"));
+
+        MvcResult result = startStream(MediaType.ALL_VALUE);
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-ndjson"))
+            .andExpect(header().string("Cache-Control", "no-cache"))
+            .andExpect(header().string("X-Profile-Key", "profile-key"));
+
+        String[] lines = result.getResponse().getContentAsString().split("\n", -1);
+        assertEquals(3, lines.length);
+        assertEquals("a", objectMapper.readTree(lines[0]).path("job").path("id").asText());
+        assertEquals("Kotlin Developer", objectMapper.readTree(lines[1]).path("job").path("jobTitle").asText());
+        assertEquals("", lines[2]);
+    }
+
+    @Test
+    void stream_WithoutFieldSelection_WritesNullFields() throws Exception {
+        streamResults(match("a", "Java Developer"));
+
+        MvcResult result = startStream(MediaType.ALL_VALUE);
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+        var job = objectMapper.readTree(result.getResponse().getContentAsString().split("\n")[0]).path("job");
+        assertTrue(job.has("company"));
+        assertTrue(job.path("company").isNull());
+        assertFalse(job.has("snippet"));
+    }
+
+    @Test
+    void stream_WithFieldSelection_LeavesOutNullFields() throws Exception {
+        JobMatch selected = match("a", "Java Developer");
+        selected.getJob().setFieldSelection(true);
+        streamResults(selected);
+
+        MvcResult result = startStream(MediaType.ALL_VALUE);
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+        var job = objectMapper.readTree(result.getResponse().getContentAsString().split("\n")[0]).path("job");
+        assertEquals("a", job.path("id").asText());
+        assertEquals("Java Developer", job.path("jobTitle").asText());
+        assertFalse(job.has("company"));
+        assertFalse(job.has("jobDescription"));
+    }
+
+    @Test
+    void stream_WithEventStreamAccept_WritesDataEventsAndEndEvent() throws Exception {
+        streamResults(match("a", "Java Developer"), match("b", "Kotlin Developer"));
+
+        MvcResult result = startStream(MediaType.TEXT_EVENT_STREAM_VALUE);
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM));
+
+        String[] events = result.getResponse().getContentAsString().split("\n\n", -1);
+        assertEquals(4, events.length);
+        assertTrue(events[0].startsWith("data: "));
+        assertEquals("a", objectMapper.readTree(events[0].substring("data: ".length())).path("job").path("id").asText());
+        assertTrue(events[1].startsWith("data: "));
+        assertEquals("event: end\ndata: {\"totalMatches\":2}", events[2]);
+        assertEquals("", events[3]);
+    }
+
+    @Test
+    void stream_WithEventStreamAccept_ReportsMidStreamFailureAsErrorEvent() throws Exception {
+        failAfter(match("a", "Java Developer"),
+            new JobMatchingException(ErrorCode.JOB_MATCHING_DATABASE_ERROR, "cursor lost"));
+
+        MvcResult result = startStream(MediaType.TEXT_EVENT_STREAM_VALUE);
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk());
+
+        String[] events = result.getResponse().getContentAsString().split("\n\n", -1);
+        assertEquals(3, events.length);
+        assertTrue(events[0].startsWith("data: "));
+        assertTrue(events[1].startsWith("event: error\ndata: "));
+        var error = objectMapper.readTree(events[1].substring("event: error\ndata: ".length()));
+        assertEquals("JOB_003", error.path("errorCode").asText());
+        assertEquals(500, error.path("status").asInt());
+        assertEquals("cursor lost", error.path("message").asText());
+        assertFalse(result.getResponse().getContentAsString().contains("event: end"));
+    }
+
+    @Test
+    void stream_ReportsMidStreamNdjsonFailureAsAsyncError() throws Exception {
+        JobMatchingException failure = new JobMatchingException(ErrorCode.JOB_MATCHING_DATABASE_ERROR, "cursor lost");
+        failAfter(match("a", "Java Developer"), failure);
+
+        MvcResult result = startStream(MediaType.ALL_VALUE);
+        // The response is already committed, so the failure ends the async request instead
+        // of being written as a trailing line the client might take for a result
+        assertSame(failure, result.getAsyncResult());
+        assertEquals("a", objectMapper.readTree(result.getResponse().getContentAsString().split("\n")[0])
+            .path("job").path("id").asText());
+    }
+
+    @Test
+    void stream_WithFailureBeforeStreaming_ReturnsJsonError() throws Exception {
+        when(jobMatchingService.prepareQuery(any(JobMatchRequest.class), any()))
+            .thenThrow(new JobMatchingException(ErrorCode.JOB_MATCHING_EMBEDDING_ERROR, "no embedding"));
+
+        mockMvc.perform(post(STREAM_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_JSON)
+                .content(requestBody()))
+            .andExpect(request().asyncNotStarted())
+            .andExpect(status().isInternalServerError())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.errorCode").value("JOB_004"));
+    }
+
+    private MvcResult startStream(String accept) throws Exception {
+        return mockMvc.perform(post(STREAM_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Accept", accept)
+                .content(requestBody()))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+    }
+
+    private String requestBody() throws Exception {
+        JobMatchRequest request = new JobMatchRequest();
+        request.setUserProfile("Experienced Java developer");
+        return objectMapper.writeValueAsString(request);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void streamResults(JobMatch... matches) {
+        when(jobMatchingService.streamMatches(eq(query), any(Consumer.class))).thenAnswer(invocation -> {
+            Consumer<JobMatch> consumer = invocation.getArgument(1);
+            for (JobMatch match : matches) {
+                consumer.accept(match);
+            }
+            return matches.length;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private void failAfter(JobMatch match, RuntimeException failure) {
+        when(jobMatchingService.streamMatches(eq(query), any(Consumer.class))).thenAnswer(invocation -> {
+            Consumer<JobMatch> consumer = invocation.getArgument(1);
+            consumer.accept(match);
+            throw failure;
+        });
+    }
+
+    private static JobMatch match(String id, String title) {
+        Post job = new Post();
+        job.setId(id);
+        job.setJobTitle(title);
+        return new JobMatch(job, 0.9, List.of(MatchReason.POTENTIAL_MATCH));
+    }
+}
@@ -5,6 +5,7 @@ import com.george.dto.JobMatchResponse;
 import com.george.model.JobMatch;
 import com.george.service.CreateEmbeddings;
 import com.george.service.JobMatchingService;
+import com.george.service.MatchQuery;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,6 +18,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -54,14 +56,17 @@ class VectorControllerTest {
         request.setMinConfidence(0.6);
 
         List<JobMatch> matches = new ArrayList<>();
-        when(jobMatchingService.findMatchingJobs(any(JobMatchRequest.class))).thenReturn(matches);
+        MatchQuery query = new MatchQuery("Experienced Java developer", "profile-key", 10, 0.6, List.of(), null, true, false);
+        when(jobMatchingService.prepareQuery(any(JobMatchRequest.class), any())).thenReturn(query);
+        when(jobMatchingService.findMatchingJobs(query)).thenReturn(matches);
 
         mockMvc.perform(post("/api/v1/vectors/jobs/match")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.matches").exists())
-                .andExpect(jsonPath("$.totalMatches").exists());
+                .andExpect(jsonPath("$.totalMatches").exists())
+                .andExpect(jsonPath("$.profileKey").value("profile-key"));
     }
 
     @Test
@@ -80,7 +85,9 @@ class VectorControllerTest {
         String userProfile = "Experienced Java developer";
         List<JobMatch> matches = new ArrayList<>();
         
-        when(jobMatchingService.findMatchingJobsSimple(userProfile)).thenReturn(matches);
+        MatchQuery query = new MatchQuery(userProfile, "profile-key", 10, 0.0, List.of(), null, true, false);
+        when(jobMatchingService.prepareSimpleQuery(eq(userProfile), any())).thenReturn(query);
+        when(jobMatchingService.findMatchingJobs(query)).thenReturn(matches);
 
         mockMvc.perform(post("/api/v1/vectors/jobs/match/simple")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -0,0 +1,77 @@
+package com.george.integration;
+
+import com.george.config.AppProperties;
+import com.george.service.TechTaxonomyService;
+import com.george.service.VectorSearchQueryBuilder;
+import com.george.util.JobFeatures;
+import com.george.util.TechTaxonomy;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the lexical pipeline, which plain MongoDB supports, to check the {@code preferredTechs}
+ * filter against posts with current, stale and no stored {@code techIds}.
+ */
+@Testcontainers
+class TechFilterIntegrationTest {
+
+    @Container
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer(DockerImageName.parse("mongo:7.0"))
+            .withReuse(true);
+
+    private MongoClient mongoClient;
+    private MongoCollection<Document> collection;
+
+    @BeforeEach
+    void setUp() {
+        mongoClient = MongoClients.create(mongoDBContainer.getReplicaSetUrl());
+        collection = mongoClient.getDatabase("test_db").getCollection("TechFilter");
+        collection.drop();
+        collection.createIndex(Indexes.compoundIndex(Indexes.text("jobTitle"), Indexes.text("requiredTechs")),
+            new IndexOptions().name(VectorSearchQueryBuilder.TEXT_INDEX_NAME));
+        long signature = TechTaxonomy.defaults().getSignature();
+        collection.insertMany(List.of(
+            new Document("_id", "java").append("jobTitle", "Java Developer").append(JobFeatures.TECH_IDS_FIELD, List.of(1))
+                .append(JobFeatures.TAXONOMY_SIGNATURE_FIELD, signature),
+            new Document("_id", "python").append("jobTitle", "Python Developer").append(JobFeatures.TECH_IDS_FIELD, List.of(2))
+                .append(JobFeatures.TAXONOMY_SIGNATURE_FIELD, signature),
+            new Document("_id", "stale").append("jobTitle", "Ruby Developer").append(JobFeatures.TECH_IDS_FIELD, List.of(2))
+                .append(JobFeatures.TAXONOMY_SIGNATURE_FIELD, signature + 1),
+            new Document("_id", "legacy").append("jobTitle", "Backend Developer")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        mongoClient.close();
+    }
+
+    @Test
+    void preferredTechs_KeepsMatchingPostsAndPostsWithoutCurrentTechIds() {
+        List<Document> pipeline = new VectorSearchQueryBuilder(new AppProperties(), new TechTaxonomyService(null, new AppProperties()))
+            .buildLexicalPipeline("developer", 10, 0.0, new int[] {1}, List.of("jobTitle"), false);
+
+        Set<Object> ids = collection.aggregate(pipeline).into(new ArrayList<>()).stream()
+            .map(document -> document.get("_id"))
+            .collect(Collectors.toSet());
+
+        assertEquals(Set.of("java", "stale", "legacy"), ids);
+    }
+}
@@ -1,16 +1,41 @@
 package com.george.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.george.config.AppProperties;
+import com.george.config.RateLimitConfig.RateLimitFilter;
+import com.george.exception.EmbeddingException;
+import com.george.exception.ErrorCode;
+import com.george.exception.JobMatchingException;
+import com.george.exception.RateLimitException;
 import com.george.service.api.EmbeddingProvider;
+import com.george.service.embedding.EmbeddingCircuitBreaker;
+import com.george.service.embedding.EmbeddingScheduler;
+import com.george.util.CircuitBreaker;
+import com.george.util.Deadline;
 import org.bson.BsonArray;
 import org.bson.BsonDouble;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -19,6 +44,12 @@ class EmbeddingCacheServiceTest {
     @Mock
     private EmbeddingProvider embeddingProvider;
 
+    @Spy
+    private EmbeddingScheduler embeddingScheduler = new EmbeddingScheduler(2, 1);
+
+    @Spy
+    private EmbeddingCircuitBreaker circuitBreaker = new EmbeddingCircuitBreaker((CircuitBreaker) null);
+
     @InjectMocks
     private EmbeddingCacheService embeddingCacheService;
 
@@ -26,6 +57,11 @@ class EmbeddingCacheServiceTest {
     void setUp() {
     }
 
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
     @Test
     void getCachedEmbedding_WithNullText_ThrowsException() {
         assertThrows(IllegalArgumentException.class, () -> {
@@ -72,6 +108,167 @@ class EmbeddingCacheServiceTest {
         });
     }
 
+    @Test
+    void getCachedEmbeddingAsync_CachesResultForBothPaths() throws Exception {
+        String text = "Java developer";
+        BsonArray expectedEmbedding = createMockEmbedding();
+        EmbeddingCacheService service = new EmbeddingCacheService(embeddingProvider,
+            new ConcurrentMapCacheManager("embeddings"), embeddingScheduler, circuitBreaker);
+        
+        when(embeddingProvider.getEmbeddingAsync(text)).thenReturn(CompletableFuture.completedFuture(expectedEmbedding));
+
+        assertSame(expectedEmbedding, service.getCachedEmbeddingAsync(text).get());
+        assertSame(expectedEmbedding, service.getCachedEmbeddingAsync(text).get());
+        verify(embeddingProvider, times(1)).getEmbeddingAsync(text);
+    }
+
+    @Test
+    void getCachedEmbeddingAsync_WithTimings_RecordsCacheLookupAndProviderCall() throws Exception {
+        String text = "Java developer";
+        EmbeddingCacheService service = new EmbeddingCacheService(embeddingProvider,
+            new ConcurrentMapCacheManager("embeddings"), embeddingScheduler, circuitBreaker);
+        when(embeddingProvider.getEmbeddingAsync(text)).thenReturn(CompletableFuture.completedFuture(createMockEmbedding()));
+
+        MatchTimings miss = new MatchTimings();
+        service.getCachedEmbeddingAsync(text, null, miss).get();
+        MatchTimings hit = new MatchTimings();
+        service.getCachedEmbeddingAsync(text, null, hit).get();
+
+        assertEquals(Boolean.FALSE, miss.getCacheHit());
+        assertTrue(miss.isRecorded(MatchTimings.Stage.CACHE_LOOKUP));
+        assertTrue(miss.isRecorded(MatchTimings.Stage.PROVIDER_CALL));
+        assertFalse(miss.isProviderFailed());
+        assertEquals(Boolean.TRUE, hit.getCacheHit());
+        assertTrue(hit.isRecorded(MatchTimings.Stage.CACHE_LOOKUP));
+        assertFalse(hit.isRecorded(MatchTimings.Stage.PROVIDER_CALL));
+    }
+
+    @Test
+    void getCachedEmbeddingAsync_WithNullEmbedding_CompletesExceptionally() {
+        String text = "Java developer";
+        
+        when(embeddingProvider.getEmbeddingAsync(text)).thenReturn(CompletableFuture.completedFuture(null));
+
+        CompletableFuture<BsonArray> result = embeddingCacheService.getCachedEmbeddingAsync(text);
+        assertTrue(result.isCompletedExceptionally());
+    }
+
+    @Test
+    void getCachedEmbedding_WithDeadline_TimesOutWithoutWaitingForProvider() {
+        String text = "Java developer";
+        
+        when(embeddingProvider.getEmbeddingAsync(eq(text), any(Duration.class))).thenReturn(new CompletableFuture<>());
+
+        JobMatchingException e = assertThrows(JobMatchingException.class, () ->
+            embeddingCacheService.getCachedEmbedding(text, Deadline.after(Duration.ofMillis(50))));
+        assertEquals(ErrorCode.JOB_MATCHING_DEADLINE_EXCEEDED, e.getErrorCode());
+    }
+
+    @Test
+    void getCachedEmbeddingAsync_WithExpiredDeadlineWhenSlotFrees_SkipsProviderCall() throws Exception {
+        String text = "Java developer";
+        EmbeddingScheduler scheduler = new EmbeddingScheduler(1, 0);
+        EmbeddingCacheService service = new EmbeddingCacheService(embeddingProvider, null, scheduler, circuitBreaker);
+        CompletableFuture<BsonArray> slowCall = new CompletableFuture<>();
+        when(embeddingProvider.getEmbeddingAsync(eq("slow profile"), any(Duration.class))).thenReturn(slowCall);
+
+        service.getCachedEmbeddingAsync("slow profile", Deadline.after(Duration.ofSeconds(10)));
+        CompletableFuture<BsonArray> queued = service.getCachedEmbeddingAsync(text, Deadline.after(Duration.ofMillis(20)));
+        Thread.sleep(50);
+        slowCall.complete(createMockEmbedding());
+
+        ExecutionException e = assertThrows(ExecutionException.class, queued::get);
+        assertEquals(ErrorCode.JOB_MATCHING_DEADLINE_EXCEEDED, ((JobMatchingException) e.getCause()).getErrorCode());
+        verify(embeddingProvider, never()).getEmbeddingAsync(eq(text), any(Duration.class));
+    }
+
+    @Test
+    void getCachedEmbeddingAsync_WhenDeadlinePassesWhileQueued_GivesThePermissionBack() {
+        EmbeddingScheduler scheduler = new EmbeddingScheduler(1, 0);
+        EmbeddingCacheService service = new EmbeddingCacheService(embeddingProvider, null, scheduler, circuitBreaker);
+        when(embeddingProvider.getEmbeddingAsync(eq("slow profile"), any(Duration.class))).thenReturn(new CompletableFuture<>());
+
+        service.getCachedEmbeddingAsync("slow profile", Deadline.after(Duration.ofSeconds(10)));
+        CompletableFuture<BsonArray> queued = service.getCachedEmbeddingAsync("Java developer", Deadline.after(Duration.ofMillis(20)));
+
+        assertThrows(ExecutionException.class, queued::get);
+        verify(circuitBreaker).release();
+        verify(embeddingProvider, never()).getEmbeddingAsync(eq("Java developer"), any(Duration.class));
+    }
+
+    @Test
+    void getCachedEmbeddingAsync_WhenQueueIsFull_GivesThePermissionBack() {
+        EmbeddingScheduler scheduler = new EmbeddingScheduler(1, 0, 0);
+        EmbeddingCacheService service = new EmbeddingCacheService(embeddingProvider, null, scheduler, circuitBreaker);
+        when(embeddingProvider.getEmbeddingAsync("slow profile")).thenReturn(new CompletableFuture<>());
+
+        service.getCachedEmbeddingAsync("slow profile");
+        ExecutionException e = assertThrows(ExecutionException.class,
+            () -> service.getCachedEmbeddingAsync("Java developer").get());
+
+        assertEquals(ErrorCode.EMBEDDING_INGESTION_BUSY, ((EmbeddingException) e.getCause()).getErrorCode());
+        verify(circuitBreaker).release();
+    }
+
+    @Test
+    void getCachedEmbedding_WithOpenCircuit_FailsFastWithoutCallingProvider() {
+        EmbeddingCircuitBreaker breaker = new EmbeddingCircuitBreaker(
+            new CircuitBreaker(2, 2, 0.5, Duration.ofSeconds(5), Duration.ofMinutes(1)));
+        EmbeddingCacheService service = new EmbeddingCacheService(embeddingProvider, null, embeddingScheduler, breaker);
+        when(embeddingProvider.getEmbedding(anyString())).thenThrow(new IllegalStateException("provider down"));
+
+        assertThrows(IllegalStateException.class, () -> service.getCachedEmbedding("first"));
+        assertThrows(IllegalStateException.class, () -> service.getCachedEmbedding("second"));
+        EmbeddingException e = assertThrows(EmbeddingException.class, () -> service.getCachedEmbedding("third"));
+        
+        assertEquals(ErrorCode.EMBEDDING_PROVIDER_UNAVAILABLE, e.getErrorCode());
+        assertTrue(breaker.isOpen());
+        verify(embeddingProvider, never()).getEmbedding("third");
+    }
+
+    @Test
+    void getCachedEmbedding_WithOpenCircuit_DoesNotChargeTheMiss() throws Exception {
+        EmbeddingCircuitBreaker breaker = new EmbeddingCircuitBreaker(
+            new CircuitBreaker(2, 2, 0.5, Duration.ofSeconds(5), Duration.ofMinutes(1)));
+        EmbeddingCacheService service = new EmbeddingCacheService(embeddingProvider, null, embeddingScheduler, breaker);
+        when(embeddingProvider.getEmbedding(anyString())).thenThrow(new IllegalStateException("provider down"));
+        assertThrows(IllegalStateException.class, () -> service.getCachedEmbedding("first"));
+        assertThrows(IllegalStateException.class, () -> service.getCachedEmbedding("second"));
+        RateLimitFilter filter = matchLimitFilter(5);
+
+        filter.doFilter(matchRequest(), new MockHttpServletResponse(), (req, res) -> {
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes((MockHttpServletRequest) req));
+            assertThrows(EmbeddingException.class, () -> service.getCachedEmbedding("third"));
+        });
+        MockHttpServletResponse next = new MockHttpServletResponse();
+        filter.doFilter(matchRequest(), next, (req, res) -> { });
+
+        assertEquals(200, next.getStatus());
+    }
+
+    @Test
+    void getCachedEmbedding_WhenMissIsOverBudget_GivesThePermissionBack() throws Exception {
+        matchLimitFilter(1).doFilter(matchRequest(), new MockHttpServletResponse(), (req, res) -> {
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes((MockHttpServletRequest) req));
+            assertThrows(RateLimitException.class, () -> embeddingCacheService.getCachedEmbedding("test text"));
+        });
+
+        verify(circuitBreaker).release();
+        verify(embeddingProvider, never()).getEmbedding(anyString());
+    }
+
+    private static RateLimitFilter matchLimitFilter(int requests) {
+        AppProperties.Security.RateLimit properties = new AppProperties.Security.RateLimit();
+        properties.getMatch().setRequests(requests);
+        return new RateLimitFilter(properties, new ObjectMapper());
+    }
+
+    private static MockHttpServletRequest matchRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/vectors/jobs/match");
+        request.setRemoteAddr("10.0.0.1");
+        return request;
+    }
+
     private BsonArray createMockEmbedding() {
         BsonArray embedding = new BsonArray();
         for (int i = 0; i < 10; i++) {
@@ -0,0 +1,179 @@
+package com.george.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.george.config.AppProperties;
+import com.george.dto.ExportJobRequest;
+import com.george.dto.ExportJobStatus;
+import com.george.exception.ErrorCode;
+import com.george.exception.ExportException;
+import com.george.exception.JobMatchingException;
+import com.george.exception.ResourceNotFoundException;
+import com.george.model.JobMatch;
+import com.george.model.Post;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ExportJobServiceTest {
+
+    private static final String FIRST = "Java developer with Spring experience";
+    private static final String SECOND = "Python data engineer with Spark";
+    private static final String BROKEN = "Profile whose embedding cannot be generated";
+
+    @TempDir
+    Path exportDirectory;
+
+    private JobMatchingService jobMatchingService;
+    private AppProperties appProperties;
+
+    @BeforeEach
+    void setUp() {
+        jobMatchingService = mock(JobMatchingService.class);
+        appProperties = new AppProperties();
+        appProperties.getExport().setDirectory(exportDirectory.toString());
+        appProperties.getExport().setBatchSize(2);
+        stubMatches(FIRST, match("Java Developer", 0.9), match("Spring Engineer", 0.7));
+        stubMatches(SECOND, match("Data Engineer", 0.8));
+        when(jobMatchingService.prepareQuery(eq(BROKEN), anyInt(), anyDouble()))
+            .thenThrow(new JobMatchingException(ErrorCode.JOB_MATCHING_EMBEDDING_ERROR, "embedding failed"));
+    }
+
+    @Test
+    void submit_WritesCsvInProfileOrderAndSkipsFailedProfiles() throws IOException {
+        ExportJobService service = service(Runnable::run);
+
+        ExportJobStatus queued = service.submit(new ExportJobRequest(List.of(FIRST, BROKEN, SECOND), "csv"));
+        ExportJobStatus status = service.getStatus(queued.getId());
+
+        assertEquals(ExportJobStatus.State.COMPLETED, status.getState());
+        assertEquals(3, status.getProfilesTotal());
+        assertEquals(2, status.getProfilesProcessed());
+        assertEquals(1, status.getProfilesFailed());
+        assertEquals(3, status.getMatchesWritten());
+        assertEquals(1, status.getFiles().size());
+
+        String[] lines = gunzip(service.resolveFile(status.getId(), status.getFiles().get(0).getName())).split("\n");
+        assertEquals(4, lines.length);
+        assertTrue(lines[0].startsWith("Profile,Job Title,"));
+        assertTrue(lines[1].startsWith("0,Java Developer,"));
+        assertTrue(lines[2].startsWith("0,Spring Engineer,"));
+        assertTrue(lines[3].startsWith("2,Data Engineer,"));
+    }
+
+    @Test
+    void submit_WritesNdjsonRecordsWithProfileIndex() throws IOException {
+        ExportJobService service = service(Runnable::run);
+
+        ExportJobStatus status = service.getStatus(
+            service.submit(new ExportJobRequest(List.of(SECOND), "ndjson")).getId());
+
+        ExportJobStatus.File file = status.getFiles().get(0);
+        assertEquals("matches-0001.ndjson.gz", file.getName());
+        JsonNode record = new ObjectMapper().readTree(gunzip(service.resolveFile(status.getId(), file.getName())));
+        assertEquals(0, record.get("profileIndex").asInt());
+        assertEquals("Data Engineer", record.get("match").get("job").get("jobTitle").asText());
+        assertNotNull(service.resolveFile(status.getId(), file.getName() + ".sha256"));
+    }
+
+    @Test
+    void submit_WhenQueueIsFull_ThrowsAndForgetsJob() {
+        ExportJobService service = service(task -> {
+            throw new RejectedExecutionException("full");
+        });
+
+        ExportException e = assertThrows(ExportException.class,
+            () -> service.submit(new ExportJobRequest(List.of(FIRST), "csv")));
+        assertEquals(ErrorCode.EXPORT_QUEUE_FULL, e.getErrorCode());
+    }
+
+    @Test
+    void submit_WithTooManyProfiles_Throws() {
+        appProperties.getExport().setMaxProfiles(1);
+        ExportJobService service = service(Runnable::run);
+
+        assertThrows(IllegalArgumentException.class,
+            () -> service.submit(new ExportJobRequest(List.of(FIRST, SECOND), "csv")));
+    }
+
+    @Test
+    void resolveFile_RejectsNamesOutsideTheJob() {
+        ExportJobService service = service(Runnable::run);
+        String id = service.submit(new ExportJobRequest(List.of(FIRST), "csv")).getId();
+
+        assertThrows(ResourceNotFoundException.class, () -> service.resolveFile(id, "../other/matches-0001.csv.gz"));
+        assertThrows(ResourceNotFoundException.class, () -> service.resolveFile("missing", "matches-0001.csv.gz"));
+    }
+
+    @Test
+    void purgeExpired_RemovesOnlyExpiredDirectoriesOfThisNode() throws IOException {
+        appProperties.getExport().setNodeId("node-a");
+        ExportJobService service = service(Runnable::run);
+        String live = service.submit(new ExportJobRequest(List.of(FIRST), "csv")).getId();
+        Path ownLeftover = leftover("own", "node-a");
+        Path otherNode = leftover("other", "node-b");
+        Path unmarked = leftover("unmarked", null);
+
+        service.purgeExpired();
+
+        assertEquals("node-a", Files.readString(exportDirectory.resolve(live).resolve(ExportJobService.OWNER_FILE)));
+        assertTrue(Files.exists(exportDirectory.resolve(live)));
+        assertFalse(Files.exists(ownLeftover));
+        assertTrue(Files.exists(otherNode));
+        assertTrue(Files.exists(unmarked));
+    }
+
+    /** A job directory from an earlier run, older than the retention period. */
+    private Path leftover(String name, String nodeId) throws IOException {
+        Path directory = Files.createDirectories(exportDirectory.resolve(name));
+        Files.writeString(directory.resolve("matches-0001.csv.gz"), "");
+        if (nodeId != null) {
+            Files.writeString(directory.resolve(ExportJobService.OWNER_FILE), nodeId);
+        }
+        Files.setLastModifiedTime(directory, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+        return directory;
+    }
+
+    private ExportJobService service(Executor jobExecutor) {
+        return new ExportJobService(jobMatchingService, new ExportService(jobMatchingService), appProperties,
+            jobExecutor, Runnable::run, new ObjectMapper());
+    }
+
+    private void stubMatches(String profile, JobMatch... matches) {
+        MatchQuery query = mock(MatchQuery.class);
+        when(jobMatchingService.prepareQuery(eq(profile), anyInt(), anyDouble())).thenReturn(query);
+        when(jobMatchingService.findMatchingJobs(query)).thenReturn(List.of(matches));
+    }
+
+    private static JobMatch match(String title, double confidence) {
+        Post post = new Post();
+        post.setJobTitle(title);
+        return new JobMatch(post, confidence, null);
+    }
+
+    private static String gunzip(Path file) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.george.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.george.dto.JobMatchResponse;
+import com.george.model.JobMatch;
+import com.george.model.MatchReason;
+import com.george.model.Post;
+import com.george.model.ReasonCode;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ExportServiceTest {
+
+    private JobMatchingService jobMatchingService;
+    private ExportService exportService;
+    private MatchQuery query;
+
+    @BeforeEach
+    void setUp() {
+        jobMatchingService = mock(JobMatchingService.class);
+        exportService = new ExportService(jobMatchingService);
+        query = mock(MatchQuery.class);
+        when(query.getProfileKey()).thenReturn("profile-key");
+    }
+
+    @Test
+    void writeJson_StreamsMatchesInResponseLayout() throws Exception {
+        streams(match("Java Developer", "Acme", 0.91), match("Go Engineer", null, 0.55));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(2, exportService.writeJson(query, out));
+
+        JsonNode json = new ObjectMapper().readTree(out.toByteArray());
+        assertEquals(2, json.get("totalMatches").asInt());
+        assertEquals("profile-key", json.get("profileKey").asText());
+        assertEquals("Java Developer", json.get("matches").get(0).get("job").get("jobTitle").asText());
+        assertEquals("TECH_OVERLAP:[0]", json.get("matches").get(0).get("matchReasons").get(0).asText());
+        assertEquals(0.55, json.get("matches").get(1).get("confidence").asDouble());
+    }
+
+    @Test
+    void writeCsv_WritesHeaderAndOneEscapedRowPerMatch() throws Exception {
+        streams(match("Lead, Platform", "Acme \"Labs\"", 0.9));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(1, exportService.writeCsv(query, out));
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(ExportService.CSV_HEADER.trim(), lines[0]);
+        assertTrue(lines[1].startsWith("\"Lead, Platform\",\"Acme \"\"Labs\"\"\",,,5,Java; Spring,,,,"));
+        assertTrue(lines[1].endsWith(",Matching technologies: Java"));
+    }
+
+    @Test
+    void exportToCsv_MatchesStreamedOutput() throws Exception {
+        JobMatch match = match("Java Developer", "Acme", 0.8);
+        streams(match);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.writeCsv(query, out);
+
+        assertEquals(out.toString(StandardCharsets.UTF_8), exportService.exportToCsv(new JobMatchResponse(List.of(match))));
+    }
+
+    @Test
+    void writeArrow_WritesTypedAndListColumns() throws Exception {
+        JobMatch match = match("Java Developer", "Acme", 0.91);
+        match.getJob().setSalaryMin(90000.0);
+        streams(match, match("Go Engineer", null, 0.55));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(2, exportService.writeArrow(query, out));
+
+        try (BufferAllocator allocator = new RootAllocator();
+             ArrowStreamReader reader = new ArrowStreamReader(new ByteArrayInputStream(out.toByteArray()), allocator)) {
+            VectorSchemaRoot root = reader.getVectorSchemaRoot();
+            assertEquals(ArrowMatchWriter.SCHEMA, root.getSchema());
+            assertTrue(reader.loadNextBatch());
+            assertEquals(2, root.getRowCount());
+            assertEquals("Java Developer", root.getVector("job_title").getObject(0).toString());
+            assertEquals(5, ((IntVector) root.getVector("experience")).get(0));
+            assertEquals(90000.0, ((Float8Vector) root.getVector("salary_min")).get(0));
+            assertTrue(root.getVector("salary_min").isNull(1));
+            assertEquals(0.55, ((Float8Vector) root.getVector("confidence")).get(1));
+            assertTrue(root.getVector("company").isNull(1));
+            assertEquals("[\"Java\",\"Spring\"]", root.getVector("required_techs").getObject(0).toString());
+            assertEquals("[\"TECH_OVERLAP:[0]\"]", root.getVector("match_reasons").getObject(1).toString());
+            assertEquals("[\"Matching technologies: Java\"]", root.getVector("match_reason_text").getObject(0).toString());
+            assertFalse(reader.loadNextBatch());
+        }
+    }
+
+    @Test
+    void arrowMatchWriter_SplitsRowsIntoRecordBatches() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (BufferAllocator allocator = new RootAllocator();
+             ArrowMatchWriter writer = new ArrowMatchWriter(allocator, out, 2)) {
+            for (int i = 0; i < 5; i++) {
+                writer.write(match("Job " + i, "Acme", 0.5));
+            }
+        }
+
+        List<Integer> batchSizes = new ArrayList<>();
+        try (BufferAllocator allocator = new RootAllocator();
+             ArrowStreamReader reader = new ArrowStreamReader(new ByteArrayInputStream(out.toByteArray()), allocator)) {
+            while (reader.loadNextBatch()) {
+                VectorSchemaRoot root = reader.getVectorSchemaRoot();
+                batchSizes.add(root.getRowCount());
+                assertEquals("[\"Java\",\"Spring\"]", root.getVector("required_techs").getObject(0).toString());
+            }
+        }
+        assertEquals(List.of(2, 2, 1), batchSizes);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void streams(JobMatch... matches) {
+        when(jobMatchingService.streamMatches(eq(query), any())).thenAnswer(invocation -> {
+            Consumer<JobMatch> consumer = invocation.getArgument(1);
+            for (JobMatch match : matches) {
+                consumer.accept(match);
+            }
+            return matches.length;
+        });
+    }
+
+    private static JobMatch match(String title, String company, double confidence) {
+        Post post = new Post();
+        post.setJobTitle(title);
+        post.setCompany(company);
+        post.setExperience(5);
+        post.setRequiredTechs(List.of("Java", "Spring"));
+        return new JobMatch(post, confidence, List.of(MatchReason.of(ReasonCode.TECH_OVERLAP, 0)));
+    }
+}
@@ -0,0 +1,263 @@
+package com.george.service;
+
+import com.george.config.AppProperties;
+import com.george.exception.ErrorCode;
+import com.george.exception.JobMatchingException;
+import com.george.model.JobMatch;
+import com.george.model.MatchReason;
+import com.george.model.Post;
+import com.george.model.ReasonCode;
+import com.george.util.Deadline;
+import com.george.util.DocumentMapper;
+import com.george.util.JobMatchCodec;
+import com.george.util.MatchReasonGenerator;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoClient;
+import com.mongodb.reactivestreams.client.AggregatePublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The subscriber {@link JobMatchingService#findMatchingJobsAsync} hands the reactive driver,
+ * driven through a stub publisher: the test decides when matches, errors and completion
+ * arrive, and sees what the subscriber requested and cancelled.
+ */
+class JobMatchingServiceAsyncTest {
+
+    private static final List<Document> PIPELINE = List.of(new Document("$limit", 10));
+
+    private final MatchReasonGenerator matchReasonGenerator = mock(MatchReasonGenerator.class);
+    private final MatchMetrics matchMetrics = mock(MatchMetrics.class);
+    private final StubSubscription subscription = new StubSubscription();
+    private AggregatePublisher<JobMatch> publisher;
+    private Subscriber<? super JobMatch> subscriber;
+    private JobMatchingService jobMatchingService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        com.mongodb.reactivestreams.client.MongoClient reactiveMongoClient =
+            mock(com.mongodb.reactivestreams.client.MongoClient.class);
+        MongoDatabase database = mock(MongoDatabase.class);
+        MongoCollection<Document> collection = mock(MongoCollection.class);
+        MongoCollection<JobMatch> matchCollection = mock(MongoCollection.class);
+        publisher = mock(AggregatePublisher.class);
+        when(reactiveMongoClient.getDatabase(any())).thenReturn(database);
+        when(database.getCollection(any())).thenReturn(collection);
+        when(collection.getCodecRegistry()).thenReturn(MongoClientSettings.getDefaultCodecRegistry());
+        when(collection.withCodecRegistry(any())).thenReturn(collection);
+        when(collection.withDocumentClass(JobMatch.class)).thenReturn(matchCollection);
+        when(matchCollection.aggregate(PIPELINE)).thenReturn(publisher);
+        when(publisher.maxTime(anyLong(), any(TimeUnit.class))).thenReturn(publisher);
+        doAnswer(invocation -> {
+            subscriber = invocation.getArgument(0);
+            subscriber.onSubscribe(subscription);
+            return null;
+        }).when(publisher).subscribe(any());
+        when(matchReasonGenerator.generateMatchReasons(any(Post.class), anyDouble(), any()))
+            .thenReturn(List.of(MatchReason.POTENTIAL_MATCH));
+
+        jobMatchingService = new JobMatchingService(mock(MongoClient.class), reactiveMongoClient,
+            mock(EmbeddingCacheService.class), new AppProperties(), matchReasonGenerator,
+            mock(DocumentMapper.class), mock(MatchingParameterNormalizer.class), mock(VectorSearchQueryBuilder.class),
+            mock(ProfileAnalysisCache.class), mock(JobMatchCodec.class), matchMetrics);
+    }
+
+    @Test
+    void findMatchingJobsAsync_CompletesWithMatchesOnceThePublisherCompletes() throws Exception {
+        MatchQuery query = query(null, false);
+        CompletableFuture<List<JobMatch>> result = jobMatchingService.findMatchingJobsAsync(query);
+
+        assertEquals(Long.MAX_VALUE, subscription.requested);
+        subscriber.onNext(match("a"));
+        subscriber.onNext(match("b"));
+        assertFalse(result.isDone());
+        subscriber.onComplete();
+
+        List<JobMatch> matches = result.get();
+        assertEquals(List.of("a", "b"), matches.stream().map(match -> match.getJob().getId()).toList());
+        assertEquals(List.of(MatchReason.POTENTIAL_MATCH), matches.get(0).getMatchReasons());
+        assertFalse(subscription.cancelled);
+        verify(matchMetrics).record(query.getTimings(), MatchMetrics.Outcome.SUCCESS, 2);
+    }
+
+    @Test
+    void findMatchingJobsAsync_WithPublisherError_FailsWithMatchingError() {
+        MatchQuery query = query(null, false);
+        CompletableFuture<List<JobMatch>> result = jobMatchingService.findMatchingJobsAsync(query);
+
+        MongoException failure = new MongoException("connection reset");
+        subscriber.onNext(match("a"));
+        subscriber.onError(failure);
+
+        JobMatchingException error = assertInstanceOf(JobMatchingException.class,
+            assertThrows(ExecutionException.class, result::get).getCause());
+        assertEquals(ErrorCode.JOB_MATCHING_FAILED, error.getErrorCode());
+        assertSame(failure, error.getCause());
+        assertTrue(query.getTimings().isDatabaseFailed());
+        verify(matchMetrics).record(query.getTimings(), MatchMetrics.Outcome.ERROR, 0);
+    }
+
+    @Test
+    void findMatchingJobsAsync_AtDeadline_CancelsAndReturnsMatchesSoFar() throws Exception {
+        Deadline deadline = Deadline.after(Duration.ofMillis(200));
+        MatchQuery query = query(deadline, true);
+        CompletableFuture<List<JobMatch>> result = jobMatchingService.findMatchingJobsAsync(query);
+
+        subscriber.onNext(match("a"));
+        awaitExpiry(deadline);
+        subscriber.onNext(match("b"));
+
+        assertTrue(subscription.cancelled);
+        assertEquals(List.of("a"), result.get().stream().map(match -> match.getJob().getId()).toList());
+        assertTrue(query.isPartial());
+        // A driver may still deliver what was in flight when it was cancelled
+        subscriber.onNext(match("c"));
+        assertEquals(1, result.get().size());
+        verify(matchMetrics).record(query.getTimings(), MatchMetrics.Outcome.PARTIAL, 1);
+    }
+
+    @Test
+    void findMatchingJobsAsync_AtDeadlineWithoutPartialResults_FailsWithDeadlineError() throws Exception {
+        Deadline deadline = Deadline.after(Duration.ofMillis(200));
+        MatchQuery query = query(deadline, false);
+        CompletableFuture<List<JobMatch>> result = jobMatchingService.findMatchingJobsAsync(query);
+
+        subscriber.onNext(match("a"));
+        awaitExpiry(deadline);
+        subscriber.onNext(match("b"));
+
+        assertTrue(subscription.cancelled);
+        JobMatchingException error = assertInstanceOf(JobMatchingException.class,
+            assertThrows(ExecutionException.class, result::get).getCause());
+        assertEquals(ErrorCode.JOB_MATCHING_DEADLINE_EXCEEDED, error.getErrorCode());
+        verify(matchMetrics).record(query.getTimings(), MatchMetrics.Outcome.DEADLINE_EXCEEDED, 0);
+    }
+
+    @Test
+    void findMatchingJobsAsync_WithExpiredDeadline_FailsWithDeadlineErrorWithoutSubscribing() throws Exception {
+        Deadline deadline = Deadline.after(Duration.ofMillis(1));
+        awaitExpiry(deadline);
+        MatchQuery query = query(deadline, false);
+
+        CompletableFuture<List<JobMatch>> result = jobMatchingService.findMatchingJobsAsync(query);
+
+        JobMatchingException error = assertInstanceOf(JobMatchingException.class,
+            assertThrows(ExecutionException.class, result::get).getCause());
+        assertEquals(ErrorCode.JOB_MATCHING_DEADLINE_EXCEEDED, error.getErrorCode());
+        assertNull(subscriber);
+        verify(matchMetrics).record(query.getTimings(), MatchMetrics.Outcome.DEADLINE_EXCEEDED, 0);
+    }
+
+    @Test
+    void findMatchingJobsAsync_WithExpiredDeadlineAndPartialResults_ReturnsNoMatches() throws Exception {
+        Deadline deadline = Deadline.after(Duration.ofMillis(1));
+        awaitExpiry(deadline);
+        MatchQuery query = query(deadline, true);
+
+        assertEquals(List.of(), jobMatchingService.findMatchingJobsAsync(query).get());
+        assertTrue(query.isPartial());
+        assertNull(subscriber);
+        verify(matchMetrics).record(query.getTimings(), MatchMetrics.Outcome.PARTIAL, 0);
+    }
+
+    @Test
+    void findMatchingJobsAsync_SkipsMatchesWhoseReasonsFail() throws Exception {
+        JobMatch broken = match("b");
+        when(matchReasonGenerator.generateMatchReasons(eq(broken.getJob()), anyDouble(), any()))
+            .thenThrow(new IllegalStateException("no techs"));
+        MatchQuery query = query(null, false);
+        CompletableFuture<List<JobMatch>> result = jobMatchingService.findMatchingJobsAsync(query);
+
+        subscriber.onNext(match("a"));
+        subscriber.onNext(broken);
+        subscriber.onNext(match("c"));
+        subscriber.onComplete();
+
+        assertEquals(List.of("a", "c"), result.get().stream().map(match -> match.getJob().getId()).toList());
+        verify(matchMetrics).record(query.getTimings(), MatchMetrics.Outcome.SUCCESS, 2);
+        verify(matchMetrics, never()).record(any(), eq(MatchMetrics.Outcome.ERROR), anyInt());
+    }
+
+    @Test
+    void findMatchingJobsAsync_KeepsUnselectedTechsOnlyWhenReasonsReferToThem() throws Exception {
+        JobMatch overlapping = match("a");
+        overlapping.getJob().setRequiredTechs(List.of("java", "kotlin"));
+        JobMatch other = match("b");
+        other.getJob().setRequiredTechs(List.of("go"));
+        when(matchReasonGenerator.generateMatchReasons(eq(overlapping.getJob()), anyDouble(), any()))
+            .thenReturn(List.of(MatchReason.of(ReasonCode.TECH_OVERLAP, 0)));
+        MatchQuery query = new MatchQuery("java developer", "profile-key", 10, 0.0, PIPELINE, null, true, false,
+            List.of("jobTitle"), null, false, false);
+        CompletableFuture<List<JobMatch>> result = jobMatchingService.findMatchingJobsAsync(query);
+
+        subscriber.onNext(overlapping);
+        subscriber.onNext(other);
+        subscriber.onComplete();
+
+        List<JobMatch> matches = result.get();
+        // TECH_OVERLAP:[0] is a position in requiredTechs, so the list has to go out with it
+        assertEquals(List.of("java", "kotlin"), matches.get(0).getJob().getRequiredTechs());
+        assertNull(matches.get(1).getJob().getRequiredTechs());
+        assertEquals("Java Developer", matches.get(1).getJob().getJobTitle());
+    }
+
+    private static MatchQuery query(Deadline deadline, boolean allowPartial) {
+        return new MatchQuery("java developer", "profile-key", 10, 0.0, PIPELINE, null, true, false,
+            VectorSearchQueryBuilder.DEFAULT_FIELDS, deadline, allowPartial, false);
+    }
+
+    private static JobMatch match(String id) {
+        Post job = new Post();
+        job.setId(id);
+        job.setJobTitle("Java Developer");
+        return new JobMatch(job, 0.9, null);
+    }
+
+    private static void awaitExpiry(Deadline deadline) throws InterruptedException {
+        while (!deadline.isExpired()) {
+            Thread.sleep(5);
+        }
+    }
+
+    /** Records what the subscriber asks of the driver. */
+    private static final class StubSubscription implements Subscription {
+
+        private long requested;
+        private boolean cancelled;
+
+        @Override
+        public void request(long n) {
+            requested += n;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
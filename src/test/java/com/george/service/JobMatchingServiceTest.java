@@ -4,16 +4,20 @@ import com.george.config.AppProperties;
 import com.george.dto.JobMatchRequest;
 import com.george.exception.JobMatchingException;
 import com.george.model.JobMatch;
+import com.george.model.MatchReason;
 import com.george.util.DocumentMapper;
+import com.george.util.JobMatchCodec;
 import com.george.util.MatchReasonGenerator;
+import com.george.util.ProfileAnalysis;
+import com.mongodb.MongoClientSettings;
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
 import org.bson.BsonArray;
 import org.bson.BsonDouble;
 import org.bson.Document;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -23,9 +27,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.ArrayList;
 import java.util.List;
 
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.*;
-
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -54,6 +55,9 @@ class JobMatchingServiceTest {
     @Mock
     private VectorSearchQueryBuilder queryBuilder;
 
+    @Mock
+    private ProfileAnalysisCache profileAnalysisCache;
+
     @Mock
     private MongoDatabase mongoDatabase;
 
@@ -61,7 +65,16 @@ class JobMatchingServiceTest {
     private MongoCollection<Document> mongoCollection;
 
     @Mock
-    private AggregateIterable<Document> aggregateIterable;
+    private MongoCollection<JobMatch> matchCollection;
+
+    @Mock
+    private AggregateIterable<JobMatch> aggregateIterable;
+
+    @Mock
+    private JobMatchCodec jobMatchCodec;
+
+    @Mock
+    private MatchMetrics matchMetrics;
 
     @Mock
     private AppProperties.Mongodb mongodbProperties;
@@ -72,18 +85,6 @@ class JobMatchingServiceTest {
     @InjectMocks
     private JobMatchingService jobMatchingService;
 
-    @BeforeEach
-    void setUp() {
-        when(appProperties.getMongodb()).thenReturn(mongodbProperties);
-        when(appProperties.getMatching()).thenReturn(matchingProperties);
-        when(mongodbProperties.getDatabaseName()).thenReturn("test_db");
-        when(mongodbProperties.getCollectionName()).thenReturn("test_collection");
-        when(matchingProperties.getDefaultLimit()).thenReturn(10);
-        when(matchingProperties.getDefaultMinConfidence()).thenReturn(0.0);
-        when(mongoClient.getDatabase(anyString())).thenReturn(mongoDatabase);
-        when(mongoDatabase.getCollection(anyString())).thenReturn(mongoCollection);
-    }
-
     @Test
     void findMatchingJobs_WithNullUserProfile_ThrowsException() {
         assertThrows(IllegalArgumentException.class, () -> {
@@ -128,25 +129,37 @@ class JobMatchingServiceTest {
         when(parameterNormalizer.normalizeUserProfile(anyString())).thenReturn(userProfile);
         when(parameterNormalizer.normalizeLimit(anyInt())).thenReturn(10);
         when(parameterNormalizer.normalizeMinConfidence(anyDouble())).thenReturn(0.0);
-        when(embeddingCacheService.getCachedEmbedding(anyString())).thenReturn(embedding);
-        when(queryBuilder.buildSearchPipeline(any(), anyInt(), anyDouble())).thenReturn(createMockPipeline());
+        when(parameterNormalizer.normalizeFields(isNull())).thenReturn(VectorSearchQueryBuilder.DEFAULT_FIELDS);
+        when(embeddingCacheService.getCachedEmbedding(anyString(), isNull(), any(MatchTimings.class))).thenReturn(embedding);
+        when(queryBuilder.buildSearchPipeline(eq(embedding), eq(10), eq(0.0), isNull(),
+            eq(VectorSearchQueryBuilder.DEFAULT_FIELDS), eq(true))).thenReturn(createMockPipeline());
+        when(appProperties.getMongodb()).thenReturn(mongodbProperties);
+        when(mongodbProperties.getDatabaseName()).thenReturn("test_db");
+        when(mongodbProperties.getCollectionName()).thenReturn("test_collection");
+        when(mongoClient.getDatabase("test_db")).thenReturn(mongoDatabase);
+        when(mongoDatabase.getCollection("test_collection")).thenReturn(mongoCollection);
         
-        List<Document> mockDocuments = createMockDocuments();
-        when(mongoCollection.aggregate(anyList())).thenReturn(aggregateIterable);
-        doAnswer(invocation -> {
-            java.util.function.Consumer<Document> consumer = invocation.getArgument(0);
-            mockDocuments.forEach(consumer);
-            return null;
-        }).when(aggregateIterable).forEach(any());
-        when(documentMapper.toPost(any(Document.class))).thenReturn(createMockPost());
-        when(matchReasonGenerator.generateMatchReasons(any(Document.class), anyString())).thenReturn(List.of("Strong match"));
+        List<JobMatch> decodedMatches = createMockMatches();
+        when(jobMatchCodec.getEncoderClass()).thenReturn(JobMatch.class);
+        when(mongoCollection.getCodecRegistry()).thenReturn(MongoClientSettings.getDefaultCodecRegistry());
+        when(mongoCollection.withCodecRegistry(any())).thenReturn(mongoCollection);
+        when(mongoCollection.withDocumentClass(JobMatch.class)).thenReturn(matchCollection);
+        when(matchCollection.aggregate(anyList())).thenReturn(aggregateIterable);
+        MongoCursor<JobMatch> cursor = mock(MongoCursor.class);
+        java.util.Iterator<JobMatch> decoded = decodedMatches.iterator();
+        when(cursor.hasNext()).thenAnswer(invocation -> decoded.hasNext());
+        when(cursor.next()).thenAnswer(invocation -> decoded.next());
+        when(aggregateIterable.cursor()).thenReturn(cursor);
+        when(matchReasonGenerator.analyzeProfile(anyString())).thenReturn(mock(ProfileAnalysis.class));
+        when(matchReasonGenerator.generateMatchReasons(any(com.george.model.Post.class), anyDouble(), any(ProfileAnalysis.class)))
+            .thenReturn(List.of(MatchReason.POTENTIAL_MATCH));
 
         List<JobMatch> result = jobMatchingService.findMatchingJobs(userProfile, 10, 0.0);
 
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(embeddingCacheService).getCachedEmbedding(anyString());
-        verify(mongoCollection).aggregate(anyList());
+        verify(embeddingCacheService).getCachedEmbedding(anyString(), isNull(), any(MatchTimings.class));
+        verify(matchCollection).aggregate(anyList());
     }
 
     @Test
@@ -156,7 +169,7 @@ class JobMatchingServiceTest {
         when(parameterNormalizer.normalizeUserProfile(anyString())).thenReturn(userProfile);
         when(parameterNormalizer.normalizeLimit(anyInt())).thenReturn(10);
         when(parameterNormalizer.normalizeMinConfidence(anyDouble())).thenReturn(0.0);
-        when(embeddingCacheService.getCachedEmbedding(anyString())).thenReturn(null);
+        when(embeddingCacheService.getCachedEmbedding(anyString(), isNull(), any(MatchTimings.class))).thenReturn(null);
 
         assertThrows(JobMatchingException.class, () -> {
             jobMatchingService.findMatchingJobs(userProfile, 10, 0.0);
@@ -172,15 +185,14 @@ class JobMatchingServiceTest {
     }
 
     private List<Document> createMockPipeline() {
-        return new ArrayList<>();
+        return List.of(new Document("$limit", 10));
     }
 
-    private List<Document> createMockDocuments() {
-        Document doc = new Document();
-        doc.append("score", 0.85);
-        doc.append("jobTitle", "Senior Java Developer");
-        doc.append("jobDescription", "Looking for experienced Java developer");
-        return List.of(doc);
+    private List<JobMatch> createMockMatches() {
+        JobMatch match = new JobMatch();
+        match.setJob(createMockPost());
+        match.setConfidence(0.85);
+        return List.of(match);
     }
 
     private com.george.model.Post createMockPost() {
@@ -0,0 +1,78 @@
+package com.george.service;
+
+import com.george.exception.ErrorCode;
+import com.george.exception.JobMatchingException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private MatchMetrics matchMetrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        matchMetrics = new MatchMetrics(registry);
+    }
+
+    @Test
+    void record_PublishesEachRecordedStageTaggedByOutcomeAndCache() {
+        MatchTimings timings = new MatchTimings();
+        timings.add(MatchTimings.Stage.NORMALIZATION, 1_000);
+        timings.add(MatchTimings.Stage.CACHE_LOOKUP, 2_000);
+        timings.setCacheHit(false);
+        timings.add(MatchTimings.Stage.PROVIDER_CALL, 40_000_000);
+        timings.add(MatchTimings.Stage.REASONS, 3_000);
+        timings.add(MatchTimings.Stage.REASONS, 4_000);
+
+        matchMetrics.record(timings, MatchMetrics.Outcome.PARTIAL, 3);
+
+        Timer reasons = registry.get(MatchMetrics.STAGE_TIMER)
+            .tags("stage", "reasons", "outcome", "partial", "cache", "miss")
+            .timer();
+        assertEquals(1, reasons.count());
+        assertEquals(7_000, reasons.totalTime(TimeUnit.NANOSECONDS), 0.0);
+        assertEquals(4, registry.get(MatchMetrics.STAGE_TIMER).timers().size());
+        assertTrue(registry.find(MatchMetrics.STAGE_TIMER).tag("stage", "aggregation").timers().isEmpty());
+
+        assertEquals(1.0, registry.get("job.matching.requests.total").counter().count());
+        assertEquals(3.0, registry.get("job.matching.matches.found").counter().count());
+        assertEquals(1.0, registry.get("embeddings.cache.misses").counter().count());
+        assertEquals(0.0, registry.get("embeddings.cache.hits").counter().count());
+        assertEquals(1, registry.get("embeddings.generation.duration").timer().count());
+        assertEquals(0.0, registry.get("job.matching.errors").counter().count());
+    }
+
+    @Test
+    void record_PublishesTimingsOnlyOnce() {
+        MatchTimings timings = new MatchTimings();
+        timings.add(MatchTimings.Stage.AGGREGATION, 5_000);
+        timings.markDatabaseFailed();
+
+        matchMetrics.record(timings, MatchMetrics.Outcome.ERROR, 0);
+        matchMetrics.record(timings, MatchMetrics.Outcome.SUCCESS, 10);
+
+        assertEquals(1.0, registry.get("job.matching.requests.total").counter().count());
+        assertEquals(1.0, registry.get("job.matching.errors").counter().count());
+        assertEquals(1.0, registry.get("mongodb.operations.errors").counter().count());
+        assertEquals(1, registry.get(MatchMetrics.STAGE_TIMER)
+            .tags("stage", "aggregation", "outcome", "error", "cache", "none")
+            .timer().count());
+    }
+
+    @Test
+    void outcomeOf_DistinguishesDeadlineFromOtherErrors() {
+        assertEquals(MatchMetrics.Outcome.DEADLINE_EXCEEDED, MatchMetrics.Outcome.of(
+            new JobMatchingException(ErrorCode.JOB_MATCHING_DEADLINE_EXCEEDED, "late")));
+        assertEquals(MatchMetrics.Outcome.ERROR, MatchMetrics.Outcome.of(
+            new JobMatchingException(ErrorCode.JOB_MATCHING_FAILED, "failed")));
+        assertEquals(MatchMetrics.Outcome.ERROR, MatchMetrics.Outcome.of(new IllegalStateException()));
+    }
+}
@@ -0,0 +1,46 @@
+package com.george.service;
+
+import com.george.util.ProfileAnalysis;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ProfileAnalysisCacheTest {
+
+    private ProfileAnalysisCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ProfileAnalysisCache(new ConcurrentMapCacheManager(ProfileAnalysisCache.CACHE_NAME));
+    }
+
+    @Test
+    void keyOf_IsStableAndCompact() {
+        String key = ProfileAnalysisCache.keyOf("Java developer with 5 years of experience");
+
+        assertEquals(key, ProfileAnalysisCache.keyOf("Java developer with 5 years of experience"));
+        assertNotEquals(key, ProfileAnalysisCache.keyOf("Python developer with 5 years of experience"));
+        assertEquals(22, key.length());
+        assertTrue(key.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void get_ReturnsCachedAnalysisOrNull() {
+        ProfileAnalysis analysis = mock(ProfileAnalysis.class);
+        cache.put("key", analysis);
+
+        assertSame(analysis, cache.get("key"));
+        assertNull(cache.get("missing"));
+        assertNull(cache.get(null));
+    }
+
+    @Test
+    void constructor_WithoutConfiguredCache_Throws() {
+        ConcurrentMapCacheManager manager = new ConcurrentMapCacheManager("other");
+
+        assertThrows(IllegalStateException.class, () -> new ProfileAnalysisCache(manager));
+    }
+}
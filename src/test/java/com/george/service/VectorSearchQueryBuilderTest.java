@@ -0,0 +1,104 @@
+package com.george.service;
+
+import com.george.config.AppProperties;
+import com.george.util.JobFeatures;
+import com.george.util.TechTaxonomy;
+import org.bson.BsonArray;
+import org.bson.BsonDouble;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VectorSearchQueryBuilderTest {
+
+    private VectorSearchQueryBuilder queryBuilder;
+
+    @BeforeEach
+    void setUp() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.getMongodb().setVectorIndexName("vector_index");
+        appProperties.getMatching().setSnippetLength(120);
+        queryBuilder = new VectorSearchQueryBuilder(appProperties, new TechTaxonomyService(null, appProperties));
+    }
+
+    @Test
+    void buildSearchPipeline_ProjectsOnlySelectedFieldsWithoutReasons() {
+        Document projection = projection(queryBuilder.buildSearchPipeline(embedding(), 10, 0.0, null,
+            List.of("jobTitle", "company", "snippet"), false));
+
+        assertEquals(List.of("jobTitle", "snippet", "company", "score"), List.copyOf(projection.keySet()));
+        Document snippet = projection.get("snippet", Document.class);
+        assertEquals(List.of("$snippet", new Document("$substrCP", List.of("$jobDescription", 0, 240))),
+            snippet.getList("$ifNull", Object.class));
+    }
+
+    @Test
+    void buildSearchPipeline_AddsReasonInputsWhenReasonsAreIncluded() {
+        Document projection = projection(queryBuilder.buildSearchPipeline(embedding(), 10, 0.0, null,
+            List.of("company"), true));
+
+        assertTrue(projection.containsKey("jobTitle"));
+        assertTrue(projection.containsKey("experience"));
+        assertTrue(projection.containsKey("requiredTechs"));
+        assertTrue(projection.containsKey(JobFeatures.REQUIRED_TECH_IDS_FIELD));
+        assertTrue(projection.containsKey(JobFeatures.SENIORITY_FIELD));
+        assertTrue(projection.containsKey(JobFeatures.TAXONOMY_SIGNATURE_FIELD));
+        assertFalse(projection.containsKey("jobDescription"));
+        assertFalse(projection.containsKey("snippet"));
+    }
+
+    @Test
+    void techFilter_KeepsPostsWithMatchingTechIdsOrWithoutCurrentTechIds() {
+        Document expected = new Document("$match", new Document("$or", List.of(
+            new Document(JobFeatures.TECH_IDS_FIELD, new Document("$in", List.of(1, 9))),
+            new Document(JobFeatures.TECH_IDS_FIELD, new Document("$exists", false)),
+            new Document(JobFeatures.TAXONOMY_SIGNATURE_FIELD,
+                new Document("$ne", TechTaxonomy.defaults().getSignature())))));
+
+        List<Document> knn = queryBuilder.buildSearchPipeline(embedding(), 10, 0.0, new int[] {1, 9},
+            List.of("jobTitle"), false);
+        List<Document> lexical = queryBuilder.buildLexicalPipeline("java", 10, 0.0, new int[] {1, 9},
+            List.of("jobTitle"), false);
+
+        assertEquals(expected, knn.get(2));
+        assertEquals(expected, lexical.get(2));
+        assertTrue(projection(knn).containsKey(JobFeatures.TECH_IDS_FIELD));
+        assertTrue(projection(knn).containsKey(JobFeatures.TAXONOMY_SIGNATURE_FIELD));
+    }
+
+    @Test
+    void buildPassthroughStage_KeepsSelectedFields() {
+        Document job = queryBuilder.buildPassthroughStage(List.of("jobTitle", "snippet"))
+            .get("$project", Document.class)
+            .get("job", Document.class);
+
+        assertEquals(List.of("id", "jobTitle", "snippet"), List.copyOf(job.keySet()));
+    }
+
+    @Test
+    void buildLexicalPipeline_SearchesTextAndSortsByNormalizedTextScore() {
+        List<Document> pipeline = queryBuilder.buildLexicalPipeline("java spring", 5, 0.3, null,
+            List.of("jobTitle"), false);
+
+        assertEquals(new Document("$search", "java spring"),
+            pipeline.get(0).get("$match", Document.class).get("$text", Document.class));
+        assertTrue(projection(pipeline).containsKey("score"));
+        assertEquals(new Document("$match", new Document("score", new Document("$gte", 0.3))), pipeline.get(2));
+        assertEquals(new Document("$sort", new Document("score", -1)), pipeline.get(3));
+        assertEquals(new Document("$limit", 5), pipeline.get(4));
+    }
+
+    private static Document projection(List<Document> pipeline) {
+        return pipeline.get(1).get("$project", Document.class);
+    }
+
+    private static BsonArray embedding() {
+        return new BsonArray(List.of(new BsonDouble(0.1), new BsonDouble(-0.2)));
+    }
+}
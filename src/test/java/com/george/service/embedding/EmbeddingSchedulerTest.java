@@ -0,0 +1,114 @@
+package com.george.service.embedding;
+
+import com.george.exception.EmbeddingException;
+import com.george.exception.ErrorCode;
+import com.george.service.embedding.EmbeddingScheduler.Priority;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmbeddingSchedulerTest {
+
+    @Test
+    void batchCallsLeaveReservedSlotsToInteractiveCalls() {
+        EmbeddingScheduler scheduler = new EmbeddingScheduler(3, 1);
+        CompletableFuture<String> firstBatch = new CompletableFuture<>();
+        CompletableFuture<String> secondBatch = new CompletableFuture<>();
+
+        scheduler.callAsync(Priority.BATCH, () -> firstBatch);
+        scheduler.callAsync(Priority.BATCH, () -> secondBatch);
+        CompletableFuture<String> thirdBatch = scheduler.callAsync(Priority.BATCH, () -> CompletableFuture.completedFuture("batch"));
+        CompletableFuture<String> interactive = scheduler.callAsync(Priority.INTERACTIVE, () -> CompletableFuture.completedFuture("live"));
+
+        assertFalse(thirdBatch.isDone());
+        assertEquals("live", interactive.join());
+        assertEquals(1, scheduler.waiting(Priority.BATCH));
+
+        firstBatch.complete("done");
+        assertEquals("batch", thirdBatch.join());
+        assertEquals(1, scheduler.active());
+    }
+
+    @Test
+    void freedSlotsGoToWaitingInteractiveCallsFirst() {
+        EmbeddingScheduler scheduler = new EmbeddingScheduler(2, 1);
+        CompletableFuture<String> running = new CompletableFuture<>();
+        CompletableFuture<String> live = new CompletableFuture<>();
+        List<String> order = new ArrayList<>();
+
+        scheduler.callAsync(Priority.BATCH, () -> running);
+        scheduler.callAsync(Priority.INTERACTIVE, () -> live);
+        CompletableFuture<String> batch = scheduler.callAsync(Priority.BATCH, () -> {
+            order.add("batch");
+            return CompletableFuture.completedFuture("batch");
+        });
+        CompletableFuture<String> interactive = scheduler.callAsync(Priority.INTERACTIVE, () -> {
+            order.add("interactive");
+            return CompletableFuture.completedFuture("interactive");
+        });
+
+        running.complete("done");
+        assertTrue(interactive.isDone());
+        assertFalse(batch.isDone());
+
+        live.complete("done");
+        batch.join();
+        assertEquals(List.of("interactive", "batch"), order);
+        assertEquals(0, scheduler.active());
+    }
+
+    @Test
+    void rejectsCallsBeyondTheWaitingLimit() {
+        EmbeddingScheduler scheduler = new EmbeddingScheduler(1, 0, 1);
+        scheduler.callAsync(Priority.INTERACTIVE, CompletableFuture::new);
+        scheduler.callAsync(Priority.INTERACTIVE, () -> CompletableFuture.completedFuture("queued"));
+
+        EmbeddingException e = assertThrows(EmbeddingException.class,
+            () -> scheduler.callAsync(Priority.INTERACTIVE, () -> CompletableFuture.completedFuture("rejected")));
+
+        assertEquals(ErrorCode.EMBEDDING_INGESTION_BUSY, e.getErrorCode());
+        assertEquals(1, scheduler.waiting(Priority.INTERACTIVE));
+    }
+
+    @Test
+    void cancelledWaitersLeaveTheQueueAndAreSkipped() {
+        EmbeddingScheduler scheduler = new EmbeddingScheduler(1, 0);
+        CompletableFuture<String> running = new CompletableFuture<>();
+        List<String> started = new ArrayList<>();
+
+        scheduler.callAsync(Priority.INTERACTIVE, () -> running);
+        CompletableFuture<String> abandoned = scheduler.callAsync(Priority.INTERACTIVE, () -> {
+            started.add("abandoned");
+            return CompletableFuture.completedFuture("abandoned");
+        });
+        CompletableFuture<String> next = scheduler.callAsync(Priority.INTERACTIVE, () -> {
+            started.add("next");
+            return CompletableFuture.completedFuture("next");
+        });
+        abandoned.cancel(false);
+
+        assertEquals(1, scheduler.waiting(Priority.INTERACTIVE));
+        running.complete("done");
+        assertEquals("next", next.join());
+        assertEquals(List.of("next"), started);
+        assertEquals(0, scheduler.active());
+    }
+
+    @Test
+    void releasesTheSlotWhenABlockingCallFails() {
+        EmbeddingScheduler scheduler = new EmbeddingScheduler(1, 0);
+
+        assertThrows(IllegalStateException.class, () -> scheduler.call(Priority.BATCH, () -> {
+            throw new IllegalStateException("provider down");
+        }));
+
+        assertEquals("ok", scheduler.call(Priority.BATCH, () -> "ok"));
+    }
+}
@@ -0,0 +1,60 @@
+package com.george.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AhoCorasickMatcherTest {
+
+    @Test
+    void build_WithNullKeywords_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> AhoCorasickMatcher.build(null));
+    }
+
+    @Test
+    void findAll_ReportsOverlappingKeywordsCaseInsensitively() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.build(List.of("java", "javascript", "script", "sql", "nosql"));
+
+        BitSet found = matcher.findAll("Senior JavaScript and NoSQL engineer");
+
+        assertTrue(found.get(0));
+        assertTrue(found.get(1));
+        assertTrue(found.get(2));
+        assertTrue(found.get(3));
+        assertTrue(found.get(4));
+    }
+
+    @Test
+    void forEachMatch_ReportsOccurrenceRanges() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.build(List.of("he", "she", "hers"));
+        String text = "ushers";
+        List<String> hits = new ArrayList<>();
+
+        matcher.forEachMatch(text, (id, start, end) -> hits.add(matcher.keyword(id) + "@" + text.substring(start, end)));
+
+        assertEquals(List.of("she@she", "he@he", "hers@hers"), hits);
+    }
+
+    @Test
+    void containsAny_OnlyMatchesCandidateKeywords() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.build(List.of("docker", "kubernetes"));
+        BitSet candidates = new BitSet();
+        candidates.set(1);
+
+        assertTrue(matcher.containsAny("Kubernetes operators", candidates));
+        assertFalse(matcher.containsAny("Docker compose", candidates));
+        assertFalse(matcher.containsAny("Kubernetes", new BitSet()));
+    }
+
+    @Test
+    void findAll_WithNoKeywordsInText_ReturnsEmpty() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.build(List.of("rust", "", "go"));
+
+        assertTrue(matcher.findAll("Java and Python").isEmpty());
+        assertEquals(3, matcher.size());
+    }
+}
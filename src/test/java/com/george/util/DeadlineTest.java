@@ -0,0 +1,37 @@
+package com.george.util;
+
+import com.george.exception.ErrorCode;
+import com.george.exception.JobMatchingException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeadlineTest {
+
+    @Test
+    void reportsTimeLeftUntilItExpires() throws InterruptedException {
+        Deadline deadline = Deadline.after(Duration.ofMillis(30));
+
+        assertFalse(deadline.isExpired());
+        assertTrue(deadline.remainingMillis() <= 30);
+        deadline.check("search");
+
+        Thread.sleep(40);
+        assertTrue(deadline.isExpired());
+        assertEquals(Duration.ZERO, deadline.remaining());
+        assertEquals(1, deadline.remainingMillis());
+        JobMatchingException e = assertThrows(JobMatchingException.class, () -> deadline.check("search"));
+        assertEquals(ErrorCode.JOB_MATCHING_DEADLINE_EXCEEDED, e.getErrorCode());
+    }
+
+    @Test
+    void rejectsEmptyBudget() {
+        assertThrows(IllegalArgumentException.class, () -> Deadline.after(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> Deadline.after(Duration.ofMillis(-1)));
+    }
+}
@@ -0,0 +1,36 @@
+package com.george.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ETagsTest {
+
+    @Test
+    void strong_IsQuotedStableAndSeparatesParts() {
+        String etag = ETags.strong("3.1f", "match", "gzip", "key");
+
+        assertTrue(etag.startsWith("\"") && etag.endsWith("\""));
+        assertEquals(etag, ETags.strong("3.1f", "match", "gzip", "key"));
+        assertNotEquals(etag, ETags.strong("4.1f", "match", "gzip", "key"));
+        assertNotEquals(etag, ETags.strong("3.1f", "match", "identity", "key"));
+        assertNotEquals(ETags.strong("ab", "c"), ETags.strong("a", "bc"));
+    }
+
+    @Test
+    void matches_HandlesListsWeakTagsAndWildcard() {
+        String etag = ETags.strong("v", "key");
+
+        assertTrue(ETags.matches(etag, etag));
+        assertTrue(ETags.matches("\"other\", " + etag, etag));
+        assertTrue(ETags.matches("W/" + etag, etag));
+        assertTrue(ETags.matches("*", etag));
+        assertFalse(ETags.matches("\"other\"", etag));
+        assertFalse(ETags.matches(etag.substring(0, etag.length() - 2) + "\"", etag));
+        assertFalse(ETags.matches(null, etag));
+        assertFalse(ETags.matches("*", null));
+    }
+}
@@ -0,0 +1,61 @@
+package com.george.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GradientConcurrencyLimiterTest {
+
+    private static final long BASELINE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void rejectsRequestsBeyondTheLimit() {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(2, 1, 10, 1.5, 0.2);
+
+        assertEquals(1, limiter.tryAcquire());
+        assertEquals(2, limiter.tryAcquire());
+        assertEquals(0, limiter.tryAcquire());
+        assertEquals(1, limiter.getRejected());
+
+        limiter.release(-1, 2);
+        assertEquals(1, limiter.getInFlight());
+        assertEquals(2, limiter.tryAcquire());
+    }
+
+    @Test
+    void growsWhileLatencyStaysAtBaselineAndShrinksWhenItRises() {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(20, 4, 200, 1.5, 0.2);
+
+        // Fully loaded, at baseline latency
+        for (int i = 0; i < 50; i++) {
+            limiter.release(BASELINE_NANOS, limiter.getLimit());
+            limiter.tryAcquire();
+        }
+        int grown = limiter.getLimit();
+        assertTrue(grown > 20, "limit should grow, was " + grown);
+
+        // The backend slows down fourfold
+        for (int i = 0; i < 50; i++) {
+            limiter.release(4 * BASELINE_NANOS, limiter.getLimit());
+            limiter.tryAcquire();
+        }
+        int shrunk = limiter.getLimit();
+        assertTrue(shrunk < grown / 2, "limit should shrink, was " + shrunk + " after " + grown);
+        assertTrue(shrunk >= 4);
+    }
+
+    @Test
+    void ignoresSamplesWhileLightlyLoaded() {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(20, 4, 200, 1.5, 0.2);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(BASELINE_NANOS, 1);
+        }
+
+        assertEquals(20, limiter.getLimit());
+    }
+}
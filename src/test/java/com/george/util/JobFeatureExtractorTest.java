@@ -0,0 +1,52 @@
+package com.george.util;
+
+import com.george.model.SeniorityLevel;
+import com.george.service.TechTaxonomyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobFeatureExtractorTest {
+
+    private JobFeatureExtractor extractor;
+
+    @BeforeEach
+    void setUp() {
+        TechTaxonomyService taxonomyService = mock(TechTaxonomyService.class);
+        when(taxonomyService.current()).thenReturn(TechTaxonomy.defaults());
+        extractor = new JobFeatureExtractor(taxonomyService);
+    }
+
+    @Test
+    void extract_ResolvesRequiredTechsToTaxonomyIds() {
+        JobFeatures features = extractor.extract("Backend Engineer",
+            List.of("Spring Boot", "k8s", "Java/Kotlin", "COBOL"), 3);
+
+        assertArrayEquals(new int[] {9, 18, JobFeatures.UNRESOLVED_TECH, JobFeatures.UNRESOLVED_TECH},
+            features.getRequiredTechIds());
+        assertArrayEquals(new int[] {1, 9, 18, 32}, features.getTechIds());
+        assertEquals(TechTaxonomy.defaults().getSignature(), features.getTaxonomySignature());
+    }
+
+    @Test
+    void extract_TokenizesTitleAndDetectsSeniority() {
+        JobFeatures features = extractor.extract("Senior Java Developer - Tech Lead", List.of(), 2);
+
+        assertEquals(List.of("developer", "java", "lead", "senior", "tech"), features.getTitleTokens());
+        assertEquals(SeniorityLevel.LEAD, features.getSeniority());
+        assertArrayEquals(new int[] {1}, features.getTechIds());
+    }
+
+    @Test
+    void extract_FallsBackToExperienceForSeniority() {
+        assertEquals(SeniorityLevel.JUNIOR, extractor.extract("Developer", null, 1).getSeniority());
+        assertEquals(SeniorityLevel.MID, extractor.extract("Developer", null, 3).getSeniority());
+        assertEquals(SeniorityLevel.SENIOR, extractor.extract("Developer", null, 8).getSeniority());
+        assertEquals(SeniorityLevel.UNSPECIFIED, extractor.extract(null, null, null).getSeniority());
+    }
+}
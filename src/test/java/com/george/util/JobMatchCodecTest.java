@@ -0,0 +1,98 @@
+package com.george.util;
+
+import com.george.model.JobMatch;
+import com.george.model.Post;
+import org.bson.BsonDocumentReader;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobMatchCodecTest {
+
+    private final JobMatchCodec codec = new JobMatchCodec();
+
+    @Test
+    void decode_ReadsProjectedFieldsAndScore() {
+        ObjectId id = new ObjectId();
+        Document doc = new Document("_id", id)
+            .append("jobTitle", "Senior Java Developer")
+            .append("jobDescription", "Build services")
+            .append("experience", 5)
+            .append("requiredTechs", List.of("Java", "Spring"))
+            .append("salaryMin", 100000)
+            .append("currency", "EUR")
+            .append(JobFeatures.TECH_IDS_FIELD, List.of(1, 9))
+            .append(JobFeatures.REQUIRED_TECH_IDS_FIELD, List.of(1, 9))
+            .append(JobFeatures.TITLE_TOKENS_FIELD, List.of("developer", "java", "senior"))
+            .append(JobFeatures.SENIORITY_FIELD, 4)
+            .append(JobFeatures.TAXONOMY_SIGNATURE_FIELD, 123456789012L)
+            .append("embedding", List.of(0.1, 0.2))
+            .append("score", 0.87);
+
+        JobMatch match = decode(doc);
+        Post post = match.getJob();
+
+        assertEquals(0.87, match.getConfidence());
+        assertNull(match.getMatchReasons());
+        assertEquals(id.toHexString(), post.getId());
+        assertEquals("Senior Java Developer", post.getJobTitle());
+        assertEquals(5, post.getExperience());
+        assertEquals(List.of("Java", "Spring"), post.getRequiredTechs());
+        assertEquals(100000.0, post.getSalaryMin());
+        assertNull(post.getSalaryMax());
+        assertArrayEquals(new int[] {1, 9}, post.getTechIds());
+        assertArrayEquals(new int[] {1, 9}, post.getRequiredTechIds());
+        assertEquals(List.of("developer", "java", "senior"), post.getTitleTokens());
+        assertEquals(4, post.getSeniority());
+        assertEquals(123456789012L, post.getTaxonomySignature());
+    }
+
+    @Test
+    void decode_SkipsValuesOfUnexpectedType() {
+        Document doc = new Document("jobTitle", 42)
+            .append("experience", "five")
+            .append("requiredTechs", "Java")
+            .append(JobFeatures.REQUIRED_TECH_IDS_FIELD, List.of(1, "x", 3))
+            .append("score", "high");
+
+        JobMatch match = decode(doc);
+
+        assertEquals(0.0, match.getConfidence());
+        assertNull(match.getJob().getJobTitle());
+        assertNull(match.getJob().getExperience());
+        assertNull(match.getJob().getRequiredTechs());
+        assertArrayEquals(new int[] {1, JobFeatures.UNRESOLVED_TECH, 3}, match.getJob().getRequiredTechIds());
+    }
+
+    @Test
+    void decode_MatchesDocumentMapperOutput() {
+        Document doc = new Document("_id", new ObjectId())
+            .append("jobTitle", "Data Engineer")
+            .append("experience", 3)
+            .append("requiredTechs", List.of("Python"))
+            .append("location", "Remote");
+        Document roundTripped = new DocumentCodec().decode(
+            new BsonDocumentReader(new RawBsonDocument(doc, new DocumentCodec())), DecoderContext.builder().build());
+
+        Post expected = new DocumentMapper().toPost(roundTripped);
+        Post actual = decode(doc).getJob();
+
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getJobTitle(), actual.getJobTitle());
+        assertEquals(expected.getExperience(), actual.getExperience());
+        assertEquals(expected.getRequiredTechs(), actual.getRequiredTechs());
+        assertEquals(expected.getLocation(), actual.getLocation());
+    }
+
+    private JobMatch decode(Document doc) {
+        RawBsonDocument raw = new RawBsonDocument(doc, new DocumentCodec());
+        return raw.decode(codec);
+    }
+}
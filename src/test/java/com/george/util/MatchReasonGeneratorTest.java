@@ -0,0 +1,160 @@
+package com.george.util;
+
+import com.george.config.AppProperties;
+import com.george.model.MatchReason;
+import com.george.model.ReasonCode;
+import com.george.model.SeniorityLevel;
+import com.george.service.TechTaxonomyService;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MatchReasonGeneratorTest {
+
+    private MatchReasonGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        AppProperties appProperties = new AppProperties();
+        AppProperties.Matching.Thresholds thresholds = appProperties.getMatching().getThresholds();
+        thresholds.setVeryStrong(0.8);
+        thresholds.setGood(0.6);
+        thresholds.setModerate(0.4);
+        TechTaxonomyService taxonomyService = mock(TechTaxonomyService.class);
+        when(taxonomyService.current()).thenReturn(TechTaxonomy.defaults());
+        generator = new MatchReasonGenerator(appProperties, taxonomyService);
+    }
+
+    @Test
+    void analyzeProfile_ExtractsExperienceAndTokens() {
+        ProfileAnalysis analysis = generator.analyzeProfile("Backend developer, 7 years of experience with Java and C#");
+
+        assertEquals(7, analysis.getYearsOfExperience());
+        assertTrue(analysis.getTokens().contains("java"));
+        assertTrue(analysis.getTokens().contains("c#"));
+        TechTaxonomy taxonomy = analysis.getTaxonomy();
+        assertArrayEquals(new int[] {taxonomy.resolve("java"), taxonomy.resolve("c#")}, analysis.getTechIds());
+    }
+
+    @Test
+    void generateMatchReasons_WithStrongMatch_ReturnsAllReasons() {
+        Document doc = new Document()
+            .append("score", 0.85)
+            .append("jobTitle", "Senior Java Developer")
+            .append("experience", 5)
+            .append("requiredTechs", List.of("Java", "Spring Boot", "Rust"));
+
+        List<String> reasons = render(doc, generator.generateMatchReasons(doc,
+            "Java developer with 6 years experience building Spring services"));
+
+        assertEquals(List.of(
+            "Very strong semantic match (confidence: 0.85)",
+            "Matching technologies: Java, Spring Boot",
+            "Experience level meets requirement (5+ years)",
+            "Job title aligns with profile"), reasons);
+    }
+
+    @Test
+    void generateMatchReasons_ReusesAnalysisAcrossDocuments() {
+        ProfileAnalysis analysis = generator.analyzeProfile("Python data engineer");
+        Document first = new Document("score", 0.65).append("requiredTechs", List.of("python"));
+        Document second = new Document("score", 0.45).append("jobTitle", "Data-Engineer");
+
+        assertEquals(List.of("Good semantic match (confidence: 0.65)", "Matching technologies: python"),
+            render(first, generator.generateMatchReasons(first, analysis)));
+        assertEquals(List.of("Moderate semantic match (confidence: 0.45)", "Job title aligns with profile"),
+            render(second, generator.generateMatchReasons(second, analysis)));
+    }
+
+    @Test
+    void generateMatchReasons_WithNoSignals_ReturnsPotentialMatch() {
+        Document doc = new Document("score", 0.1).append("jobTitle", "Chef");
+
+        assertEquals(List.of("Potential match"), render(doc, generator.generateMatchReasons(doc, "Java developer")));
+    }
+
+    @Test
+    void generateMatchReasons_MatchesSynonymsButNotWordFragments() {
+        Document doc = new Document("score", 0.1)
+            .append("requiredTechs", List.of("Kubernetes", "Postgres", "JavaScript"));
+
+        assertEquals(List.of("Matching technologies: Kubernetes, Postgres"),
+            render(doc, generator.generateMatchReasons(doc, "Java engineer running k8s clusters backed by PostgreSQL")));
+    }
+
+    @Test
+    void generateMatchReasons_WithUnknownTechs_MatchesWholeWordsOfTheProfile() {
+        Document doc = new Document("score", 0.1)
+            .append("jobTitle", "Mainframe Programmer")
+            .append("requiredTechs", List.of("COBOL", "Bash", "JCL"));
+
+        assertEquals(List.of("Matching technologies: COBOL", "Job title aligns with profile"),
+            render(doc, generator.generateMatchReasons(doc, "Cobol batch jobs on the mainframe, bashful about JCLs")));
+    }
+
+    @Test
+    void generateMatchReasons_WithIndexedFeatures_IntersectsStoredIds() {
+        Document doc = new Document("score", 0.1)
+            .append("jobTitle", "Platform Engineer")
+            .append("requiredTechs", List.of("K8S", "Terraform", "Java/Kotlin"))
+            .append(JobFeatures.REQUIRED_TECH_IDS_FIELD, List.of(18, 34, JobFeatures.UNRESOLVED_TECH))
+            .append(JobFeatures.TAXONOMY_SIGNATURE_FIELD, TechTaxonomy.defaults().getSignature())
+            .append(JobFeatures.TITLE_TOKENS_FIELD, List.of("engineer", "platform"));
+
+        assertEquals(List.of("Matching technologies: K8S, Java/Kotlin", "Job title aligns with profile"),
+            render(doc, generator.generateMatchReasons(doc, "Kotlin platform work on kubernetes")));
+    }
+
+    @Test
+    void generateMatchReasons_WithIdsFromAnotherTaxonomy_MatchesText() {
+        // Ids resolved before a reload that renumbered the techs
+        Document doc = new Document("score", 0.1)
+            .append("requiredTechs", List.of("Kubernetes", "Terraform"))
+            .append(JobFeatures.REQUIRED_TECH_IDS_FIELD, List.of(34, 18))
+            .append(JobFeatures.TAXONOMY_SIGNATURE_FIELD, TechTaxonomy.defaults().getSignature() + 1);
+
+        assertEquals(List.of("Matching technologies: Kubernetes"),
+            render(doc, generator.generateMatchReasons(doc, "Platform work on kubernetes")));
+    }
+
+    @Test
+    void generateMatchReasons_WithSeniorityAtOrBelowProfile_ReportsIt() {
+        Document senior = new Document("score", 0.1).append(JobFeatures.SENIORITY_FIELD, SeniorityLevel.SENIOR.getLevel());
+        Document lead = new Document("score", 0.1).append(JobFeatures.SENIORITY_FIELD, SeniorityLevel.LEAD.getLevel());
+        ProfileAnalysis analysis = generator.analyzeProfile("Backend developer with 6 years of experience");
+
+        assertEquals(SeniorityLevel.SENIOR, analysis.getSeniority());
+        assertEquals(List.of("Seniority meets the role's level (senior)"),
+            render(senior, generator.generateMatchReasons(senior, analysis)));
+        assertEquals(List.of("Potential match"), render(lead, generator.generateMatchReasons(lead, analysis)));
+    }
+
+    @Test
+    void analyzeProfile_WithoutStatedYears_TakesSeniorityFromTerms() {
+        assertEquals(SeniorityLevel.LEAD, generator.analyzeProfile("Staff engineer, formerly senior developer").getSeniority());
+        assertEquals(SeniorityLevel.UNSPECIFIED, generator.analyzeProfile("Backend developer").getSeniority());
+    }
+
+    @Test
+    void generateMatchReasons_ReturnsCompactCodes() {
+        Document doc = new Document("score", 0.834)
+            .append("experience", 3)
+            .append("requiredTechs", List.of("Go", "Java", "Rust", "Spring"));
+
+        assertEquals(List.of(
+            MatchReason.of(ReasonCode.SEMANTIC_VERY_STRONG, 83),
+            MatchReason.of(ReasonCode.TECH_OVERLAP, 1, 3),
+            MatchReason.of(ReasonCode.EXPERIENCE_MET, 3)),
+            generator.generateMatchReasons(doc, "Java and Spring, 4 years of experience"));
+    }
+
+    private static List<String> render(Document doc, List<MatchReason> reasons) {
+        return MatchReasonRenderer.render(reasons, doc.getList("requiredTechs", String.class));
+    }
+}
@@ -0,0 +1,49 @@
+package com.george.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.george.model.MatchReason;
+import com.george.model.ReasonCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchReasonRendererTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void render_ReproducesEnglishReasons() {
+        List<String> techs = List.of("Java", "Rust", "Spring Boot");
+
+        assertEquals(List.of(
+            "Good semantic match (confidence: 0.70)",
+            "Moderate semantic match (confidence: 0.05)",
+            "Matching technologies: Java, Spring Boot",
+            "Experience level meets requirement (5+ years)",
+            "Potential match"),
+            MatchReasonRenderer.render(List.of(
+                MatchReason.of(ReasonCode.SEMANTIC_GOOD, 70),
+                MatchReason.of(ReasonCode.SEMANTIC_MODERATE, 5),
+                MatchReason.of(ReasonCode.TECH_OVERLAP, 0, 2),
+                MatchReason.of(ReasonCode.EXPERIENCE_MET, 5),
+                MatchReason.POTENTIAL_MATCH), techs));
+    }
+
+    @Test
+    void matchReason_SerializesCompactlyAndRoundTrips() throws Exception {
+        List<MatchReason> reasons = List.of(MatchReason.of(ReasonCode.TECH_OVERLAP, 0, 2), MatchReason.TITLE_ALIGNED);
+
+        String json = objectMapper.writeValueAsString(reasons);
+
+        assertEquals("[\"TECH_OVERLAP:[0,2]\",\"TITLE_ALIGNED\"]", json);
+        assertEquals(reasons, List.of(objectMapper.readValue(json, MatchReason[].class)));
+    }
+
+    @Test
+    void parse_RejectsMalformedArguments() {
+        assertThrows(IllegalArgumentException.class, () -> MatchReason.parse("TECH_OVERLAP:0,2"));
+        assertThrows(IllegalArgumentException.class, () -> MatchReason.parse("NOT_A_CODE"));
+    }
+}
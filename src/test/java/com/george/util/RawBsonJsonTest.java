@@ -0,0 +1,44 @@
+package com.george.util;
+
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RawBsonJsonTest {
+
+    @Test
+    void write_ProducesPlainJsonForCommonTypes() {
+        Document doc = new Document("job", new Document("id", "65a1f0c2e4b0a1b2c3d4e5f6")
+                .append("jobTitle", "Java \"Lead\"")
+                .append("experience", 5)
+                .append("requiredTechs", List.of("Java", "Spring"))
+                .append("salaryMin", 90000.5))
+            .append("confidence", 0.87);
+
+        StringWriter writer = new StringWriter();
+        RawBsonJson.write(new RawBsonDocument(doc, new DocumentCodec()), writer);
+
+        assertEquals("{\"job\": {\"id\": \"65a1f0c2e4b0a1b2c3d4e5f6\", \"jobTitle\": \"Java \\\"Lead\\\"\", "
+            + "\"experience\": 5, \"requiredTechs\": [\"Java\", \"Spring\"], \"salaryMin\": 90000.5}, "
+            + "\"confidence\": 0.87}", writer.toString());
+    }
+
+    @Test
+    void write_AppendsWithoutFlushingOrClosing() {
+        StringWriter writer = new StringWriter();
+        RawBsonDocument first = new RawBsonDocument(new Document("a", 1), new DocumentCodec());
+        RawBsonDocument second = new RawBsonDocument(new Document("b", true), new DocumentCodec());
+
+        RawBsonJson.write(first, writer);
+        writer.write('\n');
+        RawBsonJson.write(second, writer);
+
+        assertEquals("{\"a\": 1}\n{\"b\": true}", writer.toString());
+    }
+}
@@ -0,0 +1,88 @@
+package com.george.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RotatingGzipWriterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void close_WritesSinglePartWithHeaderAndChecksum() throws Exception {
+        RotatingGzipWriter writer = new RotatingGzipWriter(directory, "matches", "csv", 1024 * 1024, "a,b\n");
+        try (writer) {
+            writer.writer().write("1,2\n");
+            writer.endRecord();
+        }
+
+        List<RotatingGzipWriter.Part> parts = writer.getParts();
+        assertEquals(1, parts.size());
+        RotatingGzipWriter.Part part = parts.get(0);
+        assertEquals("matches-0001.csv.gz", part.fileName());
+        assertEquals("a,b\n1,2\n", gunzip(directory.resolve(part.fileName())));
+        assertEquals(Files.size(directory.resolve(part.fileName())), part.sizeBytes());
+        assertEquals(sha256(directory.resolve(part.fileName())), part.sha256());
+        assertEquals(part.sha256() + "  matches-0001.csv.gz\n",
+            Files.readString(directory.resolve("matches-0001.csv.gz.sha256")));
+    }
+
+    @Test
+    void endRecord_RotatesOnceCompressedSizeExceedsLimit() throws Exception {
+        // Random text compresses poorly, so the deflater has to emit output as records arrive
+        Random random = new Random(42);
+        RotatingGzipWriter writer = new RotatingGzipWriter(directory, "matches", "ndjson", 16 * 1024, null);
+        int records = 2000;
+        try (writer) {
+            for (int i = 0; i < records; i++) {
+                writer.writer().write(i + ":" + Long.toHexString(random.nextLong()) + Long.toHexString(random.nextLong()) + "\n");
+                writer.endRecord();
+            }
+        }
+
+        List<RotatingGzipWriter.Part> parts = writer.getParts();
+        assertTrue(parts.size() > 1, "expected rotation, got " + parts.size() + " part(s)");
+        int lines = 0;
+        for (int i = 0; i < parts.size(); i++) {
+            assertEquals(String.format("matches-%04d.ndjson.gz", i + 1), parts.get(i).fileName());
+            String content = gunzip(directory.resolve(parts.get(i).fileName()));
+            assertTrue(content.endsWith("\n"), "records must not be split across parts");
+            lines += content.split("\n").length;
+        }
+        assertEquals(records, lines);
+    }
+
+    @Test
+    void close_WithoutRecords_WritesNothing() throws IOException {
+        RotatingGzipWriter writer = new RotatingGzipWriter(directory, "matches", "csv", 1024, "a,b\n");
+        writer.close();
+
+        assertTrue(writer.getParts().isEmpty());
+        try (var files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    private static String gunzip(Path file) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String sha256(Path file) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(file)));
+    }
+}
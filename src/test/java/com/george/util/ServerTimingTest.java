@@ -0,0 +1,28 @@
+package com.george.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ServerTimingTest {
+
+    @Test
+    void metric_FormatsDurationsAsMillisecondsWithTwoDecimals() {
+        String value = new ServerTiming()
+            .metric("embed", 12_345_678).param("cache", "hit")
+            .metric("search", 40_000_000)
+            .metric("map", 4_999)
+            .metric("reasons", 1_205_000)
+            .toString();
+
+        assertEquals("embed;dur=12.35;cache=hit, search;dur=40.00, map;dur=0.00, reasons;dur=1.21", value);
+    }
+
+    @Test
+    void description_IsQuotedAndEscaped() {
+        assertEquals("epoch;desc=\"42.1f\"", new ServerTiming().metric("epoch").description("42.1f").toString());
+        assertEquals("x;desc=\"a\\\"b\\\\c\"", new ServerTiming().metric("x").description("a\"b\\c").toString());
+        assertTrue(new ServerTiming().isEmpty());
+    }
+}
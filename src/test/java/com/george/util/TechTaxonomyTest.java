@@ -0,0 +1,72 @@
+package com.george.util;
+
+import com.george.model.TechTaxonomyEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TechTaxonomyTest {
+
+    private final TechTaxonomy taxonomy = TechTaxonomy.defaults();
+
+    @Test
+    void resolve_MapsSynonymsToCanonicalTech() {
+        assertEquals(18, taxonomy.resolve("K8s"));
+        assertEquals(14, taxonomy.resolve(" postgres "));
+        assertEquals("spring", taxonomy.name(taxonomy.resolve("Spring Boot")));
+        assertEquals(-1, taxonomy.resolve("cobol"));
+    }
+
+    @Test
+    void techIds_ReturnsSortedDistinctIdsForWholeWordsOnly() {
+        int[] ids = taxonomy.techIds("Go and golang services on K8S, plus some JavaScript; googled a lot");
+
+        assertArrayEquals(new int[] {3, 18, 29}, ids);
+    }
+
+    @Test
+    void techIds_IgnoresExactOnlySynonymsInFreeText() {
+        int[] ids = taxonomy.techIds("go-to-market lead, see github.com/jdoe and my ts notes, py wrapper");
+
+        assertArrayEquals(new int[0], ids);
+        assertArrayEquals(new int[] {24, 29}, taxonomy.techIds("Go lang microservices"));
+    }
+
+    @Test
+    void techIdsOfTerm_ResolvesExactOnlySynonymsAsWholeTerms() {
+        assertArrayEquals(new int[] {29}, taxonomy.techIdsOfTerm("Go"));
+        assertArrayEquals(new int[] {4}, taxonomy.techIdsOfTerm(" TS "));
+        assertArrayEquals(new int[] {22}, taxonomy.techIdsOfTerm("GitHub"));
+        assertArrayEquals(new int[] {1, 9}, taxonomy.techIdsOfTerm("Java / Spring"));
+        assertArrayEquals(new int[] {2, 4}, taxonomy.techIds(List.of("py", "typescript")));
+    }
+
+    @Test
+    void techIds_MatchesTermsWithSymbolEdges() {
+        assertArrayEquals(new int[] {30, 31}, taxonomy.techIds("C++ and ASP.NET, no objective-c"));
+    }
+
+    @Test
+    void mentionsAny_UsesEverySynonymOfTheGivenTechs() {
+        int[] techIds = taxonomy.techIds("Kubernetes");
+
+        assertTrue(taxonomy.mentionsAny("Ran kube in prod", taxonomy.termsOf(techIds)));
+        assertFalse(taxonomy.mentionsAny("Docker only", taxonomy.termsOf(techIds)));
+    }
+
+    @Test
+    void compile_SkipsInvalidEntriesAndKeepsFirstClaimOnATerm() {
+        TechTaxonomy custom = TechTaxonomy.compile(List.of(
+            new TechTaxonomyEntry(1, "rust", List.of("rustlang")),
+            new TechTaxonomyEntry(2, "zig", List.of("rustlang")),
+            new TechTaxonomyEntry(0, "invalid", List.of()),
+            new TechTaxonomyEntry(3, " ", List.of("blank"))), 7);
+
+        assertEquals(7, custom.getVersion());
+        assertEquals(2, custom.size());
+        assertEquals(1, custom.resolve("rustlang"));
+        assertEquals(-1, custom.resolve("blank"));
+    }
+}
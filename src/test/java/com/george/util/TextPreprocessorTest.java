@@ -0,0 +1,40 @@
+package com.george.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TextPreprocessorTest {
+
+    @Test
+    void snippet_KeepsShortTextWithCollapsedWhitespace() {
+        assertEquals("Build APIs in Java.", TextPreprocessor.snippet("  Build APIs\n\tin   Java. ", 40));
+        assertEquals("", TextPreprocessor.snippet(null, 40));
+    }
+
+    @Test
+    void snippet_CutsLongTextAtWordBoundary() {
+        String snippet = TextPreprocessor.snippet("We are hiring a backend engineer, to design and run services", 36);
+
+        assertEquals("We are hiring a backend engineer…", snippet);
+        assertTrue(snippet.length() <= 36);
+    }
+
+    @Test
+    void snippet_HardCutsWhenNoBoundaryFits() {
+        String snippet = TextPreprocessor.snippet("Supercalifragilisticexpialidocious role", 10);
+
+        assertEquals("Supercali…", snippet);
+    }
+
+    @Test
+    void snippet_OfDescriptionPrefix_MatchesSnippetOfWholeDescription() {
+        String description = "We are hiring a backend  engineer,\n\nto design and run services for payments at scale";
+        String stored = TextPreprocessor.snippet(description, 36);
+
+        // Posts without a stored snippet get one from a prefix of twice the length
+        assertEquals(stored, TextPreprocessor.snippet(description.substring(0, 72), 36));
+        assertEquals(stored, TextPreprocessor.snippet(stored, 36));
+    }
+}
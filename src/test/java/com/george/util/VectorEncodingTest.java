@@ -0,0 +1,72 @@
+package com.george.util;
+
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonDouble;
+import org.bson.BsonValue;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VectorEncodingTest {
+
+    private static final BsonArray EMBEDDING = embedding(0.5, -0.25, 1.5, 0.0, -1.0, 0.1, 0.2, -0.3, 0.9);
+
+    @Test
+    void array_KeepsEmbeddingAsIs() {
+        assertSame(EMBEDDING, VectorEncoding.ARRAY.encode(EMBEDDING));
+        assertFalse(VectorEncoding.ARRAY.isBinary());
+    }
+
+    @Test
+    void float32_PacksLittleEndianFloatsAfterHeader() {
+        byte[] data = binaryData(VectorEncoding.FLOAT32.encode(EMBEDDING));
+
+        assertEquals(2 + 4 * EMBEDDING.size(), data.length);
+        assertEquals(0x27, data[0]);
+        assertEquals(0, data[1]);
+        ByteBuffer floats = ByteBuffer.wrap(data, 2, data.length - 2).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(0.5f, floats.getFloat());
+        assertEquals(-0.25f, floats.getFloat());
+        assertEquals(1.5f, floats.getFloat());
+    }
+
+    @Test
+    void int8_ScalesAndClampsToSignedBytes() {
+        byte[] data = binaryData(VectorEncoding.INT8.encode(EMBEDDING));
+
+        assertEquals(0x03, data[0]);
+        assertArrayEquals(new byte[] {64, -32, 127, 0, -127, 13, 25, -38, 114},
+            Arrays.copyOfRange(data, 2, data.length));
+    }
+
+    @Test
+    void packedBit_KeepsSignsMostSignificantBitFirstWithPadding() {
+        byte[] data = binaryData(VectorEncoding.PACKED_BIT.encode(EMBEDDING));
+
+        assertEquals(0x10, data[0]);
+        // 9 dimensions fill one byte and the top bit of a second one, leaving 7 padding bits
+        assertEquals(7, data[1]);
+        assertEquals(4, data.length);
+        assertEquals((byte) 0b1010_0110, data[2]);
+        assertEquals((byte) 0b1000_0000, data[3]);
+    }
+
+    private static byte[] binaryData(BsonValue value) {
+        BsonBinary binary = value.asBinary();
+        assertEquals(VectorEncoding.VECTOR_SUBTYPE, binary.getType());
+        return binary.getData();
+    }
+
+    private static BsonArray embedding(double... values) {
+        BsonArray array = new BsonArray();
+        for (double value : values) {
+            array.add(new BsonDouble(value));
+        }
+        return array;
+    }
+}